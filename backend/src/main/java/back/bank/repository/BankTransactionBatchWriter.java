@@ -0,0 +1,127 @@
+package back.bank.repository;
+
+import back.bank.domain.BankTransactionHistory;
+import back.domain.ledger.TransactionLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래내역 동기화 전용 JDBC 배치 저장소
+ * - IDENTITY 전략 엔티티는 Hibernate가 insert 배치를 하지 못하므로 JDBC 배치로 직접 저장
+ * - 반환값은 입력 순서와 동일한 순서의 생성 PK 목록
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankTransactionBatchWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_HISTORY_SQL = """
+            INSERT INTO bank_transaction_history
+                (club_id, bank_transaction_at, print_content, amount, is_matched, unique_tx_key, inout_type, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TRANSACTION_LOG_SQL = """
+            INSERT INTO transaction_log
+                (club_id, schedule_id, account_id, type, amount, balance_after, description, editor_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 은행 거래내역 일괄 저장
+     */
+    public List<Long> insertHistories(List<BankTransactionHistory> histories) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return executeBatch(INSERT_HISTORY_SQL, histories, (ps, h) -> {
+            ps.setLong(1, h.getClubId());
+            ps.setTimestamp(2, Timestamp.valueOf(h.getBankTransactionAt()));
+            ps.setString(3, h.getPrintContent());
+            ps.setBigDecimal(4, h.getAmount());
+            ps.setBoolean(5, Boolean.TRUE.equals(h.getIsMatched()));
+            ps.setString(6, h.getUniqueTxKey());
+            ps.setString(7, h.getInoutType());
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /**
+     * 회계 원장 일괄 저장
+     */
+    public List<Long> insertTransactionLogs(List<TransactionLog> logs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return executeBatch(INSERT_TRANSACTION_LOG_SQL, logs, (ps, l) -> {
+            ps.setLong(1, l.getClubId());
+            setNullableLong(ps, 2, l.getScheduleId());
+            setNullableLong(ps, 3, l.getAccountId());
+            ps.setString(4, l.getType());
+            ps.setBigDecimal(5, l.getAmount());
+            ps.setBigDecimal(6, l.getBalanceAfter());
+            ps.setString(7, l.getDescription());
+            setNullableLong(ps, 8, l.getEditorId());
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    private <T> List<Long> executeBatch(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+            try (PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                int pending = 0;
+                for (T row : rows) {
+                    binder.bind(ps, row);
+                    ps.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        flush(ps, ids);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    flush(ps, ids);
+                }
+            }
+            return ids;
+        });
+    }
+
+    private void flush(PreparedStatement ps, List<Long> ids) throws SQLException {
+        ps.executeBatch();
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+}
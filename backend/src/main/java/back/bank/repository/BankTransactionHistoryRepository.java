@@ -2,9 +2,12 @@ package back.bank.repository;
 
 import back.bank.domain.BankTransactionHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +18,10 @@ public interface BankTransactionHistoryRepository extends JpaRepository<BankTran
             LocalDateTime toDate);
 
     boolean existsByUniqueTxKey(String uniqueTxKey);
+
+    /**
+     * 이미 저장된 uniqueTxKey 목록 조회 (동기화 페이지 단위 중복 확인)
+     */
+    @Query("select h.uniqueTxKey from BankTransactionHistory h where h.uniqueTxKey in :keys")
+    List<String> findExistingUniqueTxKeys(@Param("keys") Collection<String> keys);
 }
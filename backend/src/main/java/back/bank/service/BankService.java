@@ -14,6 +14,7 @@ import back.bank.provider.BankProvider;
 import back.bank.provider.BankProviderRegistry;
 import back.bank.repository.BankAccountRepository;
 import back.bank.repository.BankRepository;
+import back.bank.repository.BankTransactionBatchWriter;
 import back.bank.repository.BankTransactionHistoryRepository;
 import back.domain.ledger.TransactionLog;
 import back.repository.ledger.TransactionLogRepository;
@@ -25,9 +26,13 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class BankService {
@@ -38,19 +43,22 @@ public class BankService {
         private final BankRepository bankRepository;
         private final TransactionLogRepository transactionLogRepository;
         private final TransactionMatchingService transactionMatchingService;
+        private final BankTransactionBatchWriter batchWriter;
 
         public BankService(BankProviderRegistry registry,
                         BankAccountRepository bankAccountRepository,
                         BankTransactionHistoryRepository transactionHistoryRepository,
                         BankRepository bankRepository,
                         TransactionLogRepository transactionLogRepository,
-                        TransactionMatchingService transactionMatchingService) {
+                        TransactionMatchingService transactionMatchingService,
+                        BankTransactionBatchWriter batchWriter) {
                 this.registry = registry;
                 this.bankAccountRepository = bankAccountRepository;
                 this.transactionHistoryRepository = transactionHistoryRepository;
                 this.bankRepository = bankRepository;
                 this.transactionLogRepository = transactionLogRepository;
                 this.transactionMatchingService = transactionMatchingService;
+                this.batchWriter = batchWriter;
         }
 
         public AccountOwnerResponse checkOwner(String bankCode, String accountNumber) {
@@ -159,50 +167,8 @@ public class BankService {
                                 actualFrom,
                                 actualTo);
 
-                List<TransactionLog> savedLogs = new ArrayList<>();
-                List<BankTransactionHistory> savedHistories = new ArrayList<>();
-                Map<Long, TransactionLog> historyToLogMap = new HashMap<>();
-
-                // 4. 각 거래내역을 BankTransactionHistory와 TransactionLog에 저장
-                for (BankTransaction tx : bankTransactions) {
-                        // 중복 확인 (uniqueTxKey로)
-                        if (transactionHistoryRepository.existsByUniqueTxKey(tx.txId())) {
-                                continue; // 이미 저장된 거래내역은 스킵
-                        }
-
-                        // 4-1. BankTransactionHistory에 저장 (실제 은행 거래내역)
-                        BankTransactionHistory history = new BankTransactionHistory(
-                                        clubId,
-                                        tx.occurredAt(),
-                                        tx.printContent(), // senderName
-                                        tx.amount().abs(), // 무조건 양수로 저장
-                                        tx.txId(), // uniqueTxKey로 사용
-                                        tx.type() // inoutType
-                        );
-                        transactionHistoryRepository.save(history);
-
-                        // 4-2. TransactionLog에 저장 (회계 원장)
-                        TransactionLog log = new TransactionLog(
-                                        clubId,
-                                        account.getAccountId(),
-                                        tx.type(), // "DEPOSIT" or "WITHDRAW"
-                                        tx.amount(),
-                                        tx.balanceAfter(),
-                                        tx.printContent(),
-                                        null // editorId는 시스템 자동 동기화이므로 null
-                        );
-                        TransactionLog savedLog = transactionLogRepository.save(log);
-                        savedLogs.add(savedLog);
-
-                        // 새로 저장된 내역 수집 및 매핑
-                        savedHistories.add(history);
-                        historyToLogMap.put(history.getHistoryId(), savedLog);
-                }
-
-                // 5. 자동 매칭 수행 (새로 저장된 거래내역과 입금요청 매칭)
-                transactionMatchingService.autoMatchTransactions(clubId, savedHistories, historyToLogMap);
-
-                return savedLogs;
+                // 4. 신규 거래내역 일괄 저장 및 자동 매칭
+                return saveNewTransactions(clubId, account, bankTransactions);
         }
 
         @Transactional
@@ -240,31 +206,52 @@ public class BankService {
                                 stubId, actualFrom,
                                 actualTo);
 
-                List<TransactionLog> savedLogs = new ArrayList<>();
-                List<BankTransactionHistory> savedHistories = new ArrayList<>();
-                Map<Long, TransactionLog> historyToLogMap = new HashMap<>();
+                // 4. 신규 거래내역 일괄 저장 및 자동 매칭
+                return saveNewTransactions(clubId, account, bankTransactions);
+        }
 
-                // 4. 각 거래내역을 BankTransactionHistory와 TransactionLog에 저장
+        /**
+         * 조회된 거래내역 중 신규 건만 일괄 저장 후 자동 매칭
+         * - 중복 확인은 uniqueTxKey IN (...) 1회 조회
+         * - BankTransactionHistory / TransactionLog는 JDBC 배치로 저장
+         * - 저장된 엔티티는 생성 PK로 1회씩 재조회하여 매칭 서비스에 전달
+         */
+        private List<TransactionLog> saveNewTransactions(Long clubId, BankAccounts account,
+                        List<BankTransaction> bankTransactions) {
+                if (bankTransactions.isEmpty()) {
+                        return List.of();
+                }
+
+                // 4-1. 중복 확인 (페이지 전체를 한 번에 조회, 같은 페이지 내 중복도 제거)
+                List<String> txKeys = bankTransactions.stream()
+                                .map(BankTransaction::txId)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toList();
+                Set<String> seenKeys = txKeys.isEmpty()
+                                ? new HashSet<>()
+                                : new HashSet<>(transactionHistoryRepository.findExistingUniqueTxKeys(txKeys));
+
+                List<BankTransactionHistory> newHistories = new ArrayList<>();
+                List<TransactionLog> newLogs = new ArrayList<>();
                 for (BankTransaction tx : bankTransactions) {
-                        // 중복 확인 (uniqueTxKey로)
-                        if (transactionHistoryRepository.existsByUniqueTxKey(tx.txId())) {
+                        if (tx.txId() != null && !seenKeys.add(tx.txId())) {
                                 continue; // 이미 저장된 거래내역은 스킵
                         }
 
-                        // 4-1. BankTransactionHistory에 저장 (실제 은행 거래내역)
-                        BankTransactionHistory history = new BankTransactionHistory(
+                        // BankTransactionHistory (실제 은행 거래내역)
+                        newHistories.add(new BankTransactionHistory(
                                         clubId,
                                         tx.occurredAt(),
                                         tx.printContent(), // senderName
                                         tx.amount().abs(), // 무조건 양수로 저장
                                         tx.txId(), // uniqueTxKey로 사용
                                         tx.type() // inoutType
-                        );
-                        transactionHistoryRepository.save(history);
+                        ));
 
-                        // 4-2. TransactionLog에 저장 (회계 원장)
+                        // TransactionLog (회계 원장)
                         // accountId 가 필요, 지금은 모임장 id가 들어감
-                        TransactionLog log = new TransactionLog(
+                        newLogs.add(new TransactionLog(
                                         clubId,
                                         account.getAccountId(),
                                         tx.type(), // "DEPOSIT" or "WITHDRAW"
@@ -272,12 +259,34 @@ public class BankService {
                                         tx.balanceAfter(),
                                         tx.printContent(),
                                         null // editorId는 시스템 자동 동기화이므로 null
-                        );
-                        TransactionLog savedLog = transactionLogRepository.save(log);
-                        savedLogs.add(savedLog);
+                        ));
+                }
+
+                if (newHistories.isEmpty()) {
+                        return List.of();
+                }
+
+                // 4-2. 일괄 저장 (생성 PK는 입력 순서와 동일)
+                List<Long> historyIds = batchWriter.insertHistories(newHistories);
+                List<Long> logIds = batchWriter.insertTransactionLogs(newLogs);
+
+                // 4-3. 영속 엔티티로 재조회
+                Map<Long, BankTransactionHistory> historyById = transactionHistoryRepository.findAllById(historyIds)
+                                .stream()
+                                .collect(Collectors.toMap(BankTransactionHistory::getHistoryId, h -> h));
+                Map<Long, TransactionLog> logById = transactionLogRepository.findAllById(logIds).stream()
+                                .collect(Collectors.toMap(TransactionLog::getTransactionId, l -> l));
+
+                List<TransactionLog> savedLogs = new ArrayList<>(logIds.size());
+                List<BankTransactionHistory> savedHistories = new ArrayList<>(historyIds.size());
+                Map<Long, TransactionLog> historyToLogMap = new HashMap<>();
+
+                for (int i = 0; i < historyIds.size(); i++) {
+                        BankTransactionHistory history = historyById.get(historyIds.get(i));
+                        TransactionLog savedLog = logById.get(logIds.get(i));
 
-                        // 새로 저장된 내역 수집 및 매핑
                         savedHistories.add(history);
+                        savedLogs.add(savedLog);
                         historyToLogMap.put(history.getHistoryId(), savedLog);
                 }
 
@@ -0,0 +1,193 @@
+package back.common.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 이름 다중 패턴 검색용 Aho-Corasick 오토마톤
+ * - 패턴(정규화된 이름) → 멤버 ID 집합
+ * - 본문 1회 순회로 언급된 모든 멤버 ID 수집
+ * - 생성 후 불변 (스레드 안전)
+ * - 거래내역 매칭(ledger), 게시글 검색 질문의 멤버 추출(post.ai)에서 공용
+ */
+public final class NameAutomaton {
+
+    private static final long[] NO_OUTPUT = new long[0];
+
+    // 노드별 전이: 문자 오름차순 정렬 → 이진 탐색
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 노드별 출력 (실패 링크 출력까지 병합)
+    private final long[][] outputs;
+
+    private NameAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] fail, long[][] outputs) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+    }
+
+    public static NameAutomaton compile(Map<String, ? extends Collection<Long>> patterns) {
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Set<Long>> own = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        own.add(new HashSet<>());
+
+        patterns.forEach((pattern, ids) -> {
+            if (pattern == null || pattern.isEmpty() || ids.isEmpty()) {
+                return;
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new TreeMap<>());
+                    own.add(new HashSet<>());
+                }
+                node = next;
+            }
+            own.get(node).addAll(ids);
+        });
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 2. BFS로 실패 링크 계산 + 출력 병합
+        int[] fail = new int[size];
+        long[][] outputs = new long[size][];
+        outputs[0] = toArray(own.get(0));
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            outputs[child] = toArray(own.get(child));
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int f = fail[node];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target < 0 ? 0 : target;
+
+                Set<Long> merged = own.get(child);
+                for (long id : outputs[fail[child]]) {
+                    merged.add(id);
+                }
+                outputs[child] = toArray(merged);
+                queue.add(child);
+            }
+        }
+        return new NameAutomaton(edgeChars, edgeTargets, fail, outputs);
+    }
+
+    /**
+     * 정규화된 본문에서 언급된 멤버 ID 수집
+     */
+    public Set<Long> scan(String normalizedText) {
+        Set<Long> found = new HashSet<>();
+        int node = 0;
+        for (int i = 0; i < normalizedText.length(); i++) {
+            char c = normalizedText.charAt(i);
+            int next;
+            while ((next = step(edgeChars, edgeTargets, node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = next < 0 ? 0 : next;
+            for (long id : outputs[node]) {
+                found.add(id);
+            }
+        }
+        return found;
+    }
+
+    public int nodeCount() {
+        return fail.length;
+    }
+
+    /**
+     * 공백/특수문자 제거 + 영문 소문자화 (허용: 숫자, 영문, 완성형 한글)
+     * - 정규식 없이 1회 순회, 변경이 없으면 원본 반환
+     */
+    public static String normalize(String s) {
+        if (s == null || s.isEmpty()) {
+            return "";
+        }
+
+        int length = s.length();
+        char[] buffer = null;
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            char mapped;
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣')) {
+                mapped = c;
+            } else if (c >= 'A' && c <= 'Z') {
+                mapped = (char) (c + ('a' - 'A'));
+            } else {
+                mapped = 0;
+            }
+
+            if (buffer == null) {
+                if (mapped == c) {
+                    continue;
+                }
+                // 첫 변경 지점부터 버퍼 사용
+                buffer = new char[length];
+                s.getChars(0, i, buffer, 0);
+                size = i;
+            }
+            if (mapped != 0) {
+                buffer[size++] = mapped;
+            }
+        }
+        return buffer == null ? s : new String(buffer, 0, size);
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int idx = Arrays.binarySearch(edgeChars[node], c);
+        return idx < 0 ? -1 : edgeTargets[node][idx];
+    }
+
+    private static long[] toArray(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        long[] result = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            result[i++] = id;
+        }
+        return result;
+    }
+}
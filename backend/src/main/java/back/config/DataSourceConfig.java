@@ -0,0 +1,31 @@
+package back.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MySQL 드라이버 기본 속성
+ * - rewriteBatchedStatements=true: JDBC 배치(BankTransactionBatchWriter, NotificationBatchWriter)를
+ *   다중 행 INSERT로 묶어 전송 (없으면 드라이버가 addBatch한 행마다 1번씩 왕복)
+ * - 외부 설정(spring.datasource.hikari.data-source-properties)에 값이 있으면 그 값을 사용
+ */
+@Configuration
+public class DataSourceConfig {
+
+    static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    @Bean
+    static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.getDataSourceProperties().putIfAbsent(REWRITE_BATCHED_STATEMENTS, "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package back.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스레드 풀
+ * - 기본값(스레드 1개)이면 오래 걸리는 정리 작업이 짧은 주기 작업(SSE heartbeat 등)을 막음
+ * - 빈으로 등록해 컨테이너가 초기화/종료 (컨텍스트 종료 시 스레드 정리)
+ * - 투표 마감 타이머는 lease 갱신이 밀리지 않도록 별도 스레드에서 실행 (VoteDeadlineTimer)
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${custom.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
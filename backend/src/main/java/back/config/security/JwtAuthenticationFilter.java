@@ -31,24 +31,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request Header에서 JWT 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰 유효성 검사
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // 토큰이 유효하면 토큰으로부터 유저 정보를 받아옵니다.
-            String loginId = jwtTokenProvider.getLoginId(token);
-
-            Long userId = jwtTokenProvider.getUserId(token);
-            UserPrincipal principal = new UserPrincipal(userId, loginId);
-
-            // 토큰으로 부터 권한 정보를 받아옵니다.
-            String role = jwtTokenProvider.getRole(token);
-
-            // 3. SecurityContext에 인증 객체(Authentication) 저장
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
-
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        // 2. 토큰 검증 (1회 파싱, 같은 토큰은 캐시된 클레임 사용)
+        if (StringUtils.hasText(token)) {
+            jwtTokenProvider.verify(token).ifPresent(verified -> {
+                // 3. SecurityContext에 인증 객체(Authentication) 저장
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        verified.toPrincipal(), null, List.of(new SimpleGrantedAuthority("ROLE_" + verified.role())));
+
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
+        }
 
         filterChain.doFilter(request, response);
     }
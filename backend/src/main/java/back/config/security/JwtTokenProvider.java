@@ -1,5 +1,8 @@
 package back.config.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -9,8 +12,13 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -22,11 +30,25 @@ public class JwtTokenProvider {
     @Value("${custom.jwt.accessToken.expirationSeconds}")
     private long accessTokenValidityInSeconds;
 
+    // 검증 완료 토큰 캐시 크기 (토큰 SHA-256 → 클레임, 토큰 exp에 만료)
+    private static final int VERIFIED_CACHE_SIZE = 10_000;
+
     private SecretKey secretKey;
+    // JwtParser는 불변/thread-safe → 1회만 생성
+    private JwtParser parser;
+    private Cache<String, VerifiedAccessToken> verifiedTokens;
 
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(salt.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_CACHE_SIZE)
+                .expireAfter(Expiry.creating((String key, VerifiedAccessToken token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .build();
     }
 
     // Access Token 생성
@@ -60,22 +82,33 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Access Token을 1회 파싱/검증하고 클레임을 반환합니다.
+     * 같은 토큰은 만료 전까지 캐시된 결과를 재사용 (서명 검증 생략)
+     * 서명 오류, 만료, 필수 클레임 누락이면 empty
+     */
+    public Optional<VerifiedAccessToken> verify(String token) {
+        String key = hash(token);
+        VerifiedAccessToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedAccessToken> verified = parseClaims(token).flatMap(this::toVerifiedToken);
+        verified.ifPresent(claims -> verifiedTokens.put(key, claims));
+        return verified;
+    }
+
     // 토큰에서 loginId 추출
     public String getLoginId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
     // 토큰에서 Role 추출
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .get("ROLE", String.class);
 
@@ -83,22 +116,19 @@ public class JwtTokenProvider {
 
     // 토큰에서 userId 추출
     public Long getUserId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .get("userId", Long.class);
     }
 
     // 토큰 유효성 및 만료 확인
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -108,6 +138,26 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private Optional<VerifiedAccessToken> toVerifiedToken(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("ROLE", String.class);
+        // Refresh Token 등 사용자 클레임이 없는 토큰은 인증에 사용 불가
+        if (userId == null || role == null || claims.getSubject() == null || claims.getExpiration() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new VerifiedAccessToken(
+                userId, claims.getSubject(), role, claims.getExpiration().toInstant()));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package back.config.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,6 +58,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable) // JWT 사용 시 CSRF 비활성화 (Stateless)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 미사용
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE/스트리밍 응답 종료 시 재디스패치 (최초 요청에서 이미 인증)
                         .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll() // 인증 제외 경로
                         .requestMatchers(HttpMethod.GET, "/api/clubs/**").permitAll() // 모임 조회는 인증 불필요
                         .requestMatchers("/api/admin/**").hasRole("ADMIN") // 관리자 페이지 권한 설정
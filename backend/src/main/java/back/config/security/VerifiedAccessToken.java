@@ -0,0 +1,17 @@
+package back.config.security;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 마친 Access Token 클레임
+ */
+public record VerifiedAccessToken(
+        Long userId,
+        String loginId,
+        String role,
+        Instant expiresAt
+) {
+    public UserPrincipal toPrincipal() {
+        return new UserPrincipal(userId, loginId);
+    }
+}
@@ -3,9 +3,11 @@ package back.controller;
 import back.common.response.SuccessResponse;
 import back.dto.admin.AdminClubResponse;
 import back.dto.admin.AdminDashboardResponse;
+import back.dto.admin.AdminEmbeddingBackfillResponse;
 import back.dto.admin.AdminReportResponse;
 import back.dto.admin.AdminUserResponse;
 import back.service.AdminService;
+import back.service.post.ai.backfill.PostEmbeddingBackfillService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.Getter;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final PostEmbeddingBackfillService postEmbeddingBackfillService;
 
     @Operation(summary = "대시보드 통계 조회")
     @GetMapping("/dashboard")
@@ -91,6 +94,26 @@ public class AdminController {
         return ResponseEntity.ok(SuccessResponse.success(HttpStatus.OK));
     }
 
+    @Operation(summary = "게시글 임베딩 백필 진행 상황 (가장 최근 작업)")
+    @GetMapping("/post-embedding-backfill")
+    public ResponseEntity<SuccessResponse<AdminEmbeddingBackfillResponse>> getEmbeddingBackfill() {
+        return ResponseEntity.ok(SuccessResponse.success(HttpStatus.OK, postEmbeddingBackfillService.status()));
+    }
+
+    @Operation(summary = "게시글 임베딩 백필 시작/재개 (restart=true면 처음부터)")
+    @PostMapping("/post-embedding-backfill/start")
+    public ResponseEntity<SuccessResponse<AdminEmbeddingBackfillResponse>> startEmbeddingBackfill(
+            @RequestParam(defaultValue = "false") boolean restart) {
+        return ResponseEntity
+                .ok(SuccessResponse.success(HttpStatus.OK, postEmbeddingBackfillService.start(restart)));
+    }
+
+    @Operation(summary = "게시글 임베딩 백필 일시정지")
+    @PostMapping("/post-embedding-backfill/pause")
+    public ResponseEntity<SuccessResponse<AdminEmbeddingBackfillResponse>> pauseEmbeddingBackfill() {
+        return ResponseEntity.ok(SuccessResponse.success(HttpStatus.OK, postEmbeddingBackfillService.pause()));
+    }
+
     @Setter
     @Getter
     @NoArgsConstructor
@@ -1,24 +1,109 @@
 package back.controller.notifications;
 
-import back.config.security.CustomUserDetail;
+import back.common.response.SuccessResponse;
+import back.config.security.UserPrincipal;
+import back.dto.NotificationReadRequest;
+import back.dto.NotificationSearchRequest;
+import back.dto.NotificationSliceResponse;
+import back.dto.NotificationUnreadCountResponse;
+import back.exception.ClubException;
+import back.service.notifications.NotificationInboxService;
 import back.service.notifications.NotificationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-@Controller
+@RestController
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationInboxService notificationInboxService;
 
+    /**
+     * 알림 구독 (SSE)
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후 알림을 먼저 재전송
+     */
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetail userDetails) {
-        return notificationService.subscribe(userDetails.getUserId());
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return notificationService.subscribe(requireUserId(principal), parseEventId(lastEventId));
+    }
+
+    /**
+     * 내 알림 목록 조회 (커서 기반, 최신순)
+     */
+    @GetMapping
+    public SuccessResponse<NotificationSliceResponse> getNotifications(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "unreadOnly", defaultValue = "false") boolean unreadOnly
+    ) {
+        Long currentUserId = requireUserId(principal);
+        NotificationSliceResponse notifications = notificationInboxService.getInbox(currentUserId,
+                new NotificationSearchRequest(cursor, size, unreadOnly));
+        return SuccessResponse.success(HttpStatus.OK, notifications);
+    }
+
+    /**
+     * 안읽은 알림 수 조회 (배지)
+     */
+    @GetMapping("/unread-count")
+    public SuccessResponse<NotificationUnreadCountResponse> getUnreadCount(
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        Long currentUserId = requireUserId(principal);
+        return SuccessResponse.success(HttpStatus.OK, notificationInboxService.getUnreadCount(currentUserId));
+    }
+
+    /**
+     * 선택한 알림 읽음 처리
+     */
+    @PatchMapping("/read")
+    public SuccessResponse<NotificationUnreadCountResponse> markAsRead(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody NotificationReadRequest request
+    ) {
+        Long currentUserId = requireUserId(principal);
+        NotificationUnreadCountResponse response =
+                notificationInboxService.markAsRead(currentUserId, request.notificationIds());
+        return SuccessResponse.success(HttpStatus.OK, response);
+    }
+
+    /**
+     * 내 알림 전체 읽음 처리
+     */
+    @PatchMapping("/read-all")
+    public SuccessResponse<NotificationUnreadCountResponse> markAllAsRead(
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        Long currentUserId = requireUserId(principal);
+        return SuccessResponse.success(HttpStatus.OK, notificationInboxService.markAllAsRead(currentUserId));
+    }
+
+    // 형식이 잘못된 id는 첫 연결로 취급
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(lastEventId.trim());
+            return id >= 0 ? id : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long requireUserId(UserPrincipal principal) {
+        if (principal == null) throw new ClubException.AuthLoginRequired();
+        return principal.getUserId();
     }
 }
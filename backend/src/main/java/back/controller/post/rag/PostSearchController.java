@@ -1,15 +1,25 @@
 package back.controller.post.rag;
 
+import back.config.security.UserPrincipal;
 import back.dto.post.rag.RagAnswerResponse;
+import back.exception.ClubException;
 import back.service.club.ClubAuthService;
+import back.service.post.ai.PostSearchFilter;
 import back.service.post.ai.PostSearchService;
+import back.service.post.ai.RagAnswerStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,30 +29,53 @@ public class PostSearchController {
 
     private final ClubAuthService clubAuthService;
     private final PostSearchService postSearchService;
+    private final RagAnswerStreamService ragAnswerStreamService;
 
     // 1. 벡터 검색 결과만 (디버깅용)
     @GetMapping("/search")
     public ResponseEntity<List<PostSearchService.SearchHit>> search(
+            @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam Long clubId,
-            @RequestParam Long userId,
-            @RequestParam String question
+            @RequestParam String question,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        clubAuthService.validateAndGetClubForReadPosts(clubId, userId);
+        clubAuthService.validateAndGetClubForReadPosts(clubId, requireUserId(principal));
+        PostSearchFilter filter = postSearchService.resolveFilter(clubId, question, from, to);
         return ResponseEntity.ok(
-                postSearchService.searchHits(question)
+                postSearchService.searchHits(filter, question)
         );
     }
 
     // 2. RAG 답변 (실사용)
     @GetMapping("/answer")
     public ResponseEntity<RagAnswerResponse> answer(
+            @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam Long clubId,
-            @RequestParam Long userId,
-            @RequestParam String question
+            @RequestParam String question,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        clubAuthService.validateAndGetClubForReadPosts(clubId, userId);
-        String answer = postSearchService.answerWithRag(question);
+        clubAuthService.validateAndGetClubForReadPosts(clubId, requireUserId(principal));
+        String answer = postSearchService.answerWithRag(clubId, question, from, to);
         return ResponseEntity.ok(new RagAnswerResponse(answer));
     }
 
+    // 3. RAG 답변 스트리밍 (token 이벤트로 답변 조각 전송 → done)
+    @GetMapping(value = "/answer/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> answerStream(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam Long clubId,
+            @RequestParam String question,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        clubAuthService.validateAndGetClubForReadPosts(clubId, requireUserId(principal));
+        return ragAnswerStreamService.stream(clubId, question, from, to);
+    }
+
+    private Long requireUserId(UserPrincipal principal) {
+        if (principal == null) throw new ClubException.AuthLoginRequired();
+        return principal.getUserId();
+    }
 }
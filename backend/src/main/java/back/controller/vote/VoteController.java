@@ -7,11 +7,12 @@ import back.exception.ClubException;
 import back.service.vote.VoteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/clubs")
@@ -21,15 +22,23 @@ public class VoteController {
     private final VoteService voteService;
 
     /**
-     * 모임의 전체 투표 목록 조회
+     * 모임의 투표 목록 조회 (커서 기반, 최신순)
      */
     @GetMapping("/{clubId}/votes")
-    public SuccessResponse<List<VoteListResponse>> getVotes(
+    public SuccessResponse<VoteSliceResponse> getVotes(
             @AuthenticationPrincipal UserPrincipal principal,
-            @PathVariable("clubId") Long clubId
+            @PathVariable("clubId") Long clubId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "deadlineFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @RequestParam(value = "deadlineTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo
     ) {
         Long currentUserId = requireUserId(principal);
-        List<VoteListResponse> votes = voteService.getVotesByClubId(clubId, currentUserId);
+        VoteSliceResponse votes = voteService.getVotesByClubId(clubId, currentUserId,
+                new VoteSearchRequest(cursor, size, status, deadlineFrom, deadlineTo));
         return SuccessResponse.success(HttpStatus.OK, votes);
     }
 
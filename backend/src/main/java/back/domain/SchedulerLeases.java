@@ -0,0 +1,31 @@
+package back.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 실행권(lease)
+ * - 여러 서버 중 lease를 가진 서버만 해당 작업(샤드)을 실행
+ * - 갱신이 끊겨 lease_until이 지나면 다른 서버가 인수
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLeases {
+
+    @Id
+    @Column(name = "lease_key", length = 100)
+    private String leaseKey;
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
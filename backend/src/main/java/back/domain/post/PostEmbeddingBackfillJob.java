@@ -0,0 +1,74 @@
+package back.domain.post;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 임베딩 백필 작업 (진행 체크포인트)
+ * - 생성만 JPA, 진행/상태 변경은 PostEmbeddingBackfillJobRepository의 조건부 UPDATE로만
+ *   (관리자 일시정지와 실행 서버의 체크포인트 저장이 서로 덮어쓰지 않도록)
+ */
+@Entity
+@Table(name = "post_embedding_backfill_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostEmbeddingBackfillJob {
+
+    public enum Status {
+        RUNNING, PAUSED, COMPLETED, FAILED, CANCELLED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "last_post_id", nullable = false)
+    private Long lastPostId;
+
+    @Column(name = "max_post_id", nullable = false)
+    private Long maxPostId;
+
+    @Column(name = "total_posts", nullable = false)
+    private Long totalPosts;
+
+    @Column(name = "processed_posts", nullable = false)
+    private Long processedPosts;
+
+    @Column(name = "failed_batches", nullable = false)
+    private Integer failedBatches;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public static PostEmbeddingBackfillJob start(Long maxPostId, Long totalPosts) {
+        PostEmbeddingBackfillJob job = new PostEmbeddingBackfillJob();
+        LocalDateTime now = LocalDateTime.now();
+        job.status = Status.RUNNING;
+        job.lastPostId = 0L;
+        job.maxPostId = maxPostId;
+        job.totalPosts = totalPosts;
+        job.processedPosts = 0L;
+        job.failedBatches = 0;
+        job.startedAt = now;
+        job.updatedAt = now;
+        return job;
+    }
+}
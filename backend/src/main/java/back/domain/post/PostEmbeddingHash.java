@@ -0,0 +1,37 @@
+package back.domain.post;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 마지막으로 저장한 임베딩 입력 해시 (게시글당 1행)
+ * - 내용이 그대로면 outbox 작업이 와도 재임베딩하지 않음
+ */
+@Entity
+@Table(name = "post_embedding_hashes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostEmbeddingHash {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "embedded_at", nullable = false)
+    private LocalDateTime embeddedAt;
+
+    public static PostEmbeddingHash of(Long postId, String contentHash) {
+        PostEmbeddingHash hash = new PostEmbeddingHash();
+        hash.postId = postId;
+        hash.contentHash = contentHash;
+        hash.embeddedAt = LocalDateTime.now();
+        return hash;
+    }
+}
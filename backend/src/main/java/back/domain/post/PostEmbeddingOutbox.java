@@ -0,0 +1,49 @@
+package back.domain.post;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 임베딩 작업 outbox (게시글당 1행)
+ * - 게시글 저장 트랜잭션 안에서 적재, 워커가 별도로 임베딩/벡터 저장
+ * - 적재/선점/완료는 PostEmbeddingOutboxRepository의 네이티브 쿼리로만 변경
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostEmbeddingOutbox {
+
+    public enum Status {
+        PENDING, PROCESSING, DONE, FAILED
+    }
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -32,6 +32,10 @@ public class VoteOptions {
     @Column(length = 255)
     private String location;
 
+    // 옵션별 투표 수 (원자적 UPDATE로만 변경, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "vote_count", nullable = false, insertable = false, updatable = false)
+    private Long voteCount = 0L;
+
     // 생성자
     public VoteOptions(Long voteId, String optionText, Integer optionOrder, 
                        LocalDateTime eventDate, String location) {
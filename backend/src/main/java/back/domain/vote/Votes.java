@@ -18,6 +18,9 @@ public class Votes extends BaseEntity {
     @Column(name = "vote_id")
     private Long voteId;
 
+    @Column(name = "club_id")
+    private Long clubId; // 투표가 속한 모임 (소속 확인 시 일정/게시글 조회 없이 사용)
+
     @Column(name = "post_id")
     private Long postId;
 
@@ -51,9 +54,14 @@ public class Votes extends BaseEntity {
     @Column(name = "deadline")
     private LocalDateTime deadline; // 투표 종료 기한 (일반 투표용)
 
+    // 투표 참여자 수 (원자적 UPDATE로만 변경, 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "participant_count", nullable = false, insertable = false, updatable = false)
+    private Long participantCount = 0L;
+
     // 생성자
-    public Votes(Long postId, String voteType, Long scheduleId, Long creatorId, String title, String description, 
-                 Boolean isAnonymous, Boolean allowMultiple, LocalDateTime deadline) {
+    public Votes(Long clubId, Long postId, String voteType, Long scheduleId, Long creatorId, String title,
+                 String description, Boolean isAnonymous, Boolean allowMultiple, LocalDateTime deadline) {
+        this.clubId = clubId;
         this.postId = postId;
         this.voteType = voteType != null ? voteType : "GENERAL";
         this.scheduleId = scheduleId;
@@ -0,0 +1,15 @@
+package back.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record NotificationReadRequest(
+        @NotNull(message = "알림 ID 리스트는 필수입니다")
+        @NotEmpty(message = "최소 하나의 알림을 선택해야 합니다")
+        @Size(max = 1000, message = "한 번에 최대 1000개까지 읽음 처리할 수 있습니다")
+        List<Long> notificationIds
+) {
+}
@@ -0,0 +1,11 @@
+package back.dto;
+
+/**
+ * 알림함 조회 조건 DTO (커서 기반)
+ */
+public record NotificationSearchRequest(
+        Long cursor,          // 이전 페이지 마지막 알림 id (첫 페이지는 null)
+        Integer size,         // 페이지 크기 (기본 20, 최대 100)
+        boolean unreadOnly    // 안읽은 알림만 조회
+) {
+}
@@ -0,0 +1,10 @@
+package back.dto;
+
+import java.util.List;
+
+public record NotificationSliceResponse(
+        List<NotificationResponse> notifications,
+        Long nextCursor,           // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+        boolean hasNext
+) {
+}
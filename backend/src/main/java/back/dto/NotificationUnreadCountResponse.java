@@ -0,0 +1,4 @@
+package back.dto;
+
+public record NotificationUnreadCountResponse(long unreadCount) {
+}
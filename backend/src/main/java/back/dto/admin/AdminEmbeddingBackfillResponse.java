@@ -0,0 +1,48 @@
+package back.dto.admin;
+
+import back.domain.post.PostEmbeddingBackfillJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AdminEmbeddingBackfillResponse {
+    private Long jobId;
+    private String status;
+    private Long lastPostId;
+    private Long maxPostId;
+    private Long totalPosts;
+    private Long processedPosts;
+    private double progressPercent;
+    // 시작 ~ 마지막 체크포인트 평균 (일시정지 시간 포함)
+    private double postsPerSecond;
+    private Integer failedBatches;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static AdminEmbeddingBackfillResponse from(PostEmbeddingBackfillJob job) {
+        long total = job.getTotalPosts();
+        long processed = job.getProcessedPosts();
+        long elapsedMillis = Duration.between(job.getStartedAt(), job.getUpdatedAt()).toMillis();
+        return AdminEmbeddingBackfillResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .lastPostId(job.getLastPostId())
+                .maxPostId(job.getMaxPostId())
+                .totalPosts(total)
+                .processedPosts(processed)
+                .progressPercent(total > 0 ? Math.min(100.0, processed * 100.0 / total) : 100.0)
+                .postsPerSecond(elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : 0)
+                .failedBatches(job.getFailedBatches())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
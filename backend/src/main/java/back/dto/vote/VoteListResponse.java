@@ -1,5 +1,7 @@
 package back.dto.vote;
 
+import back.domain.vote.Votes;
+
 import java.time.LocalDateTime;
 
 public record VoteListResponse(
@@ -14,4 +16,18 @@ public record VoteListResponse(
         LocalDateTime createdAt,
         long totalVoteCount        // 총 투표 수
 ) {
+    public static VoteListResponse from(Votes vote) {
+        return new VoteListResponse(
+                vote.getVoteId(),
+                vote.getPostId(),
+                vote.getVoteType(),
+                vote.getScheduleId(),
+                vote.getTitle(),
+                vote.getStatus(),
+                vote.getDeadline(),
+                vote.getClosedAt(),
+                vote.getCreatedAt(),
+                vote.getParticipantCount()
+        );
+    }
 }
@@ -0,0 +1,15 @@
+package back.dto.vote;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 목록 조회 조건 DTO (커서 기반)
+ */
+public record VoteSearchRequest(
+        Long cursor,                  // 이전 페이지 마지막 voteId (첫 페이지는 null)
+        Integer size,                 // 페이지 크기 (기본 20, 최대 100)
+        String status,                // "OPEN" 또는 "CLOSED" (선택)
+        LocalDateTime deadlineFrom,   // 마감 기한 시작 (포함, 선택 — 일정 투표는 실제 종료 시각(일정 시작 5분 전) 기준)
+        LocalDateTime deadlineTo      // 마감 기한 끝 (미포함, 선택)
+) {
+}
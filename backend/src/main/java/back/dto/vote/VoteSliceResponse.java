@@ -0,0 +1,10 @@
+package back.dto.vote;
+
+import java.util.List;
+
+public record VoteSliceResponse(
+        List<VoteListResponse> votes,
+        Long nextCursor,           // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+        boolean hasNext
+) {
+}
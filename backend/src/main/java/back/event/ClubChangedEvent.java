@@ -0,0 +1,10 @@
+package back.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ClubChangedEvent {
+    private final Long clubId; // 공개 범위, 상태 등 모임 설정 변경
+}
@@ -0,0 +1,11 @@
+package back.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ClubMemberChangedEvent {
+    private final Long clubId;
+    private final Long memberId; // ClubMembers PK (강퇴, 닉네임 변경 등)
+}
@@ -0,0 +1,11 @@
+package back.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+    private final Long clubId;
+    private final Long postId; // 작성, 수정, 블라인드, 삭제
+}
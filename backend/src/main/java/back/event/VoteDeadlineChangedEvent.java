@@ -0,0 +1,13 @@
+package back.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 투표 마감 시각이 생기거나 바뀐 경우 (투표 생성, 일정 시작 시각 변경)
+ */
+@Getter
+@RequiredArgsConstructor
+public class VoteDeadlineChangedEvent {
+    private final Long voteId;
+}
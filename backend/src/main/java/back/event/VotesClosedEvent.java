@@ -0,0 +1,15 @@
+package back.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 투표 종료 (수동 종료, 자동 종료, 일정 마감/취소)
+ */
+@Getter
+@RequiredArgsConstructor
+public class VotesClosedEvent {
+    private final List<Long> voteIds;
+}
@@ -0,0 +1,26 @@
+package back.exception;
+
+import back.exception.response.ErrorCode;
+
+public class NotificationException extends CustomGlobalException {
+
+    protected NotificationException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    protected NotificationException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static class SearchInvalid extends NotificationException {
+        public SearchInvalid() {
+            super(ErrorCode.NOTIFICATION_SEARCH_INVALID);
+        }
+    }
+
+    public static class ReadInvalid extends NotificationException {
+        public ReadInvalid() {
+            super(ErrorCode.NOTIFICATION_READ_INVALID);
+        }
+    }
+}
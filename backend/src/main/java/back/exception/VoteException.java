@@ -107,4 +107,10 @@ public class VoteException extends CustomGlobalException {
             super(ErrorCode.VOTE_STAFF_ONLY);
         }
     }
+
+    public static class SearchInvalid extends VoteException {
+        public SearchInvalid() {
+            super(ErrorCode.VOTE_SEARCH_INVALID);
+        }
+    }
 }
@@ -70,11 +70,13 @@ public enum ErrorCode {
     VOTE_CREATOR_ONLY(HttpStatus.FORBIDDEN,"V14", "일반 투표는 생성자만 종료할 수 있습니다"),
     VOTE_MEMBER_ONLY(HttpStatus.FORBIDDEN,"V15", "해당 모임의 멤버만 투표에 참여할 수 있습니다"),
     VOTE_STAFF_ONLY(HttpStatus.FORBIDDEN,"V16", "ATTENDANCE 투표 종료는 모임장 또는 운영진만 가능합니다"),
+    VOTE_SEARCH_INVALID(HttpStatus.BAD_REQUEST,"V17", "투표 목록 조회 조건이 올바르지 않습니다"),
 
     //Post Error
     POST_NOT_FOUND(NOT_FOUND,"P01", "게시글을 찾을 수 없습니다"),
     POST_DELETED(GONE, "P02", "삭제된 게시글입니다"),
     POST_FORBIDDEN(FORBIDDEN,"P03", "비공개 또는 제한된 게시글입니다"),
+    POST_EMBEDDING_BACKFILL_NOT_RUNNING(CONFLICT, "P04", "실행 중인 임베딩 백필 작업이 없습니다"),
 
     POST_COMMENT_NOT_FOUND(NOT_FOUND, "PC01","댓글을 찾을 수 없습니다"),
     POST_COMMENT_DELETED(GONE, "PC02","삭제된 댓글 입니다"),
@@ -84,7 +86,11 @@ public enum ErrorCode {
     SCHEDULE_INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST,"SC02", "종료일시는 시작일시보다 이후여야 합니다"),
     SCHEDULE_STAFF_ONLY(HttpStatus.FORBIDDEN,"SC03", "일정 종료는 모임장 또는 운영진만 가능합니다"),
     SCHEDULE_ALREADY_CLOSED(HttpStatus.BAD_REQUEST,"SC04", "이미 종료된 일정입니다"),
-    SCHEDULE_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST,"SC05", "이미 취소된 일정입니다")
+    SCHEDULE_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST,"SC05", "이미 취소된 일정입니다"),
+
+    //Notification Error
+    NOTIFICATION_SEARCH_INVALID(HttpStatus.BAD_REQUEST,"N01", "알림 목록 조회 조건이 올바르지 않습니다"),
+    NOTIFICATION_READ_INVALID(HttpStatus.BAD_REQUEST,"N02", "읽음 처리할 알림 목록이 올바르지 않습니다")
     ;
     private final HttpStatus httpStatus;
     private final String code;
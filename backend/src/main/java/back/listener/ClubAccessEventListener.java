@@ -0,0 +1,34 @@
+package back.listener;
+
+import back.event.ClubChangedEvent;
+import back.event.ClubJoinEvent;
+import back.event.ClubMemberChangedEvent;
+import back.service.club.ClubAccessResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 멤버 승인/강퇴, 모임 설정 변경 커밋 후 권한 캐시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class ClubAccessEventListener {
+
+    private final ClubAccessResolver clubAccessResolver;
+
+    @TransactionalEventListener
+    public void handleClubJoinEvent(ClubJoinEvent event) {
+        clubAccessResolver.evictClub(event.getClubId());
+    }
+
+    @TransactionalEventListener
+    public void handleClubMemberChangedEvent(ClubMemberChangedEvent event) {
+        clubAccessResolver.evictClub(event.getClubId());
+    }
+
+    @TransactionalEventListener
+    public void handleClubChangedEvent(ClubChangedEvent event) {
+        clubAccessResolver.evictClub(event.getClubId());
+    }
+}
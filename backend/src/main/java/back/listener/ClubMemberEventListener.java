@@ -0,0 +1,32 @@
+package back.listener;
+
+import back.event.ClubJoinEvent;
+import back.event.ClubMemberChangedEvent;
+import back.service.ledger.ClubMemberNameCache;
+import back.service.post.ai.PostMemberNameCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 멤버 변경 커밋 후 이름 사전 갱신 (거래내역 매칭, 게시글 검색 질문)
+ */
+@Component
+@RequiredArgsConstructor
+public class ClubMemberEventListener {
+
+    private final ClubMemberNameCache clubMemberNameCache;
+    private final PostMemberNameCache postMemberNameCache;
+
+    @TransactionalEventListener
+    public void handleClubJoinEvent(ClubJoinEvent event) {
+        clubMemberNameCache.refreshMember(event.getClubId(), event.getMemberId());
+        postMemberNameCache.refreshMember(event.getClubId(), event.getMemberId());
+    }
+
+    @TransactionalEventListener
+    public void handleClubMemberChangedEvent(ClubMemberChangedEvent event) {
+        clubMemberNameCache.refreshMember(event.getClubId(), event.getMemberId());
+        postMemberNameCache.refreshMember(event.getClubId(), event.getMemberId());
+    }
+}
@@ -0,0 +1,27 @@
+package back.listener;
+
+import back.event.PostChangedEvent;
+import back.service.post.ai.RagAnswerCache;
+import back.service.post.ai.lexical.PostLexicalIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 작성/수정/블라인드/삭제 커밋 후
+ * - 그 게시글을 근거로 한 RAG 답변 캐시 무효화
+ * - 키워드 색인에 해당 게시글 다시 반영 (DB 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostChangedEventListener {
+
+    private final PostLexicalIndex postLexicalIndex;
+    private final RagAnswerCache ragAnswerCache;
+
+    @TransactionalEventListener
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        ragAnswerCache.invalidatePost(event.getPostId());
+        postLexicalIndex.refresh(event.getClubId(), event.getPostId());
+    }
+}
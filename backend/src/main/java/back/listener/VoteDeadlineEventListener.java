@@ -0,0 +1,28 @@
+package back.listener;
+
+import back.event.VoteDeadlineChangedEvent;
+import back.event.VotesClosedEvent;
+import back.service.vote.VoteDeadlineTimer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 투표/일정 변경 커밋 후 마감 타이머 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteDeadlineEventListener {
+
+    private final VoteDeadlineTimer voteDeadlineTimer;
+
+    @TransactionalEventListener
+    public void handleVoteDeadlineChangedEvent(VoteDeadlineChangedEvent event) {
+        voteDeadlineTimer.refresh(event.getVoteId());
+    }
+
+    @TransactionalEventListener
+    public void handleVotesClosedEvent(VotesClosedEvent event) {
+        voteDeadlineTimer.forget(event.getVoteIds());
+    }
+}
@@ -0,0 +1,56 @@
+package back.repository;
+
+import back.domain.SchedulerLeases;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 만료 판단은 서버 간 시계 차이를 피하기 위해 DB 시간(NOW) 기준
+ */
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLeases, String> {
+
+    /**
+     * lease 행이 없으면 만료된 상태로 생성합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO scheduler_leases (lease_key, owner_id, lease_until)
+            VALUES (:leaseKey, '', '1970-01-01 00:00:01')
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("leaseKey") String leaseKey);
+
+    /**
+     * 본인이 가진 lease는 연장하고, 만료된 lease는 인수합니다.
+     *
+     * @return 1이면 lease 보유, 0이면 다른 서버가 보유 중
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_leases
+               SET owner_id = :ownerId,
+                   lease_until = TIMESTAMPADD(SECOND, :leaseSeconds, NOW(3))
+             WHERE lease_key = :leaseKey
+               AND (owner_id = :ownerId OR lease_until < NOW(3))
+            """, nativeQuery = true)
+    int tryAcquire(@Param("leaseKey") String leaseKey,
+                   @Param("ownerId") String ownerId,
+                   @Param("leaseSeconds") int leaseSeconds);
+
+    /**
+     * 종료 시 lease를 즉시 만료시켜 다른 서버가 바로 인수하도록 합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_leases
+               SET lease_until = '1970-01-01 00:00:01'
+             WHERE lease_key = :leaseKey
+               AND owner_id = :ownerId
+            """, nativeQuery = true)
+    int release(@Param("leaseKey") String leaseKey, @Param("ownerId") String ownerId);
+}
@@ -1,6 +1,7 @@
 package back.repository.club;
 
 import back.domain.club.ClubMembers;
+import back.repository.club.projection.MemberNameView;
 import back.repository.club.projection.NameView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -31,6 +32,10 @@ public interface ClubMemberRepository extends JpaRepository<ClubMembers, Long> {
 
     List<ClubMembers> findByClubIdAndStatus(Long clubId, ClubMembers.Status status);
 
+    // 알림 수신자 조회용 (엔티티 로딩 없이 userId만)
+    @Query("select cm.userId from ClubMembers cm where cm.clubId = :clubId and cm.status = :status")
+    List<Long> findUserIdsByClubIdAndStatus(@Param("clubId") Long clubId, @Param("status") ClubMembers.Status status);
+
     @Query("""
     select u.realName as realName,
            cm.nickname as clubNickname
@@ -44,6 +49,61 @@ public interface ClubMemberRepository extends JpaRepository<ClubMembers, Long> {
             @Param("memberId") Long memberId
     );
 
+    @Query("""
+    select cm.memberId as memberId,
+           u.realName as realName,
+           cm.nickname as clubNickname
+    from ClubMembers cm
+    join Users u on u.id = cm.userId
+    where cm.clubId = :clubId
+      and cm.status = back.domain.club.ClubMembers.Status.ACTIVE
+""")
+    List<MemberNameView> findActiveMemberNamesByClubId(@Param("clubId") Long clubId);
+
+    /**
+     * 모임의 전체 멤버 이름 (탈퇴/강퇴 포함, 과거 게시글 태그 검색용)
+     */
+    @Query("""
+    select cm.memberId as memberId,
+           u.realName as realName,
+           cm.nickname as clubNickname
+    from ClubMembers cm
+    join Users u on u.id = cm.userId
+    where cm.clubId = :clubId
+""")
+    List<MemberNameView> findMemberNamesByClubId(@Param("clubId") Long clubId);
+
+    @Query("""
+    select cm.memberId as memberId,
+           u.realName as realName,
+           cm.nickname as clubNickname
+    from ClubMembers cm
+    join Users u on u.id = cm.userId
+    where cm.clubId = :clubId
+      and cm.memberId = :memberId
+      and cm.status = back.domain.club.ClubMembers.Status.ACTIVE
+""")
+    Optional<MemberNameView> findActiveMemberName(
+            @Param("clubId") Long clubId,
+            @Param("memberId") Long memberId
+    );
+
+    /**
+     * 멤버 1명 이름 (상태 무관, 게시글 검색 사전 갱신용)
+     */
+    @Query("""
+    select cm.memberId as memberId,
+           u.realName as realName,
+           cm.nickname as clubNickname
+    from ClubMembers cm
+    join Users u on u.id = cm.userId
+    where cm.clubId = :clubId
+      and cm.memberId = :memberId
+""")
+    Optional<MemberNameView> findMemberName(
+            @Param("clubId") Long clubId,
+            @Param("memberId") Long memberId
+    );
 
     @Query("""
     select count(cm)
@@ -1,9 +1,12 @@
 package back.repository.club;
 
 import back.domain.club.Clubs;
+import back.repository.club.projection.ClubAccessView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -26,4 +29,17 @@ public interface ClubRepository extends JpaRepository<Clubs, Long> {
 
     // 카테고리 + 이름 검색
     Page<Clubs> findByCategoryAndClubNameContaining(Clubs.Category category, String clubName, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 권한 판단용 모임 + (userId의) 멤버십 1회 조회
+     * userId가 null이거나 가입 이력이 없으면 role/memberStatus는 null
+     */
+    @Query("""
+            SELECT c.clubId AS clubId, c.status AS clubStatus, c.visibility AS visibility, c.ownerId AS ownerId,
+                   m.role AS role, m.status AS memberStatus
+            FROM Clubs c
+            LEFT JOIN ClubMembers m ON m.clubId = c.clubId AND m.userId = :userId
+            WHERE c.clubId = :clubId
+            """)
+    Optional<ClubAccessView> findAccess(@Param("clubId") Long clubId, @Param("userId") Long userId);
+}
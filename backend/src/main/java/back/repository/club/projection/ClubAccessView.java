@@ -0,0 +1,13 @@
+package back.repository.club.projection;
+
+import back.domain.club.ClubMembers;
+import back.domain.club.Clubs;
+
+public interface ClubAccessView {
+    Long getClubId();
+    Clubs.Status getClubStatus();
+    Clubs.Visibility getVisibility();
+    Long getOwnerId();
+    ClubMembers.Role getRole();                 // 가입 이력 없으면 null
+    ClubMembers.Status getMemberStatus();       // 가입 이력 없으면 null
+}
@@ -0,0 +1,7 @@
+package back.repository.club.projection;
+
+public interface MemberNameView {
+    Long getMemberId();
+    String getRealName();
+    String getClubNickname();
+}
@@ -1,36 +1,56 @@
 package back.repository.notifications;
 
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+/**
+ * 사용자별 SSE 연결 저장소 (userId → 연결 목록, 조회 O(1))
+ */
 @Repository
 public class EmitterRepository {
 
-    Map<String, SseEmitter> connection = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
 
     //SSE 이벤트를 연결할 통로 저장
-    public SseEmitter save(String key, SseEmitter emitter) {
-        connection.put(key, emitter);
-        return emitter;
+    public SseConnection save(SseConnection connection) {
+        connections.compute(connection.getUserId(), (userId, set) -> {
+            Set<SseConnection> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            if (target.add(connection)) {
+                connectionCount.incrementAndGet();
+            }
+            return target;
+        });
+        return connection;
     }
 
-    public void deleteById(String key) {
-        connection.remove(key);
+    public void delete(SseConnection connection) {
+        connections.computeIfPresent(connection.getUserId(), (userId, set) -> {
+            if (set.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
     }
 
-    public Map<String, SseEmitter> findAllEmitterStartWithByUserId(Long userId) {
-        Map<String, SseEmitter> result = new ConcurrentHashMap<>();
+    public Set<SseConnection> findAllByUserId(Long userId) {
+        return connections.getOrDefault(userId, Set.of());
+    }
 
-        for (Map.Entry<String, SseEmitter> entry : connection.entrySet()) {
-            String key = entry.getKey();
-            if (key.startsWith(userId + "_")) {
-                result.put(key, entry.getValue());
-            }
-        }
+    public Stream<SseConnection> findAll() {
+        return connections.values().stream().flatMap(Set::stream);
+    }
+
+    public int countConnections() {
+        return connectionCount.get();
+    }
 
-        return result;
+    public int countUsers() {
+        return connections.size();
     }
 }
@@ -0,0 +1,118 @@
+package back.repository.notifications;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 알림 일괄 저장 (같은 내용을 여러 수신자에게)
+ * - IDENTITY 전략이라 saveAll은 행마다 INSERT → JDBC 배치로 직접 저장
+ * - 반환값은 수신자 순서와 동일한 순서의 생성 PK 목록
+ * - 같은 트랜잭션에서 수신자별 안읽은 알림 카운터 증가
+ *   (동시 발송 간 교착을 피하려고 user_id 오름차순으로 갱신)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications
+                (user_id, content, ref_id, ref_type, is_read, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INCREMENT_UNREAD_SQL = """
+            INSERT INTO notification_unread_counts (user_id, unread_count)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<Long> insert(List<Long> userIds, String content, Long refId, String refType, LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(createdAt);
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            List<Long> ids = new ArrayList<>(userIds.size());
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                int pending = 0;
+                for (Long userId : userIds) {
+                    ps.setLong(1, userId);
+                    ps.setString(2, content);
+                    if (refId == null) {
+                        ps.setNull(3, Types.BIGINT);
+                    } else {
+                        ps.setLong(3, refId);
+                    }
+                    ps.setString(4, refType);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        flush(ps, ids);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    flush(ps, ids);
+                }
+            }
+            incrementUnread(con, userIds);
+            return ids;
+        });
+    }
+
+    private void incrementUnread(Connection con, List<Long> userIds) throws SQLException {
+        Map<Long, Integer> counts = new TreeMap<>();
+        for (Long userId : userIds) {
+            counts.merge(userId, 1, Integer::sum);
+        }
+        try (PreparedStatement ps = con.prepareStatement(INCREMENT_UNREAD_SQL)) {
+            int pending = 0;
+            for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+                ps.setLong(1, entry.getKey());
+                ps.setInt(2, entry.getValue());
+                ps.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    ps.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+
+    private void flush(PreparedStatement ps, List<Long> ids) throws SQLException {
+        ps.executeBatch();
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package back.repository.notifications;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 서버 간 알림 브로드캐스트 로그 (notification_bus)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBusRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Row(long seq, String originNode, String payload) {
+    }
+
+    public void append(String originNode, String payload) {
+        jdbcTemplate.update(
+                "INSERT INTO notification_bus (origin_node, payload) VALUES (?, ?)",
+                originNode, payload);
+    }
+
+    /**
+     * seq 오름차순으로 cursor 이후 행 조회
+     */
+    public List<Row> findAfter(long cursor, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT seq, origin_node, payload
+                          FROM notification_bus
+                         WHERE seq > ?
+                         ORDER BY seq
+                         LIMIT ?
+                        """,
+                (rs, rowNum) -> new Row(rs.getLong("seq"), rs.getString("origin_node"), rs.getString("payload")),
+                cursor, limit);
+    }
+
+    public long findMaxSeq() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM notification_bus", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    public int deleteBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM notification_bus WHERE created_at < ? LIMIT ?",
+                Timestamp.valueOf(before), limit);
+    }
+}
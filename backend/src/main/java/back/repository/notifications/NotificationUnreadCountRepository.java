@@ -0,0 +1,40 @@
+package back.repository.notifications;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 안읽은 알림 수 카운터 (notification_unread_counts)
+ * - 증가는 NotificationBatchWriter가 알림 저장과 같은 트랜잭션에서 처리
+ * - 감소는 실제로 읽음 처리된 행 수만큼 (호출 측 트랜잭션에 참여)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카운터 행이 없으면 0
+     */
+    public long findCount(Long userId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT unread_count FROM notification_unread_counts WHERE user_id = ?",
+                Long.class, userId);
+        return counts.isEmpty() ? 0 : Math.max(counts.get(0), 0);
+    }
+
+    public void decrement(Long userId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+                UPDATE notification_unread_counts
+                   SET unread_count = GREATEST(unread_count - ?, 0)
+                 WHERE user_id = ?
+                """, count, userId);
+    }
+}
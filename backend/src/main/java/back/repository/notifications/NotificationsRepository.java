@@ -1,7 +1,85 @@
 package back.repository.notifications;
 
 import back.domain.Notifications;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface NotificationsRepository extends JpaRepository<Notifications,Long> {
+
+    /**
+     * 사용자의 알림함을 커서(notiId) 기반으로 최신순 조회합니다.
+     */
+    @Query("""
+            SELECT n FROM Notifications n
+            WHERE n.userId = :userId
+              AND (:cursor IS NULL OR n.notiId < :cursor)
+              AND (:unreadOnly = false OR n.isRead = false)
+            ORDER BY n.notiId DESC
+            """)
+    List<Notifications> findInbox(@Param("userId") Long userId,
+                                  @Param("cursor") Long cursor,
+                                  @Param("unreadOnly") boolean unreadOnly,
+                                  Pageable pageable);
+
+    /**
+     * SSE 재연결 시 lastEventId 이후 알림을 오래된 순으로 조회합니다.
+     */
+    @Query("""
+            SELECT n FROM Notifications n
+            WHERE n.userId = :userId
+              AND n.notiId > :lastEventId
+            ORDER BY n.notiId ASC
+            """)
+    List<Notifications> findReplay(@Param("userId") Long userId,
+                                   @Param("lastEventId") Long lastEventId,
+                                   Pageable pageable);
+
+    /**
+     * 본인 알림 중 안읽은 것만 읽음 처리합니다.
+     *
+     * @return 실제로 읽음 처리된 행 수 (카운터 감소량)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notifications n
+               SET n.isRead = true, n.updatedAt = :now
+             WHERE n.userId = :userId
+               AND n.notiId IN :notiIds
+               AND n.isRead = false
+            """)
+    int markAsRead(@Param("userId") Long userId,
+                   @Param("notiIds") Collection<Long> notiIds,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notifications n
+               SET n.isRead = true, n.updatedAt = :now
+             WHERE n.userId = :userId
+               AND n.isRead = false
+            """)
+    int markAllAsRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 기준 시각 이전에 생성된 읽은 알림을 오래된 순으로 최대 limit개 삭제합니다.
+     * 안읽은 알림은 남기므로 안읽음 카운터는 변하지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM notifications
+             WHERE is_read = 1
+               AND created_at < :cutoff
+             ORDER BY noti_id
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteReadBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
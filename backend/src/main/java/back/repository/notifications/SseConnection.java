@@ -0,0 +1,170 @@
+package back.repository.notifications;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * SSE 연결 1개
+ * - 전송은 크기 제한 큐에 넣고 공용 전송 스레드에서 연결별로 순서대로 처리 (호출 스레드는 대기하지 않음)
+ * - 큐가 가득 차면(느린 클라이언트) 연결을 끊음 → 재연결 시 누락분 재전송
+ * - 재연결(Last-Event-ID) 연결은 일시정지 상태로 생성: 누락분 조회 중 들어온 실시간 알림은 큐에만 쌓고,
+ *   resume 시 누락분을 먼저 보낸 뒤 큐를 이어서 전송 (누락분과 겹치는 id는 건너뜀)
+ * - 전송 실패/완료/타임아웃 시 onClose 1회 호출
+ */
+public class SseConnection {
+
+    @Getter
+    private final Long userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final BlockingQueue<Event> queue;
+    private final Consumer<SseConnection> onClose;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long lastSentAt;
+
+    private volatile boolean paused;
+    private volatile List<Event> replay;
+    private volatile Set<Long> replayedIds = Set.of();
+
+    /**
+     * @param id 알림 id (Last-Event-ID 기준), heartbeat 등은 null
+     */
+    public record Event(Long id, SseEmitter.SseEventBuilder builder) {
+    }
+
+    public SseConnection(Long userId, SseEmitter emitter, Executor executor, int queueCapacity,
+                         Consumer<SseConnection> onClose) {
+        this(userId, emitter, executor, queueCapacity, onClose, false);
+    }
+
+    public SseConnection(Long userId, SseEmitter emitter, Executor executor, int queueCapacity,
+                         Consumer<SseConnection> onClose, boolean paused) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.onClose = onClose;
+        this.paused = paused;
+        this.lastSentAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 전송 예약 (대기 없음)
+     * @return 큐가 가득 찼거나 이미 끊긴 연결이면 false
+     */
+    public boolean offer(SseEmitter.SseEventBuilder event) {
+        return offer(null, event);
+    }
+
+    public boolean offer(Long id, SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(new Event(id, event))) {
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 누락분을 먼저 보내고 일시정지 해제
+     */
+    public void resume(List<Event> missed) {
+        replayedIds = missed.stream()
+                .map(Event::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        replay = missed;
+        paused = false;
+        scheduleDrain();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 보낼 것이 쌓여 있는데 since 이후 한 건도 못 보낸 연결 (전송 스레드가 막힘)
+     */
+    public boolean isStalledSince(long since) {
+        return !paused && !queue.isEmpty() && lastSentAt < since;
+    }
+
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        replay = null;
+        onClose.accept(this);
+        try {
+            emitter.complete();
+        } catch (RuntimeException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private void scheduleDrain() {
+        if (paused || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            List<Event> missed = replay;
+            if (missed != null) {
+                replay = null;
+                for (Event event : missed) {
+                    send(event);
+                }
+            }
+            Event event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                if (event.id() != null && replayedIds.contains(event.id())) {
+                    continue; // 누락분 조회에 이미 포함된 알림
+                }
+                send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        // drain 종료 직후 들어온 이벤트
+        if (!closed.get() && (!queue.isEmpty() || replay != null)) {
+            scheduleDrain();
+        }
+    }
+
+    private void send(Event event) throws IOException {
+        if (closed.get()) {
+            return;
+        }
+        emitter.send(event.builder());
+        lastSentAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,66 @@
+package back.repository.post;
+
+import back.domain.post.PostEmbeddingBackfillJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface PostEmbeddingBackfillJobRepository extends JpaRepository<PostEmbeddingBackfillJob, Long> {
+
+    Optional<PostEmbeddingBackfillJob> findTopByOrderByJobIdDesc();
+
+    Optional<PostEmbeddingBackfillJob> findTopByStatusInOrderByJobIdDesc(
+            Collection<PostEmbeddingBackfillJob.Status> statuses);
+
+    @Query(value = "SELECT status FROM post_embedding_backfill_jobs WHERE job_id = :jobId", nativeQuery = true)
+    Optional<String> findStatus(@Param("jobId") Long jobId);
+
+    /**
+     * 상태 전이 (현재 상태가 from일 때만)
+     * - COMPLETED/FAILED/CANCELLED로 바뀌면 finished_at 기록, RUNNING으로 재개하면 last_error 초기화
+     *
+     * @return 1이면 전이 성공
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE post_embedding_backfill_jobs
+               SET status = :to,
+                   last_error = IF(:to = 'RUNNING', NULL, last_error),
+                   finished_at = IF(:to IN ('COMPLETED', 'FAILED', 'CANCELLED'), NOW(3), NULL),
+                   updated_at = NOW(3)
+             WHERE job_id = :jobId
+               AND status = :from
+            """, nativeQuery = true)
+    int transition(@Param("jobId") Long jobId, @Param("from") String from, @Param("to") String to);
+
+    /**
+     * 배치 1건 저장 완료 체크포인트 (상태는 건드리지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE post_embedding_backfill_jobs
+               SET last_post_id = :lastPostId,
+                   processed_posts = processed_posts + :processed,
+                   updated_at = NOW(3)
+             WHERE job_id = :jobId
+            """, nativeQuery = true)
+    int checkpoint(@Param("jobId") Long jobId, @Param("lastPostId") Long lastPostId, @Param("processed") int processed);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE post_embedding_backfill_jobs
+               SET failed_batches = failed_batches + 1,
+                   last_error = :lastError,
+                   updated_at = NOW(3)
+             WHERE job_id = :jobId
+            """, nativeQuery = true)
+    int recordFailure(@Param("jobId") Long jobId, @Param("lastError") String lastError);
+}
@@ -0,0 +1,7 @@
+package back.repository.post;
+
+import back.domain.post.PostEmbeddingHash;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostEmbeddingHashRepository extends JpaRepository<PostEmbeddingHash, Long> {
+}
@@ -0,0 +1,95 @@
+package back.repository.post;
+
+import back.domain.post.PostEmbeddingOutbox;
+import back.repository.post.projection.EmbeddingJobRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostEmbeddingOutboxRepository extends JpaRepository<PostEmbeddingOutbox, Long> {
+
+    /**
+     * 임베딩 작업 적재
+     * - 이미 행이 있으면 version만 올려 작업 1건으로 합침
+     * - 처리 중인 작업은 PROCESSING 유지 (완료 시 version 불일치로 다시 PENDING)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_embedding_outbox
+                (post_id, status, version, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (:postId, 'PENDING', 1, 0, NOW(3), NOW(3), NOW(3))
+            ON DUPLICATE KEY UPDATE
+                next_attempt_at = IF(status = 'PROCESSING', next_attempt_at, NOW(3)),
+                status = IF(status = 'PROCESSING', 'PROCESSING', 'PENDING'),
+                version = version + 1,
+                attempts = 0,
+                last_error = NULL,
+                updated_at = NOW(3)
+            """, nativeQuery = true)
+    int enqueue(@Param("postId") Long postId);
+
+    /**
+     * 실행할 작업을 잠그고 조회합니다.
+     * 대기 중이면서 재시도 시각이 된 작업 + 처리 lease가 만료된 작업(워커 장애)
+     */
+    @Query(value = """
+            SELECT post_id AS postId, version AS version, attempts + 1 AS attempts
+            FROM post_embedding_outbox
+            WHERE status IN ('PENDING', 'PROCESSING')
+              AND next_attempt_at <= NOW(3)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmbeddingJobRow> lockRunnable(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE post_embedding_outbox
+               SET status = 'PROCESSING',
+                   attempts = attempts + 1,
+                   next_attempt_at = TIMESTAMPADD(SECOND, :leaseSeconds, NOW(3)),
+                   updated_at = NOW(3)
+             WHERE post_id IN (:postIds)
+            """, nativeQuery = true)
+    int markProcessing(@Param("postIds") Collection<Long> postIds, @Param("leaseSeconds") int leaseSeconds);
+
+    /**
+     * 처리 완료 (처리 중 수정되었으면 다시 PENDING)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE post_embedding_outbox
+               SET status = IF(version = :version, 'DONE', 'PENDING'),
+                   attempts = IF(version = :version, attempts, 0),
+                   next_attempt_at = NOW(3),
+                   last_error = NULL,
+                   updated_at = NOW(3)
+             WHERE post_id = :postId
+            """, nativeQuery = true)
+    int complete(@Param("postId") Long postId, @Param("version") Long version);
+
+    /**
+     * 처리 실패 (처리 중 수정되었으면 시도 횟수와 무관하게 바로 다시 PENDING)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE post_embedding_outbox
+               SET status = IF(version = :version, :status, 'PENDING'),
+                   next_attempt_at = IF(version = :version, :nextAttemptAt, NOW(3)),
+                   attempts = IF(version = :version, attempts, 0),
+                   last_error = :lastError,
+                   updated_at = NOW(3)
+             WHERE post_id = :postId
+            """, nativeQuery = true)
+    int fail(@Param("postId") Long postId,
+             @Param("version") Long version,
+             @Param("status") String status,
+             @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+             @Param("lastError") String lastError);
+}
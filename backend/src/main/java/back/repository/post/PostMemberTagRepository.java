@@ -1,10 +1,12 @@
 package back.repository.post;
 
 import back.domain.post.PostMemberTags;
+import back.repository.post.projection.PostTagRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostMemberTagRepository extends JpaRepository<PostMemberTags, Long> {
@@ -13,14 +15,15 @@ public interface PostMemberTagRepository extends JpaRepository<PostMemberTags, L
 
     List<PostMemberTags> findByPostId(Long postId);
 
-    //닉네임 → postId (필터용)
-    @Query(value = """
-        select distinct pmt.post_id
-        from post_member_tags pmt
-        join club_members cm on pmt.member_id = cm.member_id
-        where cm.nickname in (:names)
-    """, nativeQuery = true)
-    List<Long> findPostIdsByMemberNames(@Param("names") List<String> names);
+    //postId → 태그 멤버 ID/닉네임 (임베딩 일괄 생성용)
+    @Query("""
+        select pmt.postId as postId, pmt.memberId as memberId, cm.nickname as nickname
+        from PostMemberTags pmt
+        left join ClubMembers cm on cm.memberId = pmt.memberId
+        where pmt.postId in :postIds
+        order by pmt.postMemberTagId
+    """)
+    List<PostTagRow> findTagRowsByPostIdIn(@Param("postIds") Collection<Long> postIds);
 
     //postId → 닉네임 (context 출력용)
     @Query(value = """
@@ -30,11 +33,4 @@ public interface PostMemberTagRepository extends JpaRepository<PostMemberTags, L
         where pmt.post_id in (:postIds)
     """, nativeQuery = true)
     List<Object[]> findMemberNamesGroupedByPostIds(@Param("postIds") List<Long> postIds);
-
-    //전체 닉네임 목록 (질문 매칭용)
-    @Query("""
-        select distinct cm.nickname
-        from ClubMembers cm
-    """)
-    List<String> findAllDistinctMemberNames();
 }
@@ -3,6 +3,7 @@ package back.repository.post;
 import back.domain.post.PostCategory;
 import back.domain.post.Posts;
 import back.dto.post.post.response.PostCardBase;
+import back.repository.post.projection.LexicalPostRow;
 import back.repository.post.projection.RecentAlbumRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,4 +58,88 @@ public interface PostRepository extends JpaRepository<Posts, Long> {
    * 특정 모임의 특정 카테고리 게시글 중 삭제되지 않은 게시글들을 조회합니다.
    */
   List<Posts> findByClub_ClubIdAndCategoryAndDeletedAtIsNull(Long clubId, PostCategory category);
+
+  /**
+   * 임베딩 생성용 게시글 일괄 조회 (작성자 함께 로딩)
+   */
+  @Query("select p from Posts p join fetch p.writer where p.postId in :postIds")
+  List<Posts> findAllWithWriterByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+  /**
+   * RAG 검색 범위 안의 게시글 수 (벡터 검색 n_results 상한)
+   * memberFilter가 false면 memberIds는 무시
+   */
+  @Query("""
+      select count(p) from Posts p
+      where p.club.clubId = :clubId
+        and p.deletedAt is null
+        and (:from is null or p.createdAt >= :from)
+        and (:to is null or p.createdAt < :to)
+        and (:memberFilter = false or exists (
+              select 1 from PostMemberTags t
+              where t.postId = p.postId and t.memberId in :memberIds))
+      """)
+  long countRagCandidates(@Param("clubId") Long clubId,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to,
+                          @Param("memberFilter") boolean memberFilter,
+                          @Param("memberIds") Collection<Long> memberIds);
+
+  /**
+   * 키워드 색인용 모임 게시글 (삭제/블라인드 제외)
+   */
+  @Query("""
+      select p.postId as postId, p.title as title, p.content as content,
+             p.place as place, p.createdAt as createdAt
+      from Posts p
+      where p.club.clubId = :clubId
+        and p.deletedAt is null
+      """)
+  List<LexicalPostRow> findLexicalRowsByClubId(@Param("clubId") Long clubId);
+
+  @Query("""
+      select p.postId as postId, p.title as title, p.content as content,
+             p.place as place, p.createdAt as createdAt
+      from Posts p
+      where p.postId = :postId
+        and p.club.clubId = :clubId
+        and p.deletedAt is null
+      """)
+  Optional<LexicalPostRow> findLexicalRow(@Param("clubId") Long clubId, @Param("postId") Long postId);
+
+  /**
+   * 임베딩 백필용 keyset 페이지 (작성자 함께 로딩, postId 오름차순)
+   */
+  @Query("""
+      select p from Posts p join fetch p.writer
+      where p.postId > :afterPostId
+        and p.postId <= :maxPostId
+        and p.deletedAt is null
+      order by p.postId
+      """)
+  List<Posts> findBackfillPage(@Param("afterPostId") Long afterPostId,
+                               @Param("maxPostId") Long maxPostId,
+                               Pageable pageable);
+
+  @Query("select coalesce(max(p.postId), 0) from Posts p")
+  long findMaxPostId();
+
+  @Query("select count(p) from Posts p where p.postId <= :maxPostId and p.deletedAt is null")
+  long countBackfillTargets(@Param("maxPostId") Long maxPostId);
+
+  /**
+   * since 이후 수정된 게시글 id (백필이 읽은 뒤 바뀐 글 재적재용)
+   */
+  @Query("select p.postId from Posts p where p.postId in :postIds and p.updatedAt > :since")
+  List<Long> findPostIdsUpdatedSince(@Param("postIds") Collection<Long> postIds,
+                                     @Param("since") LocalDateTime since);
+
+  /**
+   * 게시글이 한 건이라도 있는 모임 (삭제된 게시글 포함, 벡터 정합성 점검 대상)
+   */
+  @Query("select distinct p.club.clubId from Posts p")
+  List<Long> findClubIdsWithPosts();
+
+  @Query("select p.postId from Posts p where p.club.clubId = :clubId and p.deletedAt is null")
+  List<Long> findLivePostIdsByClubId(@Param("clubId") Long clubId);
 }
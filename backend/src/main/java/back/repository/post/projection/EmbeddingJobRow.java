@@ -0,0 +1,7 @@
+package back.repository.post.projection;
+
+public interface EmbeddingJobRow {
+    Long getPostId();
+    Long getVersion();      // 선점 시점 버전 (완료 시 비교)
+    Integer getAttempts();  // 이번 시도 포함 시도 횟수
+}
@@ -0,0 +1,11 @@
+package back.repository.post.projection;
+
+import java.time.LocalDateTime;
+
+public interface LexicalPostRow {
+    Long getPostId();
+    String getTitle();
+    String getContent();
+    String getPlace();
+    LocalDateTime getCreatedAt();
+}
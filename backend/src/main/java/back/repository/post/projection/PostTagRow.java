@@ -0,0 +1,7 @@
+package back.repository.post.projection;
+
+public interface PostTagRow {
+    Long getPostId();
+    Long getMemberId();
+    String getNickname();   // 탈퇴 등으로 멤버가 없으면 null
+}
@@ -1,8 +1,13 @@
 package back.repository.vote;
 
 import back.domain.vote.VoteOptions;
+import back.repository.vote.projection.VoteOptionTallyRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface VoteOptionRepository extends JpaRepository<VoteOptions, Long> {
@@ -16,4 +21,49 @@ public interface VoteOptionRepository extends JpaRepository<VoteOptions, Long> {
      * 특정 투표의 옵션 개수를 조회합니다.
      */
     long countByVoteId(Long voteId);
+
+    /**
+     * 특정 투표의 옵션별 투표 수와 사용자 선택 여부를 한 번에 조회합니다.
+     * 투표 수는 집계 컬럼을 사용하고, 사용자 본인의 기록만 조인합니다.
+     */
+    @Query("""
+            SELECT o.optionId AS optionId,
+                   o.optionText AS optionText,
+                   o.optionOrder AS optionOrder,
+                   o.eventDate AS eventDate,
+                   o.location AS location,
+                   o.voteCount AS voteCount,
+                   COUNT(r.recordId) AS myRecordCount
+            FROM VoteOptions o
+            LEFT JOIN VoteRecords r
+                   ON r.voteId = o.voteId AND r.optionId = o.optionId AND r.userId = :userId
+            WHERE o.voteId = :voteId
+            GROUP BY o.optionId, o.optionText, o.optionOrder, o.eventDate, o.location, o.voteCount
+            ORDER BY o.optionOrder ASC
+            """)
+    List<VoteOptionTallyRow> findOptionTallies(@Param("voteId") Long voteId, @Param("userId") Long userId);
+
+    /**
+     * 옵션별 투표 수를 원자적으로 증감합니다.
+     */
+    @Modifying
+    @Query("UPDATE VoteOptions o SET o.voteCount = o.voteCount + :delta WHERE o.optionId IN :optionIds")
+    int adjustVoteCount(@Param("optionIds") Collection<Long> optionIds, @Param("delta") long delta);
+
+    /**
+     * 투표 1건의 옵션별 투표 수를 vote_records 기준으로 보정합니다.
+     * (호출 전 같은 트랜잭션에서 VoteRecordRepository.lockByVoteId로 기록을 잠가야 함)
+     *
+     * @return 보정된 옵션 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE vote_options o
+            SET o.vote_count = (SELECT COUNT(*) FROM vote_records r
+                                WHERE r.vote_id = o.vote_id AND r.option_id = o.option_id)
+            WHERE o.vote_id = :voteId
+              AND o.vote_count <> (SELECT COUNT(*) FROM vote_records r
+                                   WHERE r.vote_id = o.vote_id AND r.option_id = o.option_id)
+            """, nativeQuery = true)
+    int reconcileVoteCounts(@Param("voteId") Long voteId);
 }
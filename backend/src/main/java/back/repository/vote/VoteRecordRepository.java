@@ -34,4 +34,11 @@ public interface VoteRecordRepository extends JpaRepository<VoteRecords, Long> {
      * 특정 옵션을 선택한 사용자 수를 조회합니다.
      */
     long countByOptionId(Long optionId);
+
+    /**
+     * 투표의 기록 범위를 공유 잠금으로 읽어, 집계 보정이 끝날 때까지 새 투표/변경을 대기시킵니다.
+     * 투표 처리와 같은 순서(투표 행 → 기록 → 옵션)로 잠그기 위해 투표 행 잠금 직후에 사용합니다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM vote_records WHERE vote_id = :voteId FOR SHARE", nativeQuery = true)
+    long lockByVoteId(@Param("voteId") Long voteId);
 }
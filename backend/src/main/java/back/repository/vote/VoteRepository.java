@@ -1,41 +1,81 @@
 package back.repository.vote;
 
 import back.domain.vote.Votes;
+import back.repository.vote.projection.VoteDeadlineRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface VoteRepository extends JpaRepository<Votes, Long> {
 
        /**
-        * 기한이 지났지만 아직 종료되지 않은 일반 투표들을 조회합니다.
+        * 담당 샤드(vote_id % shardCount)의 기한이 지난 일반 투표 ID를 잠그고 조회합니다. (일괄 종료 chunk 단위)
+        * 다른 트랜잭션이 잠근 행은 건너뛰므로 조회된 ID는 이 트랜잭션이 종료할 대상 그대로입니다.
         */
-       @Query("SELECT v FROM Votes v WHERE v.voteType = 'GENERAL' " +
-                     "AND v.status = 'OPEN' " +
-                     "AND v.deadline IS NOT NULL " +
-                     "AND v.deadline <= :now")
-       List<Votes> findExpiredGeneralVotes(@Param("now") LocalDateTime now);
+       @Query(value = """
+                     SELECT vote_id FROM votes
+                     WHERE status = 'OPEN'
+                       AND vote_type = 'GENERAL'
+                       AND deadline <= :now
+                       AND MOD(vote_id, :shardCount) IN (:shards)
+                     LIMIT :limit
+                     FOR UPDATE SKIP LOCKED
+                     """, nativeQuery = true)
+       List<Long> lockExpiredGeneralVoteIds(@Param("now") LocalDateTime now,
+                                            @Param("shardCount") int shardCount,
+                                            @Param("shards") Collection<Integer> shards,
+                                            @Param("limit") int limit);
 
        /**
-        * 마감 시간이 특정 구간에 있는 투표들을 조회합니다.
+        * 담당 샤드의 일정 시작 5분 전이 지난 일정 투표 ID를 잠그고 조회합니다. (일괄 종료 chunk 단위)
         */
-       @Query("SELECT v FROM Votes v WHERE v.status = 'OPEN' AND v.deadline BETWEEN :start AND :end")
-       List<Votes> findUpcomingDeadlines(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+       @Query(value = """
+                     SELECT v.vote_id FROM votes v
+                     INNER JOIN schedules s ON v.schedule_id = s.schedule_id
+                     WHERE v.status = 'OPEN'
+                       AND v.vote_type = 'ATTENDANCE'
+                       AND s.event_date <= :eventDateBefore
+                       AND MOD(v.vote_id, :shardCount) IN (:shards)
+                     LIMIT :limit
+                     FOR UPDATE OF v SKIP LOCKED
+                     """, nativeQuery = true)
+       List<Long> lockExpiredAttendanceVoteIds(@Param("eventDateBefore") LocalDateTime eventDateBefore,
+                                               @Param("shardCount") int shardCount,
+                                               @Param("shards") Collection<Integer> shards,
+                                               @Param("limit") int limit);
 
        /**
-        * 일정 시작 5분 전이 지났지만 아직 종료되지 않은 일정 투표들을 조회합니다.
+        * 투표를 배타 잠금으로 조회합니다.
+        * 같은 투표의 참여/변경과 집계 보정을 직렬화해, 기존 기록 조회와 참여자 수 증감이 어긋나지 않게 합니다.
         */
-       @Query(value = "SELECT v.* FROM votes v " +
-                     "INNER JOIN schedules s ON v.schedule_id = s.schedule_id " +
-                     "WHERE v.vote_type = 'ATTENDANCE' " +
-                     "AND v.status = 'OPEN' " +
-                     "AND s.event_date IS NOT NULL " +
-                     "AND DATE_SUB(s.event_date, INTERVAL 5 MINUTE) <= :now", nativeQuery = true)
-       List<Votes> findExpiredAttendanceVotes(@Param("now") LocalDateTime now);
+       @Query(value = "SELECT * FROM votes WHERE vote_id = :voteId FOR UPDATE", nativeQuery = true)
+       Optional<Votes> findByIdForUpdate(@Param("voteId") Long voteId);
+
+       /**
+        * 일정에 연결된 진행 중인 투표 ID를 잠그고 조회합니다.
+        */
+       @Query(value = "SELECT vote_id FROM votes WHERE schedule_id = :scheduleId AND status = 'OPEN' FOR UPDATE",
+                     nativeQuery = true)
+       List<Long> lockOpenVoteIdsByScheduleId(@Param("scheduleId") Long scheduleId);
+
+       /**
+        * 진행 중인 투표들을 엔티티 로딩 없이 한 번에 종료합니다.
+        */
+       @Modifying(flushAutomatically = true)
+       @Query("""
+                     UPDATE Votes v
+                        SET v.status = 'CLOSED', v.closedAt = :closedAt, v.updatedAt = :closedAt
+                      WHERE v.voteId IN :voteIds
+                        AND v.status = 'OPEN'
+                     """)
+       int closeOpenVotes(@Param("voteIds") Collection<Long> voteIds, @Param("closedAt") LocalDateTime closedAt);
 
        /**
         * 특정 일정에 연결된 투표를 조회합니다.
@@ -56,4 +96,116 @@ public interface VoteRepository extends JpaRepository<Votes, Long> {
         * 특정 일정에 연결된 투표들을 조회합니다.
         */
        List<Votes> findByScheduleIdIn(List<Long> scheduleIds);
+
+       /**
+        * 모임의 투표 목록을 커서(voteId) 기반으로 최신순 조회합니다.
+        * 삭제된 게시글에 연결된 일반 투표는 제외합니다.
+        * 마감 기한 조건은 deadline이 없는 일정 투표(ATTENDANCE)에 일정 시작 시각(event_date) 범위를 적용합니다.
+        * (eventDateFrom/eventDateTo = 마감 기한 범위 + 일정 투표 종료 시점 오프셋, 실제 종료 시각 기준)
+        */
+       @Query("""
+                     SELECT v FROM Votes v
+                     LEFT JOIN Posts p ON p.postId = v.postId
+                     LEFT JOIN Schedules s ON s.scheduleId = v.scheduleId
+                     WHERE v.clubId = :clubId
+                       AND (v.postId IS NULL OR p.deletedAt IS NULL)
+                       AND (:cursor IS NULL OR v.voteId < :cursor)
+                       AND (:status IS NULL OR v.status = :status)
+                       AND (:deadlineFrom IS NULL OR v.deadline >= :deadlineFrom
+                            OR (v.deadline IS NULL AND s.eventDate >= :eventDateFrom))
+                       AND (:deadlineTo IS NULL OR v.deadline < :deadlineTo
+                            OR (v.deadline IS NULL AND s.eventDate < :eventDateTo))
+                     ORDER BY v.voteId DESC
+                     """)
+       List<Votes> findClubVotes(@Param("clubId") Long clubId,
+                                 @Param("cursor") Long cursor,
+                                 @Param("status") String status,
+                                 @Param("deadlineFrom") LocalDateTime deadlineFrom,
+                                 @Param("deadlineTo") LocalDateTime deadlineTo,
+                                 @Param("eventDateFrom") LocalDateTime eventDateFrom,
+                                 @Param("eventDateTo") LocalDateTime eventDateTo,
+                                 Pageable pageable);
+
+       /**
+        * 투표 참여자 수를 원자적으로 증감합니다.
+        */
+       @Modifying
+       @Query("UPDATE Votes v SET v.participantCount = v.participantCount + :delta WHERE v.voteId = :voteId")
+       int adjustParticipantCount(@Param("voteId") Long voteId, @Param("delta") long delta);
+
+       /**
+        * 집계 보정 대상 (진행 중이거나 closedSince 이후 종료된 투표) ID를 조회합니다.
+        */
+       @Query(value = "SELECT vote_id FROM votes WHERE status = 'OPEN' OR closed_at >= :closedSince",
+              nativeQuery = true)
+       List<Long> findReconcileTargetIds(@Param("closedSince") LocalDateTime closedSince);
+
+       /**
+        * 투표 1건의 참여자 수를 vote_records 기준으로 보정합니다.
+        * (호출 전 같은 트랜잭션에서 VoteRecordRepository.lockByVoteId로 기록을 잠가야 함)
+        *
+        * @return 보정 여부 (1 = 값이 달라 수정함)
+        */
+       @Modifying
+       @Query(value = "UPDATE votes v " +
+                     "SET v.participant_count = (SELECT COUNT(DISTINCT r.user_id) FROM vote_records r " +
+                     "                           WHERE r.vote_id = :voteId) " +
+                     "WHERE v.vote_id = :voteId " +
+                     "AND v.participant_count <> (SELECT COUNT(DISTINCT r.user_id) FROM vote_records r " +
+                     "                            WHERE r.vote_id = :voteId)", nativeQuery = true)
+       int reconcileParticipantCount(@Param("voteId") Long voteId);
+
+       /**
+        * 담당 샤드(vote_id % shardCount)의 진행 중인 투표 마감 정보를 조회합니다.
+        * (서버 시작/샤드 인수 시 마감 타이머 적재용)
+        */
+       @Query("""
+                     SELECT v.voteId AS voteId, v.voteType AS voteType, v.status AS status,
+                            v.deadline AS deadline, s.eventDate AS eventDate
+                     FROM Votes v
+                     LEFT JOIN Schedules s ON s.scheduleId = v.scheduleId
+                     WHERE v.status = 'OPEN'
+                       AND MOD(v.voteId, :shardCount) IN :shards
+                       AND (v.deadline IS NOT NULL OR s.eventDate IS NOT NULL)
+                     """)
+       List<VoteDeadlineRow> findOpenDeadlines(@Param("shardCount") int shardCount,
+                                               @Param("shards") Collection<Integer> shards);
+
+       /**
+        * 투표 1건의 마감 정보를 조회합니다.
+        */
+       @Query("""
+                     SELECT v.voteId AS voteId, v.voteType AS voteType, v.status AS status,
+                            v.deadline AS deadline, s.eventDate AS eventDate
+                     FROM Votes v
+                     LEFT JOIN Schedules s ON s.scheduleId = v.scheduleId
+                     WHERE v.voteId = :voteId
+                     """)
+       Optional<VoteDeadlineRow> findDeadline(@Param("voteId") Long voteId);
+
+       /**
+        * 특정 시각 이후 생성/수정된 투표의 마감 정보를 조회합니다.
+        * (다른 서버에서 생성된 투표를 마감 타이머에 반영)
+        */
+       @Query("""
+                     SELECT v.voteId AS voteId, v.voteType AS voteType, v.status AS status,
+                            v.deadline AS deadline, s.eventDate AS eventDate
+                     FROM Votes v
+                     LEFT JOIN Schedules s ON s.scheduleId = v.scheduleId
+                     WHERE v.updatedAt >= :since
+                     """)
+       List<VoteDeadlineRow> findDeadlinesUpdatedSince(@Param("since") LocalDateTime since);
+
+       /**
+        * 특정 시각 이후 수정된 일정에 연결된 투표의 마감 정보를 조회합니다.
+        * (다른 서버에서 일정 시작 시각이 바뀐 경우 반영)
+        */
+       @Query("""
+                     SELECT v.voteId AS voteId, v.voteType AS voteType, v.status AS status,
+                            v.deadline AS deadline, s.eventDate AS eventDate
+                     FROM Schedules s
+                     JOIN Votes v ON v.scheduleId = s.scheduleId
+                     WHERE s.updatedAt >= :since
+                     """)
+       List<VoteDeadlineRow> findDeadlinesByScheduleUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,11 @@
+package back.repository.vote.projection;
+
+import java.time.LocalDateTime;
+
+public interface VoteDeadlineRow {
+    Long getVoteId();
+    String getVoteType();
+    String getStatus();
+    LocalDateTime getDeadline();    // 일반 투표 마감 기한
+    LocalDateTime getEventDate();   // 일정 투표의 일정 시작 시각
+}
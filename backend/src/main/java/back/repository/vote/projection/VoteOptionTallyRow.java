@@ -0,0 +1,13 @@
+package back.repository.vote.projection;
+
+import java.time.LocalDateTime;
+
+public interface VoteOptionTallyRow {
+    Long getOptionId();
+    String getOptionText();
+    Integer getOptionOrder();
+    LocalDateTime getEventDate();
+    String getLocation();
+    Long getVoteCount();        // 해당 옵션 투표 수
+    Long getMyRecordCount();    // 조회한 사용자의 선택 여부 (0 또는 1)
+}
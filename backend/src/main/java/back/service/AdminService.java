@@ -7,12 +7,14 @@ import back.dto.admin.AdminClubResponse;
 import back.dto.admin.AdminDashboardResponse;
 import back.dto.admin.AdminReportResponse;
 import back.dto.admin.AdminUserResponse;
+import back.event.ClubChangedEvent;
 import back.exception.AdminException;
 import back.exception.response.ErrorCode;
 import back.repository.ReportsRepository;
 import back.repository.UserRepository;
 import back.repository.club.ClubRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ public class AdminService {
     private final ReportsRepository reportsRepository;
     private final UserRepository userRepository;
     private final ClubRepository clubRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminDashboardResponse getDashboardStats() {
         long pendingReports = reportsRepository.countByStatus("PENDING");
@@ -71,6 +74,7 @@ public class AdminService {
         } else {
             throw new AdminException(ErrorCode.INVALID_INPUT, "잘못된 처리 작업입니다: " + action);
         }
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
     }
 
     public Page<AdminUserResponse> getUsers(Pageable pageable, String keyword, String status) {
@@ -97,6 +101,7 @@ public class AdminService {
         } else {
             throw new AdminException(ErrorCode.INVALID_INPUT, "잘못된 처리 작업입니다: " + action);
         }
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
     }
 
     public Page<AdminClubResponse> getClubs(Pageable pageable, String keyword, String status) {
@@ -140,6 +145,7 @@ public class AdminService {
         } else {
             throw new AdminException(ErrorCode.INVALID_INPUT, "잘못된 처리 작업입니다: " + action);
         }
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
     }
 
     private AdminReportResponse mapToReportResponse(Reports report) {
@@ -0,0 +1,47 @@
+package back.service.club;
+
+import back.domain.club.ClubMembers;
+import back.domain.club.Clubs;
+import back.repository.club.projection.ClubAccessView;
+
+/**
+ * (모임, 사용자) 권한 판단 정보
+ * role/memberStatus는 가입 이력이 없으면 null
+ */
+public record ClubAccess(
+        Long clubId,
+        Clubs.Status clubStatus,
+        Clubs.Visibility visibility,
+        Long ownerId,
+        ClubMembers.Role role,
+        ClubMembers.Status memberStatus
+) {
+    static ClubAccess from(ClubAccessView view) {
+        return new ClubAccess(
+                view.getClubId(),
+                view.getClubStatus(),
+                view.getVisibility(),
+                view.getOwnerId(),
+                view.getRole(),
+                view.getMemberStatus());
+    }
+
+    public boolean isOwner(Long userId) {
+        return userId != null && ownerId.equals(userId);
+    }
+
+    public boolean isActiveMember() {
+        return memberStatus == ClubMembers.Status.ACTIVE;
+    }
+
+    /**
+     * 활성 멤버의 역할 (활성 멤버가 아니면 null)
+     */
+    public ClubMembers.Role activeRole() {
+        return isActiveMember() ? role : null;
+    }
+
+    public boolean isPublic() {
+        return visibility == Clubs.Visibility.PUBLIC;
+    }
+}
@@ -0,0 +1,91 @@
+package back.service.club;
+
+import back.repository.club.ClubRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * (clubId, userId) → 모임 상태/공개 범위/모임장/역할/멤버 상태 조회
+ * - 요청 안에서는 1회만 조회 (요청 attribute에 보관)
+ * - 요청 간에는 짧은 TTL 공유 캐시, 멤버 승인/강퇴/모임 설정 변경 커밋 시 모임 단위로 무효화
+ * - 다른 서버의 변경은 TTL 안에 반영
+ * - 없는 모임은 캐시하지 않음 (생성 직후 조회 대비)
+ */
+@Component
+public class ClubAccessResolver {
+
+    private static final String REQUEST_ATTRIBUTE = ClubAccessResolver.class.getName() + ".ACCESS";
+    private static final int MAX_SIZE = 10_000;
+
+    private final ClubRepository clubRepository;
+    private final Cache<Key, ClubAccess> cache;
+
+    record Key(Long clubId, Long userId) {
+    }
+
+    public ClubAccessResolver(
+            ClubRepository clubRepository,
+            @Value("${custom.club.access-cache.ttl:PT10S}") Duration ttl
+    ) {
+        this.clubRepository = clubRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<ClubAccess> resolve(Long clubId, Long userId) {
+        Key key = new Key(clubId, userId);
+        Map<Key, ClubAccess> requestScope = requestScope();
+        if (requestScope != null && requestScope.containsKey(key)) {
+            return Optional.of(requestScope.get(key));
+        }
+
+        ClubAccess access = cache.get(key, this::load);
+        if (access != null && requestScope != null) {
+            requestScope.put(key, access);
+        }
+        return Optional.ofNullable(access);
+    }
+
+    /**
+     * 모임의 권한 정보 전체 무효화 (멤버 변경 / 모임 설정 변경 커밋 후)
+     */
+    public void evictClub(Long clubId) {
+        cache.asMap().keySet().removeIf(key -> key.clubId().equals(clubId));
+        Map<Key, ClubAccess> requestScope = requestScope();
+        if (requestScope != null) {
+            requestScope.keySet().removeIf(key -> key.clubId().equals(clubId));
+        }
+    }
+
+    private ClubAccess load(Key key) {
+        return clubRepository.findAccess(key.clubId(), key.userId())
+                .map(ClubAccess::from)
+                .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, ClubAccess> requestScope() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null; // 스케줄러/비동기 작업
+        }
+        Map<Key, ClubAccess> scope =
+                (Map<Key, ClubAccess>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (scope == null) {
+            scope = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, scope, RequestAttributes.SCOPE_REQUEST);
+        }
+        return scope;
+    }
+}
@@ -1,73 +1,70 @@
 package back.service.club;
 
 import back.domain.club.ClubMembers;
-import back.domain.club.Clubs;
 import back.exception.ClubException;
-import back.repository.club.ClubMemberRepository;
-import back.repository.club.ClubRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
 
+/**
+ * 모임 권한 검사
+ * (모임, 사용자) 정보는 ClubAccessResolver에서 요청당 최대 1회 조회
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ClubAuthService {
 
-    private final ClubRepository clubRepository;
-    private final ClubMemberRepository clubMemberRepository;
+    private final ClubAccessResolver clubAccessResolver;
 
-    private Clubs getClubOrThrow(Long clubId) {
-        return clubRepository.findById(clubId)
+    private ClubAccess getAccessOrThrow(Long clubId, Long userId) {
+        return clubAccessResolver.resolve(clubId, userId)
                 .orElseThrow(ClubException.NotFound::new);
     }
 
     public void assertActiveMember(Long clubId, Long userId) {
-        if (!clubMemberRepository.existsByClubIdAndUserIdAndStatus(clubId, userId, ClubMembers.Status.ACTIVE)) {
+        boolean active = clubAccessResolver.resolve(clubId, userId)
+                .map(ClubAccess::isActiveMember)
+                .orElse(false);
+        if (!active) {
             throw new ClubException.AuthNotActive();
         }
     }
 
     public void assertAtLeastManager(Long clubId, Long userId) {
-        Clubs club = getClubOrThrow(clubId);
+        ClubAccess access = getAccessOrThrow(clubId, userId);
 
-        if (club.getOwnerId().equals(userId)) {
+        if (access.isOwner(userId)) {
             return;
         }
-        
-        ClubMembers.Role role = clubMemberRepository.findActiveRole(clubId, userId)
-                .orElseThrow(ClubException.AuthNotActive::new);
-        
+
+        ClubMembers.Role role = activeRoleOrThrow(access);
+
         if (!role.isAtLeast(ClubMembers.Role.STAFF)) {
             throw new ClubException.AuthStaffRequired();
         }
     }
 
     public void assertAtLeastAccountant(Long clubId, Long userId) {
-        Clubs club = getClubOrThrow(clubId);
+        ClubAccess access = getAccessOrThrow(clubId, userId);
 
-        if (club.getOwnerId().equals(userId)) {
+        if (access.isOwner(userId)) {
             return;
         }
-        
-        ClubMembers.Role role = clubMemberRepository.findActiveRole(clubId, userId)
-                .orElseThrow(ClubException.AuthNotActive::new);
-        
+
+        ClubMembers.Role role = activeRoleOrThrow(access);
+
         if (!role.isAtLeast(ClubMembers.Role.ACCOUNTANT)) {
             throw new ClubException.AuthAccountantRequired();
         }
     }
 
     public void assertAtLeastStaffOrAccountant(Long clubId, Long userId) {
-        Clubs club = getClubOrThrow(clubId);
+        ClubAccess access = getAccessOrThrow(clubId, userId);
+
+        boolean isOwner = access.isOwner(userId);
 
-        boolean isOwner = club.getOwnerId().equals(userId);
-        
-        ClubMembers.Role role = clubMemberRepository.findActiveRole(clubId, userId)
-                .orElseThrow(ClubException.AuthNotActive::new);
+        ClubMembers.Role role = activeRoleOrThrow(access);
         boolean isManagerLevel = role.isAtLeast(ClubMembers.Role.STAFF);
-        
+
         if (!isOwner && !isManagerLevel) {
             throw new ClubException.AuthStaffRequired();
         }
@@ -78,9 +75,9 @@ public class ClubAuthService {
     }
 
     public void validateAndGetClubForReadPosts(Long clubId, Long viewerId) {
-        Clubs club = getClubOrThrow(clubId);
+        ClubAccess access = getAccessOrThrow(clubId, viewerId);
 
-        if (club.getVisibility() == Clubs.Visibility.PUBLIC) {
+        if (access.isPublic()) {
             return;
         }
 
@@ -88,7 +85,9 @@ public class ClubAuthService {
             throw new ClubException.AuthLoginRequired();
         }
 
-        assertActiveMember(clubId, viewerId);
+        if (!access.isActiveMember()) {
+            throw new ClubException.AuthNotActive();
+        }
     }
 
     public void validateAndGetClubForUpdatePosts(Long clubId, Long updateId) {
@@ -100,15 +99,20 @@ public class ClubAuthService {
     }
 
     public boolean isOwner(Long clubId, Long userId) {
-        Clubs club = getClubOrThrow(clubId);
-        boolean isOwner = club.getOwnerId().equals(userId);
-        
-        if (isOwner) {
+        ClubAccess access = getAccessOrThrow(clubId, userId);
+
+        if (access.isOwner(userId)) {
             return true;
         }
-        
-        return clubMemberRepository.findActiveRole(clubId, userId)
-                .map(role -> role == ClubMembers.Role.OWNER)
-                .orElse(false);
+
+        return access.activeRole() == ClubMembers.Role.OWNER;
+    }
+
+    private ClubMembers.Role activeRoleOrThrow(ClubAccess access) {
+        ClubMembers.Role role = access.activeRole();
+        if (role == null) {
+            throw new ClubException.AuthNotActive();
+        }
+        return role;
     }
 }
@@ -91,5 +91,7 @@ public class ClubMemberService {
                 .orElseThrow(ClubException.MemberNotFound::new);
 
         targetMember.kick();
+
+        eventPublisher.publishEvent(new back.event.ClubMemberChangedEvent(clubId, targetMember.getMemberId()));
     }
 }
@@ -4,10 +4,12 @@ import back.domain.club.ClubMembers;
 import back.domain.club.Clubs;
 import back.dto.club.ClubRequest;
 import back.dto.club.ClubResponse;
+import back.event.ClubChangedEvent;
 import back.exception.ClubException;
 import back.repository.club.ClubMemberRepository;
 import back.repository.club.ClubRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ public class ClubService {
 
     private final ClubRepository clubRepository;
     private final ClubMemberRepository clubMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ClubResponse createClub(ClubRequest request, Long ownerId) {
@@ -80,6 +83,7 @@ public class ClubService {
         if (request.getCategory() != null) {
             club.setCategory(request.getCategoryEnum());
         }
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
 
         Integer currentMembers = (int) clubMemberRepository.countByClubIdAndStatus(clubId, ClubMembers.Status.ACTIVE);
         return ClubResponse.from(club, currentMembers);
@@ -91,6 +95,7 @@ public class ClubService {
                 .orElseThrow(ClubException.NotFound::new);
 
         club.close();
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
     }
 
     @Transactional
@@ -99,6 +104,7 @@ public class ClubService {
                 .orElseThrow(ClubException.NotFound::new);
 
         club.activate();
+        eventPublisher.publishEvent(new ClubChangedEvent(clubId));
     }
 
     // 카테고리별 모임 조회
@@ -0,0 +1,77 @@
+package back.service.ledger;
+
+import back.repository.club.ClubMemberRepository;
+import back.repository.club.projection.MemberNameView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 모임별 멤버 이름 사전 캐시
+ * - 최초 조회 시 활성 멤버 이름 1회 로딩 후 오토마톤 컴파일
+ * - 가입 승인/강퇴/닉네임 변경 시 해당 멤버만 다시 조회해 스냅샷 교체
+ * - 모임 수 상한 + ttl: 다른 서버에서 일어난 멤버 변경은 ttl이 지나 다시 로딩할 때 반영
+ * - 지표: cache.gets, cache.evictions 등 (cache=club-member-names)
+ */
+@Component
+public class ClubMemberNameCache {
+
+    private static final String CACHE_NAME = "club-member-names";
+
+    private final ClubMemberRepository clubMemberRepository;
+    private final Cache<Long, MemberNameDictionary> dictionaries;
+
+    @Autowired
+    public ClubMemberNameCache(
+            ClubMemberRepository clubMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${custom.ledger.member-names.max-clubs:10000}") long maxClubs,
+            @Value("${custom.ledger.member-names.ttl:PT1H}") Duration ttl
+    ) {
+        this(clubMemberRepository, meterRegistry, maxClubs, ttl, Ticker.systemTicker());
+    }
+
+    ClubMemberNameCache(ClubMemberRepository clubMemberRepository, MeterRegistry meterRegistry,
+                        long maxClubs, Duration ttl, Ticker ticker) {
+        this.clubMemberRepository = clubMemberRepository;
+        this.dictionaries = Caffeine.newBuilder()
+                .maximumSize(maxClubs)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, dictionaries, CACHE_NAME);
+    }
+
+    MemberNameDictionary get(Long clubId) {
+        return dictionaries.get(clubId,
+                id -> MemberNameDictionary.of(clubMemberRepository.findActiveMemberNamesByClubId(id)));
+    }
+
+    /**
+     * 멤버 1명 갱신 (비활성 멤버는 사전에서 제거)
+     * - 아직 로딩되지 않은 모임은 다음 조회 시 전체 로딩되므로 무시
+     */
+    public void refreshMember(Long clubId, Long memberId) {
+        if (dictionaries.getIfPresent(clubId) == null) {
+            return;
+        }
+        // DB 조회는 캐시 잠금 밖에서
+        Optional<MemberNameView> member = clubMemberRepository.findActiveMemberName(clubId, memberId);
+        dictionaries.asMap().computeIfPresent(clubId, (id, dictionary) -> member
+                .map(view -> dictionary.withMember(memberId, view.getRealName(), view.getClubNickname()))
+                .orElseGet(() -> dictionary.withoutMember(memberId)));
+    }
+
+    public void evict(Long clubId) {
+        dictionaries.invalidate(clubId);
+    }
+}
@@ -0,0 +1,97 @@
+package back.service.ledger;
+
+import back.common.text.NameAutomaton;
+import back.repository.club.projection.MemberNameView;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 모임 멤버 이름 사전 (불변 스냅샷)
+ * - 정규화 후 모임 내 유일한 실명/닉네임만 오토마톤에 등록
+ * - 멤버 변경 시 with/without으로 새 스냅샷 생성
+ */
+final class MemberNameDictionary {
+
+    static final MemberNameDictionary EMPTY = new MemberNameDictionary(Map.of());
+
+    private final Map<Long, MemberName> members;
+    private final NameAutomaton automaton;
+
+    record MemberName(String realName, String nickname) {
+    }
+
+    private MemberNameDictionary(Map<Long, MemberName> members) {
+        this.members = members;
+        this.automaton = NameAutomaton.compile(uniqueNames(members));
+    }
+
+    static MemberNameDictionary of(List<MemberNameView> views) {
+        Map<Long, MemberName> members = new HashMap<>();
+        for (MemberNameView view : views) {
+            members.put(view.getMemberId(),
+                    new MemberName(normalize(view.getRealName()), normalize(view.getClubNickname())));
+        }
+        return new MemberNameDictionary(members);
+    }
+
+    MemberNameDictionary withMember(Long memberId, String realName, String nickname) {
+        Map<Long, MemberName> next = new HashMap<>(members);
+        next.put(memberId, new MemberName(normalize(realName), normalize(nickname)));
+        return new MemberNameDictionary(next);
+    }
+
+    MemberNameDictionary withoutMember(Long memberId) {
+        if (!members.containsKey(memberId)) {
+            return this;
+        }
+        Map<Long, MemberName> next = new HashMap<>(members);
+        next.remove(memberId);
+        return new MemberNameDictionary(next);
+    }
+
+    /**
+     * 거래 적요(print_content)에 언급된 멤버 ID 목록
+     */
+    Set<Long> findMentionedMembers(String printContent) {
+        String content = normalize(printContent);
+        if (content.isEmpty()) {
+            return Set.of();
+        }
+        return automaton.scan(content);
+    }
+
+    int size() {
+        return members.size();
+    }
+
+    /**
+     * 실명/닉네임 별로 모임 내 1명에게만 해당하는 이름만 추출
+     */
+    private static Map<String, Set<Long>> uniqueNames(Map<Long, MemberName> members) {
+        Map<String, Integer> realNameCounts = new HashMap<>();
+        Map<String, Integer> nicknameCounts = new HashMap<>();
+        for (MemberName name : members.values()) {
+            realNameCounts.merge(name.realName(), 1, Integer::sum);
+            nicknameCounts.merge(name.nickname(), 1, Integer::sum);
+        }
+
+        Map<String, Set<Long>> patterns = new HashMap<>();
+        members.forEach((memberId, name) -> {
+            if (!name.realName().isEmpty() && realNameCounts.get(name.realName()) == 1) {
+                patterns.computeIfAbsent(name.realName(), k -> new HashSet<>()).add(memberId);
+            }
+            if (!name.nickname().isEmpty() && nicknameCounts.get(name.nickname()) == 1) {
+                patterns.computeIfAbsent(name.nickname(), k -> new HashSet<>()).add(memberId);
+            }
+        });
+        return patterns;
+    }
+
+    static String normalize(String s) {
+        return NameAutomaton.normalize(s);
+    }
+}
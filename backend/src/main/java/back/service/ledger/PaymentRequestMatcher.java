@@ -0,0 +1,154 @@
+package back.service.ledger;
+
+import back.bank.domain.BankTransactionHistory;
+import back.domain.ledger.PaymentRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 입금요청 인메모리 매칭 인덱스
+ * - 입금요청은 (금액, 정산 여부) → 예상 날짜 순으로 인덱싱
+ * - 적요에 언급된 멤버는 이름 사전 오토마톤으로 1회 스캔
+ * - 거래 1건 매칭 시 DB 조회 없음
+ */
+class PaymentRequestMatcher {
+
+    private static final int DEFAULT_MATCH_DAYS_RANGE = 10;
+
+    private final MemberNameDictionary names;
+    private final Map<AmountKey, TreeMap<LocalDate, List<Candidate>>> index = new HashMap<>();
+    private final Set<Long> matchedHistoryIds = new HashSet<>();
+    private int maxDaysRange = 0;
+
+    private record AmountKey(BigDecimal amount, boolean settlement) {
+    }
+
+    // order: findMatchableRequests 조회 순서 (예상 날짜 오름차순), 먼저 온 요청이 우선 매칭
+    private record Candidate(int order, PaymentRequest request) {
+    }
+
+    private PaymentRequestMatcher(MemberNameDictionary names) {
+        this.names = names;
+    }
+
+    static PaymentRequestMatcher of(List<PaymentRequest> requests, MemberNameDictionary names) {
+        PaymentRequestMatcher matcher = new PaymentRequestMatcher(names);
+
+        for (int i = 0; i < requests.size(); i++) {
+            PaymentRequest request = requests.get(i);
+            if (request.getMatchedHistoryId() != null) {
+                matcher.matchedHistoryIds.add(request.getMatchedHistoryId());
+            }
+
+            AmountKey key = new AmountKey(normalizeAmount(request.getExpectedAmount()),
+                    request.getRequestType() == PaymentRequest.RequestType.SETTLEMENT);
+            matcher.index.computeIfAbsent(key, k -> new TreeMap<>())
+                    .computeIfAbsent(request.getExpectedDate(), d -> new ArrayList<>())
+                    .add(new Candidate(i, request));
+            matcher.maxDaysRange = Math.max(matcher.maxDaysRange, daysRange(request));
+        }
+        return matcher;
+    }
+
+    /**
+     * 매칭 조건 확인
+     * 1. 금액이 예상 금액과 일치 (절대값)
+     * 2. 입금은 정산 외 요청, 출금은 정산 요청과 매칭
+     * 3. 거래 날짜가 예상 날짜 ±N일 이내 (N=match_days_range)
+     * 4. print_content에 모임 내 유일한 실명 또는 닉네임 포함
+     */
+    Optional<PaymentRequest> findMatch(BankTransactionHistory tx) {
+        // 이미 매칭된 거래는 스킵
+        if (matchedHistoryIds.contains(tx.getHistoryId())) {
+            return Optional.empty();
+        }
+
+        BigDecimal amount = normalizeAmount(tx.getAmount());
+        LocalDate txDate = tx.getBankTransactionAt().toLocalDate();
+        String txType = tx.getInoutType();
+
+        List<Candidate> candidates = new ArrayList<>();
+        if (!"WITHDRAW".equalsIgnoreCase(txType)) {
+            collectCandidates(new AmountKey(amount, false), txDate, candidates);
+        }
+        if (!"DEPOSIT".equalsIgnoreCase(txType)) {
+            collectCandidates(new AmountKey(amount, true), txDate, candidates);
+        }
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        candidates.sort(Comparator.comparingInt(Candidate::order));
+
+        // 실명/닉네임이 모임 내 유일할 때만 사전에 등록되어 있음
+        Set<Long> mentioned = names.findMentionedMembers(tx.getPrintContent());
+        if (mentioned.isEmpty()) {
+            return Optional.empty();
+        }
+
+        for (Candidate candidate : candidates) {
+            PaymentRequest request = candidate.request();
+            if (!request.isMatchable() || !isWithinRange(request, txDate)) {
+                continue;
+            }
+            if (mentioned.contains(request.getMemberId())) {
+                return Optional.of(request);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 매칭 완료된 요청을 인덱스에서 제거 (하나의 요청은 하나의 거래내역에만 매칭)
+     */
+    void markMatched(PaymentRequest request, Long historyId) {
+        matchedHistoryIds.add(historyId);
+
+        AmountKey key = new AmountKey(normalizeAmount(request.getExpectedAmount()),
+                request.getRequestType() == PaymentRequest.RequestType.SETTLEMENT);
+        TreeMap<LocalDate, List<Candidate>> byDate = index.get(key);
+        if (byDate == null) {
+            return;
+        }
+        List<Candidate> sameDay = byDate.get(request.getExpectedDate());
+        if (sameDay != null) {
+            sameDay.removeIf(c -> c.request() == request);
+            if (sameDay.isEmpty()) {
+                byDate.remove(request.getExpectedDate());
+            }
+        }
+    }
+
+    private void collectCandidates(AmountKey key, LocalDate txDate, List<Candidate> out) {
+        TreeMap<LocalDate, List<Candidate>> byDate = index.get(key);
+        if (byDate == null) {
+            return;
+        }
+        byDate.subMap(txDate.minusDays(maxDaysRange), true, txDate.plusDays(maxDaysRange), true)
+                .values()
+                .forEach(out::addAll);
+    }
+
+    private boolean isWithinRange(PaymentRequest request, LocalDate txDate) {
+        LocalDate expected = request.getExpectedDate();
+        int range = daysRange(request);
+        return !txDate.isBefore(expected.minusDays(range)) && !txDate.isAfter(expected.plusDays(range));
+    }
+
+    private static int daysRange(PaymentRequest request) {
+        return request.getMatchDaysRange() != null ? request.getMatchDaysRange() : DEFAULT_MATCH_DAYS_RANGE;
+    }
+
+    private static BigDecimal normalizeAmount(BigDecimal amount) {
+        return amount.abs().stripTrailingZeros();
+    }
+}
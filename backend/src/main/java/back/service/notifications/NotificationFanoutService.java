@@ -0,0 +1,179 @@
+package back.service.notifications;
+
+import back.domain.NotificationType;
+import back.dto.NotificationResponse;
+import back.repository.notifications.NotificationBatchWriter;
+import back.service.notifications.bus.NotificationBroadcast;
+import back.service.notifications.bus.NotificationBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 같은 내용의 알림을 여러 수신자에게 발송
+ * 1. JDBC 배치로 일괄 저장 (수신자별 PK 확보)
+ * 2. 응답 JSON은 1회만 직렬화하고 수신자별로 id만 채움
+ * 3. 접속 중인 수신자에게 DISPATCH_CHUNK명 단위로 가상 스레드에서 전송
+ *    동시 전송 작업은 MAX_IN_FLIGHT개로 제한, 넘치면 호출 스레드가 대기 (backpressure)
+ * 4. 다른 서버에 연결된 수신자를 위해 NotificationBus로 발송분 전달,
+ *    다른 서버의 발송분도 같은 방식(3)으로 이 서버 접속자에게 전송
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    static final int DISPATCH_CHUNK = 256;
+    private static final int MAX_IN_FLIGHT = 32;
+    // 템플릿은 id=0으로 직렬화 → 결과는 항상 id 필드로 시작 (NotificationResponse 첫 컴포넌트)
+    private static final long ID_PLACEHOLDER = 0L;
+    private static final String ID_PLACEHOLDER_PREFIX = "{\"id\":" + ID_PLACEHOLDER + ",";
+
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final NotificationService notificationService;
+    private final NotificationBus notificationBus;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService dispatcher;
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+    private final Counter insertedRows;
+    private final Counter dispatched;
+    private final Timer insertLatency;
+    private final Timer fanoutLatency;
+
+    @Autowired
+    public NotificationFanoutService(NotificationBatchWriter notificationBatchWriter,
+                                     NotificationService notificationService,
+                                     NotificationBus notificationBus,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this(notificationBatchWriter, notificationService, notificationBus, objectMapper, meterRegistry,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    NotificationFanoutService(NotificationBatchWriter notificationBatchWriter,
+                              NotificationService notificationService,
+                              NotificationBus notificationBus,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              ExecutorService dispatcher) {
+        this.notificationBatchWriter = notificationBatchWriter;
+        this.notificationService = notificationService;
+        this.notificationBus = notificationBus;
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.insertedRows = Counter.builder("notifications.fanout.rows")
+                .description("저장한 알림 행 수")
+                .register(meterRegistry);
+        this.dispatched = Counter.builder("notifications.fanout.dispatched")
+                .description("접속 중인 수신자에게 전송 예약한 알림 수")
+                .register(meterRegistry);
+        this.insertLatency = Timer.builder("notifications.fanout.insert")
+                .register(meterRegistry);
+        this.fanoutLatency = Timer.builder("notifications.fanout.latency")
+                .register(meterRegistry);
+        notificationBus.subscribe(this::deliverRemote);
+    }
+
+    public void fanOut(List<Long> userIds, String content, Long refId, NotificationType type) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        fanoutLatency.record(() -> {
+            // DB(DATETIME) 정밀도에 맞춤 → 저장값과 실시간 전송값 동일
+            LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+            List<Long> ids = insertLatency.record(() ->
+                    notificationBatchWriter.insert(userIds, content, refId, type.name(), createdAt));
+            insertedRows.increment(ids.size());
+
+            String template = render(new NotificationResponse(
+                    ID_PLACEHOLDER, content, refId, type.name(), false, createdAt));
+            notificationBus.publish(new NotificationBroadcast(userIds, ids, template));
+            dispatch(userIds, ids, template);
+        });
+    }
+
+    /**
+     * 다른 서버에서 저장한 발송분 → 이 서버에 연결된 수신자에게만 전송
+     */
+    void deliverRemote(NotificationBroadcast broadcast) {
+        if (broadcast.userIds().size() != broadcast.notificationIds().size()) {
+            log.warn("알림 버스 발송분 형식 오류: 수신자 {}명, id {}개",
+                    broadcast.userIds().size(), broadcast.notificationIds().size());
+            return;
+        }
+        dispatch(broadcast.userIds(), broadcast.notificationIds(), broadcast.template());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    private void dispatch(List<Long> userIds, List<Long> ids, String template) {
+        for (int from = 0; from < userIds.size(); from += DISPATCH_CHUNK) {
+            int to = Math.min(from + DISPATCH_CHUNK, userIds.size());
+            List<Long> chunkUsers = userIds.subList(from, to);
+            List<Long> chunkIds = ids.subList(from, to);
+
+            inFlight.acquireUninterruptibly();
+            try {
+                dispatcher.execute(() -> {
+                    try {
+                        sendChunk(chunkUsers, chunkIds, template);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                log.warn("알림 전송 작업 거부 ({}명), 종료 중", chunkUsers.size());
+                return;
+            }
+        }
+    }
+
+    private void sendChunk(List<Long> userIds, List<Long> ids, String template) {
+        int sent = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            if (!notificationService.isConnected(userId)) {
+                continue; // 미접속자는 다음 접속 시 알림함에서 조회
+            }
+            Long id = ids.get(i);
+            notificationService.sendJson(userId, id, withId(template, id));
+            sent++;
+        }
+        dispatched.increment(sent);
+    }
+
+    private String render(NotificationResponse template) {
+        try {
+            String json = objectMapper.writeValueAsString(template);
+            if (!json.startsWith(ID_PLACEHOLDER_PREFIX)) {
+                throw new IllegalStateException("알림 응답 직렬화 형식이 예상과 다릅니다: " + json);
+            }
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String withId(String template, Long id) {
+        return "{\"id\":" + id + "," + template.substring(ID_PLACEHOLDER_PREFIX.length());
+    }
+}
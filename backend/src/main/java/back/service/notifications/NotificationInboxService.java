@@ -0,0 +1,94 @@
+package back.service.notifications;
+
+import back.domain.Notifications;
+import back.dto.NotificationResponse;
+import back.dto.NotificationSearchRequest;
+import back.dto.NotificationSliceResponse;
+import back.dto.NotificationUnreadCountResponse;
+import back.exception.NotificationException;
+import back.repository.notifications.NotificationUnreadCountRepository;
+import back.repository.notifications.NotificationsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 알림함 조회/읽음 처리
+ * - 목록은 (user_id, noti_id) 커서 기반
+ * - 안읽은 수는 카운터 테이블 PK 조회, 읽음 처리 시 실제 변경된 행 수만큼 감소
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationInboxService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_READ_IDS = 1_000;
+
+    private final NotificationsRepository notificationsRepository;
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    /**
+     * 내 알림 목록을 최신순으로 조회합니다. (커서 기반)
+     * @param userId  현재 로그인한 사용자 ID
+     * @param request 커서/페이지 크기/안읽음 필터
+     * @return 알림 목록과 다음 페이지 커서
+     */
+    public NotificationSliceResponse getInbox(Long userId, NotificationSearchRequest request) {
+        int size = request.size() != null ? request.size() : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new NotificationException.SearchInvalid();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<Notifications> notifications = notificationsRepository.findInbox(
+                userId, request.cursor(), request.unreadOnly(), PageRequest.of(0, size + 1));
+
+        boolean hasNext = notifications.size() > size;
+        List<Notifications> page = hasNext ? notifications.subList(0, size) : notifications;
+
+        return new NotificationSliceResponse(
+                page.stream().map(NotificationResponse::from).toList(),
+                hasNext ? page.get(page.size() - 1).getNotiId() : null,
+                hasNext
+        );
+    }
+
+    public NotificationUnreadCountResponse getUnreadCount(Long userId) {
+        return new NotificationUnreadCountResponse(notificationUnreadCountRepository.findCount(userId));
+    }
+
+    /**
+     * 선택한 알림 읽음 처리 (본인 알림 중 안읽은 것만 반영)
+     * @return 갱신된 안읽은 알림 수
+     */
+    @Transactional
+    public NotificationUnreadCountResponse markAsRead(Long userId, Collection<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty() || notificationIds.size() > MAX_READ_IDS
+                || notificationIds.stream().anyMatch(Objects::isNull)) {
+            throw new NotificationException.ReadInvalid();
+        }
+        int updated = notificationsRepository.markAsRead(
+                userId, notificationIds.stream().distinct().toList(), LocalDateTime.now());
+        notificationUnreadCountRepository.decrement(userId, updated);
+        return new NotificationUnreadCountResponse(notificationUnreadCountRepository.findCount(userId));
+    }
+
+    /**
+     * 내 알림 전체 읽음 처리
+     * 처리 중 새로 저장된 알림이 있을 수 있어 0으로 초기화하지 않고 변경된 행 수만큼 감소
+     */
+    @Transactional
+    public NotificationUnreadCountResponse markAllAsRead(Long userId) {
+        int updated = notificationsRepository.markAllAsRead(userId, LocalDateTime.now());
+        notificationUnreadCountRepository.decrement(userId, updated);
+        return new NotificationUnreadCountResponse(notificationUnreadCountRepository.findCount(userId));
+    }
+}
@@ -0,0 +1,73 @@
+package back.service.notifications;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.notifications.NotificationsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 오래된 읽은 알림 정리
+ * - 보관 기간이 지난 읽은 알림만 CHUNK_SIZE개씩 나눠 삭제 (청크마다 커밋, 긴 잠금 방지)
+ * - 안읽은 알림은 기간과 무관하게 유지
+ * - lease를 가진 서버 1대만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final String LEASE_KEY = "notification-retention";
+    private static final int LEASE_SECONDS = 600;
+    static final int CHUNK_SIZE = 1_000;
+    // 한 번 실행에서 삭제할 최대 청크 수 (남은 행은 다음 실행에서)
+    static final int MAX_CHUNKS_PER_RUN = 500;
+
+    private final NotificationsRepository notificationsRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Value("${custom.notification.retention-days:90}")
+    private int retentionDays = 90;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Scheduled(cron = "0 20 4 * * *") // 매일 04:20 실행
+    public void purge() {
+        try {
+            schedulerLeaseRepository.insertIfAbsent(LEASE_KEY);
+            if (schedulerLeaseRepository.tryAcquire(LEASE_KEY, nodeId, LEASE_SECONDS) == 0) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("알림 정리 lease 획득 실패", e);
+            return;
+        }
+
+        try {
+            int deleted = purgeReadBefore(LocalDateTime.now().minusDays(retentionDays));
+            if (deleted > 0) {
+                log.info("읽은 알림 {}건 정리 (보관 {}일)", deleted, retentionDays);
+            }
+        } finally {
+            schedulerLeaseRepository.release(LEASE_KEY, nodeId);
+        }
+    }
+
+    int purgeReadBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            int deleted = notificationsRepository.deleteReadBefore(cutoff, CHUNK_SIZE);
+            total += deleted;
+            if (deleted < CHUNK_SIZE) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -1,26 +1,97 @@
 package back.service.notifications;
 
+import back.domain.Notifications;
+import back.dto.NotificationResponse;
 import back.repository.notifications.EmitterRepository;
-import lombok.RequiredArgsConstructor;
+import back.repository.notifications.NotificationsRepository;
+import back.repository.notifications.SseConnection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * 알림 SSE 연결 관리
+ * - send는 연결별 전송 큐에 넣기만 함 (느린 클라이언트가 호출 스레드를 막지 않음)
+ * - heartbeat로 끊긴 연결 감지, 전송이 멈춘 연결 정리
+ * - 알림 이벤트 id = 알림 id, 재연결 시 Last-Event-ID 이후 알림을 notifications 테이블에서 조회해 재전송
+ *   (서버가 바뀌어도 동일하게 동작하도록 메모리 버퍼 대신 DB 범위 조회)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
+    private static final long EMITTER_TIMEOUT_MS = 60L * 60 * 1000;
+    static final long HEARTBEAT_INTERVAL_MS = 25_000;
+    static final int SEND_QUEUE_CAPACITY = 100;
+    private static final int SENDER_THREADS = 4;
+    // 재전송 최대 건수, 넘으면 reset 이벤트로 알림함 재조회 유도
+    static final int REPLAY_LIMIT = SEND_QUEUE_CAPACITY;
+
     private final EmitterRepository emitterRepository;
+    private final NotificationsRepository notificationsRepository;
+    private final ExecutorService sender;
+    private final Counter droppedConnections;
+    private final Counter replayedEvents;
+    private final Counter replayResets;
+
+    @Autowired
+    public NotificationService(EmitterRepository emitterRepository,
+                               NotificationsRepository notificationsRepository,
+                               MeterRegistry meterRegistry) {
+        this(emitterRepository, notificationsRepository, meterRegistry,
+                Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+                    Thread thread = new Thread(runnable, "sse-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    NotificationService(EmitterRepository emitterRepository,
+                        NotificationsRepository notificationsRepository,
+                        MeterRegistry meterRegistry,
+                        ExecutorService sender) {
+        this.emitterRepository = emitterRepository;
+        this.notificationsRepository = notificationsRepository;
+        this.sender = sender;
+        this.droppedConnections = Counter.builder("notifications.sse.dropped")
+                .description("전송 큐 초과/전송 중단으로 끊은 SSE 연결 수")
+                .register(meterRegistry);
+        this.replayedEvents = Counter.builder("notifications.sse.replayed")
+                .description("재연결 시 재전송한 알림 수")
+                .register(meterRegistry);
+        this.replayResets = Counter.builder("notifications.sse.replay.reset")
+                .description("누락분이 너무 많아 알림함 재조회를 요청한 재연결 수")
+                .register(meterRegistry);
+        Gauge.builder("notifications.sse.connections", emitterRepository, EmitterRepository::countConnections)
+                .register(meterRegistry);
+        Gauge.builder("notifications.sse.users", emitterRepository, EmitterRepository::countUsers)
+                .register(meterRegistry);
+    }
 
     //구독 (Subscribe)
     public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(60L * 60 * 1000);
-        String key = userId + "_" + System.currentTimeMillis();
+        return subscribe(userId, null);
+    }
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(key));
-        emitter.onTimeout(() -> emitterRepository.deleteById(key));
+    /**
+     * @param lastEventId 클라이언트가 마지막으로 받은 알림 id (Last-Event-ID), 첫 연결이면 null
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
 
         try {
             emitter.send(SseEmitter.event().name("test").data("success"));
@@ -28,21 +99,106 @@ public class NotificationService {
             throw new RuntimeException(e);
         }
 
-        return emitterRepository.save(key, emitter);
+        // 재연결이면 누락분 조회가 끝날 때까지 실시간 알림은 큐에만 쌓음
+        SseConnection connection = register(userId, emitter, lastEventId != null);
+        if (lastEventId != null) {
+            connection.resume(findMissed(userId, lastEventId));
+        }
+        return emitter;
     }
 
     //전송 (Send)
     public void send(Long userId, Object data) {
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByUserId(userId);
-
-        emitters.forEach((key, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification") // 클라이언트에서 수신할 이벤트 이름
-                        .data(data));
-            } catch (IOException e) {
-                emitterRepository.deleteById(key);
+        for (SseConnection connection : emitterRepository.findAllByUserId(userId)) {
+            if (!connection.offer(SseEmitter.event()
+                    .name("notification") // 클라이언트에서 수신할 이벤트 이름
+                    .data(data))) {
+                droppedConnections.increment();
+            }
+        }
+    }
+
+    /**
+     * 직렬화를 마친 JSON 전송 (대량 발송 시 수신자마다 직렬화하지 않도록)
+     * @param notificationId 이벤트 id (재연결 시 Last-Event-ID로 돌아옴)
+     */
+    public void sendJson(Long userId, Long notificationId, String json) {
+        for (SseConnection connection : emitterRepository.findAllByUserId(userId)) {
+            if (!connection.offer(notificationId, SseEmitter.event()
+                    .id(String.valueOf(notificationId))
+                    .name("notification")
+                    .data(json, MediaType.APPLICATION_JSON))) {
+                droppedConnections.increment();
+            }
+        }
+    }
+
+    public boolean isConnected(Long userId) {
+        return !emitterRepository.findAllByUserId(userId).isEmpty();
+    }
+
+    /**
+     * 연결 유지 확인 (프록시 idle timeout 방지)
+     * 직전 주기 이후 전송이 멈춘 연결은 정리
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MS)
+    public void heartbeat() {
+        long stalledBefore = System.currentTimeMillis() - HEARTBEAT_INTERVAL_MS;
+        List<SseConnection> connections = emitterRepository.findAll().toList();
+        for (SseConnection connection : connections) {
+            if (connection.isStalledSince(stalledBefore)) {
+                connection.close();
+                droppedConnections.increment();
+            } else {
+                connection.offer(SseEmitter.event().comment("ping"));
             }
-        });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitterRepository.findAll().toList().forEach(SseConnection::close);
+        sender.shutdown();
+    }
+
+    /**
+     * lastEventId 이후 알림을 오래된 순으로 최대 REPLAY_LIMIT건 조회
+     * 더 많으면 재전송 대신 reset 이벤트 1건 (클라이언트는 알림함 첫 페이지 재조회)
+     */
+    List<SseConnection.Event> findMissed(Long userId, Long lastEventId) {
+        List<Notifications> missed;
+        try {
+            missed = notificationsRepository.findReplay(userId, lastEventId, PageRequest.of(0, REPLAY_LIMIT + 1));
+        } catch (DataAccessException e) {
+            log.warn("알림 재전송 조회 실패 userId={}, lastEventId={}", userId, lastEventId, e);
+            missed = null;
+        }
+
+        if (missed == null || missed.size() > REPLAY_LIMIT) {
+            replayResets.increment();
+            return List.of(new SseConnection.Event(null, SseEmitter.event().name("reset").data("inbox")));
+        }
+        replayedEvents.increment(missed.size());
+        return missed.stream()
+                .map(notification -> new SseConnection.Event(notification.getNotiId(), SseEmitter.event()
+                        .id(String.valueOf(notification.getNotiId()))
+                        .name("notification")
+                        .data(NotificationResponse.from(notification), MediaType.APPLICATION_JSON)))
+                .toList();
+    }
+
+    SseConnection register(Long userId, SseEmitter emitter) {
+        return register(userId, emitter, false);
+    }
+
+    SseConnection register(Long userId, SseEmitter emitter, boolean paused) {
+        SseConnection connection = new SseConnection(
+                userId, emitter, sender, SEND_QUEUE_CAPACITY, emitterRepository::delete, paused);
+
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        return emitterRepository.save(connection);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package back.service.notifications.bus;
+
+import back.repository.notifications.NotificationBusRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * notification_bus 테이블 폴링 방식 (MySQL만으로 동작, 별도 브로커 없음)
+ * - 서버마다 seq 커서를 두고 POLL_INTERVAL마다 이후 행 조회, 본 서버 발송분은 건너뜀
+ * - AUTO_INCREMENT는 커밋 순서와 달라 빈 seq(gap)가 생길 수 있음
+ *   → gap 뒤의 행은 먼저 전달하되 커서는 gap 앞에 멈춰 두고, GAP_TIMEOUT이 지나면 롤백된 것으로 보고 넘어감
+ * - 시작 시점 이후 발송분만 전달 (이전 누락분은 재연결 시 Last-Event-ID로 재전송)
+ * - 폴링은 전용 스레드에서 실행: 전송 backpressure로 대기해도 공용 스케줄러 스레드를 잡지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.notification.bus", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcNotificationBus implements NotificationBus {
+
+    static final int POLL_LIMIT = 500;
+    static final long GAP_TIMEOUT_MS = 5_000;
+    private static final long RETENTION_MINUTES = 10;
+    private static final int CLEANUP_CHUNK = 1_000;
+
+    private final NotificationBusRepository notificationBusRepository;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<NotificationBroadcast>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter skippedGaps;
+
+    @Value("${custom.notification.bus.poll-interval-ms:200}")
+    private long pollIntervalMs = 200;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-bus-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // poll은 poller 스레드 1개에서만 실행
+    private long cursor = -1;
+    private final NavigableSet<Long> deliveredAhead = new TreeSet<>();
+    private long gapSince;
+
+    public JdbcNotificationBus(NotificationBusRepository notificationBusRepository,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.notificationBusRepository = notificationBusRepository;
+        this.objectMapper = objectMapper;
+        this.published = Counter.builder("notifications.bus.published").register(meterRegistry);
+        this.received = Counter.builder("notifications.bus.received")
+                .description("다른 서버에서 받은 발송분 수")
+                .register(meterRegistry);
+        this.skippedGaps = Counter.builder("notifications.bus.gaps.skipped")
+                .description("시간 초과로 건너뛴 seq 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        init();
+        poller.scheduleWithFixedDelay(() -> poll(System.currentTimeMillis()), pollIntervalMs, pollIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        poller.shutdownNow();
+    }
+
+    void init() {
+        try {
+            cursor = notificationBusRepository.findMaxSeq();
+        } catch (DataAccessException e) {
+            log.warn("알림 버스 커서 초기화 실패, 첫 폴링에서 재시도", e);
+        }
+    }
+
+    @Override
+    public void publish(NotificationBroadcast broadcast) {
+        try {
+            notificationBusRepository.append(nodeId, objectMapper.writeValueAsString(broadcast));
+            published.increment();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (DataAccessException e) {
+            // 다른 서버 접속자는 재연결 시 재전송으로 복구
+            log.warn("알림 버스 발행 실패 ({}명)", broadcast.userIds().size(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBroadcast> listener) {
+        listeners.add(listener);
+    }
+
+    synchronized void poll(long now) {
+        try {
+            if (cursor < 0) {
+                cursor = notificationBusRepository.findMaxSeq();
+                return;
+            }
+            for (NotificationBusRepository.Row row : notificationBusRepository.findAfter(cursor, POLL_LIMIT)) {
+                if (!deliveredAhead.add(row.seq())) {
+                    continue; // gap 대기 중 이미 전달한 행
+                }
+                if (!nodeId.equals(row.originNode())) {
+                    deliver(row);
+                }
+            }
+            advance(now);
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 scheduleWithFixedDelay가 이후 폴링을 멈춤
+            log.warn("알림 버스 폴링 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void cleanup() {
+        try {
+            notificationBusRepository.deleteBefore(
+                    LocalDateTime.now().minusMinutes(RETENTION_MINUTES), CLEANUP_CHUNK);
+        } catch (DataAccessException e) {
+            log.warn("알림 버스 정리 실패", e);
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    private void deliver(NotificationBusRepository.Row row) {
+        NotificationBroadcast broadcast;
+        try {
+            broadcast = objectMapper.readValue(row.payload(), NotificationBroadcast.class);
+        } catch (JsonProcessingException e) {
+            log.warn("알림 버스 메시지 해석 실패 seq={}", row.seq(), e);
+            return;
+        }
+        received.increment();
+        for (Consumer<NotificationBroadcast> listener : listeners) {
+            try {
+                listener.accept(broadcast);
+            } catch (RuntimeException e) {
+                log.warn("알림 버스 메시지 처리 실패 seq={}", row.seq(), e);
+            }
+        }
+    }
+
+    /**
+     * 연속으로 처리한 seq까지 커서 이동, 오래된 gap은 건너뜀
+     */
+    private void advance(long now) {
+        while (!deliveredAhead.isEmpty()) {
+            long first = deliveredAhead.first();
+            if (first == cursor + 1) {
+                deliveredAhead.pollFirst();
+                cursor = first;
+                gapSince = 0;
+                continue;
+            }
+            if (gapSince == 0) {
+                gapSince = now;
+            }
+            if (now - gapSince < GAP_TIMEOUT_MS) {
+                return;
+            }
+            skippedGaps.increment(first - cursor - 1);
+            cursor = first - 1;
+            gapSince = 0;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package back.service.notifications.bus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 서버용 (다른 서버가 없으므로 전달할 곳 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.notification.bus", havingValue = "local")
+public class LocalNotificationBus implements NotificationBus {
+
+    @Override
+    public void publish(NotificationBroadcast broadcast) {
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBroadcast> listener) {
+    }
+}
@@ -0,0 +1,15 @@
+package back.service.notifications.bus;
+
+import java.util.List;
+
+/**
+ * 같은 내용의 알림 1회 발송분
+ * - template: id=0으로 직렬화한 NotificationResponse JSON (수신자별 id는 받는 쪽에서 채움)
+ * - userIds[i]의 알림 id = notificationIds[i]
+ */
+public record NotificationBroadcast(
+        List<Long> userIds,
+        List<Long> notificationIds,
+        String template
+) {
+}
@@ -0,0 +1,19 @@
+package back.service.notifications.bus;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 알림 전달 통로
+ * - 발송 서버는 자신에게 연결된 사용자에게 직접 보내고, 다른 서버에는 publish로 전달
+ * - 각 서버는 subscribe로 받은 발송분 중 자신에게 연결된 사용자에게만 전송
+ * - 구현은 custom.notification.bus 값으로 선택 (jdbc: DB 폴링, local: 단일 서버)
+ */
+public interface NotificationBus {
+
+    void publish(NotificationBroadcast broadcast);
+
+    /**
+     * 다른 서버가 publish한 발송분 수신 (본 서버 발송분은 전달하지 않음)
+     */
+    void subscribe(Consumer<NotificationBroadcast> listener);
+}
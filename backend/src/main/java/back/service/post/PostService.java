@@ -12,6 +12,7 @@ import back.dto.post.post.response.PostIdResponse;
 import back.dto.post.story.request.StoryCreateRequest;
 import back.dto.post.story.request.StoryUpdateRequest;
 import back.dto.post.story.response.*;
+import back.event.PostChangedEvent;
 import back.exception.PostsException;
 import back.repository.club.ClubMemberRepository;
 import back.repository.schedule.ScheduleRepository;
@@ -21,7 +22,8 @@ import back.repository.post.PostMemberTagRepository;
 import back.repository.post.PostRepository;
 import back.repository.post.projection.RecentAlbumRow;
 import back.service.club.ClubAuthService;
-import back.service.post.ai.PostVectorService;
+import back.service.post.ai.PostEmbeddingOutboxService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -47,7 +49,9 @@ public class PostService {
     private final PostImageRepository postImageRepository;
     private final PostMemberTagRepository postMemberTagRepository;
 
-    private final PostVectorService postVectorService;
+    private final PostEmbeddingOutboxService postEmbeddingOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
     public PostService(
             ClubAuthService clubAuthorizationService,
             ClubRepository clubsRepository,
@@ -56,7 +60,8 @@ public class PostService {
             PostRepository postRepository,
             PostImageRepository postImageRepository,
             PostMemberTagRepository postMemberTagRepository,
-            PostVectorService postVectorService
+            PostEmbeddingOutboxService postEmbeddingOutboxService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.clubAuthorizationService = clubAuthorizationService;
         this.clubsRepository = clubsRepository;
@@ -65,7 +70,8 @@ public class PostService {
         this.postRepository = postRepository;
         this.postImageRepository = postImageRepository;
         this.postMemberTagRepository = postMemberTagRepository;
-        this.postVectorService = postVectorService;
+        this.postEmbeddingOutboxService = postEmbeddingOutboxService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -77,8 +83,9 @@ public class PostService {
 
         applyOptionalUpdatesOnCreate(saved, request);
 
-        postVectorService.savePost(saved);
-
+        // 임베딩은 커밋 후 워커가 비동기로 처리 (AI 응답 시간과 무관)
+        postEmbeddingOutboxService.enqueue(saved.getPostId());
+        eventPublisher.publishEvent(new PostChangedEvent(clubId, saved.getPostId()));
 
         return PostIdResponse.from(saved);
     }
@@ -164,6 +171,9 @@ public class PostService {
         applyStoryUpdates(post, request);
         applyMediaUpdatesOnUpdate(post, request);
 
+        postEmbeddingOutboxService.enqueue(post.getPostId());
+        eventPublisher.publishEvent(new PostChangedEvent(clubId, post.getPostId()));
+
         return PostIdResponse.from(post);
     }
 
@@ -178,6 +188,9 @@ public class PostService {
         assertCanManagePost(clubId, post, actorId);
 
         post.blindPost(actorId);
+        // 워커가 삭제된 게시글로 보고 벡터 제거
+        postEmbeddingOutboxService.enqueue(post.getPostId());
+        eventPublisher.publishEvent(new PostChangedEvent(clubId, post.getPostId()));
     }
 
     @Transactional
@@ -191,6 +204,8 @@ public class PostService {
         assertCanManagePost(clubId, post, actorId);
 
         post.delete();
+        postEmbeddingOutboxService.enqueue(post.getPostId());
+        eventPublisher.publishEvent(new PostChangedEvent(clubId, post.getPostId()));
     }
 
     // ====== private helpers ======
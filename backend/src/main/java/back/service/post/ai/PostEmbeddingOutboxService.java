@@ -0,0 +1,77 @@
+package back.service.post.ai;
+
+import back.domain.post.PostEmbeddingOutbox;
+import back.repository.post.PostEmbeddingOutboxRepository;
+import back.repository.post.projection.EmbeddingJobRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 임베딩 outbox
+ * - enqueue: 게시글 저장 트랜잭션에 참여 (게시글이 커밋되어야 작업도 커밋)
+ * - claim/complete/fail: 워커가 호출, 각각 짧은 트랜잭션
+ */
+@Service
+@RequiredArgsConstructor
+public class PostEmbeddingOutboxService {
+
+    static final int MAX_ATTEMPTS = 8;
+    // 처리 중 워커가 죽으면 이 시간 뒤 다른 워커가 다시 선점
+    private static final int PROCESSING_LEASE_SECONDS = 300;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final PostEmbeddingOutboxRepository postEmbeddingOutboxRepository;
+
+    @Transactional
+    public void enqueue(Long postId) {
+        postEmbeddingOutboxRepository.enqueue(postId);
+    }
+
+    /**
+     * 실행할 작업을 최대 limit건 선점합니다.
+     */
+    @Transactional
+    public List<EmbeddingJobRow> claim(int limit) {
+        List<EmbeddingJobRow> jobs = postEmbeddingOutboxRepository.lockRunnable(limit);
+        if (!jobs.isEmpty()) {
+            postEmbeddingOutboxRepository.markProcessing(
+                    jobs.stream().map(EmbeddingJobRow::getPostId).toList(),
+                    PROCESSING_LEASE_SECONDS);
+        }
+        return jobs;
+    }
+
+    @Transactional
+    public void complete(List<EmbeddingJobRow> jobs) {
+        jobs.forEach(job -> postEmbeddingOutboxRepository.complete(job.getPostId(), job.getVersion()));
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프로 재시도 예약, MAX_ATTEMPTS회 실패하면 FAILED
+     */
+    @Transactional
+    public void fail(List<EmbeddingJobRow> jobs, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        String lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+        for (EmbeddingJobRow job : jobs) {
+            PostEmbeddingOutbox.Status status = job.getAttempts() >= MAX_ATTEMPTS
+                    ? PostEmbeddingOutbox.Status.FAILED
+                    : PostEmbeddingOutbox.Status.PENDING;
+            postEmbeddingOutboxRepository.fail(
+                    job.getPostId(), job.getVersion(), status.name(), now.plus(backoff(job.getAttempts())), lastError);
+        }
+    }
+
+    static Duration backoff(int attempts) {
+        // 10초, 20초, 40초 ... 최대 30분
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << exponent);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
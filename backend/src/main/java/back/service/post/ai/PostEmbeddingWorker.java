@@ -0,0 +1,139 @@
+package back.service.post.ai;
+
+import back.domain.post.Posts;
+import back.repository.post.PostRepository;
+import back.repository.post.projection.EmbeddingJobRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 임베딩 워커
+ * - outbox에서 작업을 BATCH_SIZE건씩 선점 → 임베딩 batch 요청 1회 + Chroma 다건 upsert 1회
+ * - 워커 스레드 workerCount개가 각자 큐가 빌 때까지 반복 (SKIP LOCKED로 서버/스레드 간 중복 없음)
+ * - 실패 시 배치를 나눠 다시 처리, 그래도 실패한 게시글(또는 일시적 오류의 배치 전체)만 백오프 후 재시도
+ */
+@Slf4j
+@Component
+public class PostEmbeddingWorker {
+
+    static final int BATCH_SIZE = 32;
+
+    private final PostEmbeddingOutboxService postEmbeddingOutboxService;
+    private final PostRepository postRepository;
+    private final PostVectorService postVectorService;
+
+    private final ExecutorService executor;
+    private final Semaphore idleWorkers;
+
+    public PostEmbeddingWorker(
+            PostEmbeddingOutboxService postEmbeddingOutboxService,
+            PostRepository postRepository,
+            PostVectorService postVectorService,
+            @Value("${custom.post.embedding.workers:2}") int workerCount
+    ) {
+        this.postEmbeddingOutboxService = postEmbeddingOutboxService;
+        this.postRepository = postRepository;
+        this.postVectorService = postVectorService;
+        this.executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "post-embedding-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.idleWorkers = new Semaphore(workerCount);
+    }
+
+    /**
+     * 쉬고 있는 워커를 깨워 outbox를 비웁니다.
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void poll() {
+        while (idleWorkers.tryAcquire()) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        drain();
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                idleWorkers.release();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 선점할 작업이 없을 때까지 배치 처리
+     */
+    void drain() {
+        List<EmbeddingJobRow> jobs;
+        do {
+            jobs = postEmbeddingOutboxService.claim(BATCH_SIZE);
+            if (!jobs.isEmpty()) {
+                process(jobs);
+            }
+        } while (jobs.size() == BATCH_SIZE);
+    }
+
+    /**
+     * 배치 임베딩, 실패하면 반으로 나눠 다시 처리해 문제 게시글만 실패 처리
+     * - 일시적 오류(429/5xx/연결 실패/DB 일시 오류)는 나눠도 같은 결과라 배치 전체를 재시도 예약
+     */
+    void process(List<EmbeddingJobRow> jobs) {
+        try {
+            embed(jobs);
+            postEmbeddingOutboxService.complete(jobs);
+        } catch (RuntimeException e) {
+            if (jobs.size() == 1 || isTransient(e)) {
+                log.warn("게시글 임베딩 실패 ({}건), 재시도 예약", jobs.size(), e);
+                postEmbeddingOutboxService.fail(jobs, e.getMessage());
+                return;
+            }
+            int half = jobs.size() / 2;
+            process(jobs.subList(0, half));
+            process(jobs.subList(half, jobs.size()));
+        }
+    }
+
+    private void embed(List<EmbeddingJobRow> jobs) {
+        List<Long> postIds = jobs.stream().map(EmbeddingJobRow::getPostId).toList();
+        // 삭제된 게시글은 임베딩하지 않고 벡터 제거 (작업은 완료 처리)
+        List<Posts> posts = postRepository.findAllWithWriterByPostIdIn(postIds).stream()
+                .filter(post -> post.getDeletedAt() == null)
+                .toList();
+        Set<Long> livePostIds = posts.stream().map(Posts::getPostId).collect(Collectors.toSet());
+        List<Long> removedPostIds = postIds.stream()
+                .filter(postId -> !livePostIds.contains(postId))
+                .toList();
+
+        postVectorService.savePosts(posts);
+        postVectorService.deletePosts(removedPostIds);
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TransientDataAccessException;
+    }
+}
@@ -0,0 +1,134 @@
+package back.service.post.ai;
+
+import back.common.text.NameAutomaton;
+import back.repository.club.ClubMemberRepository;
+import back.repository.club.projection.MemberNameView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 게시글 검색 질문에서 모임 멤버 닉네임을 찾기 위한 모임별 사전 캐시
+ * - 최초 조회 시 모임 전체 멤버(탈퇴/강퇴 포함, 과거 태그 대상) 닉네임 1회 로딩 후 오토마톤 컴파일
+ * - 가입 승인/강퇴/닉네임 변경 시 해당 멤버만 다시 조회해 스냅샷 교체
+ * - 같은 닉네임이 여러 명이면 모두 반환 (태그 조건은 "한 명이라도")
+ * - 모임 수 상한 + ttl: 다른 서버에서 일어난 멤버 변경은 ttl이 지나 다시 로딩할 때 반영
+ * - 지표: cache.gets, cache.evictions 등 (cache=post-member-names)
+ */
+@Component
+public class PostMemberNameCache {
+
+    private static final String CACHE_NAME = "post-member-names";
+
+    private final ClubMemberRepository clubMemberRepository;
+    private final Cache<Long, Nicknames> dictionaries;
+
+    @Autowired
+    public PostMemberNameCache(
+            ClubMemberRepository clubMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${custom.post.search.member-names.max-clubs:10000}") long maxClubs,
+            @Value("${custom.post.search.member-names.ttl:PT1H}") Duration ttl
+    ) {
+        this(clubMemberRepository, meterRegistry, maxClubs, ttl, Ticker.systemTicker());
+    }
+
+    PostMemberNameCache(ClubMemberRepository clubMemberRepository, MeterRegistry meterRegistry,
+                        long maxClubs, Duration ttl, Ticker ticker) {
+        this.clubMemberRepository = clubMemberRepository;
+        this.dictionaries = Caffeine.newBuilder()
+                .maximumSize(maxClubs)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, dictionaries, CACHE_NAME);
+    }
+
+    /**
+     * 질문 1회 순회로 언급된 멤버 ID 수집
+     */
+    public Set<Long> findMentionedMembers(Long clubId, String query) {
+        String normalized = NameAutomaton.normalize(query);
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        return get(clubId).automaton().scan(normalized);
+    }
+
+    /**
+     * 멤버 1명 갱신
+     * - 아직 로딩되지 않은 모임은 다음 조회 시 전체 로딩되므로 무시
+     */
+    public void refreshMember(Long clubId, Long memberId) {
+        if (dictionaries.getIfPresent(clubId) == null) {
+            return;
+        }
+        // DB 조회는 캐시 잠금 밖에서
+        Optional<MemberNameView> member = clubMemberRepository.findMemberName(clubId, memberId);
+        dictionaries.asMap().computeIfPresent(clubId, (id, dictionary) -> member
+                .map(view -> dictionary.withMember(memberId, view.getClubNickname()))
+                .orElseGet(() -> dictionary.withoutMember(memberId)));
+    }
+
+    public void evict(Long clubId) {
+        dictionaries.invalidate(clubId);
+    }
+
+    Nicknames get(Long clubId) {
+        return dictionaries.get(clubId,
+                id -> Nicknames.of(clubMemberRepository.findMemberNamesByClubId(id)));
+    }
+
+    /**
+     * 모임 닉네임 사전 (불변 스냅샷)
+     */
+    record Nicknames(Map<Long, String> nicknames, NameAutomaton automaton) {
+
+        static Nicknames of(List<MemberNameView> views) {
+            Map<Long, String> nicknames = new HashMap<>();
+            for (MemberNameView view : views) {
+                nicknames.put(view.getMemberId(), NameAutomaton.normalize(view.getClubNickname()));
+            }
+            return compile(nicknames);
+        }
+
+        Nicknames withMember(Long memberId, String nickname) {
+            Map<Long, String> next = new HashMap<>(nicknames);
+            next.put(memberId, NameAutomaton.normalize(nickname));
+            return compile(next);
+        }
+
+        Nicknames withoutMember(Long memberId) {
+            if (!nicknames.containsKey(memberId)) {
+                return this;
+            }
+            Map<Long, String> next = new HashMap<>(nicknames);
+            next.remove(memberId);
+            return compile(next);
+        }
+
+        private static Nicknames compile(Map<Long, String> nicknames) {
+            Map<String, Set<Long>> patterns = new HashMap<>();
+            nicknames.forEach((memberId, nickname) -> {
+                if (!nickname.isEmpty()) {
+                    patterns.computeIfAbsent(nickname, k -> new HashSet<>()).add(memberId);
+                }
+            });
+            return new Nicknames(Map.copyOf(nicknames), NameAutomaton.compile(patterns));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package back.service.post.ai;
+
+import back.service.post.ai.chroma.ChromaPostMetadata;
+import back.service.post.ai.chroma.ChromaWhere;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벡터 검색 범위
+ * @param clubId    모임 (필수)
+ * @param memberIds 이 중 한 명이라도 태그된 게시글만 (비어 있으면 조건 없음)
+ * @param from      작성일 시작 (포함, 선택)
+ * @param to        작성일 끝 (포함, 선택)
+ */
+public record PostSearchFilter(
+        Long clubId,
+        List<Long> memberIds,
+        LocalDate from,
+        LocalDate to
+) {
+    public PostSearchFilter {
+        memberIds = memberIds == null ? List.of() : List.copyOf(memberIds);
+    }
+
+    public static PostSearchFilter ofClub(Long clubId) {
+        return new PostSearchFilter(clubId, List.of(), null, null);
+    }
+
+    public PostSearchFilter withMemberIds(List<Long> memberIds) {
+        return new PostSearchFilter(clubId, memberIds, from, to);
+    }
+
+    public Map<String, Object> toWhere() {
+        List<Map<String, Object>> conditions = new ArrayList<>();
+        conditions.add(ChromaWhere.eq(ChromaPostMetadata.CLUB_ID, clubId));
+        if (!memberIds.isEmpty()) {
+            conditions.add(ChromaWhere.or(memberIds.stream()
+                    .map(memberId -> ChromaWhere.eq(ChromaPostMetadata.memberKey(memberId), true))
+                    .toList()));
+        }
+        if (from != null) {
+            conditions.add(ChromaWhere.gte(ChromaPostMetadata.CREATED_AT,
+                    ChromaPostMetadata.epochSeconds(from.atStartOfDay())));
+        }
+        if (to != null) {
+            conditions.add(ChromaWhere.lt(ChromaPostMetadata.CREATED_AT,
+                    ChromaPostMetadata.epochSeconds(to.plusDays(1).atStartOfDay())));
+        }
+        return ChromaWhere.and(conditions);
+    }
+}
@@ -3,132 +3,187 @@ package back.service.post.ai;
 import back.domain.post.Posts;
 import back.repository.post.PostMemberTagRepository;
 import back.repository.post.PostRepository;
-import back.service.post.ai.chroma.ChromaCollectionHolder;
 import back.service.post.ai.gemini.GeminiChatClient;
 import back.service.post.ai.gemini.embedding.EmbeddingCache;
 import back.service.post.ai.gemini.embedding.GeminiEmbeddingClient;
 import back.service.post.ai.gemini.prompt.RagAnswerPrompt;
+import back.service.post.ai.lexical.LexicalMatch;
+import back.service.post.ai.lexical.PostLexicalIndex;
+import back.service.post.ai.vector.PostVectorIndex;
+import back.service.post.ai.vector.VectorMatch;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+/**
+ * 게시글 RAG 검색 (키워드 + 벡터 하이브리드)
+ * - 키워드(2-gram BM25)와 벡터 검색 결과를 각각 CANDIDATES건까지 받아 RRF로 합친 뒤 TOP_K건
+ *   → 장소명/닉네임/날짜처럼 임베딩이 놓치는 정확한 표현은 키워드가, 의미가 비슷한 글은 벡터가 찾음
+ * - 모임/태그 멤버/작성일 조건은 두 검색 모두 검색 조건으로 전달 (검색 후 걸러내지 않음)
+ * - 조건에 맞는 게시글이 0건이면 검색 없음
+ * - 임베딩/벡터 저장소 실패 시 키워드 결과만 사용
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostSearchService {
 
-    private final WebClient chromaWebClient;
+    static final int TOP_K = 10;
+    // 합치기 전 검색기별 후보 수
+    static final int CANDIDATES = 30;
+    // RRF 상수 (순위 1위와 10위 점수 차를 완만하게)
+    static final int RRF_K = 60;
+
     private final GeminiEmbeddingClient geminiEmbeddingClient;
     private final GeminiChatClient geminiChatClient;
-    private final ChromaCollectionHolder chromaCollectionHolder;
+    private final PostVectorIndex postVectorIndex;
+    private final PostLexicalIndex postLexicalIndex;
     private final PostRepository postRepository;
     private final PostMemberTagRepository postMemberTagRepository;
+    private final PostMemberNameCache postMemberNameCache;
 
     private final EmbeddingCache embeddingCache;
+    private final RagAnswerCache ragAnswerCache;
 
+    /**
+     * @param score       RRF 점수 (클수록 관련)
+     * @param vectorRank  벡터 검색 순위 (1부터, 결과에 없으면 null)
+     * @param lexicalRank 키워드 검색 순위 (1부터, 결과에 없으면 null)
+     */
     public record SearchHit(
             Long postId,
-            double distance,
+            double score,
+            Integer vectorRank,
+            Integer lexicalRank,
             List<String> memberNames
     ) {}
 
-    public List<SearchHit> searchHits(String query) {
+    /**
+     * 질문에 포함된 모임 멤버 닉네임을 태그 멤버 조건으로 변환 (모임별 캐시된 사전으로 1회 순회)
+     */
+    public PostSearchFilter resolveFilter(Long clubId, String query, LocalDate from, LocalDate to) {
+        List<Long> memberIds = postMemberNameCache.findMentionedMembers(clubId, query).stream()
+                .sorted()
+                .toList();
+        return new PostSearchFilter(clubId, memberIds, from, to);
+    }
 
-        float[] embedding = embeddingCache.get(query);
-        if (embedding == null) {
-            embedding = geminiEmbeddingClient.embed(query);
-            embeddingCache.put(query, embedding);
+    public List<SearchHit> searchHits(PostSearchFilter filter, String query) {
+
+        int candidates = candidates(filter);
+        if (candidates == 0) {
+            return List.of();
         }
 
-        return searchHits(embedding);
+        List<LexicalMatch> lexical = postLexicalIndex.search(query, candidates, filter);
+        List<VectorMatch> vector = vectorSearch(filter, query, candidates);
+
+        return fuse(vector, lexical, TOP_K);
     }
 
-    public List<SearchHit> searchHits(float[] embedding) {
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("query_embeddings", List.of(toList(embedding)));
-        body.put("n_results", 10);
-
-        Map<String, Object> response =
-                chromaWebClient.post()
-                        .uri(
-                                "/tenants/default_tenant/databases/default_database/collections/{id}/query",
-                                chromaCollectionHolder.getCollectionId()
-                        )
-                        .bodyValue(body)
-                        .retrieve()
-                        .bodyToMono(Map.class)
-                        .block();
-
-        List<Map<String, Object>> metadatas =
-                ((List<List<Map<String, Object>>>) response.get("metadatas")).get(0);
-
-        List<Double> distances =
-                ((List<List<Double>>) response.get("distances")).get(0);
-
-        return IntStream.range(0, metadatas.size())
-                .mapToObj(i -> {
-                    Map<String, Object> meta = metadatas.get(i);
-
-                    List<String> memberNames =
-                            meta.get("memberNames") instanceof String s && !s.isBlank()
-                                    ? Arrays.asList(s.split(","))
-                                    : List.of();
-
-                    return new SearchHit(
-                            ((Number) meta.get("postId")).longValue(),
-                            distances.get(i),
-                            memberNames
-                    );
+    /**
+     * 임베딩(캐시) + 벡터 검색, 실패하면 빈 결과 (키워드 결과만으로 진행)
+     */
+    private List<VectorMatch> vectorSearch(PostSearchFilter filter, String query, int candidates) {
+        try {
+            float[] embedding = embeddingCache.get(query, geminiEmbeddingClient::embed);
+            return postVectorIndex.search(embedding, candidates, filter).stream()
+                    .sorted(Comparator.comparingDouble(VectorMatch::distance))
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("벡터 검색 실패, 키워드 결과만 사용 clubId={}: {}", filter.clubId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Reciprocal Rank Fusion: 게시글 점수 = Σ 1 / (RRF_K + 순위)
+     * - 점수 척도가 다른 두 검색(거리, BM25)을 순위만으로 합침
+     * - 동점이면 벡터 순위, 그다음 키워드 순위가 앞선 쪽
+     */
+    static List<SearchHit> fuse(List<VectorMatch> vector, List<LexicalMatch> lexical, int topK) {
+        Map<Long, Integer> vectorRanks = new HashMap<>();
+        Map<Long, Integer> lexicalRanks = new HashMap<>();
+        Map<Long, List<String>> memberNames = new LinkedHashMap<>();
+        for (int i = 0; i < vector.size(); i++) {
+            VectorMatch match = vector.get(i);
+            vectorRanks.putIfAbsent(match.postId(), i + 1);
+            memberNames.putIfAbsent(match.postId(), match.memberNames());
+        }
+        for (int i = 0; i < lexical.size(); i++) {
+            LexicalMatch match = lexical.get(i);
+            lexicalRanks.putIfAbsent(match.postId(), i + 1);
+            memberNames.putIfAbsent(match.postId(), match.memberNames());
+        }
+
+        return memberNames.keySet().stream()
+                .map(postId -> {
+                    Integer vectorRank = vectorRanks.get(postId);
+                    Integer lexicalRank = lexicalRanks.get(postId);
+                    double score = rrf(vectorRank) + rrf(lexicalRank);
+                    return new SearchHit(postId, score, vectorRank, lexicalRank, memberNames.get(postId));
                 })
-                .sorted(Comparator.comparingDouble(SearchHit::distance))
+                .sorted(Comparator.comparingDouble(SearchHit::score).reversed()
+                        .thenComparing(hit -> rankOrMax(hit.vectorRank()))
+                        .thenComparing(hit -> rankOrMax(hit.lexicalRank())))
+                .limit(topK)
                 .toList();
     }
 
-    public String answerWithRag(String query) {
+    private static double rrf(Integer rank) {
+        return rank == null ? 0 : 1.0 / (RRF_K + rank);
+    }
 
-        // 1. Embedding 캐시 확인
-        float[] embedding = embeddingCache.get(query);
-        if (embedding == null) {
-            embedding = geminiEmbeddingClient.embed(query); // Gemini 호출 1회
-            embeddingCache.put(query, embedding);
-        }
+    private static int rankOrMax(Integer rank) {
+        return rank == null ? Integer.MAX_VALUE : rank;
+    }
 
-        // 2. 벡터 검색
-        List<SearchHit> hits = searchHits(embedding);
-        if (hits.isEmpty()) {
-            return "관련 기록이 없습니다.";
+    /**
+     * 생성 모델에 넘길 프롬프트, 또는 검색 결과가 없을 때 바로 돌려줄 답변
+     * - postIds/fingerprint: 컨텍스트 게시글과 그 지문 (답변 캐시 키/무효화)
+     */
+    public record RagPrompt(String prompt, String answer, List<Long> postIds, String fingerprint) {
+
+        static RagPrompt answered(String answer) {
+            return new RagPrompt(null, answer, List.of(), "");
         }
 
-        List<Long> postIds = hits.stream()
-                .map(SearchHit::postId)
-                .toList();
+        public boolean isAnswered() {
+            return prompt == null;
+        }
+    }
 
-        // 3. 질문에 포함된 닉네임 literal 필터
-        List<String> allNicknames =
-                postMemberTagRepository.findAllDistinctMemberNames();
+    public String answerWithRag(Long clubId, String query, LocalDate from, LocalDate to) {
+        RagPrompt rag = prepareRagPrompt(clubId, query, from, to);
+        if (rag.isAnswered()) {
+            return rag.answer();
+        }
 
-        List<String> matchedMembers = allNicknames.stream()
-                .filter(query::contains)
-                .toList();
+        // 같은 질문 + 같은 컨텍스트면 캐시된 답변, 아니면 Gemini Generate (딱 1번)
+        return ragAnswerCache.get(clubId, query, rag, () -> geminiChatClient.generate(rag.prompt()));
+    }
 
-        if (!matchedMembers.isEmpty()) {
-            List<Long> filteredPostIds =
-                    postMemberTagRepository.findPostIdsByMemberNames(matchedMembers);
+    /**
+     * 검색 ~ 프롬프트 구성까지 (블로킹: 임베딩 호출, 벡터/키워드 검색, DB 조회)
+     */
+    public RagPrompt prepareRagPrompt(Long clubId, String query, LocalDate from, LocalDate to) {
 
-            postIds = postIds.stream()
-                    .filter(filteredPostIds::contains)
-                    .toList();
+        // 1~2. 질문에 포함된 닉네임 → 태그 멤버 조건, 키워드 + 벡터 검색 (임베딩은 캐시 확인 후 Gemini 호출 1회)
+        PostSearchFilter filter = resolveFilter(clubId, query, from, to);
+        List<SearchHit> hits = searchHits(filter, query);
+        if (hits.isEmpty()) {
+            return RagPrompt.answered(filter.memberIds().isEmpty() ? "관련 기록이 없습니다." : "조건에 맞는 기록이 없습니다.");
         }
 
-        if (postIds.isEmpty()) {
-            return "조건에 맞는 기록이 없습니다.";
-        }
+        List<Long> postIds = hits.stream()
+                .map(SearchHit::postId)
+                .toList();
 
-        // 4. postId → 참여 멤버 (DB 기준)
+        // 3. postId → 참여 멤버 (DB 기준)
         Map<Long, List<String>> memberMap = new HashMap<>();
         for (Object[] row :
                 postMemberTagRepository.findMemberNamesGroupedByPostIds(postIds)) {
@@ -139,15 +194,24 @@ public class PostSearchService {
             memberMap.computeIfAbsent(postId, k -> new ArrayList<>()).add(nickname);
         }
 
-        // 5. 게시글 조회
+        // 4. 게시글 조회 (작성자 함께 로딩, 삭제/다른 모임 게시글 제외)
         Map<Long, Posts> postMap =
-                postRepository.findAllById(postIds).stream()
+                postRepository.findAllWithWriterByPostIdIn(postIds).stream()
+                        .filter(p -> p.getDeletedAt() == null)
+                        .filter(p -> clubId.equals(p.getClub().getClubId()))
                         .collect(Collectors.toMap(Posts::getPostId, p -> p));
 
-        // 6. Context 구성
-        String context = postIds.stream()
+        if (postMap.isEmpty()) {
+            return RagPrompt.answered("관련 기록이 없습니다.");
+        }
+
+        // 5. Context 구성 (검색 순서 유지)
+        List<Posts> contextPosts = postIds.stream()
                 .map(postMap::get)
                 .filter(Objects::nonNull)
+                .toList();
+
+        String context = contextPosts.stream()
                 .map(p -> """
             [게시글]
             제목: %s
@@ -168,17 +232,33 @@ public class PostSearchService {
                         ))
                 .collect(Collectors.joining("\n"));
 
-        // 7. Gemini Generate (딱 1번)
-        return geminiChatClient.generate(
-                RagAnswerPrompt.TEMPLATE.formatted(context, query)
-        );
+        return new RagPrompt(
+                RagAnswerPrompt.TEMPLATE.formatted(context, query),
+                null,
+                contextPosts.stream().map(Posts::getPostId).toList(),
+                fingerprint(contextPosts));
     }
 
-    private List<Float> toList(float[] arr) {
-        List<Float> list = new ArrayList<>(arr.length);
-        for (float f : arr) list.add(f);
-        return list;
+    /**
+     * 컨텍스트 게시글 지문: "id@수정시각" 나열 (순서가 바뀌면 프롬프트도 바뀌므로 순서 유지)
+     */
+    static String fingerprint(List<Posts> posts) {
+        return posts.stream()
+                .map(p -> p.getPostId() + "@" + p.getUpdatedAt())
+                .collect(Collectors.joining(","));
     }
 
-
+    /**
+     * 조건에 맞는 게시글이 CANDIDATES보다 적으면 그만큼만 요청
+     */
+    private int candidates(PostSearchFilter filter) {
+        boolean memberFilter = !filter.memberIds().isEmpty();
+        long candidates = postRepository.countRagCandidates(
+                filter.clubId(),
+                filter.from() != null ? filter.from().atStartOfDay() : null,
+                filter.to() != null ? filter.to().plusDays(1).atStartOfDay() : null,
+                memberFilter,
+                memberFilter ? filter.memberIds() : List.of(0L));
+        return (int) Math.min(CANDIDATES, candidates);
+    }
 }
@@ -0,0 +1,126 @@
+package back.service.post.ai;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.post.PostRepository;
+import back.service.post.ai.vector.PostVectorIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 벡터 저장소 ↔ DB 게시글 정합성 점검
+ * - 모임마다 저장소 id 목록과 삭제되지 않은 게시글 id를 비교
+ * - DB에만 있는 게시글: 해시를 지우고 outbox에 다시 적재 (워커가 재임베딩)
+ * - 저장소에만 있는 게시글(삭제/블라인드/다른 모임으로 남은 벡터): 바로 삭제
+ * - lease를 가진 서버 1대만 실행, 전용 스레드에서 실행 (모임 수만큼 저장소를 읽어 오래 걸릴 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostVectorReconcileJob {
+
+    private static final String LEASE_KEY = "post-vector-reconcile";
+    private static final int LEASE_SECONDS = 1800;
+
+    private final PostRepository postRepository;
+    private final PostVectorIndex postVectorIndex;
+    private final PostVectorService postVectorService;
+    private final PostEmbeddingOutboxService postEmbeddingOutboxService;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-vector-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    record Drift(int missing, int stale) {
+        Drift plus(Drift other) {
+            return new Drift(missing + other.missing, stale + other.stale);
+        }
+    }
+
+    @Scheduled(cron = "0 40 4 * * *") // 매일 04:40 실행
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runWithLease();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void runWithLease() {
+        try {
+            schedulerLeaseRepository.insertIfAbsent(LEASE_KEY);
+            if (schedulerLeaseRepository.tryAcquire(LEASE_KEY, nodeId, LEASE_SECONDS) == 0) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("벡터 정합성 점검 lease 획득 실패", e);
+            return;
+        }
+
+        try {
+            Drift drift = reconcileAll();
+            if (drift.missing() > 0 || drift.stale() > 0) {
+                log.info("벡터 정합성 점검: 누락 {}건 재적재, 잔여 {}건 삭제", drift.missing(), drift.stale());
+            }
+        } finally {
+            schedulerLeaseRepository.release(LEASE_KEY, nodeId);
+        }
+    }
+
+    Drift reconcileAll() {
+        Drift total = new Drift(0, 0);
+        for (Long clubId : postRepository.findClubIdsWithPosts()) {
+            try {
+                total = total.plus(reconcileClub(clubId));
+            } catch (RuntimeException e) {
+                log.warn("벡터 정합성 점검 실패 clubId={}", clubId, e);
+            }
+        }
+        return total;
+    }
+
+    Drift reconcileClub(Long clubId) {
+        // 저장소를 먼저 읽음 → 그 사이 작성된 글은 누락으로 보일 뿐 잘못 삭제되지 않음
+        Set<Long> indexed = postVectorIndex.postIds(clubId);
+        Set<Long> live = Set.copyOf(postRepository.findLivePostIdsByClubId(clubId));
+
+        List<Long> missing = live.stream().filter(postId -> !indexed.contains(postId)).sorted().toList();
+        List<Long> stale = indexed.stream().filter(postId -> !live.contains(postId)).sorted().toList();
+
+        // 해시가 남아 있으면 워커가 변경 없음으로 건너뛰므로 먼저 제거
+        postVectorService.forgetHashes(missing);
+        missing.forEach(postEmbeddingOutboxService::enqueue);
+        postVectorService.deletePosts(stale);
+        return new Drift(missing.size(), stale.size());
+    }
+}
@@ -1,88 +1,181 @@
 package back.service.post.ai;
 
+import back.domain.post.PostEmbeddingHash;
 import back.domain.post.Posts;
-import back.repository.club.ClubMemberRepository;
+import back.repository.post.PostEmbeddingHashRepository;
 import back.repository.post.PostMemberTagRepository;
-import back.service.post.ai.chroma.ChromaCollectionHolder;
+import back.repository.post.projection.PostTagRow;
+import back.service.post.ai.chroma.ChromaPostMetadata;
 import back.service.post.ai.gemini.embedding.EmbeddingTextBuilder;
 import back.service.post.ai.gemini.embedding.GeminiEmbeddingClient;
+import back.service.post.ai.vector.PostVector;
+import back.service.post.ai.vector.PostVectorIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostVectorService {
 
-    private final WebClient chromaWebClient;
     private final GeminiEmbeddingClient geminiEmbeddingClient;
-    private final ChromaCollectionHolder chromaCollectionHolder;
     private final PostMemberTagRepository postMemberTagRepository;
-    private final ClubMemberRepository clubMemberRepository;
-    public void savePost(Posts post) {
-        List<String> memberNames =
-                postMemberTagRepository.findByPostId(post.getPostId())
-                        .stream()
-                        .map(tag -> clubMemberRepository
-                                .findNicknameByMemberId(tag.getMemberId()))
-                        .toList();
-
-
-        String embeddingText = EmbeddingTextBuilder.build(post,memberNames);
-        float[] embedding = geminiEmbeddingClient.embed(embeddingText);
-
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("postId", post.getPostId());
-        metadata.put("clubId", post.getClub().getClubId());
-        metadata.put("writerName", post.getWriter().getNickname());
-        metadata.put("writerId", post.getWriter().getUserId());
-        if (!memberNames.isEmpty()) {
-            metadata.put("memberNames", String.join(",", memberNames));
+    private final PostVectorIndex postVectorIndex;
+    private final PostEmbeddingHashRepository postEmbeddingHashRepository;
+
+    /**
+     * 게시글 여러 건을 임베딩 후 벡터 저장소에 한 번에 upsert 합니다.
+     * - 태그 멤버/닉네임은 1회 조회
+     * - 임베딩 입력 해시가 마지막 저장과 같은 게시글은 건너뜀 (이미지만 수정 등)
+     * - 임베딩은 batchEmbedContents, upsert는 다건 요청 1회
+     * (작성자는 함께 로딩된 게시글을 넘겨야 함)
+     *
+     * @return 실제로 임베딩/저장한 게시글 수
+     */
+    public int savePosts(List<Posts> posts) {
+        return save(posts, geminiEmbeddingClient::embedBatch, true);
+    }
+
+    /**
+     * 해시와 무관하게 전부 임베딩/저장 (백필: 벡터 저장소 재구성용)
+     *
+     * @param embedder 텍스트 목록 → 같은 순서의 임베딩 목록 (호출량 제한용)
+     */
+    public int savePosts(List<Posts> posts, Function<List<String>, List<float[]>> embedder) {
+        return save(posts, embedder, false);
+    }
+
+    private int save(List<Posts> posts, Function<List<String>, List<float[]>> embedder, boolean skipUnchanged) {
+        if (posts.isEmpty()) {
+            return 0;
         }
 
-        // place는 null 아닐 때만
-        if (post.getPlace() != null && !post.getPlace().isBlank()) {
-            metadata.put("place", post.getPlace());
+        List<Long> postIds = posts.stream().map(Posts::getPostId).toList();
+        Map<Long, List<PostTagRow>> tagsByPostId = postMemberTagRepository.findTagRowsByPostIdIn(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(PostTagRow::getPostId));
+        Map<Long, String> savedHashes = skipUnchanged
+                ? postEmbeddingHashRepository.findAllById(postIds).stream()
+                        .collect(Collectors.toMap(PostEmbeddingHash::getPostId, PostEmbeddingHash::getContentHash))
+                : Map.of();
+
+        List<Posts> targets = new ArrayList<>(posts.size());
+        List<String> texts = new ArrayList<>(posts.size());
+        List<String> hashes = new ArrayList<>(posts.size());
+        List<List<String>> memberNamesByPost = new ArrayList<>(posts.size());
+        List<List<Long>> memberIdsByPost = new ArrayList<>(posts.size());
+
+        for (Posts post : posts) {
+            List<PostTagRow> tags = tagsByPostId.getOrDefault(post.getPostId(), List.of());
+            List<String> memberNames = tags.stream()
+                    .map(PostTagRow::getNickname)
+                    .filter(Objects::nonNull)
+                    .toList();
+            List<Long> memberIds = tags.stream()
+                    .map(PostTagRow::getMemberId)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            String text = EmbeddingTextBuilder.build(post, memberNames);
+            String hash = contentHash(post, text, memberIds);
+            if (hash.equals(savedHashes.get(post.getPostId()))) {
+                continue;
+            }
+            targets.add(post);
+            texts.add(text);
+            hashes.add(hash);
+            memberNamesByPost.add(memberNames);
+            memberIdsByPost.add(memberIds);
+        }
+        if (targets.isEmpty()) {
+            return 0;
         }
 
-        // memberIds → 문자열로 변환해서 저장
-        List<String> memberIds =
-                postMemberTagRepository.findByPostId(post.getPostId())
-                        .stream()
-                        .map(tag -> String.valueOf(tag.getMemberId()))
-                        .toList();
+        List<float[]> embeddings = embedder.apply(texts);
 
-        if (!memberIds.isEmpty()) {
-            metadata.put("memberIds", String.join(",", memberIds));
+        List<PostVector> vectors = new ArrayList<>(targets.size());
+        List<PostEmbeddingHash> embeddedHashes = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Posts post = targets.get(i);
+            vectors.add(new PostVector(
+                    post.getPostId(),
+                    post.getClub().getClubId(),
+                    post.getCreatedAt() != null ? ChromaPostMetadata.epochSeconds(post.getCreatedAt()) : 0L,
+                    memberIdsByPost.get(i),
+                    memberNamesByPost.get(i),
+                    embeddings.get(i),
+                    post.getContent(),
+                    attributes(post)
+            ));
+            embeddedHashes.add(PostEmbeddingHash.of(post.getPostId(), hashes.get(i)));
         }
 
-        chromaWebClient.post()
-                .uri(
-                        "/tenants/default_tenant/databases/default_database/collections/{id}/upsert",
-                        chromaCollectionHolder.getCollectionId()
-                )
-                .bodyValue(Map.of(
-                        "ids", List.of("post-" + post.getPostId()),
-                        "embeddings", List.of(toList(embedding)),
-                        "documents", List.of(post.getContent()),
-                        "metadatas", List.of(metadata)
-                ))
-                .retrieve()
-                .bodyToMono(Void.class)
-                .block();
+        postVectorIndex.upsert(vectors);
+        postEmbeddingHashRepository.saveAll(embeddedHashes);
+        return targets.size();
     }
 
+    /**
+     * 삭제된 게시글의 벡터 제거
+     */
+    public void deletePosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        postVectorIndex.delete(postIds);
+        postEmbeddingHashRepository.deleteAllByIdInBatch(postIds);
+    }
+
+    /**
+     * 다음 저장 때 해시와 무관하게 다시 임베딩하도록 해시만 제거 (저장소에서 빠진 게시글 복구용)
+     */
+    public void forgetHashes(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        postEmbeddingHashRepository.deleteAllByIdInBatch(postIds);
+    }
 
+    /**
+     * 임베딩 모델 + 텍스트 + 벡터 메타데이터(모임, 작성자, 태그 멤버, 작성일)의 SHA-256
+     */
+    static String contentHash(Posts post, String text, List<Long> memberIds) {
+        String input = String.join("\n",
+                GeminiEmbeddingClient.MODEL,
+                text,
+                String.valueOf(post.getClub().getClubId()),
+                String.valueOf(post.getWriter().getUserId()),
+                String.valueOf(post.getCreatedAt()),
+                memberIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(",")));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
+    private Map<String, Object> attributes(Posts post) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("writerName", post.getWriter().getNickname());
+        attributes.put("writerId", post.getWriter().getUserId());
 
-    private List<Float> toList(float[] arr) {
-        List<Float> list = new ArrayList<>(arr.length);
-        for (float v : arr) list.add(v);
-        return list;
+        // place는 null 아닐 때만
+        if (post.getPlace() != null && !post.getPlace().isBlank()) {
+            attributes.put("place", post.getPlace());
+        }
+        return attributes;
     }
 }
@@ -0,0 +1,113 @@
+package back.service.post.ai;
+
+import back.service.post.ai.gemini.embedding.EmbeddingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * RAG 답변 캐시
+ * - 키: 모임 + 정규화한 질문 + 컨텍스트 게시글 지문(게시글 id/수정 시각, 검색 순서대로)
+ *   → 같은 질문이라도 검색된 게시글이 바뀌거나 수정되면 다른 키
+ * - 컨텍스트 게시글이 수정/블라인드/삭제되면 그 게시글을 포함한 답변 제거
+ * - 크기: 추정 바이트 기준 상한 + TTL (닉네임 변경 등 지문에 없는 변화는 TTL로 반영)
+ * - 지표: cache.gets{result=hit|miss}, cache.evictions 등 (cache=rag-answer)
+ */
+@Component
+public class RagAnswerCache {
+
+    private static final String CACHE_NAME = "rag-answer";
+
+    // 키/답변 String 헤더 + postId Set + 맵 엔트리 대략치
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    private static final int POST_ID_BYTES = 32;
+
+    private final Cache<String, CachedAnswer> cache;
+
+    record CachedAnswer(String answer, Set<Long> postIds) {}
+
+    @Autowired
+    public RagAnswerCache(
+            MeterRegistry meterRegistry,
+            @Value("${custom.post.rag.answer-cache.max-bytes:8388608}") long maxBytes,
+            @Value("${custom.post.rag.answer-cache.ttl:PT1H}") Duration ttl
+    ) {
+        this(meterRegistry, maxBytes, ttl, Ticker.systemTicker());
+    }
+
+    RagAnswerCache(MeterRegistry meterRegistry, long maxBytes, Duration ttl, Ticker ticker) {
+        Caffeine<String, CachedAnswer> builder = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(RagAnswerCache::weigh)
+                .ticker(ticker)
+                .recordStats();
+        // ttl 0이면 만료 없음 (크기 상한 + 무효화만 적용)
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            builder.expireAfterWrite(ttl);
+        }
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 답변을 반환하고, 없으면 generator로 생성해 저장합니다.
+     * 생성(수 초)은 캐시 잠금 밖에서 호출하므로 같은 질문이 동시에 들어오면 각각 생성될 수 있습니다.
+     */
+    public String get(Long clubId, String query, PostSearchService.RagPrompt rag, Supplier<String> generator) {
+        String cached = getIfPresent(clubId, query, rag);
+        if (cached != null) {
+            return cached;
+        }
+        String answer = generator.get();
+        put(clubId, query, rag, answer);
+        return answer;
+    }
+
+    public String getIfPresent(Long clubId, String query, PostSearchService.RagPrompt rag) {
+        CachedAnswer cached = cache.getIfPresent(key(clubId, query, rag.fingerprint()));
+        return cached != null ? cached.answer() : null;
+    }
+
+    /**
+     * 빈 답변은 저장하지 않음
+     */
+    public void put(Long clubId, String query, PostSearchService.RagPrompt rag, String answer) {
+        if (answer == null || answer.isBlank()) {
+            return;
+        }
+        cache.put(key(clubId, query, rag.fingerprint()), new CachedAnswer(answer, Set.copyOf(rag.postIds())));
+    }
+
+    /**
+     * 게시글이 컨텍스트에 포함된 답변 제거 (상한이 작아 전체 순회)
+     */
+    public void invalidatePost(Long postId) {
+        cache.asMap().values().removeIf(cached -> cached.postIds().contains(postId));
+    }
+
+    static String key(Long clubId, String query, String fingerprint) {
+        return clubId + "|" + EmbeddingCache.normalize(query) + "|" + fingerprint;
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static int weigh(String key, CachedAnswer cached) {
+        long bytes = ENTRY_OVERHEAD_BYTES
+                + 2L * key.length()
+                + 2L * cached.answer().length()
+                + (long) POST_ID_BYTES * cached.postIds().size();
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,118 @@
+package back.service.post.ai;
+
+import back.service.post.ai.gemini.GeminiChatClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RAG 답변 스트리밍 (SSE)
+ * - 검색/프롬프트 구성(블로킹)은 boundedElastic에서, 생성은 streamGenerateContent를 그대로 전달
+ * - 요청 스레드는 Flux만 반환하고 바로 반납
+ * - 이벤트: token(답변 조각) → done, 실패 시 error
+ * - 답변 캐시 적중 시 생성 없이 한 조각으로 전달, 끝까지 생성된 답변만 캐시에 저장
+ * - 첫 토큰까지 시간 / 전체 시간 기록
+ */
+@Slf4j
+@Service
+public class RagAnswerStreamService {
+
+    static final String EVENT_TOKEN = "token";
+    static final String EVENT_DONE = "done";
+    static final String EVENT_ERROR = "error";
+
+    private final PostSearchService postSearchService;
+    private final GeminiChatClient geminiChatClient;
+    private final RagAnswerCache ragAnswerCache;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler retrievalScheduler;
+    private final Timer firstTokenTimer;
+
+    public RagAnswerStreamService(PostSearchService postSearchService,
+                                  GeminiChatClient geminiChatClient,
+                                  RagAnswerCache ragAnswerCache,
+                                  MeterRegistry meterRegistry) {
+        this(postSearchService, geminiChatClient, ragAnswerCache, meterRegistry, Schedulers.boundedElastic());
+    }
+
+    RagAnswerStreamService(PostSearchService postSearchService,
+                           GeminiChatClient geminiChatClient,
+                           RagAnswerCache ragAnswerCache,
+                           MeterRegistry meterRegistry,
+                           Scheduler retrievalScheduler) {
+        this.postSearchService = postSearchService;
+        this.geminiChatClient = geminiChatClient;
+        this.ragAnswerCache = ragAnswerCache;
+        this.meterRegistry = meterRegistry;
+        this.retrievalScheduler = retrievalScheduler;
+        this.firstTokenTimer = Timer.builder("rag.answer.stream.first-token")
+                .description("요청부터 첫 답변 조각 전송까지 시간")
+                .register(meterRegistry);
+    }
+
+    public Flux<ServerSentEvent<String>> stream(Long clubId, String query, LocalDate from, LocalDate to) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean firstToken = new AtomicBoolean();
+            AtomicBoolean failed = new AtomicBoolean();
+
+            return Mono.fromCallable(() -> postSearchService.prepareRagPrompt(clubId, query, from, to))
+                    .subscribeOn(retrievalScheduler)
+                    .flatMapMany(rag -> tokens(clubId, query, rag))
+                    .map(token -> ServerSentEvent.builder(token).event(EVENT_TOKEN).build())
+                    .doOnNext(event -> {
+                        if (firstToken.compareAndSet(false, true)) {
+                            firstTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .concatWith(Mono.just(ServerSentEvent.builder("").event(EVENT_DONE).build()))
+                    .onErrorResume(e -> {
+                        failed.set(true);
+                        log.warn("RAG 답변 스트리밍 실패 clubId={}", clubId, e);
+                        return Mono.just(ServerSentEvent.builder("답변 생성 중 오류가 발생했습니다.")
+                                .event(EVENT_ERROR)
+                                .build());
+                    })
+                    .doFinally(signal -> Timer.builder("rag.answer.stream.duration")
+                            .description("요청부터 스트림 종료까지 시간")
+                            .tag("outcome", outcome(signal, failed.get()))
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    /**
+     * 캐시된 답변은 한 조각으로, 아니면 생성 스트림을 전달하고 끝까지 받으면 캐시에 저장
+     */
+    private Flux<String> tokens(Long clubId, String query, PostSearchService.RagPrompt rag) {
+        if (rag.isAnswered()) {
+            return Flux.just(rag.answer());
+        }
+        String cached = ragAnswerCache.getIfPresent(clubId, query, rag);
+        if (cached != null) {
+            return Flux.just(cached);
+        }
+        StringBuilder answer = new StringBuilder();
+        return geminiChatClient.stream(rag.prompt())
+                .doOnNext(answer::append)
+                .doOnComplete(() -> ragAnswerCache.put(clubId, query, rag, answer.toString()));
+    }
+
+    private static String outcome(SignalType signal, boolean failed) {
+        if (signal == SignalType.CANCEL) {
+            return "cancelled";
+        }
+        return failed ? "failed" : "completed";
+    }
+}
@@ -0,0 +1,266 @@
+package back.service.post.ai.backfill;
+
+import back.domain.post.PostEmbeddingBackfillJob;
+import back.domain.post.Posts;
+import back.repository.SchedulerLeaseRepository;
+import back.repository.post.PostEmbeddingBackfillJobRepository;
+import back.repository.post.PostRepository;
+import back.service.post.ai.PostEmbeddingOutboxService;
+import back.service.post.ai.PostVectorService;
+import back.service.post.ai.gemini.embedding.GeminiEmbeddingClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 임베딩 백필 실행
+ * - RUNNING 작업이 있으면 lease를 가진 서버 1대가 전용 스레드에서 처리 (스케줄러 스레드는 막지 않음)
+ * - postId keyset 순서로 pageSize건씩 읽기 → 임베딩 (요청당 MAX_BATCH_SIZE건, 분당 texts-per-minute 이하) → 벡터 저장소 upsert 1회 → 체크포인트
+ * - 매 페이지 전에 상태를 다시 읽어 일시정지/취소를 반영, 재개는 체크포인트 다음 id부터
+ * - 페이지를 읽은 뒤 수정된 게시글은 outbox에 다시 넣어 옛 내용으로 덮어쓴 벡터를 바로잡음
+ * - 같은 페이지가 연속 MAX_CONSECUTIVE_FAILURES회 실패하면 FAILED (관리자가 다시 시작하면 체크포인트부터 재개)
+ */
+@Slf4j
+@Component
+public class PostEmbeddingBackfillRunner {
+
+    static final String LEASE_KEY = "post-embedding-backfill";
+    static final int MAX_CONSECUTIVE_FAILURES = 5;
+    private static final int MIN_LEASE_SECONDS = 120;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final PostEmbeddingBackfillJobRepository jobRepository;
+    private final PostRepository postRepository;
+    private final PostVectorService postVectorService;
+    private final GeminiEmbeddingClient geminiEmbeddingClient;
+    private final PostEmbeddingOutboxService postEmbeddingOutboxService;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final int pageSize;
+    private final int leaseSeconds;
+    private final RatePacer pacer;
+
+    private final Counter postsCounter;
+    private final Counter failuresCounter;
+    private final Timer pageTimer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-embedding-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PostEmbeddingBackfillRunner(
+            PostEmbeddingBackfillJobRepository jobRepository,
+            PostRepository postRepository,
+            PostVectorService postVectorService,
+            GeminiEmbeddingClient geminiEmbeddingClient,
+            PostEmbeddingOutboxService postEmbeddingOutboxService,
+            SchedulerLeaseRepository schedulerLeaseRepository,
+            MeterRegistry meterRegistry,
+            @Value("${custom.post.embedding.backfill.upsert-batch-size:500}") int pageSize,
+            @Value("${custom.post.embedding.backfill.texts-per-minute:1500}") int textsPerMinute
+    ) {
+        this(jobRepository, postRepository, postVectorService, geminiEmbeddingClient, postEmbeddingOutboxService,
+                schedulerLeaseRepository, meterRegistry, pageSize, textsPerMinute, new RatePacer(textsPerMinute));
+    }
+
+    PostEmbeddingBackfillRunner(PostEmbeddingBackfillJobRepository jobRepository,
+                                PostRepository postRepository,
+                                PostVectorService postVectorService,
+                                GeminiEmbeddingClient geminiEmbeddingClient,
+                                PostEmbeddingOutboxService postEmbeddingOutboxService,
+                                SchedulerLeaseRepository schedulerLeaseRepository,
+                                MeterRegistry meterRegistry,
+                                int pageSize,
+                                int textsPerMinute,
+                                RatePacer pacer) {
+        this.jobRepository = jobRepository;
+        this.postRepository = postRepository;
+        this.postVectorService = postVectorService;
+        this.geminiEmbeddingClient = geminiEmbeddingClient;
+        this.postEmbeddingOutboxService = postEmbeddingOutboxService;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.pageSize = Math.max(pageSize, 1);
+        // 페이지 1건 예상 소요(호출량 제한 기준)의 3배, 최소 2분
+        long pageSeconds = textsPerMinute > 0 ? (long) this.pageSize * 60 / textsPerMinute : 0;
+        this.leaseSeconds = (int) Math.max(MIN_LEASE_SECONDS, pageSeconds * 3);
+        this.pacer = pacer;
+        this.postsCounter = Counter.builder("post.embedding.backfill.posts")
+                .description("백필로 임베딩/저장한 게시글 수")
+                .register(meterRegistry);
+        this.failuresCounter = Counter.builder("post.embedding.backfill.failures")
+                .description("백필 페이지 처리 실패 횟수")
+                .register(meterRegistry);
+        this.pageTimer = Timer.builder("post.embedding.backfill.page")
+                .description("백필 페이지 1건 임베딩 + upsert 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 5_000)
+    public void poll() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runActiveJob();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void runActiveJob() {
+        Optional<PostEmbeddingBackfillJob> job;
+        try {
+            job = jobRepository.findTopByStatusInOrderByJobIdDesc(List.of(PostEmbeddingBackfillJob.Status.RUNNING));
+            if (job.isEmpty()) {
+                return;
+            }
+            schedulerLeaseRepository.insertIfAbsent(LEASE_KEY);
+            if (schedulerLeaseRepository.tryAcquire(LEASE_KEY, nodeId, leaseSeconds) == 0) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("임베딩 백필 lease 획득 실패", e);
+            return;
+        }
+
+        try {
+            run(job.get());
+        } finally {
+            schedulerLeaseRepository.release(LEASE_KEY, nodeId);
+        }
+    }
+
+    void run(PostEmbeddingBackfillJob job) {
+        Long jobId = job.getJobId();
+        long lastPostId = job.getLastPostId();
+        int failures = 0;
+        log.info("임베딩 백필 시작/재개 jobId={}, lastPostId={}, maxPostId={}", jobId, lastPostId, job.getMaxPostId());
+
+        while (!Thread.currentThread().isInterrupted()) {
+            String status = jobRepository.findStatus(jobId).orElse(null);
+            if (!PostEmbeddingBackfillJob.Status.RUNNING.name().equals(status)) {
+                log.info("임베딩 백필 중단 jobId={}, status={}, lastPostId={}", jobId, status, lastPostId);
+                return;
+            }
+            if (schedulerLeaseRepository.tryAcquire(LEASE_KEY, nodeId, leaseSeconds) == 0) {
+                log.warn("임베딩 백필 lease를 잃어 중단 jobId={}", jobId);
+                return;
+            }
+
+            LocalDateTime readAt = LocalDateTime.now();
+            List<Posts> page = postRepository.findBackfillPage(lastPostId, job.getMaxPostId(),
+                    PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                jobRepository.transition(jobId, PostEmbeddingBackfillJob.Status.RUNNING.name(),
+                        PostEmbeddingBackfillJob.Status.COMPLETED.name());
+                log.info("임베딩 백필 완료 jobId={}", jobId);
+                return;
+            }
+
+            try {
+                processPage(page, readAt);
+                lastPostId = page.get(page.size() - 1).getPostId();
+                jobRepository.checkpoint(jobId, lastPostId, page.size());
+                failures = 0;
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                failures++;
+                failuresCounter.increment();
+                log.warn("임베딩 백필 페이지 실패 jobId={}, afterPostId={}, {}회 연속: {}",
+                        jobId, lastPostId, failures, e.getMessage());
+                jobRepository.recordFailure(jobId, truncate(e.getMessage()));
+                if (failures >= MAX_CONSECUTIVE_FAILURES) {
+                    jobRepository.transition(jobId, PostEmbeddingBackfillJob.Status.RUNNING.name(),
+                            PostEmbeddingBackfillJob.Status.FAILED.name());
+                    return;
+                }
+                try {
+                    pacer.sleep(backoff(failures));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void processPage(List<Posts> page, LocalDateTime readAt) {
+        long start = System.nanoTime();
+        postVectorService.savePosts(page, this::embedPaced);
+
+        List<Long> postIds = page.stream().map(Posts::getPostId).toList();
+        postRepository.findPostIdsUpdatedSince(postIds, readAt).forEach(postEmbeddingOutboxService::enqueue);
+
+        pageTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        postsCounter.increment(page.size());
+    }
+
+    /**
+     * batchEmbedContents 요청 단위로 나눠 호출량 제한 안에서 임베딩
+     */
+    List<float[]> embedPaced(List<String> texts) {
+        List<float[]> result = new ArrayList<>(texts.size());
+        for (int from = 0; from < texts.size(); from += GeminiEmbeddingClient.MAX_BATCH_SIZE) {
+            List<String> chunk = texts.subList(from, Math.min(from + GeminiEmbeddingClient.MAX_BATCH_SIZE, texts.size()));
+            try {
+                pacer.acquire(chunk.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("임베딩 백필 중단", e);
+            }
+            result.addAll(geminiEmbeddingClient.embedBatch(chunk));
+        }
+        return result;
+    }
+
+    int leaseSeconds() {
+        return leaseSeconds;
+    }
+
+    static Duration backoff(int failures) {
+        // 10초, 20초, 40초 ... 최대 5분
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(Math.max(failures - 1, 0), 10));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String truncate(String error) {
+        return error == null ? null : error.substring(0, Math.min(error.length(), 500));
+    }
+}
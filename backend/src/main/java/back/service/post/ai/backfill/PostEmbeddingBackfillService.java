@@ -0,0 +1,91 @@
+package back.service.post.ai.backfill;
+
+import back.domain.post.PostEmbeddingBackfillJob;
+import back.dto.admin.AdminEmbeddingBackfillResponse;
+import back.exception.AdminException;
+import back.exception.response.ErrorCode;
+import back.repository.post.PostEmbeddingBackfillJobRepository;
+import back.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 임베딩 백필 작업 관리 (관리자 API)
+ * - 시작: 진행 중(RUNNING/PAUSED)이거나 실패한 작업이 있으면 체크포인트부터 재개, restart면 취소 후 새로 시작
+ * - 일시정지: 상태만 바꾸고 실행 서버가 다음 페이지 전에 확인해 멈춤
+ * - 실제 처리는 PostEmbeddingBackfillRunner
+ */
+@Service
+@RequiredArgsConstructor
+public class PostEmbeddingBackfillService {
+
+    private static final List<PostEmbeddingBackfillJob.Status> ACTIVE =
+            List.of(PostEmbeddingBackfillJob.Status.RUNNING, PostEmbeddingBackfillJob.Status.PAUSED);
+
+    private final PostEmbeddingBackfillJobRepository jobRepository;
+    private final PostRepository postRepository;
+
+    @Transactional
+    public AdminEmbeddingBackfillResponse start(boolean restart) {
+        Optional<PostEmbeddingBackfillJob> active = jobRepository.findTopByStatusInOrderByJobIdDesc(ACTIVE);
+        if (active.isPresent()) {
+            PostEmbeddingBackfillJob job = active.get();
+            if (!restart) {
+                transition(job, PostEmbeddingBackfillJob.Status.RUNNING);
+                return status(job.getJobId());
+            }
+            transition(job, PostEmbeddingBackfillJob.Status.CANCELLED);
+        } else if (!restart) {
+            Optional<PostEmbeddingBackfillJob> failed = jobRepository.findTopByOrderByJobIdDesc()
+                    .filter(job -> job.getStatus() == PostEmbeddingBackfillJob.Status.FAILED);
+            if (failed.isPresent()) {
+                transition(failed.get(), PostEmbeddingBackfillJob.Status.RUNNING);
+                return status(failed.get().getJobId());
+            }
+        }
+
+        // 시작 시점 최대 id까지만 (이후 작성/수정된 글은 outbox 워커가 처리)
+        long maxPostId = postRepository.findMaxPostId();
+        long totalPosts = postRepository.countBackfillTargets(maxPostId);
+        PostEmbeddingBackfillJob job = jobRepository.save(PostEmbeddingBackfillJob.start(maxPostId, totalPosts));
+        return AdminEmbeddingBackfillResponse.from(job);
+    }
+
+    @Transactional
+    public AdminEmbeddingBackfillResponse pause() {
+        PostEmbeddingBackfillJob job = jobRepository
+                .findTopByStatusInOrderByJobIdDesc(List.of(PostEmbeddingBackfillJob.Status.RUNNING))
+                .orElseThrow(() -> new AdminException(ErrorCode.POST_EMBEDDING_BACKFILL_NOT_RUNNING));
+        if (!transition(job, PostEmbeddingBackfillJob.Status.PAUSED)) {
+            throw new AdminException(ErrorCode.POST_EMBEDDING_BACKFILL_NOT_RUNNING);
+        }
+        return status(job.getJobId());
+    }
+
+    /**
+     * 가장 최근 작업의 진행 상황
+     */
+    @Transactional(readOnly = true)
+    public AdminEmbeddingBackfillResponse status() {
+        return jobRepository.findTopByOrderByJobIdDesc()
+                .map(AdminEmbeddingBackfillResponse::from)
+                .orElseThrow(() -> new AdminException(ErrorCode.RESOURCE_NOT_FOUND, "임베딩 백필 작업이 없습니다"));
+    }
+
+    private AdminEmbeddingBackfillResponse status(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(AdminEmbeddingBackfillResponse::from)
+                .orElseThrow(() -> new AdminException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    private boolean transition(PostEmbeddingBackfillJob job, PostEmbeddingBackfillJob.Status to) {
+        if (job.getStatus() == to) {
+            return true;
+        }
+        return jobRepository.transition(job.getJobId(), job.getStatus().name(), to.name()) == 1;
+    }
+}
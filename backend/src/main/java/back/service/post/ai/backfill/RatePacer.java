@@ -0,0 +1,59 @@
+package back.service.post.ai.backfill;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 분당 허용량 기준 호출 간격 조절 (임베딩 API 쿼터 보호)
+ * - n건 요청은 n × (1분 / permitsPerMinute) 만큼 다음 요청 시작을 미룸
+ * - 첫 요청과 오래 쉬었다 온 요청은 바로 통과 (쉰 시간을 쌓아두지 않음)
+ * - 스레드 1개(백필 실행 스레드)에서만 호출
+ */
+public class RatePacer {
+
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final long nanosPerPermit;
+    private final LongSupplier nanoTime;
+    private final Sleeper sleeper;
+
+    private long nextFreeNanos;
+    private boolean started;
+
+    public RatePacer(int permitsPerMinute) {
+        this(permitsPerMinute, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    RatePacer(int permitsPerMinute, LongSupplier nanoTime, Sleeper sleeper) {
+        this.nanosPerPermit = permitsPerMinute > 0 ? Duration.ofMinutes(1).toNanos() / permitsPerMinute : 0;
+        this.nanoTime = nanoTime;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * permits건을 보낼 차례가 될 때까지 대기
+     */
+    public void acquire(int permits) throws InterruptedException {
+        if (nanosPerPermit == 0 || permits <= 0) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        if (!started || nextFreeNanos - now < 0) {
+            started = true;
+            nextFreeNanos = now;
+        }
+        long waitNanos = nextFreeNanos - now;
+        nextFreeNanos += permits * nanosPerPermit;
+        if (waitNanos > 0) {
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    public void sleep(Duration duration) throws InterruptedException {
+        sleeper.sleep(duration.toNanos());
+    }
+}
@@ -2,6 +2,8 @@ package back.service.post.ai.chroma;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -9,28 +11,42 @@ import org.springframework.web.reactive.function.client.WebClient;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * posts 컬렉션 id
+ * - 기동 시 Chroma가 없으면 건너뛰고, 첫 사용 시 다시 확인
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.post.vector.backend", havingValue = "chroma", matchIfMissing = true)
 public class ChromaCollectionHolder {
 
     private final WebClient chromaWebClient;
-    private String collectionId;
+    private volatile String collectionId;
 
     @PostConstruct
     public void init() {
         try {
             ensureCollection();
         } catch (Exception e) {
-            System.out.println("Chroma init skipped "+ e);
+            log.warn("Chroma 컬렉션 확인 실패, 첫 요청 시 재시도: {}", e.toString());
         }
     }
 
-
     public String getCollectionId() {
+        String id = collectionId;
+        if (id != null) {
+            return id;
+        }
+        try {
+            ensureCollection();
+        } catch (Exception e) {
+            throw new IllegalStateException("Chroma posts 컬렉션을 확인할 수 없습니다", e);
+        }
         return collectionId;
     }
 
-    private void ensureCollection() {
+    private synchronized void ensureCollection() {
         if (collectionId != null) {
             return;
         }
@@ -43,7 +59,7 @@ public class ChromaCollectionHolder {
                                                         List<Map<String, Object>>>() {})
                         .block();
 
-        for (Map<String, Object> c : collections) {
+        for (Map<String, Object> c : collections != null ? collections : List.<Map<String, Object>>of()) {
             if ("posts".equals(c.get("name"))) {
                 this.collectionId = (String) c.get("id");
                 return;
@@ -0,0 +1,14 @@
+package back.service.post.ai.chroma;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chroma /get 응답
+ * - metadatas는 include에 "metadatas"를 넣었을 때만 채워짐 (ids와 같은 순서)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChromaGetResponse(List<String> ids, List<Map<String, Object>> metadatas) {
+}
@@ -0,0 +1,37 @@
+package back.service.post.ai.chroma;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * posts 컬렉션 메타데이터 (검색 시 읽는 항목만)
+ * - 키 이름은 저장(PostVectorService)과 where 필터(PostSearchService)에서 함께 사용
+ * - Chroma 메타데이터 값은 배열을 지원하지 않아 태그 멤버는 멤버마다 bool 키(m_{memberId})로 저장
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChromaPostMetadata(
+        Long postId,
+        Long clubId,
+        String memberNames,
+        Long createdAt       // epoch seconds
+) {
+    public static final String POST_ID = "postId";
+    public static final String CLUB_ID = "clubId";
+    public static final String MEMBER_NAMES = "memberNames";
+    public static final String CREATED_AT = "createdAt";
+    private static final String MEMBER_PREFIX = "m_";
+
+    public static String memberKey(Long memberId) {
+        return MEMBER_PREFIX + memberId;
+    }
+
+    public static boolean isMemberKey(String key) {
+        return key.startsWith(MEMBER_PREFIX);
+    }
+
+    public static long epochSeconds(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
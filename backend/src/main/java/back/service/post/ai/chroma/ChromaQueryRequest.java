@@ -0,0 +1,29 @@
+package back.service.post.ai.chroma;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chroma /query 요청
+ * where가 null이면 필터 없이 전체 컬렉션 검색
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChromaQueryRequest(
+        @JsonProperty("query_embeddings") List<List<Float>> queryEmbeddings,
+        @JsonProperty("n_results") int nResults,
+        Map<String, Object> where,
+        List<String> include
+) {
+    // 검색에는 문서 본문/임베딩이 필요 없음 (게시글은 DB에서 조회)
+    public static final List<String> METADATAS_AND_DISTANCES = List.of("metadatas", "distances");
+
+    public static ChromaQueryRequest of(float[] embedding, int nResults, Map<String, Object> where) {
+        List<Float> vector = new ArrayList<>(embedding.length);
+        for (float v : embedding) vector.add(v);
+        return new ChromaQueryRequest(List.of(vector), nResults, where, METADATAS_AND_DISTANCES);
+    }
+}
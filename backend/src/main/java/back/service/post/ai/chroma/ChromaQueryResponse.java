@@ -0,0 +1,43 @@
+package back.service.post.ai.chroma;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chroma /query 응답 (질의 임베딩 1개 기준)
+ * 결과 배열은 [질의][순위] 2차원
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChromaQueryResponse(
+        List<List<String>> ids,
+        List<List<Double>> distances,
+        List<List<ChromaPostMetadata>> metadatas
+) {
+
+    public record Match(String id, double distance, ChromaPostMetadata metadata) {
+    }
+
+    /**
+     * 첫 번째 질의의 결과 (메타데이터가 없는 항목은 제외)
+     */
+    public List<Match> firstQueryMatches() {
+        if (ids == null || ids.isEmpty() || distances == null || metadatas == null) {
+            return List.of();
+        }
+        List<String> firstIds = ids.get(0);
+        List<Double> firstDistances = distances.get(0);
+        List<ChromaPostMetadata> firstMetadatas = metadatas.get(0);
+
+        List<Match> matches = new ArrayList<>(firstIds.size());
+        for (int i = 0; i < firstIds.size(); i++) {
+            ChromaPostMetadata metadata = firstMetadatas.get(i);
+            if (metadata == null || metadata.postId() == null) {
+                continue;
+            }
+            matches.add(new Match(firstIds.get(i), firstDistances.get(i), metadata));
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,47 @@
+package back.service.post.ai.chroma;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chroma where 필터 조립
+ * 조건이 2개 이상이면 $and/$or로 묶어야 함 (한 객체에 키 여러 개 불가)
+ */
+public final class ChromaWhere {
+
+    private ChromaWhere() {
+    }
+
+    public static Map<String, Object> eq(String key, Object value) {
+        return Map.of(key, Map.of("$eq", value));
+    }
+
+    public static Map<String, Object> gte(String key, Object value) {
+        return Map.of(key, Map.of("$gte", value));
+    }
+
+    public static Map<String, Object> lt(String key, Object value) {
+        return Map.of(key, Map.of("$lt", value));
+    }
+
+    /**
+     * @return 조건이 없으면 null (필터 없음)
+     */
+    public static Map<String, Object> and(List<Map<String, Object>> conditions) {
+        return combine("$and", conditions);
+    }
+
+    public static Map<String, Object> or(List<Map<String, Object>> conditions) {
+        return combine("$or", conditions);
+    }
+
+    private static Map<String, Object> combine(String operator, List<Map<String, Object>> conditions) {
+        if (conditions.isEmpty()) {
+            return null;
+        }
+        if (conditions.size() == 1) {
+            return conditions.get(0);
+        }
+        return Map.of(operator, List.copyOf(conditions));
+    }
+}
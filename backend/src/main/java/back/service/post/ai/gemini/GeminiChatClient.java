@@ -3,8 +3,12 @@ package back.service.post.ai.gemini;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
@@ -13,6 +17,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GeminiChatClient {
 
+    private static final ParameterizedTypeReference<ServerSentEvent<GeminiGenerateResponse>> CHUNK_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final @Qualifier("geminiWebClient") WebClient geminiWebClient;
 
     @Value("${spring.ai.google.gemini.model.chat}")
@@ -23,45 +30,55 @@ public class GeminiChatClient {
 
     public String generate(String prompt) {
 
-        Map<String, Object> body = Map.of(
-                "contents", List.of(
-                        Map.of(
-                                "role", "user",
-                                "parts", List.of(
-                                        Map.of("text", prompt)
-                                )
-                        )
-                )
-        );
-
-        Map<String, Object> response =
+        GeminiGenerateResponse response =
                 geminiWebClient.post()
                         .uri(uriBuilder -> uriBuilder
                                 .path("/v1beta/" + chatModel + ":generateContent")
                                 .queryParam("key", apiKey)
                                 .build()
                         )
-                        .bodyValue(body)
+                        .bodyValue(requestBody(prompt))
                         .retrieve()
-                        .bodyToMono(Map.class)
+                        .bodyToMono(GeminiGenerateResponse.class)
                         .block();
 
-        // ===== 응답 파싱 =====
-        List<Map<String, Object>> candidates =
-                (List<Map<String, Object>>) response.get("candidates");
-
-        if (candidates == null || candidates.isEmpty()) {
+        if (response == null || !response.hasCandidates()) {
             throw new IllegalStateException("Gemini returned no candidates");
         }
-
-        Map<String, Object> content =
-                (Map<String, Object>) candidates.get(0).get("content");
-
-        List<Map<String, String>> parts =
-                (List<Map<String, String>>) content.get("parts");
-
-        return parts.get(0).get("text");
+        return response.text();
     }
 
+    /**
+     * streamGenerateContent (alt=sse) 응답을 토큰 청크 단위로 전달
+     * - 블로킹 없이 구독자에게 바로 흘려보냄
+     */
+    public Flux<String> stream(String prompt) {
+        return geminiWebClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v1beta/" + chatModel + ":streamGenerateContent")
+                        .queryParam("alt", "sse")
+                        .queryParam("key", apiKey)
+                        .build()
+                )
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody(prompt))
+                .retrieve()
+                .bodyToFlux(CHUNK_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .map(GeminiGenerateResponse::text)
+                .filter(text -> !text.isEmpty());
+    }
 
+    private static Map<String, Object> requestBody(String prompt) {
+        return Map.of(
+                "contents", List.of(
+                        Map.of(
+                                "role", "user",
+                                "parts", List.of(
+                                        Map.of("text", prompt)
+                                )
+                        )
+                )
+        );
+    }
 }
@@ -0,0 +1,47 @@
+package back.service.post.ai.gemini;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * generateContent 응답 / streamGenerateContent 청크 (필요한 필드만)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeminiGenerateResponse(List<Candidate> candidates) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Candidate(Content content, String finishReason) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Content(List<Part> parts) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Part(String text) {
+    }
+
+    public boolean hasCandidates() {
+        return candidates != null && !candidates.isEmpty();
+    }
+
+    /**
+     * 첫 후보의 텍스트 (part가 여러 개면 이어 붙임, 없으면 빈 문자열)
+     */
+    public String text() {
+        if (!hasCandidates()) {
+            return "";
+        }
+        Content content = candidates.get(0).content();
+        if (content == null || content.parts() == null) {
+            return "";
+        }
+        return content.parts().stream()
+                .map(Part::text)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining());
+    }
+}
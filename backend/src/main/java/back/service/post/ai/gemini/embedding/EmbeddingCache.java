@@ -1,31 +1,118 @@
 package back.service.post.ai.gemini.embedding;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
+/**
+ * 검색 질의 임베딩 캐시
+ * - 키: 정규화한 질의 (NFC, 공백 정리, 소문자) → "  맛집"과 "맛집"이 같은 항목
+ * - 크기: 항목 수가 아니라 추정 바이트 기준 상한 (W-TinyLFU 교체)
+ * - 같은 질의가 동시에 들어와도 임베딩 호출은 1회 (나머지는 결과 대기)
+ *   임베딩 호출은 캐시 잠금(compute) 밖, 처음 요청한 스레드에서 실행 → 다른 질의는 막지 않음
+ * - 지표: cache.gets{result=hit|miss}, cache.evictions 등 (cache=embedding)
+ */
 @Component
 public class EmbeddingCache {
 
-    private static final int MAX_SIZE = 500;
+    private static final String CACHE_NAME = "embedding";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
-    private final Map<String, float[]> cache =
-            Collections.synchronizedMap(
-                    new LinkedHashMap<>(16, 0.75f, true) {
-                        @Override
-                        protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
-                            return size() > MAX_SIZE;
-                        }
-                    }
-            );
+    // float[] / String 객체 헤더 + 맵 엔트리 대략치
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
 
-    public float[] get(String query) {
-        return cache.get(query);
+    private final AsyncCache<String, float[]> cache;
+
+    @Autowired
+    public EmbeddingCache(
+            MeterRegistry meterRegistry,
+            @Value("${custom.post.embedding.cache.max-bytes:33554432}") long maxBytes,
+            @Value("${custom.post.embedding.cache.ttl:PT6H}") Duration ttl
+    ) {
+        this(meterRegistry, maxBytes, ttl, Ticker.systemTicker());
+    }
+
+    EmbeddingCache(MeterRegistry meterRegistry, long maxBytes, Duration ttl, Ticker ticker) {
+        Caffeine<String, float[]> builder = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(EmbeddingCache::weigh)
+                .ticker(ticker)
+                .recordStats();
+        // ttl 0이면 만료 없음 (크기 상한만 적용)
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            builder.expireAfterWrite(ttl);
+        }
+        this.cache = builder.buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 임베딩을 반환하고, 없으면 loader로 만들어 저장합니다.
+     * loader에는 정규화한 질의가 전달되며, 실패하면 캐시하지 않고 예외를 그대로 던집니다.
+     */
+    public float[] get(String query, Function<String, float[]> loader) {
+        String key = normalize(query);
+        CompletableFuture<float[]> created = new CompletableFuture<>();
+        // 없으면 빈 future만 등록하고 바로 반환 (실패한 future는 캐시가 알아서 제거)
+        CompletableFuture<float[]> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return join(future);
+    }
+
+    /**
+     * 완료된 임베딩만 반환 (로딩 중이면 기다리지 않고 null)
+     */
+    public float[] getIfPresent(String query) {
+        CompletableFuture<float[]> future = cache.getIfPresent(normalize(query));
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    long estimatedSize() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().estimatedSize();
+    }
+
+    private static float[] join(CompletableFuture<float[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    public void put(String query, float[] embedding) {
-        cache.put(query, embedding);
+    private static int weigh(String key, float[] embedding) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * key.length() + 4L * embedding.length;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
     }
 }
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -12,6 +13,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GeminiEmbeddingClient {
 
+    // batchEmbedContents 요청당 최대 개수
+    public static final int MAX_BATCH_SIZE = 100;
+    // 바뀌면 저장된 임베딩 해시가 모두 달라져 다시 임베딩됨
+    public static final String MODEL = "models/text-embedding-004";
+
     @Value("${spring.ai.google.gemini.api-key}")
     private String apiKey;
 
@@ -22,7 +28,7 @@ public class GeminiEmbeddingClient {
     public float[] embed(String text) {
 
         Map<String, Object> body = Map.of(
-                "model", "models/text-embedding-004",
+                "model", MODEL,
                 "content", Map.of(
                         "parts", List.of(Map.of("text", text))
                 )
@@ -31,7 +37,7 @@ public class GeminiEmbeddingClient {
         Map<String, Object> response =
                 webClient.post()
                         .uri(uriBuilder -> uriBuilder
-                                .path("/models/text-embedding-004:embedContent")
+                                .path("/" + MODEL + ":embedContent")
                                 .queryParam("key", apiKey)
                                 .build())
                         .bodyValue(body)
@@ -42,9 +48,48 @@ public class GeminiEmbeddingClient {
         Map<String, Object> embedding =
                 (Map<String, Object>) response.get("embedding");
 
-        List<Double> values =
-                (List<Double>) embedding.get("values");
+        return toFloatArray((List<Double>) embedding.get("values"));
+    }
+
+    /**
+     * 여러 텍스트를 batchEmbedContents로 임베딩합니다.
+     * 요청당 최대 MAX_BATCH_SIZE개, 결과는 입력 순서와 동일
+     */
+    public List<float[]> embedBatch(List<String> texts) {
+        List<float[]> result = new ArrayList<>(texts.size());
+        for (int from = 0; from < texts.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = texts.subList(from, Math.min(from + MAX_BATCH_SIZE, texts.size()));
+
+            List<Map<String, Object>> requests = chunk.stream()
+                    .map(text -> Map.<String, Object>of(
+                            "model", MODEL,
+                            "content", Map.of("parts", List.of(Map.of("text", text)))))
+                    .toList();
+
+            Map<String, Object> response =
+                    webClient.post()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/" + MODEL + ":batchEmbedContents")
+                                    .queryParam("key", apiKey)
+                                    .build())
+                            .bodyValue(Map.of("requests", requests))
+                            .retrieve()
+                            .bodyToMono(Map.class)
+                            .block();
+
+            List<Map<String, Object>> embeddings =
+                    (List<Map<String, Object>>) response.get("embeddings");
+            if (embeddings == null || embeddings.size() != chunk.size()) {
+                throw new IllegalStateException("임베딩 결과 개수가 요청과 다릅니다");
+            }
+            for (Map<String, Object> embedding : embeddings) {
+                result.add(toFloatArray((List<Double>) embedding.get("values")));
+            }
+        }
+        return result;
+    }
 
+    private float[] toFloatArray(List<Double> values) {
         float[] result = new float[values.size()];
         for (int i = 0; i < values.size(); i++) {
             result[i] = values.get(i).floatValue();
@@ -0,0 +1,201 @@
+package back.service.post.ai.lexical;
+
+import back.repository.post.projection.LexicalPostRow;
+import back.repository.post.projection.PostTagRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 모임 1개의 게시글 역색인 (제목 + 내용 + 장소)
+ * - 점수: BM25 (k1=1.2, b=0.75)
+ * - 작성일/태그 멤버 조건은 후보 게시글마다 확인
+ * - 검색은 읽기 잠금, 게시글 반영/제거는 쓰기 잠금
+ * - 캐시 크기 계산용 추정 바이트는 게시글/포스팅 수 기준 대략치
+ */
+final class ClubLexicalIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Doc 레코드 + 태그/토큰 맵 헤더, 포스팅 1건(HashMap 엔트리 + 박싱) 대략치
+    private static final int DOC_OVERHEAD_BYTES = 256;
+    private static final int POSTING_BYTES = 96;
+
+    record Doc(
+            Long postId,
+            LocalDateTime createdAt,
+            Set<Long> memberIds,
+            List<String> memberNames,
+            Map<String, Integer> termFreqs,
+            int length
+    ) {
+        static Doc of(LexicalPostRow row, List<PostTagRow> tags) {
+            List<String> tokens = new ArrayList<>();
+            tokens.addAll(NgramTokenizer.tokenize(row.getTitle()));
+            tokens.addAll(NgramTokenizer.tokenize(row.getContent()));
+            tokens.addAll(NgramTokenizer.tokenize(row.getPlace()));
+
+            Map<String, Integer> termFreqs = new HashMap<>();
+            tokens.forEach(token -> termFreqs.merge(token, 1, Integer::sum));
+
+            return new Doc(
+                    row.getPostId(),
+                    row.getCreatedAt(),
+                    tags.stream().map(PostTagRow::getMemberId).filter(Objects::nonNull).collect(Collectors.toSet()),
+                    tags.stream().map(PostTagRow::getNickname).filter(Objects::nonNull).toList(),
+                    termFreqs,
+                    tokens.size());
+        }
+    }
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private long totalLength;
+    private long postingCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void upsert(Doc doc) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(doc.postId());
+            docs.put(doc.postId(), doc);
+            doc.termFreqs().forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.postId(), tf));
+            totalLength += doc.length();
+            postingCount += doc.termFreqs().size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 토큰 중 하나라도 포함한 게시글을 BM25 점수 높은 순으로 최대 topK건
+     *
+     * @param fromInclusive 작성일 하한 (null이면 조건 없음)
+     * @param toExclusive   작성일 상한 (null이면 조건 없음)
+     * @param memberIds     이 중 한 명이라도 태그된 게시글만 (비어 있으면 조건 없음)
+     */
+    List<LexicalMatch> search(List<String> queryTokens, int topK,
+                              LocalDateTime fromInclusive, LocalDateTime toExclusive,
+                              Collection<Long> memberIds) {
+        lock.readLock().lock();
+        try {
+            if (docs.isEmpty()) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / docs.size();
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String token : new LinkedHashSet<>(queryTokens)) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docs.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((postId, tf) -> {
+                    Doc doc = docs.get(postId);
+                    if (!matches(doc, fromInclusive, toExclusive, memberIds)) {
+                        return;
+                    }
+                    double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.length() / avgLength));
+                    scores.merge(postId, idf * norm, Double::sum);
+                });
+            }
+
+            // 점수 낮은 것부터 빠지는 topK 힙
+            PriorityQueue<Map.Entry<Long, Double>> top =
+                    new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > topK) {
+                    top.poll();
+                }
+            }
+            return top.stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                    .map(entry -> new LexicalMatch(entry.getKey(), entry.getValue(),
+                            docs.get(entry.getKey()).memberNames()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) docs.size() * DOC_OVERHEAD_BYTES + postingCount * POSTING_BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long postId) {
+        Doc previous = docs.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        previous.termFreqs().keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+        totalLength -= previous.length();
+        postingCount -= previous.termFreqs().size();
+    }
+
+    private static boolean matches(Doc doc, LocalDateTime fromInclusive, LocalDateTime toExclusive,
+                                   Collection<Long> memberIds) {
+        if (fromInclusive != null && (doc.createdAt() == null || doc.createdAt().isBefore(fromInclusive))) {
+            return false;
+        }
+        if (toExclusive != null && (doc.createdAt() == null || !doc.createdAt().isBefore(toExclusive))) {
+            return false;
+        }
+        if (memberIds.isEmpty()) {
+            return true;
+        }
+        for (Long memberId : memberIds) {
+            if (doc.memberIds().contains(memberId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package back.service.post.ai.lexical;
+
+import java.util.List;
+
+/**
+ * @param score BM25 점수 (클수록 관련)
+ */
+public record LexicalMatch(
+        Long postId,
+        double score,
+        List<String> memberNames
+) {
+}
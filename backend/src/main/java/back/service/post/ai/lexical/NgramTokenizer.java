@@ -0,0 +1,60 @@
+package back.service.post.ai.lexical;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 키워드 색인/질의 토크나이저
+ * - 글자/숫자 연속 구간 단위로 자름 (공백, 문장부호는 경계)
+ * - 한글이 섞인 구간은 2-gram ("홍대입구" → 홍대, 대입, 입구) → 조사/띄어쓰기 차이에 강함
+ * - 영문/숫자만인 구간은 통째로 ("Starbucks" → starbucks, "2025" → 2025)
+ * - 한 글자 구간은 그대로 1개
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        boolean hangul = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (start < 0) {
+                    start = i;
+                    hangul = false;
+                }
+                hangul |= isHangul(c);
+                continue;
+            }
+            if (start >= 0) {
+                emit(normalized, start, i, hangul, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int start, int end, boolean hangul, List<String> tokens) {
+        if (!hangul || end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
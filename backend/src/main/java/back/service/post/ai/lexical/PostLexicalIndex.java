@@ -0,0 +1,196 @@
+package back.service.post.ai.lexical;
+
+import back.repository.post.PostMemberTagRepository;
+import back.repository.post.PostRepository;
+import back.repository.post.projection.LexicalPostRow;
+import back.repository.post.projection.PostTagRow;
+import back.service.post.ai.PostSearchFilter;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 키워드 검색용 프로세스 내 역색인 (모임별)
+ * - 모임 첫 검색 시 삭제되지 않은 게시글 전체 + 태그를 DB에서 읽어 구성 (로더 스레드, 캐시 잠금 밖)
+ * - 게시글 작성/수정/블라인드/삭제 커밋 후 해당 게시글만 다시 읽어 반영
+ * - 다른 서버에서 일어난 변경은 max-age가 지난 뒤 검색 시 백그라운드로 다시 구성 (그동안 기존 색인으로 응답, 0이면 재구성 없음)
+ * - 크기: 추정 바이트 기준 상한 + expire-after-access 동안 검색 없는 모임은 제거
+ * - 지표: cache.gets, cache.evictions 등 (cache=post-lexical)
+ * - 벡터 저장소와 무관하게 동작 (벡터 검색 실패 시 키워드 결과만으로 답변)
+ */
+@Slf4j
+@Component
+public class PostLexicalIndex {
+
+    private static final String CACHE_NAME = "post-lexical";
+    private static final int TAG_LOAD_CHUNK = 1000;
+    private static final int LOADER_THREADS = 2;
+
+    private final PostRepository postRepository;
+    private final PostMemberTagRepository postMemberTagRepository;
+    private final Ticker ticker;
+    private final Executor loader;
+
+    private final AsyncLoadingCache<Long, ClubLexicalIndex> clubs;
+
+    @Autowired
+    public PostLexicalIndex(
+            PostRepository postRepository,
+            PostMemberTagRepository postMemberTagRepository,
+            MeterRegistry meterRegistry,
+            @Value("${custom.post.search.lexical.max-bytes:134217728}") long maxBytes,
+            @Value("${custom.post.search.lexical.max-age:PT10M}") Duration maxAge,
+            @Value("${custom.post.search.lexical.expire-after-access:PT1H}") Duration expireAfterAccess
+    ) {
+        this(postRepository, postMemberTagRepository, meterRegistry, maxBytes, maxAge, expireAfterAccess,
+                Ticker.systemTicker(), Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+                    Thread thread = new Thread(runnable, "post-lexical-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    PostLexicalIndex(PostRepository postRepository,
+                     PostMemberTagRepository postMemberTagRepository,
+                     MeterRegistry meterRegistry,
+                     long maxBytes,
+                     Duration maxAge,
+                     Duration expireAfterAccess,
+                     Ticker ticker,
+                     Executor loader) {
+        this.postRepository = postRepository;
+        this.postMemberTagRepository = postMemberTagRepository;
+        this.ticker = ticker;
+        this.loader = loader;
+
+        Caffeine<Long, ClubLexicalIndex> builder = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(PostLexicalIndex::weigh)
+                .ticker(ticker)
+                .executor(loader)
+                .recordStats();
+        if (positive(maxAge)) {
+            builder.refreshAfterWrite(maxAge);
+        }
+        if (positive(expireAfterAccess)) {
+            builder.expireAfterAccess(expireAfterAccess);
+        }
+        this.clubs = builder.buildAsync(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, clubs, CACHE_NAME);
+    }
+
+    /**
+     * filter 조건에 맞는 게시글 중 질의 토큰 점수 높은 순으로 최대 topK건
+     */
+    public List<LexicalMatch> search(String query, int topK, PostSearchFilter filter) {
+        List<String> tokens = NgramTokenizer.tokenize(query);
+        if (tokens.isEmpty() || topK <= 0) {
+            return List.of();
+        }
+        return get(filter.clubId()).search(
+                tokens,
+                topK,
+                filter.from() != null ? filter.from().atStartOfDay() : null,
+                filter.to() != null ? filter.to().plusDays(1).atStartOfDay() : null,
+                filter.memberIds());
+    }
+
+    /**
+     * 게시글 1건 다시 읽어 반영 (삭제/블라인드면 제거)
+     * - 아직 구성되지 않은 모임은 다음 검색 시 전체 구성되므로 무시
+     * - 구성/재구성 중인 색인에는 완료 후 반영 (재구성이 이 변경 전 데이터를 읽었어도 덮어쓰지 않음)
+     */
+    public void refresh(Long clubId, Long postId) {
+        CompletableFuture<ClubLexicalIndex> current = clubs.getIfPresent(clubId);
+        CompletableFuture<ClubLexicalIndex> reloading = clubs.synchronous().policy().refreshes().get(clubId);
+        if (current == null && reloading == null) {
+            return;
+        }
+
+        // DB 조회는 캐시 잠금 밖에서
+        Optional<ClubLexicalIndex.Doc> doc = postRepository.findLexicalRow(clubId, postId)
+                .map(row -> ClubLexicalIndex.Doc.of(row,
+                        postMemberTagRepository.findTagRowsByPostIdIn(List.of(postId))));
+
+        apply(current, postId, doc);
+        apply(reloading, postId, doc);
+    }
+
+    public void evict(Long clubId) {
+        clubs.synchronous().invalidate(clubId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loader instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    ClubLexicalIndex get(Long clubId) {
+        try {
+            return clubs.get(clubId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private ClubLexicalIndex load(Long clubId) {
+        long start = ticker.read();
+        List<LexicalPostRow> rows = postRepository.findLexicalRowsByClubId(clubId);
+
+        Map<Long, List<PostTagRow>> tagsByPostId = new HashMap<>();
+        for (int i = 0; i < rows.size(); i += TAG_LOAD_CHUNK) {
+            List<Long> postIds = rows.subList(i, Math.min(i + TAG_LOAD_CHUNK, rows.size())).stream()
+                    .map(LexicalPostRow::getPostId)
+                    .toList();
+            tagsByPostId.putAll(postMemberTagRepository.findTagRowsByPostIdIn(postIds).stream()
+                    .collect(Collectors.groupingBy(PostTagRow::getPostId)));
+        }
+
+        ClubLexicalIndex index = new ClubLexicalIndex();
+        for (LexicalPostRow row : rows) {
+            index.upsert(ClubLexicalIndex.Doc.of(row, tagsByPostId.getOrDefault(row.getPostId(), List.of())));
+        }
+        log.debug("키워드 색인 구성 clubId={}, posts={}, {}ms",
+                clubId, rows.size(), (ticker.read() - start) / 1_000_000);
+        return index;
+    }
+
+    private static void apply(CompletableFuture<ClubLexicalIndex> future, Long postId,
+                              Optional<ClubLexicalIndex.Doc> doc) {
+        if (future != null) {
+            future.thenAccept(index -> doc.ifPresentOrElse(index::upsert, () -> index.remove(postId)));
+        }
+    }
+
+    private static int weigh(Long clubId, ClubLexicalIndex index) {
+        return (int) Math.min(index.estimatedBytes(), Integer.MAX_VALUE);
+    }
+
+    private static boolean positive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+}
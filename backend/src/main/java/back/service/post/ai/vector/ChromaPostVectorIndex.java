@@ -0,0 +1,181 @@
+package back.service.post.ai.vector;
+
+import back.service.post.ai.PostSearchFilter;
+import back.service.post.ai.chroma.ChromaCollectionHolder;
+import back.service.post.ai.chroma.ChromaGetResponse;
+import back.service.post.ai.chroma.ChromaPostMetadata;
+import back.service.post.ai.chroma.ChromaQueryRequest;
+import back.service.post.ai.chroma.ChromaQueryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Chroma posts 컬렉션 (id: post-{postId})
+ * - upsert는 기존 메타데이터에 병합되므로, 태그에서 빠진 멤버 키(m_{memberId})는 저장된 값을 읽어 false로 덮어씀
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.post.vector.backend", havingValue = "chroma", matchIfMissing = true)
+public class ChromaPostVectorIndex implements PostVectorIndex {
+
+    private static final String DOCUMENT_ID_PREFIX = "post-";
+    private static final String COLLECTION_PATH =
+            "/tenants/default_tenant/databases/default_database/collections/{id}";
+
+    // postIds 조회 시 /get 1회당 id 개수
+    static final int GET_PAGE_SIZE = 1000;
+
+    private final WebClient chromaWebClient;
+    private final ChromaCollectionHolder chromaCollectionHolder;
+
+    @Override
+    public void upsert(List<PostVector> vectors) {
+        if (vectors.isEmpty()) {
+            return;
+        }
+        List<String> ids = vectors.stream().map(v -> documentId(v.postId())).toList();
+        Map<String, Set<String>> storedMemberKeys = storedMemberKeys(ids);
+        chromaWebClient.post()
+                .uri(COLLECTION_PATH + "/upsert", chromaCollectionHolder.getCollectionId())
+                .bodyValue(Map.of(
+                        "ids", ids,
+                        "embeddings", vectors.stream().map(v -> toList(v.embedding())).toList(),
+                        "documents", vectors.stream().map(v -> v.document() != null ? v.document() : "").toList(),
+                        "metadatas", vectors.stream()
+                                .map(v -> metadata(v, storedMemberKeys.getOrDefault(documentId(v.postId()), Set.of())))
+                                .toList()
+                ))
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block();
+    }
+
+    @Override
+    public void delete(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        chromaWebClient.post()
+                .uri(COLLECTION_PATH + "/delete", chromaCollectionHolder.getCollectionId())
+                .bodyValue(Map.of("ids", postIds.stream().map(ChromaPostVectorIndex::documentId).toList()))
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block();
+    }
+
+    @Override
+    public List<VectorMatch> search(float[] embedding, int topK, PostSearchFilter filter) {
+        ChromaQueryResponse response =
+                chromaWebClient.post()
+                        .uri(COLLECTION_PATH + "/query", chromaCollectionHolder.getCollectionId())
+                        .bodyValue(ChromaQueryRequest.of(embedding, topK, filter.toWhere()))
+                        .retrieve()
+                        .bodyToMono(ChromaQueryResponse.class)
+                        .block();
+
+        if (response == null) {
+            return List.of();
+        }
+        return response.firstQueryMatches().stream()
+                // where로 걸렀지만 재임베딩 전 메타데이터 대비
+                .filter(match -> filter.clubId().equals(match.metadata().clubId()))
+                .map(match -> new VectorMatch(
+                        match.metadata().postId(),
+                        match.distance(),
+                        splitNames(match.metadata().memberNames())))
+                .toList();
+    }
+
+    @Override
+    public Set<Long> postIds(Long clubId) {
+        Set<Long> postIds = new HashSet<>();
+        for (int offset = 0; ; offset += GET_PAGE_SIZE) {
+            ChromaGetResponse response =
+                    chromaWebClient.post()
+                            .uri(COLLECTION_PATH + "/get", chromaCollectionHolder.getCollectionId())
+                            .bodyValue(Map.of(
+                                    "where", Map.of(ChromaPostMetadata.CLUB_ID, clubId),
+                                    "include", List.of(),
+                                    "limit", GET_PAGE_SIZE,
+                                    "offset", offset))
+                            .retrieve()
+                            .bodyToMono(ChromaGetResponse.class)
+                            .block();
+
+            List<String> ids = response != null && response.ids() != null ? response.ids() : List.of();
+            ids.forEach(id -> postIds.add(Long.parseLong(id.substring(DOCUMENT_ID_PREFIX.length()))));
+            if (ids.size() < GET_PAGE_SIZE) {
+                return postIds;
+            }
+        }
+    }
+
+    /**
+     * 이미 저장된 문서의 멤버 키 (문서 id → m_{memberId} 키 목록, 새 문서는 없음)
+     */
+    private Map<String, Set<String>> storedMemberKeys(List<String> ids) {
+        ChromaGetResponse response =
+                chromaWebClient.post()
+                        .uri(COLLECTION_PATH + "/get", chromaCollectionHolder.getCollectionId())
+                        .bodyValue(Map.of("ids", ids, "include", List.of("metadatas")))
+                        .retrieve()
+                        .bodyToMono(ChromaGetResponse.class)
+                        .block();
+        if (response == null || response.ids() == null || response.metadatas() == null) {
+            return Map.of();
+        }
+
+        Map<String, Set<String>> memberKeys = new HashMap<>();
+        for (int i = 0; i < response.ids().size() && i < response.metadatas().size(); i++) {
+            Map<String, Object> stored = response.metadatas().get(i);
+            if (stored != null) {
+                memberKeys.put(response.ids().get(i), stored.keySet().stream()
+                        .filter(ChromaPostMetadata::isMemberKey)
+                        .collect(Collectors.toSet()));
+            }
+        }
+        return memberKeys;
+    }
+
+    private static String documentId(Long postId) {
+        return DOCUMENT_ID_PREFIX + postId;
+    }
+
+    private static Map<String, Object> metadata(PostVector vector, Set<String> storedMemberKeys) {
+        Map<String, Object> metadata = new HashMap<>(vector.attributes());
+        metadata.put(ChromaPostMetadata.POST_ID, vector.postId());
+        metadata.put(ChromaPostMetadata.CLUB_ID, vector.clubId());
+        metadata.put(ChromaPostMetadata.CREATED_AT, vector.createdAt());
+        // 태그가 모두 빠져도 이전 값이 남지 않도록 빈 문자열로 덮어씀
+        metadata.put(ChromaPostMetadata.MEMBER_NAMES, String.join(",", vector.memberNames()));
+        // memberIds → 문자열로 변환해서 저장, 멤버 필터용 bool 키 (m_{memberId})
+        metadata.put("memberIds", vector.memberIds().stream().map(String::valueOf).collect(Collectors.joining(",")));
+        storedMemberKeys.forEach(key -> metadata.put(key, false));
+        vector.memberIds().forEach(memberId -> metadata.put(ChromaPostMetadata.memberKey(memberId), true));
+        return metadata;
+    }
+
+    private static List<String> splitNames(String memberNames) {
+        return memberNames != null && !memberNames.isBlank()
+                ? Arrays.asList(memberNames.split(","))
+                : List.of();
+    }
+
+    private static List<Float> toList(float[] arr) {
+        List<Float> list = new ArrayList<>(arr.length);
+        for (float v : arr) list.add(v);
+        return list;
+    }
+}
@@ -0,0 +1,520 @@
+package back.service.post.ai.vector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모임 1개의 로컬 벡터 인덱스
+ * - 벡터/postId/작성 시각은 MappedVectorFile(힙 밖), 태그 멤버는 힙에 보관 (기동 시 DB에서 다시 채움)
+ * - IVF_MIN_VECTORS 미만은 전수 비교, 이상이면 IVF-flat
+ *   (k ≈ √n개 중심으로 나눠 질의와 가까운 nprobe개 리스트만 비교)
+ * - 새 벡터는 가장 가까운 중심에 배정, 빌드 이후 변경이 REBUILD_RATIO를 넘으면 중심 재계산
+ * - 조건이 좁아 IVF 결과가 topK보다 적으면 전수 비교로 보충
+ */
+final class ClubVectorPartition implements Closeable {
+
+    static final int IVF_MIN_VECTORS = 2048;
+    private static final double REBUILD_RATIO = 0.25;
+    private static final double NPROBE_RATIO = 0.1;
+    private static final int MIN_NPROBE = 4;
+    private static final int KMEANS_ITERATIONS = 8;
+    private static final int KMEANS_SAMPLE_PER_LIST = 32;
+
+    private final MappedVectorFile file;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotByPostId = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final List<long[]> memberIdsBySlot = new ArrayList<>();
+    private final List<List<String>> memberNamesBySlot = new ArrayList<>();
+
+    // IVF (빌드 전이면 null)
+    private float[][] centroids;
+    private int[][] lists;
+    private int[] listSizes;
+    private int[] listOfSlot = new int[0];
+    private int liveAtBuild;
+    private int changesSinceBuild;
+
+    private ClubVectorPartition(MappedVectorFile file) {
+        this.file = file;
+    }
+
+    static ClubVectorPartition open(Path path, int dim) throws IOException {
+        MappedVectorFile file = MappedVectorFile.open(path, dim);
+        ClubVectorPartition partition = new ClubVectorPartition(file);
+        partition.loadSlots();
+        return partition;
+    }
+
+    int dim() {
+        return file.dim();
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slotByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean isIndexed() {
+        lock.readLock().lock();
+        try {
+            return centroids != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Long> postIds() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(slotByPostId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 DB에서 읽은 태그 멤버 복원 (파일에는 없음)
+     */
+    void restoreTags(Long postId, List<Long> memberIds, List<String> memberNames) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByPostId.get(postId);
+            if (slot != null) {
+                setTags(slot, memberIds, memberNames);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void upsert(List<PostVector> vectors) {
+        lock.writeLock().lock();
+        try {
+            for (PostVector vector : vectors) {
+                upsertOne(vector);
+            }
+            file.force();
+            rebuildIfDrifted();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByPostId.remove(postId);
+            if (slot == null) {
+                return;
+            }
+            file.markDeleted(slot);
+            unassign(slot);
+            setTags(slot, List.of(), List.of());
+            freeSlots.add(slot);
+            changesSinceBuild++;
+            rebuildIfDrifted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 작성 시각은 epoch seconds, [fromInclusive, toExclusive)
+     * @param memberIds 이 중 한 명이라도 태그된 게시글만 (비어 있으면 조건 없음)
+     */
+    List<VectorMatch> search(float[] query, int topK, Long fromInclusive, Long toExclusive, List<Long> memberIds) {
+        if (topK <= 0) {
+            return List.of();
+        }
+        if (query.length != file.dim()) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + query.length + " != " + file.dim());
+        }
+        long from = fromInclusive != null ? fromInclusive : Long.MIN_VALUE;
+        long to = toExclusive != null ? toExclusive : Long.MAX_VALUE;
+        long[] members = memberIds.stream().mapToLong(Long::longValue).toArray();
+
+        lock.readLock().lock();
+        try {
+            TopK top = new TopK(topK);
+            if (centroids != null) {
+                for (int list : nearestLists(query, nprobe())) {
+                    for (int i = 0; i < listSizes[list]; i++) {
+                        offer(top, lists[list][i], query, from, to, members);
+                    }
+                }
+            }
+            // 인덱스 전이거나, 조건이 좁아 탐색한 리스트에서 topK를 못 채우면 전수 비교
+            if (centroids == null || top.size() < topK) {
+                top = new TopK(topK);
+                for (int slot = 0; slot < file.slotCount(); slot++) {
+                    offer(top, slot, query, from, to, members);
+                }
+            }
+            return top.toMatches();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전수 비교 (인덱스 정확도 확인용)
+     */
+    List<VectorMatch> exactSearch(float[] query, int topK) {
+        lock.readLock().lock();
+        try {
+            TopK top = new TopK(topK);
+            for (int slot = 0; slot < file.slotCount(); slot++) {
+                offer(top, slot, query, Long.MIN_VALUE, Long.MAX_VALUE, new long[0]);
+            }
+            return top.toMatches();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 벡터로 IVF 다시 구성 (벡터 수가 IVF_MIN_VECTORS 미만이면 해제)
+     */
+    void rebuildIndex() {
+        lock.writeLock().lock();
+        try {
+            buildIndex();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            file.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadSlots() {
+        for (int slot = 0; slot < file.slotCount(); slot++) {
+            ensureSlotCapacity(slot);
+            if (!file.isLive(slot)) {
+                freeSlots.add(slot);
+                continue;
+            }
+            Integer previous = slotByPostId.put(file.postId(slot), slot);
+            if (previous != null) {
+                // 비정상 종료로 남은 중복은 나중 슬롯만 유지
+                file.markDeleted(previous);
+                freeSlots.add(previous);
+            }
+        }
+        buildIndex();
+    }
+
+    private void upsertOne(PostVector vector) throws IOException {
+        Integer slot = slotByPostId.get(vector.postId());
+        if (slot != null) {
+            file.write(slot, vector.postId(), vector.createdAt(), vector.embedding());
+            unassign(slot);
+        } else {
+            Integer free = freeSlots.poll();
+            if (free != null) {
+                slot = free;
+                file.write(slot, vector.postId(), vector.createdAt(), vector.embedding());
+            } else {
+                slot = file.append(vector.postId(), vector.createdAt(), vector.embedding());
+            }
+            slotByPostId.put(vector.postId(), slot);
+        }
+        ensureSlotCapacity(slot);
+        setTags(slot, vector.memberIds(), vector.memberNames());
+        assign(slot, vector.embedding());
+        changesSinceBuild++;
+    }
+
+    private void offer(TopK top, int slot, float[] query, long from, long to, long[] members) {
+        if (!file.isLive(slot)) {
+            return;
+        }
+        long createdAt = file.createdAt(slot);
+        if (createdAt < from || createdAt >= to) {
+            return;
+        }
+        if (members.length > 0 && !anyMember(memberIdsBySlot.get(slot), members)) {
+            return;
+        }
+        top.offer(slot, file.squaredDistance(slot, query, top.scratch));
+    }
+
+    private static boolean anyMember(long[] tagged, long[] wanted) {
+        if (tagged == null) {
+            return false;
+        }
+        for (long t : tagged) {
+            for (long w : wanted) {
+                if (t == w) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void setTags(int slot, List<Long> memberIds, List<String> memberNames) {
+        ensureSlotCapacity(slot);
+        memberIdsBySlot.set(slot, memberIds.stream().mapToLong(Long::longValue).toArray());
+        memberNamesBySlot.set(slot, List.copyOf(memberNames));
+    }
+
+    private void ensureSlotCapacity(int slot) {
+        while (memberIdsBySlot.size() <= slot) {
+            memberIdsBySlot.add(null);
+            memberNamesBySlot.add(List.of());
+        }
+        if (listOfSlot.length <= slot) {
+            int previous = listOfSlot.length;
+            listOfSlot = Arrays.copyOf(listOfSlot, Math.max(slot + 1, previous * 2));
+            Arrays.fill(listOfSlot, previous, listOfSlot.length, -1);
+        }
+    }
+
+    // ---- IVF ----
+
+    private int nprobe() {
+        return Math.min(centroids.length, Math.max(MIN_NPROBE, (int) Math.ceil(centroids.length * NPROBE_RATIO)));
+    }
+
+    private void rebuildIfDrifted() {
+        int live = slotByPostId.size();
+        if (centroids == null) {
+            if (live >= IVF_MIN_VECTORS) {
+                buildIndex();
+            }
+            return;
+        }
+        if (changesSinceBuild > liveAtBuild * REBUILD_RATIO) {
+            buildIndex();
+        }
+    }
+
+    private void buildIndex() {
+        int live = slotByPostId.size();
+        changesSinceBuild = 0;
+        liveAtBuild = live;
+        Arrays.fill(listOfSlot, -1);
+        if (live < IVF_MIN_VECTORS) {
+            centroids = null;
+            lists = null;
+            listSizes = null;
+            return;
+        }
+
+        int k = (int) Math.round(Math.sqrt(live));
+        int dim = file.dim();
+        int[] liveSlots = slotByPostId.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        // 표본으로 k-means (시드 고정: 같은 데이터면 같은 인덱스)
+        Random random = new Random(live);
+        int sampleSize = Math.min(live, k * KMEANS_SAMPLE_PER_LIST);
+        int[] sample = liveSlots.clone();
+        for (int i = 0; i < sampleSize; i++) {
+            int j = i + random.nextInt(sample.length - i);
+            int tmp = sample[i];
+            sample[i] = sample[j];
+            sample[j] = tmp;
+        }
+        float[][] sampleVectors = new float[sampleSize][dim];
+        for (int i = 0; i < sampleSize; i++) {
+            file.readVector(sample[i], sampleVectors[i]);
+        }
+
+        float[][] means = seedCentroids(sampleVectors, k, random);
+        int[] assignment = new int[sampleSize];
+        for (int iteration = 0; iteration < KMEANS_ITERATIONS; iteration++) {
+            for (int i = 0; i < sampleSize; i++) {
+                assignment[i] = nearest(means, sampleVectors[i]);
+            }
+            float[][] sums = new float[k][dim];
+            int[] counts = new int[k];
+            for (int i = 0; i < sampleSize; i++) {
+                int c = assignment[i];
+                counts[c]++;
+                for (int d = 0; d < dim; d++) {
+                    sums[c][d] += sampleVectors[i][d];
+                }
+            }
+            for (int c = 0; c < k; c++) {
+                // 빈 리스트는 이전 중심 유지
+                if (counts[c] == 0) {
+                    continue;
+                }
+                for (int d = 0; d < dim; d++) {
+                    sums[c][d] /= counts[c];
+                }
+                means[c] = sums[c];
+            }
+        }
+
+        centroids = means;
+        lists = new int[k][16];
+        listSizes = new int[k];
+        float[] buffer = new float[dim];
+        for (int slot : liveSlots) {
+            file.readVector(slot, buffer);
+            assign(slot, buffer);
+        }
+    }
+
+    /**
+     * k-means++ 초기 중심 (거리 제곱에 비례해 뽑아 리스트 크기 쏠림 완화)
+     */
+    private static float[][] seedCentroids(float[][] sample, int k, Random random) {
+        float[][] means = new float[k][];
+        means[0] = sample[random.nextInt(sample.length)].clone();
+        float[] nearestDistance = new float[sample.length];
+        Arrays.fill(nearestDistance, Float.MAX_VALUE);
+        for (int c = 1; c < k; c++) {
+            double total = 0;
+            for (int i = 0; i < sample.length; i++) {
+                nearestDistance[i] = Math.min(nearestDistance[i], squaredDistance(means[c - 1], sample[i]));
+                total += nearestDistance[i];
+            }
+            double target = random.nextDouble() * total;
+            int chosen = sample.length - 1;
+            for (int i = 0; i < sample.length; i++) {
+                target -= nearestDistance[i];
+                if (target <= 0) {
+                    chosen = i;
+                    break;
+                }
+            }
+            means[c] = sample[chosen].clone();
+        }
+        return means;
+    }
+
+    private void assign(int slot, float[] vector) {
+        if (centroids == null) {
+            return;
+        }
+        int list = nearest(centroids, vector);
+        if (listSizes[list] == lists[list].length) {
+            lists[list] = Arrays.copyOf(lists[list], lists[list].length * 2);
+        }
+        lists[list][listSizes[list]++] = slot;
+        listOfSlot[slot] = list;
+    }
+
+    private void unassign(int slot) {
+        if (centroids == null || slot >= listOfSlot.length || listOfSlot[slot] < 0) {
+            return;
+        }
+        int list = listOfSlot[slot];
+        int[] members = lists[list];
+        for (int i = 0; i < listSizes[list]; i++) {
+            if (members[i] == slot) {
+                members[i] = members[--listSizes[list]];
+                break;
+            }
+        }
+        listOfSlot[slot] = -1;
+    }
+
+    private int[] nearestLists(float[] query, int n) {
+        Integer[] order = new Integer[centroids.length];
+        float[] distances = new float[centroids.length];
+        for (int c = 0; c < centroids.length; c++) {
+            order[c] = c;
+            distances[c] = squaredDistance(centroids[c], query);
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(distances[a], distances[b]));
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    private static int nearest(float[][] means, float[] vector) {
+        int best = 0;
+        float bestDistance = Float.MAX_VALUE;
+        for (int c = 0; c < means.length; c++) {
+            float distance = squaredDistance(means[c], vector);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private static float squaredDistance(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            float d = a[i] - b[i];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    /**
+     * 거리 기준 상위 k개 (최대 힙, 가장 먼 것을 밀어냄)
+     */
+    private final class TopK {
+        private final int k;
+        private final float[] scratch = new float[file.dim()];
+        private final PriorityQueue<Candidate> heap =
+                new PriorityQueue<>((a, b) -> Float.compare(b.distance(), a.distance()));
+
+        TopK(int k) {
+            this.k = k;
+        }
+
+        int size() {
+            return heap.size();
+        }
+
+        void offer(int slot, float distance) {
+            if (heap.size() < k) {
+                heap.add(new Candidate(slot, distance));
+            } else if (distance < heap.peek().distance()) {
+                heap.poll();
+                heap.add(new Candidate(slot, distance));
+            }
+        }
+
+        List<VectorMatch> toMatches() {
+            List<Candidate> entries = new ArrayList<>(heap);
+            entries.sort((a, b) -> Float.compare(a.distance(), b.distance()));
+            List<VectorMatch> matches = new ArrayList<>(entries.size());
+            for (Candidate entry : entries) {
+                matches.add(new VectorMatch(
+                        file.postId(entry.slot()), entry.distance(), memberNamesBySlot.get(entry.slot())));
+            }
+            return Collections.unmodifiableList(matches);
+        }
+    }
+
+    private record Candidate(int slot, float distance) {
+    }
+}
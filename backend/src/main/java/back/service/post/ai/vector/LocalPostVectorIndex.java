@@ -0,0 +1,169 @@
+package back.service.post.ai.vector;
+
+import back.repository.post.PostMemberTagRepository;
+import back.repository.post.projection.PostTagRow;
+import back.service.post.ai.PostSearchFilter;
+import back.service.post.ai.chroma.ChromaPostMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 프로세스 내 게시글 벡터 인덱스 (Chroma 없이 단일 서버로 운영할 때)
+ * - 모임별 파일 {dir}/club-{clubId}.vec, 검색은 항상 모임 1개 범위
+ * - 태그 멤버는 파일에 없으므로 기동 시 DB에서 다시 읽음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.post.vector.backend", havingValue = "local")
+public class LocalPostVectorIndex implements PostVectorIndex {
+
+    private static final Pattern FILE_NAME = Pattern.compile("club-(\\d+)\\.vec");
+    private static final int TAG_LOAD_CHUNK = 1000;
+
+    private final PostMemberTagRepository postMemberTagRepository;
+    private final Path directory;
+
+    private final Map<Long, ClubVectorPartition> partitions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> clubIdByPostId = new ConcurrentHashMap<>();
+
+    public LocalPostVectorIndex(
+            PostMemberTagRepository postMemberTagRepository,
+            @Value("${custom.post.vector.local.dir:./data/post-vectors}") String directory
+    ) {
+        this.postMemberTagRepository = postMemberTagRepository;
+        this.directory = Path.of(directory);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "club-*.vec")) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                if (Files.size(file) < MappedVectorFile.HEADER_BYTES) {
+                    log.warn("빈 벡터 파일 건너뜀: {}", file);
+                    continue;
+                }
+                Long clubId = Long.valueOf(matcher.group(1));
+                ClubVectorPartition partition = ClubVectorPartition.open(file, 0);
+                partitions.put(clubId, partition);
+                partition.postIds().forEach(postId -> clubIdByPostId.put(postId, clubId));
+            }
+        }
+        restoreTags();
+        log.info("로컬 벡터 인덱스 로드: clubs={}, vectors={}", partitions.size(), clubIdByPostId.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        partitions.values().forEach(partition -> {
+            try {
+                partition.close();
+            } catch (IOException e) {
+                log.warn("벡터 파일 닫기 실패", e);
+            }
+        });
+        partitions.clear();
+    }
+
+    @Override
+    public void upsert(List<PostVector> vectors) {
+        Map<Long, List<PostVector>> byClub = vectors.stream()
+                .collect(Collectors.groupingBy(PostVector::clubId));
+
+        byClub.forEach((clubId, clubVectors) -> {
+            // 다른 모임 파일에 남은 이전 벡터 정리
+            for (PostVector vector : clubVectors) {
+                Long previousClubId = clubIdByPostId.get(vector.postId());
+                if (previousClubId != null && !previousClubId.equals(clubId)) {
+                    partition(previousClubId).ifPresent(p -> p.delete(vector.postId()));
+                }
+            }
+            ClubVectorPartition partition = partitions.computeIfAbsent(clubId,
+                    id -> open(id, clubVectors.get(0).embedding().length));
+            partition.upsert(clubVectors);
+            clubVectors.forEach(vector -> clubIdByPostId.put(vector.postId(), clubId));
+        });
+    }
+
+    @Override
+    public void delete(Collection<Long> postIds) {
+        for (Long postId : postIds) {
+            Long clubId = clubIdByPostId.remove(postId);
+            if (clubId != null) {
+                partition(clubId).ifPresent(p -> p.delete(postId));
+            }
+        }
+    }
+
+    @Override
+    public List<VectorMatch> search(float[] embedding, int topK, PostSearchFilter filter) {
+        return partition(filter.clubId())
+                .map(partition -> partition.search(
+                        embedding,
+                        topK,
+                        filter.from() != null ? ChromaPostMetadata.epochSeconds(filter.from().atStartOfDay()) : null,
+                        filter.to() != null ? ChromaPostMetadata.epochSeconds(filter.to().plusDays(1).atStartOfDay()) : null,
+                        filter.memberIds()))
+                .orElse(List.of());
+    }
+
+    @Override
+    public Set<Long> postIds(Long clubId) {
+        return partition(clubId)
+                .<Set<Long>>map(partition -> Set.copyOf(partition.postIds()))
+                .orElse(Set.of());
+    }
+
+    private Optional<ClubVectorPartition> partition(Long clubId) {
+        return Optional.ofNullable(partitions.get(clubId));
+    }
+
+    private ClubVectorPartition open(Long clubId, int dim) {
+        try {
+            return ClubVectorPartition.open(directory.resolve("club-" + clubId + ".vec"), dim);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void restoreTags() {
+        List<Long> postIds = new ArrayList<>(clubIdByPostId.keySet());
+        for (int from = 0; from < postIds.size(); from += TAG_LOAD_CHUNK) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + TAG_LOAD_CHUNK, postIds.size()));
+            Map<Long, List<PostTagRow>> tagsByPostId = postMemberTagRepository.findTagRowsByPostIdIn(chunk)
+                    .stream()
+                    .collect(Collectors.groupingBy(PostTagRow::getPostId));
+
+            tagsByPostId.forEach((postId, tags) -> partition(clubIdByPostId.get(postId))
+                    .ifPresent(partition -> partition.restoreTags(
+                            postId,
+                            tags.stream().map(PostTagRow::getMemberId).filter(Objects::nonNull).toList(),
+                            tags.stream().map(PostTagRow::getNickname).filter(Objects::nonNull).toList())));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package back.service.post.ai.vector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 모임별 벡터 파일 (memory-mapped, 벡터는 힙 밖에 보관)
+ * 헤더(32B) | 슬롯 0 | 슬롯 1 | ...
+ * - 헤더: magic, version, dim, slotCount (int), 16B 예약
+ * - 슬롯: postId(long), createdAt(long), live(int), 4B 예약 | vector(float x dim)
+ * 삭제는 live=0 표시만 하고 슬롯은 재사용, 가득 차면 2배로 다시 매핑
+ * 동시성은 호출 측(ClubVectorPartition) 잠금으로 보장
+ */
+final class MappedVectorFile implements Closeable {
+
+    static final int MAGIC = 0x50565831; // "PVX1"
+    private static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    private static final int SLOT_HEADER_BYTES = 24;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int DIM_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+
+    private final FileChannel channel;
+    private final int dim;
+    private final int slotBytes;
+    private MappedByteBuffer buffer;
+    private FloatBuffer floats;
+    private int capacity;
+    private int slotCount;
+
+    private MappedVectorFile(FileChannel channel, int dim, int slotCount, int capacity) throws IOException {
+        this.channel = channel;
+        this.dim = dim;
+        this.slotBytes = SLOT_HEADER_BYTES + dim * Float.BYTES;
+        this.slotCount = slotCount;
+        map(capacity);
+    }
+
+    /**
+     * 파일이 없으면 생성, 있으면 헤더 검증 후 매핑
+     * @param dim 새로 만들 때의 차원 (기존 파일은 헤더 값 사용)
+     */
+    static MappedVectorFile open(Path path, int dim) throws IOException {
+        boolean exists = Files.exists(path) && Files.size(path) >= HEADER_BYTES;
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (!exists) {
+                MappedVectorFile file = new MappedVectorFile(channel, dim, 0, INITIAL_CAPACITY);
+                file.buffer.putInt(0, MAGIC);
+                file.buffer.putInt(4, VERSION);
+                file.buffer.putInt(DIM_OFFSET, dim);
+                file.buffer.putInt(COUNT_OFFSET, 0);
+                return file;
+            }
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("벡터 파일 형식이 아닙니다: " + path);
+            }
+            int storedDim = header.getInt(DIM_OFFSET);
+            int storedCount = header.getInt(COUNT_OFFSET);
+            long slotBytes = SLOT_HEADER_BYTES + (long) storedDim * Float.BYTES;
+            int capacity = (int) Math.max(INITIAL_CAPACITY, (channel.size() - HEADER_BYTES) / slotBytes);
+            if (storedCount > capacity) {
+                throw new IOException("벡터 파일이 잘렸습니다: " + path);
+            }
+            return new MappedVectorFile(channel, storedDim, storedCount, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    int dim() {
+        return dim;
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    long postId(int slot) {
+        return buffer.getLong(offset(slot));
+    }
+
+    long createdAt(int slot) {
+        return buffer.getLong(offset(slot) + 8);
+    }
+
+    boolean isLive(int slot) {
+        return buffer.getInt(offset(slot) + 16) == 1;
+    }
+
+    /**
+     * 새 슬롯에 기록
+     * @return 슬롯 번호
+     */
+    int append(long postId, long createdAt, float[] vector) throws IOException {
+        if (slotCount == capacity) {
+            map(capacity * 2);
+        }
+        int slot = slotCount;
+        write(slot, postId, createdAt, vector);
+        slotCount++;
+        buffer.putInt(COUNT_OFFSET, slotCount);
+        return slot;
+    }
+
+    void write(int slot, long postId, long createdAt, float[] vector) {
+        if (vector.length != dim) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + vector.length + " != " + dim);
+        }
+        int base = offset(slot);
+        buffer.putLong(base, postId);
+        buffer.putLong(base + 8, createdAt);
+        buffer.putInt(base + 16, 1);
+        int vectorBase = base + SLOT_HEADER_BYTES;
+        for (int i = 0; i < dim; i++) {
+            buffer.putFloat(vectorBase + i * Float.BYTES, vector[i]);
+        }
+    }
+
+    void markDeleted(int slot) {
+        buffer.putInt(offset(slot) + 16, 0);
+    }
+
+    void readVector(int slot, float[] target) {
+        floats.get((offset(slot) + SLOT_HEADER_BYTES) / Float.BYTES, target, 0, dim);
+    }
+
+    /**
+     * 제곱 L2 거리 (Chroma 기본 거리와 동일)
+     * 벡터를 scratch로 한 번에 복사한 뒤 배열끼리 계산 (원소별 getFloat보다 빠름)
+     */
+    float squaredDistance(int slot, float[] query, float[] scratch) {
+        readVector(slot, scratch);
+        float sum = 0f;
+        for (int i = 0; i < dim; i++) {
+            float d = scratch[i] - query[i];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    // 매핑 크기를 2GB 이하로 제한하므로 int 범위
+    private int offset(int slot) {
+        return HEADER_BYTES + slot * slotBytes;
+    }
+
+    private void map(int newCapacity) throws IOException {
+        long size = HEADER_BYTES + (long) newCapacity * slotBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("모임 벡터 파일 최대 크기(2GB) 초과");
+        }
+        if (buffer != null) {
+            buffer.force();
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        floats = buffer.asFloatBuffer();
+        capacity = newCapacity;
+    }
+}
@@ -0,0 +1,27 @@
+package back.service.post.ai.vector;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 1건의 임베딩과 검색 필터용 메타데이터
+ * @param createdAt  작성 시각 (epoch seconds)
+ * @param document   원문 (Chroma documents, 로컬 인덱스는 보관하지 않음)
+ * @param attributes 필터에 쓰지 않는 부가 메타데이터 (작성자, 장소 등)
+ */
+public record PostVector(
+        Long postId,
+        Long clubId,
+        long createdAt,
+        List<Long> memberIds,
+        List<String> memberNames,
+        float[] embedding,
+        String document,
+        Map<String, Object> attributes
+) {
+    public PostVector {
+        memberIds = memberIds == null ? List.of() : List.copyOf(memberIds);
+        memberNames = memberNames == null ? List.of() : List.copyOf(memberNames);
+        attributes = attributes == null ? Map.of() : Map.copyOf(attributes);
+    }
+}
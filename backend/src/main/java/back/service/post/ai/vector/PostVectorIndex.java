@@ -0,0 +1,28 @@
+package back.service.post.ai.vector;
+
+import back.service.post.ai.PostSearchFilter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 벡터 저장소
+ * - custom.post.vector.backend 로 선택 (chroma: 외부 Chroma, local: 프로세스 내 인덱스)
+ */
+public interface PostVectorIndex {
+
+    void upsert(List<PostVector> vectors);
+
+    void delete(Collection<Long> postIds);
+
+    /**
+     * filter 조건에 맞는 게시글 중 가까운 순으로 최대 topK건
+     */
+    List<VectorMatch> search(float[] embedding, int topK, PostSearchFilter filter);
+
+    /**
+     * 모임에 저장된 게시글 id 전체 (DB와 정합성 점검용)
+     */
+    Set<Long> postIds(Long clubId);
+}
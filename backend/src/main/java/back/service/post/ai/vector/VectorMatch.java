@@ -0,0 +1,13 @@
+package back.service.post.ai.vector;
+
+import java.util.List;
+
+/**
+ * @param distance 제곱 L2 거리 (작을수록 유사)
+ */
+public record VectorMatch(
+        Long postId,
+        double distance,
+        List<String> memberNames
+) {
+}
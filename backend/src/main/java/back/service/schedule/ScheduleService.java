@@ -7,6 +7,7 @@ import back.domain.vote.VoteOptions;
 import back.domain.vote.Votes;
 import back.dto.schedule.*;
 import back.event.ScheduleRegisteredEvent;
+import back.event.VoteDeadlineChangedEvent;
 import back.exception.ScheduleException;
 import back.repository.UserRepository;
 import back.repository.schedule.ScheduleParticipantRepository;
@@ -14,11 +15,13 @@ import back.repository.schedule.ScheduleRepository;
 import back.repository.vote.VoteOptionRepository;
 import back.repository.vote.VoteRepository;
 import back.service.club.ClubAuthService;
+import back.service.vote.VoteBulkCloser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -32,6 +35,7 @@ public class ScheduleService {
     private final VoteRepository voteRepository;
     private final VoteOptionRepository voteOptionRepository;
     private final ClubAuthService clubAuthService;
+    private final VoteBulkCloser voteBulkCloser;
     private final UserRepository userRepository;
 
     // 알림 전송을 위해 의존성 추가
@@ -97,6 +101,7 @@ public class ScheduleService {
 
         // 2. 일정 생성과 동시에 ATTENDANCE 타입 투표 자동 생성
         Votes vote = new Votes(
+                clubId,
                 null, // postId는 null (ATTENDANCE 타입은 게시글과 무관)
                 "ATTENDANCE",
                 savedSchedule.getScheduleId(),
@@ -124,6 +129,7 @@ public class ScheduleService {
                 null);
         voteOptionRepository.save(attendOption);
         voteOptionRepository.save(notAttendOption);
+        eventPublisher.publishEvent(new VoteDeadlineChangedEvent(savedVote.getVoteId()));
 
         // 일정 생성 이벤트 발행
         eventPublisher.publishEvent(new ScheduleRegisteredEvent(
@@ -202,6 +208,8 @@ public class ScheduleService {
             throw new ScheduleException.InvalidDateRange();
         }
 
+        boolean isEventDateChanged = !request.eventDate().equals(schedule.getEventDate());
+
         schedule.updateSchedule(
                 request.scheduleName(),
                 request.eventDate(),
@@ -210,6 +218,12 @@ public class ScheduleService {
                 request.description(),
                 request.entryFee());
 
+        // 일정 시작 시각이 바뀌면 ATTENDANCE 투표 자동 종료 시각도 바뀜
+        if (isEventDateChanged) {
+            voteRepository.findByScheduleId(scheduleId).ifPresent(vote ->
+                    eventPublisher.publishEvent(new VoteDeadlineChangedEvent(vote.getVoteId())));
+        }
+
         return toResponse(schedule);
     }
 
@@ -250,7 +264,7 @@ public class ScheduleService {
         schedule.close();
 
         // 연관된 ATTENDANCE 투표도 종료
-        voteRepository.findByScheduleId(scheduleId).ifPresent(Votes::close);
+        voteBulkCloser.closeScheduleVotes(scheduleId, LocalDateTime.now());
     }
 
     /**
@@ -293,10 +307,7 @@ public class ScheduleService {
         }
 
         // 연관된 ATTENDANCE 투표도 종료
-        voteRepository.findByScheduleId(scheduleId).ifPresent(vote -> {
-            vote.close();
-            voteRepository.save(vote);
-        });
+        voteBulkCloser.closeScheduleVotes(scheduleId, LocalDateTime.now());
     }
 
     /**
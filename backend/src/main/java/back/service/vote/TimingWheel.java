@@ -0,0 +1,169 @@
+package back.service.vote;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 계층형 타이밍 휠
+ * - 1단계: tickMs 간격 슬롯 wheelSize개, 상위 단계는 하위 단계 한 바퀴가 한 칸
+ * - 등록/취소 O(1), 시각 진행 시 해당 칸만 꺼내서 실행하거나 하위 단계로 내림
+ * - 실행 시각은 tick 단위로 올림 (예정 시각보다 먼저 실행되지 않음)
+ * - 키당 예약 1개 (같은 키로 다시 등록하면 기존 예약 교체)
+ */
+final class TimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<K>> levels = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    // 등록 시점에 이미 지난 예약 (다음 advance에서 실행)
+    private final List<Entry<K>> overdue = new ArrayList<>();
+    private long currentTime;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+        levels.add(new Level<>(tickMs, wheelSize, currentTime));
+    }
+
+    synchronized void schedule(K key, long dueMs) {
+        cancel(key);
+        long expiration = Math.floorDiv(dueMs + tickMs - 1, tickMs) * tickMs;
+        Entry<K> entry = new Entry<>(key, expiration);
+        entries.put(key, entry);
+        if (!place(entry)) {
+            overdue.add(entry);
+        }
+    }
+
+    synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    synchronized int cancelIf(Predicate<K> condition) {
+        int cancelled = 0;
+        Iterator<Entry<K>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry<K> entry = it.next();
+            if (condition.test(entry.key)) {
+                entry.cancelled = true;
+                it.remove();
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * nowMs까지 시각을 진행하고 실행 시각이 된 키 목록을 반환합니다.
+     */
+    synchronized List<K> advance(long nowMs) {
+        List<K> due = new ArrayList<>();
+        for (Entry<K> entry : overdue) {
+            expire(entry, due);
+        }
+        overdue.clear();
+
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            for (Level<K> level : levels) {
+                if (currentTime % level.tickMs == 0) {
+                    level.currentTime = currentTime;
+                }
+            }
+            // 상위 단계 칸부터 꺼내 하위 단계로 내리고, 실행 시각이 된 것은 바로 실행
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level<K> level = levels.get(i);
+                if (level.currentTime != currentTime) {
+                    continue;
+                }
+                ArrayDeque<Entry<K>> bucket = level.bucket(currentTime);
+                Entry<K> entry;
+                while ((entry = bucket.poll()) != null) {
+                    if (!entry.cancelled && !place(entry)) {
+                        expire(entry, due);
+                    }
+                }
+            }
+        }
+        return due;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean place(Entry<K> entry) {
+        if (entry.expiration <= currentTime) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            Level<K> level = level(i);
+            if (entry.expiration < level.currentTime + level.interval) {
+                level.bucket(entry.expiration).add(entry);
+                return true;
+            }
+        }
+    }
+
+    private void expire(Entry<K> entry, List<K> due) {
+        if (entry.cancelled) {
+            return;
+        }
+        entries.remove(entry.key, entry);
+        due.add(entry.key);
+    }
+
+    private Level<K> level(int index) {
+        while (levels.size() <= index) {
+            Level<K> top = levels.get(levels.size() - 1);
+            long levelTick = top.interval;
+            levels.add(new Level<>(levelTick, wheelSize, currentTime - Math.floorMod(currentTime, levelTick)));
+        }
+        return levels.get(index);
+    }
+
+    private static final class Level<K> {
+        private final long tickMs;
+        private final long interval;
+        private final ArrayDeque<Entry<K>>[] buckets;
+        private long currentTime;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMs, int wheelSize, long currentTime) {
+            this.tickMs = tickMs;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+            this.currentTime = currentTime;
+        }
+
+        private ArrayDeque<Entry<K>> bucket(long time) {
+            return buckets[(int) Math.floorMod(Math.floorDiv(time, tickMs), (long) buckets.length)];
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long expiration;
+        private boolean cancelled;
+
+        private Entry(K key, long expiration) {
+            this.key = key;
+            this.expiration = expiration;
+        }
+    }
+}
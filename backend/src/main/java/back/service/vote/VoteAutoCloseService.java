@@ -1,58 +1,80 @@
 package back.service.vote;
 
-import back.domain.vote.Votes;
-import back.repository.vote.VoteRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.IntFunction;
 
+/**
+ * 투표 자동 종료
+ * - 평상시: 마감 타이머(VoteDeadlineTimer)가 마감 시각에 closeVote 호출
+ * - 서버 시작/샤드 인수 시: 인수한 샤드의 밀린 마감만 closeExpired* 로 일괄 처리 (catch-up)
+ * - 일괄 처리는 CHUNK_SIZE 단위 UPDATE, chunk마다 커밋
+ * - 메트릭: vote.auto-close.rows (실행당 종료 건수), vote.auto-close.latency (실행 시간)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoteAutoCloseService {
 
-    private final VoteRepository voteRepository;
+    private static final int CHUNK_SIZE = 500;
+
+    private final VoteBulkCloser voteBulkCloser;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 마감 시각이 된 투표 1건 종료
+     *
+     * @return 종료 여부 (이미 종료된 투표면 false)
+     */
+    public boolean closeVote(Long voteId) {
+        return voteBulkCloser.closeVote(voteId, LocalDateTime.now());
+    }
 
     /**
-     * 일반 투표 기한 지나면 자동 종료
-     * 매 1분마다 실행
+     * 담당 샤드(vote_id % shardCount)의 기한이 지난 일반 투표 자동 종료
      */
-    @Scheduled(cron = "0 * * * * ?") // 매 분마다 실행
-    @Transactional
-    public void closeExpiredGeneralVotes() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Votes> expiredVotes = voteRepository.findExpiredGeneralVotes(now);
-        
-        if (!expiredVotes.isEmpty()) {
-            log.info("기한이 지난 일반 투표 {}개를 자동 종료합니다", expiredVotes.size());
-            expiredVotes.forEach(vote -> {
-                vote.close();
-                voteRepository.save(vote);
-            });
+    public int closeExpiredGeneralVotes(LocalDateTime now, int shardCount, Collection<Integer> shards) {
+        int closed = run("general", limit -> voteBulkCloser.closeExpiredGeneralChunk(now, shardCount, shards, limit));
+        if (closed > 0) {
+            log.info("기한이 지난 일반 투표 {}개를 자동 종료했습니다", closed);
         }
+        return closed;
     }
 
     /**
-     * 일정 시작 5분 전이 지난 일정 투표 자동 종료
-     * 매 1분마다 실행
+     * 담당 샤드의 일정 시작 5분 전이 지난 일정 투표 자동 종료
      */
-    @Scheduled(cron = "0 * * * * ?") // 매 분마다 실행
-    @Transactional
-    public void closeExpiredAttendanceVotes() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Votes> expiredVotes = voteRepository.findExpiredAttendanceVotes(now);
-        
-        if (!expiredVotes.isEmpty()) {
-            log.info("일정 시작 5분 전이 지난 일정 투표 {}개를 자동 종료합니다", expiredVotes.size());
-            expiredVotes.forEach(vote -> {
-                vote.close();
-                voteRepository.save(vote);
-            });
+    public int closeExpiredAttendanceVotes(LocalDateTime now, int shardCount, Collection<Integer> shards) {
+        int closed = run("attendance",
+                limit -> voteBulkCloser.closeExpiredAttendanceChunk(now, shardCount, shards, limit));
+        if (closed > 0) {
+            log.info("일정 시작 5분 전이 지난 일정 투표 {}개를 자동 종료했습니다", closed);
         }
+        return closed;
+    }
+
+    private int run(String type, IntFunction<List<Long>> closeChunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int closed = 0;
+        List<Long> chunk;
+        do {
+            chunk = closeChunk.apply(CHUNK_SIZE);
+            closed += chunk.size();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        sample.stop(meterRegistry.timer("vote.auto-close.latency", "type", type));
+        DistributionSummary.builder("vote.auto-close.rows")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(closed);
+        return closed;
     }
 }
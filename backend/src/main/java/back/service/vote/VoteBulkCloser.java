@@ -0,0 +1,70 @@
+package back.service.vote;
+
+import back.event.VotesClosedEvent;
+import back.repository.vote.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 투표 일괄 종료
+ * - 대상 ID를 잠금 조회(FOR UPDATE) 후 UPDATE 1회로 종료 (엔티티 로딩 없음)
+ * - 종료된 ID로 VotesClosedEvent 발행
+ * - 자동 종료는 chunk마다 별도 트랜잭션, 일정 마감/취소는 호출한 트랜잭션에 참여
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteBulkCloser {
+
+    private final VoteRepository voteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<Long> closeExpiredGeneralChunk(LocalDateTime now, int shardCount, Collection<Integer> shards,
+                                               int limit) {
+        return close(voteRepository.lockExpiredGeneralVoteIds(now, shardCount, shards, limit), now);
+    }
+
+    @Transactional
+    public List<Long> closeExpiredAttendanceChunk(LocalDateTime now, int shardCount, Collection<Integer> shards,
+                                                  int limit) {
+        LocalDateTime eventDateBefore = now.plus(VoteDeadlineTimer.ATTENDANCE_CLOSE_BEFORE);
+        return close(voteRepository.lockExpiredAttendanceVoteIds(eventDateBefore, shardCount, shards, limit), now);
+    }
+
+    /**
+     * 일정에 연결된 진행 중인 투표 종료 (일정 마감/취소)
+     */
+    @Transactional
+    public List<Long> closeScheduleVotes(Long scheduleId, LocalDateTime now) {
+        return close(voteRepository.lockOpenVoteIdsByScheduleId(scheduleId), now);
+    }
+
+    /**
+     * 투표 1건 종료 (마감 타이머)
+     *
+     * @return 종료 여부 (이미 종료된 투표면 false)
+     */
+    @Transactional
+    public boolean closeVote(Long voteId, LocalDateTime now) {
+        if (voteRepository.closeOpenVotes(List.of(voteId), now) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new VotesClosedEvent(List.of(voteId)));
+        return true;
+    }
+
+    private List<Long> close(List<Long> voteIds, LocalDateTime now) {
+        if (voteIds.isEmpty()) {
+            return voteIds;
+        }
+        voteRepository.closeOpenVotes(voteIds, now);
+        eventPublisher.publishEvent(new VotesClosedEvent(voteIds));
+        return voteIds;
+    }
+}
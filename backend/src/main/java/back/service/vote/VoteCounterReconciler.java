@@ -0,0 +1,75 @@
+package back.service.vote;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.vote.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 투표 집계 컬럼(vote_count, participant_count) 보정 작업
+ * - 진행 중인 투표 + 최근 하루 내 종료된 투표만 vote_records 기준으로 재계산
+ * - 투표마다 별도 트랜잭션 (VoteCounterRecounter), 값이 어긋난 행만 UPDATE
+ * - lease를 가진 서버 1대만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCounterReconciler {
+
+    private static final String LEASE_KEY = "vote-counter-reconcile";
+    private static final int LEASE_SECONDS = 600;
+    private static final long CLOSED_WINDOW_HOURS = 24;
+
+    private final VoteRepository voteRepository;
+    private final VoteCounterRecounter voteCounterRecounter;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Scheduled(cron = "0 30 * * * *") // 매 시 30분 실행
+    public void reconcile() {
+        try {
+            schedulerLeaseRepository.insertIfAbsent(LEASE_KEY);
+            if (schedulerLeaseRepository.tryAcquire(LEASE_KEY, nodeId, LEASE_SECONDS) == 0) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("투표 집계 보정 lease 획득 실패", e);
+            return;
+        }
+
+        try {
+            reconcileSince(LocalDateTime.now().minusHours(CLOSED_WINDOW_HOURS));
+        } finally {
+            schedulerLeaseRepository.release(LEASE_KEY, nodeId);
+        }
+    }
+
+    void reconcileSince(LocalDateTime closedSince) {
+        List<Long> voteIds = voteRepository.findReconcileTargetIds(closedSince);
+
+        int fixedOptions = 0;
+        int fixedVotes = 0;
+        for (Long voteId : voteIds) {
+            try {
+                VoteCounterRecounter.Result result = voteCounterRecounter.recount(voteId);
+                fixedOptions += result.options();
+                fixedVotes += result.votes();
+            } catch (DataAccessException e) {
+                // 잠금 대기 초과 등은 다음 실행에서 다시 보정
+                log.warn("투표 집계 보정 실패 voteId={}", voteId, e);
+            }
+        }
+
+        if (fixedOptions > 0 || fixedVotes > 0) {
+            log.warn("투표 집계 보정: 옵션 {}개, 투표 {}개", fixedOptions, fixedVotes);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package back.service.vote;
+
+import back.repository.vote.VoteOptionRepository;
+import back.repository.vote.VoteRecordRepository;
+import back.repository.vote.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 투표 1건의 집계 컬럼 재계산 (건마다 짧은 트랜잭션)
+ * - 투표 처리와 같은 순서로 잠금: votes(배타 잠금) → vote_records(공유 잠금) → vote_options
+ * - 잠근 동안 들어온 투표는 보정 커밋 후 반영되므로 증감분이 사라지지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteCounterRecounter {
+
+    private final VoteRepository voteRepository;
+    private final VoteOptionRepository voteOptionRepository;
+    private final VoteRecordRepository voteRecordRepository;
+
+    record Result(int options, int votes) {
+    }
+
+    @Transactional
+    public Result recount(Long voteId) {
+        voteRepository.findByIdForUpdate(voteId);
+        voteRecordRepository.lockByVoteId(voteId);
+        int options = voteOptionRepository.reconcileVoteCounts(voteId);
+        int votes = voteRepository.reconcileParticipantCount(voteId);
+        return new Result(options, votes);
+    }
+}
@@ -0,0 +1,282 @@
+package back.service.vote;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.vote.VoteRepository;
+import back.repository.vote.projection.VoteDeadlineRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표 마감 타이머
+ * - 매 분 전체 투표를 조회하는 대신, 진행 중인 투표의 마감/알림 시각을 타이밍 휠에 올려두고 정시에 실행
+ * - 투표는 vote_id % shardCount 로 샤드 분할, 샤드마다 lease 행을 가진 서버 1대만 실행
+ * - 샤드 인수(서버 시작 포함) 시 밀린 마감 일괄 종료(catch-up) 후 남은 투표 적재
+ * - 같은 서버의 변경은 이벤트로 즉시, 다른 서버의 변경은 lease 갱신 주기마다 updated_at 기준으로 반영
+ * - tick/lease 갱신은 전용 스레드 1개에서 실행 (다른 @Scheduled 작업이 밀려도 lease 만료 전에 갱신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteDeadlineTimer {
+
+    private static final String LEASE_PREFIX = "vote-deadline-";
+    private static final int LEASE_SECONDS = 30;
+    private static final long TICK_MS = 1_000;
+    private static final long RENEW_MS = 10_000;
+    private static final int WHEEL_SIZE = 64;
+
+    private static final Duration REMIND_BEFORE = Duration.ofHours(1);
+    // 일정 투표는 일정 시작 5분 전에 종료 (목록 마감 기한 조건/일괄 종료도 같은 기준)
+    static final Duration ATTENDANCE_CLOSE_BEFORE = Duration.ofMinutes(5);
+    // 서버 교체 중 놓친 알림은 이 시간 안이면 늦게라도 발송
+    private static final Duration REMIND_GRACE = Duration.ofMinutes(1);
+    // 변경 동기화 조회 구간 여유 (updated_at 기록 후 커밋까지의 지연)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final VoteRepository voteRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final VoteAutoCloseService voteAutoCloseService;
+    private final VoteScheduler voteScheduler;
+
+    @Value("${custom.vote.deadline.shard-count:8}")
+    private int shardCount = 8;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Integer> ownedShards = ConcurrentHashMap.newKeySet();
+    private final TimingWheel<Trigger> wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+    private volatile LocalDateTime lastSyncedAt;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vote-deadline-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    enum Kind {
+        REMIND, // 마감 1시간 전 알림
+        CLOSE   // 자동 종료
+    }
+
+    record Trigger(Long voteId, Kind kind) {
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(() -> runSafely("lease 갱신", this::renewLeases), 0, RENEW_MS,
+                TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(() -> runSafely("tick", this::tick), TICK_MS, TICK_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void tick() {
+        fireDue(LocalDateTime.now());
+    }
+
+    public void renewLeases() {
+        syncShards(LocalDateTime.now());
+    }
+
+    @PreDestroy
+    public void releaseLeases() {
+        executor.shutdownNow();
+        for (Integer shard : ownedShards) {
+            try {
+                schedulerLeaseRepository.release(LEASE_PREFIX + shard, nodeId);
+            } catch (DataAccessException e) {
+                log.warn("투표 마감 샤드 {} lease 반납 실패", shard, e);
+            }
+        }
+        ownedShards.clear();
+    }
+
+    /**
+     * 투표 생성, 일정 시작 시각 변경 커밋 후 호출
+     * 담당 샤드가 아니면 무시 (담당 서버가 변경 동기화로 반영)
+     */
+    public void refresh(Long voteId) {
+        if (!ownedShards.contains(shardOf(voteId))) {
+            return;
+        }
+        Optional<VoteDeadlineRow> row = voteRepository.findDeadline(voteId);
+        if (row.isPresent()) {
+            apply(row.get(), LocalDateTime.now(), Duration.ZERO);
+        } else {
+            unschedule(voteId);
+        }
+    }
+
+    /**
+     * 종료된 투표의 예약 제거 (DB 조회 없음)
+     */
+    public void forget(Collection<Long> voteIds) {
+        voteIds.forEach(this::unschedule);
+    }
+
+    void fireDue(LocalDateTime now) {
+        for (Trigger trigger : wheel.advance(toMillis(now))) {
+            if (!ownedShards.contains(shardOf(trigger.voteId()))) {
+                continue;
+            }
+            try {
+                fire(trigger, now);
+            } catch (RuntimeException e) {
+                log.error("투표 {} 마감 처리 실패 ({})", trigger.voteId(), trigger.kind(), e);
+            }
+        }
+    }
+
+    void syncShards(LocalDateTime now) {
+        Set<Integer> acquired = new TreeSet<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            String leaseKey = LEASE_PREFIX + shard;
+            boolean held;
+            try {
+                schedulerLeaseRepository.insertIfAbsent(leaseKey);
+                held = schedulerLeaseRepository.tryAcquire(leaseKey, nodeId, LEASE_SECONDS) > 0;
+            } catch (DataAccessException e) {
+                // 갱신 여부를 알 수 없으면 중복 실행을 피하기 위해 내려놓음
+                log.warn("투표 마감 샤드 {} lease 갱신 실패", shard, e);
+                held = false;
+            }
+
+            if (held && ownedShards.add(shard)) {
+                acquired.add(shard);
+            } else if (!held && ownedShards.remove(shard)) {
+                int shardId = shard;
+                wheel.cancelIf(trigger -> shardOf(trigger.voteId()) == shardId);
+                log.info("투표 마감 샤드 {} 반납", shard);
+            }
+        }
+
+        LocalDateTime since = lastSyncedAt;
+        lastSyncedAt = now;
+
+        if (!acquired.isEmpty()) {
+            load(acquired, now);
+        }
+        if (since != null && !ownedShards.isEmpty()) {
+            syncChanges(since.minus(SYNC_OVERLAP), acquired, now);
+        }
+    }
+
+    // 예외가 나가면 ScheduledExecutorService가 이후 실행을 멈추므로 여기서 삼킴
+    private static void runSafely(String name, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("투표 마감 타이머 {} 실패", name, e);
+        }
+    }
+
+    int scheduledCount() {
+        return wheel.size();
+    }
+
+    private void load(Set<Integer> shards, LocalDateTime now) {
+        // 1. catch-up: 서버가 내려가 있던 동안 지난 마감 일괄 종료 (인수한 샤드만)
+        int closed = voteAutoCloseService.closeExpiredGeneralVotes(now, shardCount, shards)
+                + voteAutoCloseService.closeExpiredAttendanceVotes(now, shardCount, shards);
+
+        // 2. 남은 진행 중 투표 적재
+        List<VoteDeadlineRow> rows = voteRepository.findOpenDeadlines(shardCount, shards);
+        rows.forEach(row -> apply(row, now, REMIND_GRACE));
+        log.info("투표 마감 샤드 {} 인수: 밀린 마감 {}건 종료, 타이머 {}건 적재", shards, closed, rows.size());
+    }
+
+    private void syncChanges(LocalDateTime since, Set<Integer> justLoaded, LocalDateTime now) {
+        List<VoteDeadlineRow> changed = new ArrayList<>(voteRepository.findDeadlinesUpdatedSince(since));
+        changed.addAll(voteRepository.findDeadlinesByScheduleUpdatedSince(since));
+        for (VoteDeadlineRow row : changed) {
+            int shard = shardOf(row.getVoteId());
+            if (ownedShards.contains(shard) && !justLoaded.contains(shard)) {
+                apply(row, now, Duration.ZERO);
+            }
+        }
+    }
+
+    private void fire(Trigger trigger, LocalDateTime now) {
+        // 실행 직전 DB 기준으로 다시 확인 (다른 서버에서 종료/일정 변경된 경우)
+        VoteDeadlineRow row = voteRepository.findDeadline(trigger.voteId())
+                .filter(r -> "OPEN".equals(r.getStatus()))
+                .orElse(null);
+        if (row == null) {
+            unschedule(trigger.voteId());
+            return;
+        }
+
+        LocalDateTime dueAt = trigger.kind() == Kind.CLOSE ? closeAt(row) : remindAt(row);
+        if (dueAt == null) {
+            return;
+        }
+        if (dueAt.isAfter(now)) {
+            // 일정 시작 시각이 뒤로 밀린 경우
+            wheel.schedule(trigger, toMillis(dueAt));
+            return;
+        }
+
+        if (trigger.kind() == Kind.CLOSE) {
+            voteAutoCloseService.closeVote(row.getVoteId());
+        } else {
+            voteScheduler.remindDeadline(row.getVoteId());
+        }
+    }
+
+    private void apply(VoteDeadlineRow row, LocalDateTime now, Duration remindGrace) {
+        unschedule(row.getVoteId());
+        if (!"OPEN".equals(row.getStatus())) {
+            return;
+        }
+
+        LocalDateTime closeAt = closeAt(row);
+        if (closeAt != null) {
+            wheel.schedule(new Trigger(row.getVoteId(), Kind.CLOSE), toMillis(closeAt));
+        }
+        LocalDateTime remindAt = remindAt(row);
+        if (remindAt != null && remindAt.isAfter(now.minus(remindGrace))) {
+            wheel.schedule(new Trigger(row.getVoteId(), Kind.REMIND), toMillis(remindAt));
+        }
+    }
+
+    private void unschedule(Long voteId) {
+        wheel.cancel(new Trigger(voteId, Kind.CLOSE));
+        wheel.cancel(new Trigger(voteId, Kind.REMIND));
+    }
+
+    private static LocalDateTime closeAt(VoteDeadlineRow row) {
+        if ("ATTENDANCE".equals(row.getVoteType())) {
+            return row.getEventDate() != null ? row.getEventDate().minus(ATTENDANCE_CLOSE_BEFORE) : null;
+        }
+        return row.getDeadline();
+    }
+
+    private static LocalDateTime remindAt(VoteDeadlineRow row) {
+        return row.getDeadline() != null ? row.getDeadline().minus(REMIND_BEFORE) : null;
+    }
+
+    private int shardOf(Long voteId) {
+        return (int) Math.floorMod(voteId, (long) shardCount);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -8,13 +8,9 @@ import back.repository.vote.VoteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -26,39 +22,31 @@ public class VoteScheduler {
     private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 매 분마다 마감 시간이 1시간 ~ 1시간 1분 남은 투표를 감지하여 알림을 보냅니다.
-     * (테스트 및 즉각적인 반응을 위해 1분 주기로 설정)
+     * 마감 1시간 전 알림을 발행합니다.
+     * 마감 타이머(VoteDeadlineTimer)가 알림 시각에 호출합니다.
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초 실행
     @Transactional(readOnly = true)
-    public void checkUpcomingVoteDeadlines() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneHourLater = now.plusHours(1);
-        LocalDateTime oneHourOneMinuteLater = now.plusHours(1).plusMinutes(1);
-
-        // 마감 기한이 [1시간 후 ~ 1시간 1분 후] 사이인 투표 조회
-        List<Votes> upcomingVotes = voteRepository.findUpcomingDeadlines(oneHourLater, oneHourOneMinuteLater);
-
-        if (upcomingVotes.isEmpty()) {
+    public void remindDeadline(Long voteId) {
+        Votes vote = voteRepository.findById(voteId).orElse(null);
+        if (vote == null || !"OPEN".equals(vote.getStatus())) {
             return;
         }
 
-        log.info("Found {} votes with upcoming deadline.", upcomingVotes.size());
-
-        for (Votes vote : upcomingVotes) {
-            Long clubId = getClubId(vote);
-            if (clubId != null) {
-                eventPublisher.publishEvent(new VoteDeadlineEvent(
-                        vote.getVoteId(),
-                        vote.getTitle(),
-                        clubId));
-            } else {
-                log.warn("Vote {} has no associated clubId.", vote.getVoteId());
-            }
+        Long clubId = getClubId(vote);
+        if (clubId != null) {
+            eventPublisher.publishEvent(new VoteDeadlineEvent(
+                    vote.getVoteId(),
+                    vote.getTitle(),
+                    clubId));
+        } else {
+            log.warn("Vote {} has no associated clubId.", vote.getVoteId());
         }
     }
 
     private Long getClubId(Votes vote) {
+        if (vote.getClubId() != null) {
+            return vote.getClubId();
+        }
         if ("ATTENDANCE".equals(vote.getVoteType()) && vote.getScheduleId() != null) {
             return scheduleRepository.findById(vote.getScheduleId())
                     .map(schedule -> schedule.getClubId())
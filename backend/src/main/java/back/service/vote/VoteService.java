@@ -3,13 +3,14 @@ package back.service.vote;
 import back.domain.*;
 import back.domain.club.Clubs;
 import back.domain.club.ClubMembers;
-import back.domain.post.PostCategory;
 import back.domain.post.Posts;
 import back.domain.schedule.Schedules;
 import back.domain.vote.VoteOptions;
 import back.domain.vote.VoteRecords;
 import back.domain.vote.Votes;
 import back.dto.vote.*;
+import back.event.VoteDeadlineChangedEvent;
+import back.event.VotesClosedEvent;
 import back.exception.ResourceException;
 import back.exception.VoteException;
 import back.repository.club.ClubMemberRepository;
@@ -19,21 +20,29 @@ import back.repository.schedule.ScheduleRepository;
 import back.repository.vote.VoteOptionRepository;
 import back.repository.vote.VoteRecordRepository;
 import back.repository.vote.VoteRepository;
+import back.repository.vote.projection.VoteOptionTallyRow;
 import back.repository.UserRepository;
 import back.service.club.ClubAuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class VoteService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final ScheduleRepository scheduleRepository;
     private final VoteRepository voteRepository;
@@ -42,6 +51,7 @@ public class VoteService {
     private final ClubMemberRepository clubMembersRepository;
     private final ClubRepository clubsRepository;
     private final ClubAuthService clubsAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모임에 속한 일정/참석 투표를 생성합니다.
@@ -176,6 +186,7 @@ public class VoteService {
         LocalDateTime deadline = "GENERAL".equals(request.voteType()) ? request.deadline() : null;
 
         Votes vote = new Votes(
+                clubId,
                 post != null ? post.getPostId() : null, // GENERAL 타입일 때만 postId 설정
                 request.voteType(),
                 request.scheduleId(),
@@ -225,7 +236,10 @@ public class VoteService {
             }
         }
 
-        // 5. VoteResponse로 변환해서 리턴
+        // 5. 마감 타이머 등록
+        eventPublisher.publishEvent(new VoteDeadlineChangedEvent(vote.getVoteId()));
+
+        // 6. VoteResponse로 변환해서 리턴
         return new VoteResponse(
                 vote.getVoteId(),
                 post != null ? post.getPostId() : null, // GENERAL 타입일 때만 postId 설정
@@ -250,17 +264,7 @@ public class VoteService {
                 .orElseThrow(VoteException.NotFound::new);
 
         // clubId 검증: 투표가 해당 모임에 속하는지 확인
-        Long voteClubId = null;
-        if ("ATTENDANCE".equals(vote.getVoteType()) && vote.getScheduleId() != null) {
-            Schedules schedule = scheduleRepository.findById(vote.getScheduleId())
-                    .orElseThrow(ResourceException.NotFound::new);
-            voteClubId = schedule.getClubId();
-        } else if ("GENERAL".equals(vote.getVoteType()) && vote.getPostId() != null) {
-            Posts post = postRepository.findById(vote.getPostId())
-                    .orElseThrow(ResourceException.NotFound::new);
-            voteClubId = post.getClub().getClubId();
-        }
-
+        Long voteClubId = getVoteClubId(vote);
         if (voteClubId == null || !voteClubId.equals(clubId)) {
             throw new VoteException.ClubMismatch();
         }
@@ -298,6 +302,7 @@ public class VoteService {
         // 투표 종료
         vote.close();
         voteRepository.save(vote);
+        eventPublisher.publishEvent(new VotesClosedEvent(List.of(voteId)));
     }
 
     /**
@@ -317,22 +322,12 @@ public class VoteService {
             throw new VoteException.MemberOnly();
         }
 
-        // 1. 투표 존재 확인
-        Votes vote = voteRepository.findById(voteId)
+        // 1. 투표 존재 확인 (배타 잠금: 같은 사용자의 동시 첫 참여가 기존 기록 없음을 함께 읽지 않도록 직렬화)
+        Votes vote = voteRepository.findByIdForUpdate(voteId)
                 .orElseThrow(VoteException.NotFound::new);
 
         // clubId 검증: 투표가 해당 모임에 속하는지 확인
-        Long voteClubId = null;
-        if ("ATTENDANCE".equals(vote.getVoteType()) && vote.getScheduleId() != null) {
-            Schedules schedule = scheduleRepository.findById(vote.getScheduleId())
-                    .orElseThrow(ResourceException.NotFound::new);
-            voteClubId = schedule.getClubId();
-        } else if ("GENERAL".equals(vote.getVoteType()) && vote.getPostId() != null) {
-            Posts post = postRepository.findById(vote.getPostId())
-                    .orElseThrow(ResourceException.NotFound::new);
-            voteClubId = post.getClub().getClubId();
-        }
-
+        Long voteClubId = getVoteClubId(vote);
         if (voteClubId == null || !voteClubId.equals(clubId)) {
             throw new VoteException.ClubMismatch();
         }
@@ -392,12 +387,14 @@ public class VoteService {
 
         // 6. 기존 투표 기록 확인 (중복 투표 체크)
         List<VoteRecords> existingRecords = voteRecordRepository.findByVoteIdAndUserId(voteId, userId);
+        List<VoteRecords> removedRecords = List.of();
 
         // ATTENDANCE 타입은 기존 기록이 있으면 업데이트 (참석 → 불참 변경 가능)
         if ("ATTENDANCE".equals(vote.getVoteType())) {
             if (!existingRecords.isEmpty()) {
                 // 기존 기록 삭제 (참석 → 불참 변경)
                 voteRecordRepository.deleteAll(existingRecords);
+                removedRecords = existingRecords;
             }
         } else {
             // GENERAL 타입
@@ -405,6 +402,7 @@ public class VoteService {
                 // allowMultiple이 false면 기존 기록이 있으면 삭제 (투표 변경 허용)
                 if (!existingRecords.isEmpty()) {
                     voteRecordRepository.deleteAll(existingRecords);
+                    removedRecords = existingRecords;
                 }
             } else {
                 // allowMultiple이 true면 같은 옵션 중복 선택 방지
@@ -426,6 +424,33 @@ public class VoteService {
                 .collect(Collectors.toList());
 
         voteRecordRepository.saveAll(newRecords);
+
+        // 8. 집계 컬럼 갱신 (기존 기록이 없던 사용자만 참여자 수 증가)
+        adjustVoteCounters(voteId, removedRecords, optionIds, existingRecords.isEmpty());
+    }
+
+    /**
+     * 옵션별 투표 수/참여자 수를 원자적 UPDATE로 증감합니다.
+     * 같은 옵션을 다시 선택한 경우(삭제 후 재등록)는 변경하지 않습니다.
+     */
+    private void adjustVoteCounters(Long voteId, List<VoteRecords> removedRecords, List<Long> addedOptionIds,
+                                    boolean newParticipant) {
+        Map<Long, Long> deltaByOptionId = new TreeMap<>();
+        removedRecords.forEach(record -> deltaByOptionId.merge(record.getOptionId(), -1L, Long::sum));
+        addedOptionIds.forEach(optionId -> deltaByOptionId.merge(optionId, 1L, Long::sum));
+
+        // 증감량별로 묶어서 UPDATE (옵션 ID 오름차순으로 잠금 순서 고정)
+        Map<Long, List<Long>> optionIdsByDelta = new TreeMap<>();
+        deltaByOptionId.forEach((optionId, delta) -> {
+            if (delta != 0) {
+                optionIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(optionId);
+            }
+        });
+        optionIdsByDelta.forEach((delta, ids) -> voteOptionRepository.adjustVoteCount(ids, delta));
+
+        if (newParticipant) {
+            voteRepository.adjustParticipantCount(voteId, 1L);
+        }
     }
 
     /**
@@ -450,25 +475,24 @@ public class VoteService {
             throw new VoteException.ClubMismatch();
         }
 
-        // 투표 옵션 조회
-        List<VoteOptions> options = voteOptionRepository.findByVoteIdOrderByOptionOrderAsc(voteId);
-
-        // 각 옵션별 투표 수 조회
-        List<VoteOptionResponse> optionResponses = options.stream()
-                .map(option -> new VoteOptionResponse(
-                        option.getOptionId(),
-                        option.getOptionText(),
-                        option.getOptionOrder(),
-                        option.getEventDate(),
-                        option.getLocation(),
-                        voteRecordRepository.countByOptionId(option.getOptionId())
-                ))
-                .collect(Collectors.toList());
-
-        // 현재 사용자가 선택한 옵션 조회
-        List<Long> mySelectedOptionIds = voteRecordRepository.findByVoteIdAndUserId(voteId, userId).stream()
-                .map(VoteRecords::getOptionId)
-                .collect(Collectors.toList());
+        // 옵션별 투표 수 + 현재 사용자 선택 여부 (단일 GROUP BY 조회)
+        List<VoteOptionTallyRow> tallies = voteOptionRepository.findOptionTallies(voteId, userId);
+
+        List<VoteOptionResponse> optionResponses = new ArrayList<>(tallies.size());
+        List<Long> mySelectedOptionIds = new ArrayList<>();
+        for (VoteOptionTallyRow tally : tallies) {
+            optionResponses.add(new VoteOptionResponse(
+                    tally.getOptionId(),
+                    tally.getOptionText(),
+                    tally.getOptionOrder(),
+                    tally.getEventDate(),
+                    tally.getLocation(),
+                    tally.getVoteCount()
+            ));
+            if (tally.getMyRecordCount() > 0) {
+                mySelectedOptionIds.add(tally.getOptionId());
+            }
+        }
 
         return new VoteDetailResponse(
                 vote.getVoteId(),
@@ -491,71 +515,64 @@ public class VoteService {
     }
 
     /**
-     * 모임에 속한 전체 투표 목록을 조회합니다.
+     * 모임에 속한 투표 목록을 최신순으로 조회합니다. (커서 기반)
      *
-     * @param clubId 모임 ID
-     * @param userId 현재 로그인한 사용자 ID
-     * @return 투표 목록
+     * @param clubId  모임 ID
+     * @param userId  현재 로그인한 사용자 ID
+     * @param request 커서/페이지 크기/상태/마감 기한 조건
+     * @return 투표 목록과 다음 페이지 커서
      */
     @Transactional(readOnly = true)
-    public List<VoteListResponse> getVotesByClubId(Long clubId, Long userId) {
+    public VoteSliceResponse getVotesByClubId(Long clubId, Long userId, VoteSearchRequest request) {
         // 권한 체크: ACTIVE 멤버만 조회 가능
         clubsAuthorizationService.assertActiveMember(clubId, userId);
 
-        // 방법 1: 해당 모임의 Posts에서 VOTE 카테고리 게시글 조회 후 Votes 조회
-        List<Posts> votePosts = postRepository.findByClub_ClubIdAndCategoryAndDeletedAtIsNull(clubId, PostCategory.VOTE);
-        List<Long> postIds = votePosts.stream()
-                .map(Posts::getPostId)
-                .collect(Collectors.toList());
-
-        // 방법 2: 해당 모임의 Schedules에서 ATTENDANCE 투표 조회
-        List<Schedules> schedules = scheduleRepository.findByClubId(clubId);
-        List<Long> scheduleIds = schedules.stream()
-                .map(Schedules::getScheduleId)
-                .collect(Collectors.toList());
-
-        // GENERAL 타입 투표 (postId 기반)
-        List<Votes> generalVotes = postIds.isEmpty()
-                ? new ArrayList<>()
-                : voteRepository.findByPostIdIn(postIds);
-
-        // ATTENDANCE 타입 투표 (scheduleId 기반)
-        List<Votes> attendanceVotes = scheduleIds.isEmpty()
-                ? new ArrayList<>()
-                : voteRepository.findByScheduleIdIn(scheduleIds);
-
-        // 모든 투표 합치기 (중복 제거)
-        List<Votes> allVotes = new ArrayList<>();
-        allVotes.addAll(generalVotes);
-        for (Votes attendanceVote : attendanceVotes) {
-            boolean alreadyExists = allVotes.stream()
-                    .anyMatch(v -> v.getVoteId().equals(attendanceVote.getVoteId()));
-            if (!alreadyExists) {
-                allVotes.add(attendanceVote);
-            }
+        int size = request.size() != null ? request.size() : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new VoteException.SearchInvalid();
+        }
+        if (request.status() != null && !"OPEN".equals(request.status()) && !"CLOSED".equals(request.status())) {
+            throw new VoteException.SearchInvalid();
+        }
+        if (request.deadlineFrom() != null && request.deadlineTo() != null
+                && !request.deadlineFrom().isBefore(request.deadlineTo())) {
+            throw new VoteException.SearchInvalid();
         }
 
-        // VoteListResponse로 변환
-        return allVotes.stream()
-                .map(vote -> new VoteListResponse(
-                        vote.getVoteId(),
-                        vote.getPostId(),
-                        vote.getVoteType(),
-                        vote.getScheduleId(),
-                        vote.getTitle(),
-                        vote.getStatus(),
-                        vote.getDeadline(),
-                        vote.getClosedAt(),
-                        vote.getCreatedAt(),
-                        voteRecordRepository.countDistinctClubMembersByVoteId(vote.getVoteId())
-                ))
-                .collect(Collectors.toList());
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<Votes> votes = voteRepository.findClubVotes(
+                clubId,
+                request.cursor(),
+                request.status(),
+                request.deadlineFrom(),
+                request.deadlineTo(),
+                attendanceEventDate(request.deadlineFrom()),
+                attendanceEventDate(request.deadlineTo()),
+                PageRequest.of(0, size + 1));
+
+        boolean hasNext = votes.size() > size;
+        List<Votes> page = hasNext ? votes.subList(0, size) : votes;
+
+        return new VoteSliceResponse(
+                page.stream().map(VoteListResponse::from).toList(),
+                hasNext ? page.get(page.size() - 1).getVoteId() : null,
+                hasNext
+        );
+    }
+
+    // 일정 투표 종료 시각(일정 시작 5분 전)이 deadline일 때의 일정 시작 시각
+    private static LocalDateTime attendanceEventDate(LocalDateTime deadline) {
+        return deadline != null ? deadline.plus(VoteDeadlineTimer.ATTENDANCE_CLOSE_BEFORE) : null;
     }
 
     /**
      * 투표가 속한 모임 ID를 반환합니다.
+     * club_id가 채워지지 않은 이전 데이터만 일정/게시글을 조회합니다.
      */
     private Long getVoteClubId(Votes vote) {
+        if (vote.getClubId() != null) {
+            return vote.getClubId();
+        }
         if ("ATTENDANCE".equals(vote.getVoteType()) && vote.getScheduleId() != null) {
             return scheduleRepository.findById(vote.getScheduleId())
                     .map(Schedules::getClubId)
@@ -0,0 +1,23 @@
+-- 1. votes 테이블 club_id 컬럼 추가 (투표 소속 모임 확인 시 일정/게시글 조회 제거)
+-- 2. 기존 투표 club_id 채우기 (ATTENDANCE: schedules, GENERAL: posts)
+-- 3. 모임별 투표 조회용 인덱스 및 FK 추가
+
+ALTER TABLE votes
+ADD COLUMN club_id BIGINT NULL AFTER vote_id;
+
+UPDATE votes v
+JOIN schedules s ON s.schedule_id = v.schedule_id
+SET v.club_id = s.club_id
+WHERE v.vote_type = 'ATTENDANCE';
+
+UPDATE votes v
+JOIN posts p ON p.post_id = v.post_id
+SET v.club_id = p.club_id
+WHERE v.vote_type = 'GENERAL';
+
+CREATE INDEX idx_votes_club_id ON votes (club_id, vote_id);
+
+ALTER TABLE votes
+ADD CONSTRAINT fk_votes_club_id
+FOREIGN KEY (club_id)
+REFERENCES clubs (club_id);
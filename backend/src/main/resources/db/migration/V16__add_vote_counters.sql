@@ -0,0 +1,25 @@
+-- 1. vote_options 옵션별 투표 수 컬럼 추가
+-- 2. votes 참여자 수 컬럼 추가
+-- 3. 기존 vote_records 기준으로 초기값 채우기
+
+ALTER TABLE vote_options
+ADD COLUMN vote_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE votes
+ADD COLUMN participant_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE vote_options o
+JOIN (
+    SELECT option_id, COUNT(*) AS cnt
+    FROM vote_records
+    GROUP BY option_id
+) r ON r.option_id = o.option_id
+SET o.vote_count = r.cnt;
+
+UPDATE votes v
+JOIN (
+    SELECT vote_id, COUNT(DISTINCT user_id) AS cnt
+    FROM vote_records
+    GROUP BY vote_id
+) r ON r.vote_id = v.vote_id
+SET v.participant_count = r.cnt;
@@ -0,0 +1,4 @@
+-- 모임 투표 목록 커서 조회용 인덱스
+-- WHERE club_id = ? [AND status = ?] AND vote_id < ? ORDER BY vote_id DESC
+
+CREATE INDEX idx_votes_club_status ON votes (club_id, status, vote_id);
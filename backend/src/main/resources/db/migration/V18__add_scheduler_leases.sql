@@ -0,0 +1,14 @@
+-- 1. 샤드별 스케줄러 실행권(lease) 테이블 추가
+-- 2. 투표 마감 타이머 적재/동기화/catch-up 조회용 인덱스 추가
+
+CREATE TABLE scheduler_leases (
+    lease_key   VARCHAR(100) NOT NULL,
+    owner_id    VARCHAR(100) NOT NULL DEFAULT '',
+    lease_until DATETIME(3)  NOT NULL,
+    PRIMARY KEY (lease_key)
+);
+
+CREATE INDEX idx_votes_status_deadline ON votes (status, deadline);
+CREATE INDEX idx_votes_updated_at ON votes (updated_at);
+CREATE INDEX idx_schedules_event_date ON schedules (event_date);
+CREATE INDEX idx_schedules_updated_at ON schedules (updated_at);
@@ -0,0 +1,18 @@
+-- 게시글 임베딩 작업 outbox
+-- 1. 게시글당 1행 (post_id UNIQUE) → 연속 수정은 version만 올라가고 작업 1건으로 합쳐짐
+-- 2. status: PENDING(대기) / PROCESSING(처리 중, next_attempt_at = 처리 lease 만료 시각) / DONE / FAILED
+-- 3. 처리 중 수정되면 version이 바뀌어 완료 시 다시 PENDING
+
+CREATE TABLE post_embedding_outbox (
+    post_id         BIGINT       NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    version         BIGINT       NOT NULL DEFAULT 1,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(3)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(3)  NOT NULL,
+    updated_at      DATETIME(3)  NOT NULL,
+    PRIMARY KEY (post_id)
+);
+
+CREATE INDEX idx_post_embedding_outbox_status_next ON post_embedding_outbox (status, next_attempt_at);
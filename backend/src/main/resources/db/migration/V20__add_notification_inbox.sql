@@ -0,0 +1,22 @@
+-- 1. 알림함 커서 조회/안읽음 필터용 인덱스 추가
+--    WHERE user_id = ? [AND is_read = 0] AND noti_id < ? ORDER BY noti_id DESC
+-- 2. 사용자별 안읽은 알림 수 카운터 테이블 추가 (배지 조회 시 COUNT 대신 PK 조회)
+-- 3. 기존 notifications 기준으로 초기값 채우기
+
+CREATE INDEX idx_notifications_user_noti ON notifications (user_id, noti_id, is_read);
+
+CREATE TABLE notification_unread_counts (
+    user_id      BIGINT   NOT NULL,
+    unread_count BIGINT   NOT NULL DEFAULT 0,
+    updated_at   DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO notification_unread_counts (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notifications
+WHERE is_read = 0 OR is_read IS NULL
+GROUP BY user_id;
+
+UPDATE notifications SET is_read = 0 WHERE is_read IS NULL;
@@ -0,0 +1,12 @@
+-- 서버 간 알림 전달용 브로드캐스트 로그 추가
+-- 각 서버는 seq 커서로 폴링해 자신에게 연결된 사용자에게만 전달
+-- 일정 시간이 지난 행은 폴링 서버가 정리 (재연결 누락분은 notifications 테이블에서 재전송)
+
+CREATE TABLE notification_bus (
+    seq         BIGINT       NOT NULL AUTO_INCREMENT,
+    origin_node VARCHAR(64)  NOT NULL,
+    payload     MEDIUMTEXT   NOT NULL,
+    created_at  DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (seq),
+    INDEX idx_notification_bus_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,22 @@
+-- 게시글 임베딩 백필(전체 재임베딩) 작업 진행 상황
+-- 1. 작업 1건 = 1행, status: RUNNING / PAUSED / COMPLETED / FAILED / CANCELLED
+-- 2. last_post_id: 벡터 저장까지 끝낸 마지막 게시글 id (keyset 체크포인트, 재개 시 다음 id부터)
+-- 3. max_post_id: 시작 시점 최대 게시글 id (이후 작성된 글은 outbox 워커가 처리)
+-- 4. active_slot: RUNNING/PAUSED 작업은 동시에 1건만 (UNIQUE, 나머지 상태는 NULL)
+
+CREATE TABLE post_embedding_backfill_jobs (
+    job_id          BIGINT       NOT NULL AUTO_INCREMENT,
+    status          VARCHAR(20)  NOT NULL,
+    last_post_id    BIGINT       NOT NULL DEFAULT 0,
+    max_post_id     BIGINT       NOT NULL,
+    total_posts     BIGINT       NOT NULL,
+    processed_posts BIGINT       NOT NULL DEFAULT 0,
+    failed_batches  INT          NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500) NULL,
+    started_at      DATETIME(3)  NOT NULL,
+    updated_at      DATETIME(3)  NOT NULL,
+    finished_at     DATETIME(3)  NULL,
+    active_slot     TINYINT GENERATED ALWAYS AS (IF(status IN ('RUNNING', 'PAUSED'), 1, NULL)) STORED,
+    PRIMARY KEY (job_id),
+    UNIQUE KEY uk_post_embedding_backfill_active (active_slot)
+);
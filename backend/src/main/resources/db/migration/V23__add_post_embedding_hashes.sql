@@ -0,0 +1,11 @@
+-- 게시글별 마지막으로 벡터 저장소에 저장한 임베딩 입력 해시
+-- 1. content_hash: 모델 + 임베딩 텍스트 + 검색 메타데이터(모임, 작성자, 태그 멤버, 작성일)의 SHA-256
+-- 2. 수정 후 해시가 같으면 재임베딩 생략 (이미지만 바뀐 경우 등)
+-- 3. 벡터 삭제 시 함께 삭제, 정합성 점검에서 저장소에 없는 게시글은 삭제 후 다시 적재
+
+CREATE TABLE post_embedding_hashes (
+    post_id      BIGINT      NOT NULL,
+    content_hash CHAR(64)    NOT NULL,
+    embedded_at  DATETIME(3) NOT NULL,
+    PRIMARY KEY (post_id)
+);
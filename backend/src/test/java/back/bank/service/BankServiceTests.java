@@ -10,8 +10,10 @@ import back.bank.dto.response.BankTransaction;
 import back.dto.ledger.response.RefundResponse;
 import back.bank.provider.BankProvider;
 import back.bank.provider.BankProviderRegistry;
+import back.bank.provider.stub.StubBankProvider;
 import back.bank.repository.BankAccountRepository;
 import back.bank.repository.BankRepository;
+import back.bank.repository.BankTransactionBatchWriter;
 import back.bank.repository.BankTransactionHistoryRepository;
 import back.domain.ledger.TransactionLog;
 import back.repository.ledger.TransactionLogRepository;
@@ -22,16 +24,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -61,9 +68,30 @@ class BankServiceTests {
     @Mock
     private TransactionMatchingService transactionMatchingService;
 
+    @Mock
+    private BankTransactionBatchWriter batchWriter;
+
     @Mock
     private BankProvider bankProvider;
 
+    private BankTransactionHistory history(Long historyId) {
+        BankTransactionHistory history = new BankTransactionHistory(1L, LocalDateTime.now(), "입금",
+                BigDecimal.valueOf(10000), "TX" + historyId, "DEPOSIT");
+        ReflectionTestUtils.setField(history, "historyId", historyId);
+        return history;
+    }
+
+    private TransactionLog transactionLog(Long transactionId) {
+        TransactionLog log = new TransactionLog(1L, 1L, "DEPOSIT", BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(10000), "입금", null);
+        ReflectionTestUtils.setField(log, "transactionId", transactionId);
+        return log;
+    }
+
+    private static List<Long> ids(Iterable<Long> ids) {
+        return StreamSupport.stream(ids.spliterator(), false).toList();
+    }
+
     @Test
     @DisplayName("계좌 생성 성공")
     void createAccount_Success() {
@@ -121,17 +149,111 @@ class BankServiceTests {
         given(bankAccountRepository.findByClubId(clubId)).willReturn(Optional.of(account));
         given(registry.get("STUB")).willReturn(bankProvider);
         given(bankProvider.getTransactions(anyString(), eq(from), eq(to))).willReturn(List.of(mockTx));
-        given(transactionHistoryRepository.existsByUniqueTxKey("TX1")).willReturn(false);
+        given(transactionHistoryRepository.findExistingUniqueTxKeys(List.of("TX1"))).willReturn(List.of());
+        given(batchWriter.insertHistories(anyList())).willReturn(List.of(1L));
+        given(batchWriter.insertTransactionLogs(anyList())).willReturn(List.of(10L));
+        given(transactionHistoryRepository.findAllById(List.of(1L))).willReturn(List.of(history(1L)));
+        given(transactionLogRepository.findAllById(List.of(10L))).willReturn(List.of(transactionLog(10L)));
 
         // when
-        bankService.syncTransactions(clubId, from, to);
+        List<TransactionLog> result = bankService.syncTransactions(clubId, from, to);
 
         // then
-        verify(transactionHistoryRepository).save(any(BankTransactionHistory.class));
-        verify(transactionLogRepository).save(any(TransactionLog.class));
+        assertThat(result).hasSize(1);
+        verify(batchWriter).insertHistories(anyList());
+        verify(batchWriter).insertTransactionLogs(anyList());
+        verify(transactionHistoryRepository, never()).save(any(BankTransactionHistory.class));
+        verify(transactionLogRepository, never()).save(any(TransactionLog.class));
         verify(transactionMatchingService).autoMatchTransactions(eq(clubId), any(), any());
     }
 
+    @Test
+    @DisplayName("거래내역 동기화 - 이미 저장된 거래와 페이지 내 중복은 저장하지 않음")
+    void syncTransactions_SkipsDuplicates() {
+        // given
+        Banks bank = mock(Banks.class);
+        Long clubId = 1L;
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+
+        BankAccounts account = new BankAccounts(clubId, "STUB", 1L, bank, "110-1234", "홍길동");
+        BankTransaction saved = new BankTransaction("TX1", LocalDateTime.now(), "DEPOSIT", BigDecimal.valueOf(10000),
+                BigDecimal.valueOf(10000), "입금");
+        BankTransaction fresh = new BankTransaction("TX2", LocalDateTime.now(), "DEPOSIT", BigDecimal.valueOf(20000),
+                BigDecimal.valueOf(30000), "입금");
+
+        given(bankAccountRepository.findByClubId(clubId)).willReturn(Optional.of(account));
+        given(registry.get("STUB")).willReturn(bankProvider);
+        given(bankProvider.getTransactions(anyString(), eq(from), eq(to))).willReturn(List.of(saved, fresh, fresh));
+        given(transactionHistoryRepository.findExistingUniqueTxKeys(List.of("TX1", "TX2"))).willReturn(List.of("TX1"));
+        given(batchWriter.insertHistories(anyList())).willReturn(List.of(2L));
+        given(batchWriter.insertTransactionLogs(anyList())).willReturn(List.of(20L));
+        given(transactionHistoryRepository.findAllById(List.of(2L))).willReturn(List.of(history(2L)));
+        given(transactionLogRepository.findAllById(List.of(20L))).willReturn(List.of(transactionLog(20L)));
+
+        // when
+        List<TransactionLog> result = bankService.syncTransactions(clubId, from, to);
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(batchWriter).insertHistories(argThat(histories -> histories.size() == 1
+                && "TX2".equals(histories.get(0).getUniqueTxKey())));
+    }
+
+    @Test
+    @DisplayName("거래내역 동기화 - 스텁 페이지 10,000건도 조회/저장 횟수는 일정")
+    void syncTransactionsStub_LargePage_ConstantRoundTrips() {
+        // given
+        Banks bank = mock(Banks.class);
+        Long clubId = 1L;
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+        int targetRows = 10_000;
+
+        // 스텁 JSON 3페이지를 반복 재생하여 고유 txId 10,000건 생성
+        StubBankProvider stub = new StubBankProvider();
+        List<BankTransaction> pages = new ArrayList<>();
+        for (long page = 1; page <= 3; page++) {
+            pages.addAll(stub.getTransactionsStub("110-1234", page, from, to));
+        }
+        List<BankTransaction> replay = new ArrayList<>(targetRows);
+        for (int i = 0; replay.size() < targetRows; i++) {
+            BankTransaction tx = pages.get(i % pages.size());
+            replay.add(new BankTransaction(tx.txId() + "-" + i, tx.occurredAt(), tx.type(), tx.amount(),
+                    tx.balanceAfter(), tx.printContent()));
+        }
+
+        BankAccounts account = new BankAccounts(clubId, "STUB", 1L, bank, "110-1234", "홍길동");
+        List<Long> generatedIds = LongStream.rangeClosed(1, targetRows).boxed().toList();
+
+        given(bankAccountRepository.findByClubId(clubId)).willReturn(Optional.of(account));
+        given(registry.get("STUB")).willReturn(bankProvider);
+        given(bankProvider.getTransactionsStub(anyString(), eq(1L), eq(from), eq(to))).willReturn(replay);
+        given(transactionHistoryRepository.findExistingUniqueTxKeys(anyList())).willReturn(List.of());
+        given(batchWriter.insertHistories(anyList())).willReturn(generatedIds);
+        given(batchWriter.insertTransactionLogs(anyList())).willReturn(generatedIds);
+        given(transactionHistoryRepository.findAllById(anyIterable()))
+                .willAnswer(inv -> ids(inv.getArgument(0)).stream().map(this::history).toList());
+        given(transactionLogRepository.findAllById(anyIterable()))
+                .willAnswer(inv -> ids(inv.getArgument(0)).stream().map(this::transactionLog).toList());
+
+        // when
+        List<TransactionLog> result = bankService.syncTransactionsStub(clubId, 1L, from, to);
+
+        // then: 행 수와 무관하게 조회 1회 + 배치 저장 1회 + 재조회 1회 (행 단위 호출 없음)
+        assertThat(result).hasSize(targetRows);
+        verify(bankProvider, times(1)).getTransactionsStub(anyString(), anyLong(), any(), any());
+        verify(transactionHistoryRepository, times(1)).findExistingUniqueTxKeys(argThat(keys -> keys.size() == targetRows));
+        verify(transactionHistoryRepository, never()).existsByUniqueTxKey(anyString());
+        verify(batchWriter, times(1)).insertHistories(argThat(rows -> rows.size() == targetRows));
+        verify(batchWriter, times(1)).insertTransactionLogs(argThat(rows -> rows.size() == targetRows));
+        verify(transactionHistoryRepository, times(1)).findAllById(anyIterable());
+        verify(transactionLogRepository, times(1)).findAllById(anyIterable());
+        verify(transactionHistoryRepository, never()).save(any());
+        verify(transactionLogRepository, never()).save(any());
+        verify(transactionMatchingService, times(1)).autoMatchTransactions(eq(clubId), anyList(), any());
+    }
+
     @Test
     @DisplayName("거래내역 동기화 - 날짜 자동 (첫 동기화)")
     void syncTransactions_AutoDates_FirstTime() {
@@ -0,0 +1,36 @@
+package back.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceConfigTest {
+
+    private final BeanPostProcessor postProcessor = DataSourceConfig.mysqlBatchRewritePostProcessor();
+
+    @Test
+    @DisplayName("Hikari 데이터소스에 rewriteBatchedStatements=true를 기본으로 넣는다")
+    void enablesBatchRewrite() {
+        HikariDataSource dataSource = new HikariDataSource();
+
+        postProcessor.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry(DataSourceConfig.REWRITE_BATCHED_STATEMENTS, "true");
+    }
+
+    @Test
+    @DisplayName("외부 설정에 값이 있으면 덮어쓰지 않는다")
+    void keepsConfiguredValue() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.addDataSourceProperty(DataSourceConfig.REWRITE_BATCHED_STATEMENTS, "false");
+
+        postProcessor.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry(DataSourceConfig.REWRITE_BATCHED_STATEMENTS, "false");
+    }
+}
@@ -0,0 +1,103 @@
+package back.config.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtTokenVerificationTest {
+
+    private static final String SECRET = "thisIsATestSecretKeyForJwtTokenProviderTesting1234";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "salt", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidityInSeconds", 3600L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("Access Token을 한 번에 검증하고 사용자 클레임을 반환한다")
+    void verifyReturnsClaims() {
+        String token = jwtTokenProvider.createAccessToken("testUser", "USER", 7L);
+
+        VerifiedAccessToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.loginId()).isEqualTo("testUser");
+        assertThat(verified.role()).isEqualTo("USER");
+        assertThat(verified.toPrincipal().getUserId()).isEqualTo(7L);
+        // 같은 토큰은 캐시된 결과 재사용
+        assertThat(jwtTokenProvider.verify(token)).containsSame(verified);
+    }
+
+    @Test
+    @DisplayName("위조/만료/Refresh Token은 인증에 사용할 수 없다")
+    void verifyRejectsInvalidTokens() {
+        String token = jwtTokenProvider.createAccessToken("testUser", "USER", 7L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = Jwts.builder()
+                .subject("testUser")
+                .claim("ROLE", "USER")
+                .claim("userId", 7L)
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.verify(expired)).isEmpty();
+        assertThat(jwtTokenProvider.verify(jwtTokenProvider.createRefreshToken())).isEmpty();
+        assertThat(jwtTokenProvider.verify("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰마다 서명 검증은 1회, 이후 요청은 캐시로 기존 흐름과 같은 사용자를 돌려준다")
+    void verifyParsesEachTokenOnce() {
+        // 활성 사용자 200명이 각자 토큰으로 50번씩 요청
+        List<String> tokens = new ArrayList<>();
+        for (long userId = 1; userId <= 200; userId++) {
+            tokens.add(jwtTokenProvider.createAccessToken("user" + userId, "USER", userId));
+        }
+        List<Long> legacyUserIds = tokens.stream().map(this::legacyAuthenticate).toList();
+        JwtParser parser = spy((JwtParser) ReflectionTestUtils.getField(jwtTokenProvider, "parser"));
+        ReflectionTestUtils.setField(jwtTokenProvider, "parser", parser);
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < tokens.size(); i++) {
+                assertThat(jwtTokenProvider.verify(tokens.get(i)))
+                        .map(VerifiedAccessToken::userId)
+                        .contains(legacyUserIds.get(i));
+            }
+        }
+
+        verify(parser, times(tokens.size())).parseSignedClaims(anyString());
+    }
+
+    // 기존 JwtAuthenticationFilter 흐름 (validate + loginId + userId + role)
+    private long legacyAuthenticate(String token) {
+        if (!jwtTokenProvider.validateToken(token)) {
+            return 0L;
+        }
+        jwtTokenProvider.getLoginId(token);
+        Long userId = jwtTokenProvider.getUserId(token);
+        jwtTokenProvider.getRole(token);
+        return userId;
+    }
+}
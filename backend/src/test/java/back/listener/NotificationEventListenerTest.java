@@ -1,17 +1,14 @@
 package back.listener;
 
 import back.domain.NotificationType;
-import back.domain.Notifications;
 import back.domain.club.ClubMembers;
-import back.dto.NotificationResponse;
 import back.event.ClubJoinEvent;
 import back.event.CommentCreatedEvent;
 import back.event.PostCreatedEvent;
 import back.event.ScheduleRegisteredEvent;
 import back.event.VoteDeadlineEvent;
 import back.repository.club.ClubMemberRepository;
-import back.repository.notifications.NotificationsRepository;
-import back.service.notifications.NotificationService;
+import back.service.notifications.NotificationFanoutService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,10 +29,7 @@ class NotificationEventListenerTest {
     private ClubMemberRepository clubMemberRepository;
 
     @Mock
-    private NotificationsRepository notificationsRepository;
-
-    @Mock
-    private NotificationService notificationService;
+    private NotificationFanoutService notificationFanoutService;
 
     @InjectMocks
     private NotificationEventListener notificationEventListener;
@@ -51,26 +45,37 @@ class NotificationEventListenerTest {
 
         ScheduleRegisteredEvent event = new ScheduleRegisteredEvent(clubId, scheduleId, "테스트 일정", authorId);
 
-        ClubMembers author = mock(ClubMembers.class);
-        given(author.getUserId()).willReturn(authorId);
+        given(clubMemberRepository.findUserIdsByClubIdAndStatus(clubId, ClubMembers.Status.ACTIVE))
+                .willReturn(List.of(authorId, otherMemberId));
 
-        ClubMembers otherMember = mock(ClubMembers.class);
-        given(otherMember.getUserId()).willReturn(otherMemberId);
+        // when
+        notificationEventListener.handleScheduleRegisteredEvent(event);
 
-        given(clubMemberRepository.findByClubIdAndStatus(clubId, ClubMembers.Status.ACTIVE))
-                .willReturn(List.of(author, otherMember));
+        // then
+        // 작성자(authorId)는 제외되고 otherMemberId에게만 전송되어야 함
+        verify(notificationFanoutService).fanOut(
+                eq(List.of(otherMemberId)), anyString(), eq(scheduleId), eq(NotificationType.SCHEDULE));
+    }
 
-        Notifications notification = new Notifications(otherMemberId, "content", scheduleId,
-                NotificationType.SCHEDULE.name());
-        given(notificationsRepository.saveAll(anyList())).willReturn(List.of(notification));
+    @Test
+    @DisplayName("게시글 등록 시 작성자를 제외한 멤버에게 알림이 발송되어야 한다")
+    void handlePostCreatedEvent() {
+        // given
+        Long clubId = 1L;
+        Long postId = 200L;
+        Long authorId = 10L;
+
+        PostCreatedEvent event = new PostCreatedEvent(clubId, postId, "게시글 제목", authorId);
+
+        given(clubMemberRepository.findUserIdsByClubIdAndStatus(clubId, ClubMembers.Status.ACTIVE))
+                .willReturn(List.of(authorId, 11L, 12L));
 
         // when
-        notificationEventListener.handleScheduleRegisteredEvent(event);
+        notificationEventListener.handlePostCreatedEvent(event);
 
         // then
-        // 작성자(authorId)는 제외되고 otherMemberId에게만 전송되어야 함
-        verify(notificationService).send(eq(otherMemberId), any(NotificationResponse.class));
-        verify(notificationService, never()).send(eq(authorId), any(NotificationResponse.class));
+        verify(notificationFanoutService).fanOut(
+                eq(List.of(11L, 12L)), anyString(), eq(postId), eq(NotificationType.POST));
     }
 
     @Test
@@ -83,15 +88,12 @@ class NotificationEventListenerTest {
 
         CommentCreatedEvent event = new CommentCreatedEvent(postId, "댓글 내용", commentAuthorId, postAuthorId);
 
-        Notifications notification = new Notifications(postAuthorId, "content", postId,
-                NotificationType.COMMENT.name());
-        given(notificationsRepository.saveAll(anyList())).willReturn(List.of(notification));
-
         // when
         notificationEventListener.handleCommentCreatedEvent(event);
 
         // then
-        verify(notificationService).send(eq(postAuthorId), any(NotificationResponse.class));
+        verify(notificationFanoutService).fanOut(
+                eq(List.of(postAuthorId)), contains("댓글 내용"), eq(postId), eq(NotificationType.COMMENT));
     }
 
     @Test
@@ -107,8 +109,7 @@ class NotificationEventListenerTest {
         notificationEventListener.handleCommentCreatedEvent(event);
 
         // then
-        verify(notificationsRepository, never()).saveAll(anyList());
-        verify(notificationService, never()).send(anyLong(), any());
+        verify(notificationFanoutService, never()).fanOut(anyList(), any(), any(), any());
     }
 
     @Test
@@ -122,14 +123,12 @@ class NotificationEventListenerTest {
 
         ClubJoinEvent event = new ClubJoinEvent(clubId, memberId, userId, clubName);
 
-        Notifications notification = new Notifications(userId, "content", clubId, NotificationType.CLUB_WELCOME.name());
-        given(notificationsRepository.saveAll(anyList())).willReturn(List.of(notification));
-
         // when
         notificationEventListener.handleClubJoinEvent(event);
 
         // then
-        verify(notificationService).send(eq(userId), any(NotificationResponse.class));
+        verify(notificationFanoutService).fanOut(
+                eq(List.of(userId)), contains(clubName), eq(clubId), eq(NotificationType.CLUB_WELCOME));
     }
 
     @Test
@@ -143,24 +142,14 @@ class NotificationEventListenerTest {
 
         VoteDeadlineEvent event = new VoteDeadlineEvent(voteId, "투표 제목", clubId);
 
-        ClubMembers member1 = mock(ClubMembers.class);
-        given(member1.getUserId()).willReturn(memberId1);
-        ClubMembers member2 = mock(ClubMembers.class);
-        given(member2.getUserId()).willReturn(memberId2);
-
-        given(clubMemberRepository.findByClubIdAndStatus(clubId, ClubMembers.Status.ACTIVE))
-                .willReturn(List.of(member1, member2));
-
-        Notifications noti1 = new Notifications(memberId1, "content", voteId, NotificationType.VOTE_DEADLINE.name());
-        Notifications noti2 = new Notifications(memberId2, "content", voteId, NotificationType.VOTE_DEADLINE.name());
-
-        given(notificationsRepository.saveAll(anyList())).willReturn(List.of(noti1, noti2));
+        given(clubMemberRepository.findUserIdsByClubIdAndStatus(clubId, ClubMembers.Status.ACTIVE))
+                .willReturn(List.of(memberId1, memberId2));
 
         // when
         notificationEventListener.handleVoteDeadlineEvent(event);
 
         // then
-        verify(notificationService).send(eq(memberId1), any(NotificationResponse.class));
-        verify(notificationService).send(eq(memberId2), any(NotificationResponse.class));
+        verify(notificationFanoutService).fanOut(
+                eq(List.of(memberId1, memberId2)), anyString(), eq(voteId), eq(NotificationType.VOTE_DEADLINE));
     }
 }
@@ -0,0 +1,116 @@
+package back.repository.vote;
+
+import back.domain.vote.Votes;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class VoteRepositoryTest {
+
+    private static final Long CLUB_ID = 1L;
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 5, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 6, 1, 0, 0);
+    // 일정 투표 종료 시각(일정 시작 5분 전) 기준으로 옮긴 일정 시작 시각 범위
+    private static final Duration ATTENDANCE_CLOSE_BEFORE = Duration.ofMinutes(5);
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("마감 기한 조건은 deadline이 없는 일정 투표에 일정 시작 시각 기준 범위를 적용한다")
+    void findClubVotesAppliesEventDateToAttendanceVotes() {
+        // given
+        Long generalInRange = insertVote("GENERAL", null, LocalDateTime.of(2026, 5, 10, 18, 0));
+        insertVote("GENERAL", null, LocalDateTime.of(2026, 6, 10, 18, 0));
+        Long attendanceInRange = insertVote("ATTENDANCE",
+                insertSchedule(LocalDateTime.of(2026, 5, 20, 19, 0)), null);
+        insertVote("ATTENDANCE", insertSchedule(LocalDateTime.of(2026, 4, 20, 19, 0)), null);
+
+        // when
+        List<Votes> votes = findInRange();
+
+        // then
+        assertThat(votes).extracting(Votes::getVoteId).containsExactly(attendanceInRange, generalInRange);
+    }
+
+    @Test
+    @DisplayName("일정 투표는 실제 종료 시각(일정 시작 5분 전)으로 범위 경계를 판단한다")
+    void findClubVotesUsesAttendanceCloseTimeAtBoundaries() {
+        // given: 일정 시작이 범위 끝 2분 뒤면 종료는 범위 안, 범위 시작 2분 뒤면 종료는 범위 밖
+        Long closesBeforeTo = insertVote("ATTENDANCE", insertSchedule(TO.plusMinutes(2)), null);
+        insertVote("ATTENDANCE", insertSchedule(FROM.plusMinutes(2)), null);
+        Long closesAtFrom = insertVote("ATTENDANCE", insertSchedule(FROM.plus(ATTENDANCE_CLOSE_BEFORE)), null);
+        insertVote("ATTENDANCE", insertSchedule(TO.plus(ATTENDANCE_CLOSE_BEFORE)), null);
+
+        // when
+        List<Votes> votes = findInRange();
+
+        // then
+        assertThat(votes).extracting(Votes::getVoteId).containsExactly(closesAtFrom, closesBeforeTo);
+    }
+
+    @Test
+    @DisplayName("마감 기한 조건이 없으면 일정 투표도 모두 조회한다")
+    void findClubVotesWithoutDeadlineRange() {
+        // given
+        Long general = insertVote("GENERAL", null, LocalDateTime.of(2026, 5, 10, 18, 0));
+        Long attendance = insertVote("ATTENDANCE", insertSchedule(LocalDateTime.of(2026, 5, 20, 19, 0)), null);
+
+        // when
+        List<Votes> votes = voteRepository.findClubVotes(CLUB_ID, null, null, null, null, null, null,
+                PageRequest.of(0, 10));
+
+        // then
+        assertThat(votes).extracting(Votes::getVoteId).containsExactly(attendance, general);
+    }
+
+    private List<Votes> findInRange() {
+        return voteRepository.findClubVotes(CLUB_ID, null, null, FROM, TO,
+                FROM.plus(ATTENDANCE_CLOSE_BEFORE), TO.plus(ATTENDANCE_CLOSE_BEFORE), PageRequest.of(0, 10));
+    }
+
+    // participant_count는 엔티티 저장 대상이 아니므로 SQL로 직접 넣음
+    private Long insertVote(String voteType, Long scheduleId, LocalDateTime deadline) {
+        entityManager.createNativeQuery("""
+                        INSERT INTO votes (club_id, vote_type, schedule_id, creator_id, title, status, deadline,
+                                           participant_count)
+                        VALUES (:clubId, :voteType, :scheduleId, 1, '투표', 'OPEN', :deadline, 0)
+                        """)
+                .setParameter("clubId", CLUB_ID)
+                .setParameter("voteType", voteType)
+                .setParameter("scheduleId", scheduleId)
+                .setParameter("deadline", deadline)
+                .executeUpdate();
+        return lastId("votes", "vote_id");
+    }
+
+    private Long insertSchedule(LocalDateTime eventDate) {
+        entityManager.createNativeQuery("""
+                        INSERT INTO schedules (club_id, schedule_name, event_date, end_date, status)
+                        VALUES (:clubId, '정기 모임', :eventDate, :endDate, 'OPEN')
+                        """)
+                .setParameter("clubId", CLUB_ID)
+                .setParameter("eventDate", eventDate)
+                .setParameter("endDate", eventDate.plusHours(3))
+                .executeUpdate();
+        return lastId("schedules", "schedule_id");
+    }
+
+    private Long lastId(String table, String column) {
+        return ((Number) entityManager.createNativeQuery("SELECT MAX(" + column + ") FROM " + table)
+                .getSingleResult()).longValue();
+    }
+}
@@ -7,6 +7,7 @@ import back.dto.admin.AdminClubResponse;
 import back.dto.admin.AdminDashboardResponse;
 import back.dto.admin.AdminReportResponse;
 import back.dto.admin.AdminUserResponse;
+import back.event.ClubChangedEvent;
 import back.exception.AdminException;
 import back.repository.ReportsRepository;
 import back.repository.UserRepository;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +32,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class AdminServiceTest {
@@ -43,6 +48,9 @@ class AdminServiceTest {
     @Mock
     private ClubRepository clubRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -171,6 +179,7 @@ class AdminServiceTest {
 
             // then
             assertThat(c1.getStatus()).isEqualTo(Clubs.Status.INACTIVE);
+            then(eventPublisher).should(times(1)).publishEvent(any(ClubChangedEvent.class));
         }
 
         @Test
@@ -185,6 +194,21 @@ class AdminServiceTest {
 
             // then
             assertThat(c1.getStatus()).isEqualTo(Clubs.Status.ACTIVE);
+            then(eventPublisher).should(times(1)).publishEvent(any(ClubChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("모임 관리 실패 - 잘못된 처리 작업이면 변경 이벤트를 발행하지 않음")
+        void manage_club_fail_invalid_action() {
+            // given
+            Clubs c1 = club(1L, Clubs.Status.ACTIVE);
+            given(clubRepository.findById(1L)).willReturn(Optional.of(c1));
+
+            // when & then
+            assertThatThrownBy(() -> adminService.manageClub(1L, "DELETE"))
+                    .isInstanceOf(AdminException.class);
+            assertThat(c1.getStatus()).isEqualTo(Clubs.Status.ACTIVE);
+            then(eventPublisher).should(never()).publishEvent(any(ClubChangedEvent.class));
         }
     }
 
@@ -3,21 +3,25 @@ package back.service.club;
 import back.domain.club.Clubs;
 import back.exception.ClubException;
 import back.domain.club.ClubMembers;
-import back.repository.club.ClubMemberRepository;
 import back.repository.club.ClubRepository;
+import back.repository.club.projection.ClubAccessView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,33 +30,59 @@ class ClubAuthServiceTest {
     @Mock
     private ClubRepository clubRepository;
 
-    @Mock
-    private ClubMemberRepository clubMemberRepository;
-
-    @InjectMocks
+    private ClubAccessResolver clubAccessResolver;
     private ClubAuthService clubAuthService;
 
-    private Clubs createClub(Long clubId, Long ownerId, String visibility) {
-        Clubs club = new Clubs("테스트 모임", ownerId);
-        ReflectionTestUtils.setField(club, "clubId", clubId);
-        if (visibility != null) {
-            ReflectionTestUtils.setField(club, "visibility", Clubs.Visibility.valueOf(visibility));
-        }
-        return club;
+    @BeforeEach
+    void setUp() {
+        clubAccessResolver = new ClubAccessResolver(clubRepository, Duration.ofSeconds(10));
+        clubAuthService = new ClubAuthService(clubAccessResolver);
     }
 
-    private ClubMembers createMember(Long clubId, Long userId, ClubMembers.Status status, ClubMembers.Role role) {
-        ClubMembers member = ClubMembers.builder()
-                .clubId(clubId)
-                .userId(userId)
-                .nickname("테스트닉네임")
-                .build();
-        ReflectionTestUtils.setField(member, "memberId", 1L);
-        ReflectionTestUtils.setField(member, "status", status);
-        if (role != null) {
-            ReflectionTestUtils.setField(member, "role", role);
-        }
-        return member;
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private ClubAccessView access(Long clubId, Long ownerId, String visibility,
+                                  ClubMembers.Status memberStatus, ClubMembers.Role role) {
+        return new ClubAccessView() {
+            @Override
+            public Long getClubId() {
+                return clubId;
+            }
+
+            @Override
+            public Clubs.Status getClubStatus() {
+                return Clubs.Status.ACTIVE;
+            }
+
+            @Override
+            public Clubs.Visibility getVisibility() {
+                return Clubs.Visibility.valueOf(visibility);
+            }
+
+            @Override
+            public Long getOwnerId() {
+                return ownerId;
+            }
+
+            @Override
+            public ClubMembers.Role getRole() {
+                return role;
+            }
+
+            @Override
+            public ClubMembers.Status getMemberStatus() {
+                return memberStatus;
+            }
+        };
+    }
+
+    private void givenAccess(Long clubId, Long userId, Long ownerId, String visibility,
+                             ClubMembers.Status memberStatus, ClubMembers.Role role) {
+        given(clubRepository.findAccess(clubId, userId))
+                .willReturn(Optional.of(access(clubId, ownerId, visibility, memberStatus, role)));
     }
 
     @Nested
@@ -66,14 +96,12 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long userId = 10L;
 
-            given(clubMemberRepository.existsByClubIdAndUserIdAndStatus(clubId, userId, ClubMembers.Status.ACTIVE))
-                    .willReturn(true);
+            givenAccess(clubId, userId, 999L, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.MEMBER);
 
             // when & then
             clubAuthService.assertActiveMember(clubId, userId);
 
-            then(clubMemberRepository).should(times(1))
-                    .existsByClubIdAndUserIdAndStatus(clubId, userId, ClubMembers.Status.ACTIVE);
+            then(clubRepository).should(times(1)).findAccess(clubId, userId);
         }
 
         @Test
@@ -83,8 +111,21 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long userId = 10L;
 
-            given(clubMemberRepository.existsByClubIdAndUserIdAndStatus(clubId, userId, ClubMembers.Status.ACTIVE))
-                    .willReturn(false);
+            givenAccess(clubId, userId, 999L, "PUBLIC", ClubMembers.Status.PENDING, ClubMembers.Role.MEMBER);
+
+            // when & then
+            assertThatThrownBy(() -> clubAuthService.assertActiveMember(clubId, userId))
+                    .isInstanceOf(ClubException.AuthNotActive.class);
+        }
+
+        @Test
+        @DisplayName("활성 멤버 확인 실패 - 모임 없음")
+        void assert_active_member_fail_club_not_found() {
+            // given
+            Long clubId = 999L;
+            Long userId = 10L;
+
+            given(clubRepository.findAccess(clubId, userId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> clubAuthService.assertActiveMember(clubId, userId))
@@ -103,14 +144,12 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long ownerId = 10L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
+            givenAccess(clubId, ownerId, ownerId, "PUBLIC", null, null);
 
             // when & then
             clubAuthService.assertAtLeastManager(clubId, ownerId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
-            then(clubMemberRepository).should(never()).findActiveRole(any(), any());
+            then(clubRepository).should(times(1)).findAccess(clubId, ownerId);
         }
 
         @Test
@@ -121,16 +160,12 @@ class ClubAuthServiceTest {
             Long userId = 10L;
             Long ownerId = 999L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findActiveRole(clubId, userId))
-                    .willReturn(Optional.of(ClubMembers.Role.ACCOUNTANT));
+            givenAccess(clubId, userId, ownerId, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.ACCOUNTANT);
 
             // when & then
             clubAuthService.assertAtLeastManager(clubId, userId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
-            then(clubMemberRepository).should(times(1)).findActiveRole(clubId, userId);
+            then(clubRepository).should(times(1)).findAccess(clubId, userId);
         }
 
         @Test
@@ -141,15 +176,12 @@ class ClubAuthServiceTest {
             Long userId = 10L;
             Long ownerId = 999L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findActiveRole(clubId, userId))
-                    .willReturn(Optional.of(ClubMembers.Role.STAFF));
+            givenAccess(clubId, userId, ownerId, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.STAFF);
 
             // when & then
             clubAuthService.assertAtLeastManager(clubId, userId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
+            then(clubRepository).should(times(1)).findAccess(clubId, userId);
         }
 
         @Test
@@ -160,16 +192,28 @@ class ClubAuthServiceTest {
             Long userId = 10L;
             Long ownerId = 999L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findActiveRole(clubId, userId))
-                    .willReturn(Optional.of(ClubMembers.Role.MEMBER));
+            givenAccess(clubId, userId, ownerId, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.MEMBER);
 
             // when & then
             assertThatThrownBy(() -> clubAuthService.assertAtLeastManager(clubId, userId))
                     .isInstanceOf(ClubException.AuthStaffRequired.class);
         }
 
+        @Test
+        @DisplayName("운영진 이상 권한 확인 실패 - 강퇴된 운영진")
+        void assert_at_least_manager_fail_kicked_staff() {
+            // given
+            Long clubId = 1L;
+            Long userId = 10L;
+            Long ownerId = 999L;
+
+            givenAccess(clubId, userId, ownerId, "PUBLIC", ClubMembers.Status.KICKED, ClubMembers.Role.STAFF);
+
+            // when & then
+            assertThatThrownBy(() -> clubAuthService.assertAtLeastManager(clubId, userId))
+                    .isInstanceOf(ClubException.AuthNotActive.class);
+        }
+
         @Test
         @DisplayName("운영진 이상 권한 확인 실패 - 모임 없음")
         void assert_at_least_manager_fail_club_not_found() {
@@ -177,7 +221,7 @@ class ClubAuthServiceTest {
             Long clubId = 999L;
             Long userId = 10L;
 
-            given(clubRepository.findById(clubId)).willReturn(Optional.empty());
+            given(clubRepository.findAccess(clubId, userId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> clubAuthService.assertAtLeastManager(clubId, userId))
@@ -196,14 +240,12 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long ownerId = 10L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
+            givenAccess(clubId, ownerId, ownerId, "PUBLIC", null, null);
 
             // when & then
             clubAuthService.assertAtLeastAccountant(clubId, ownerId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
-            then(clubMemberRepository).should(never()).findActiveRole(any(), any());
+            then(clubRepository).should(times(1)).findAccess(clubId, ownerId);
         }
 
         @Test
@@ -214,15 +256,12 @@ class ClubAuthServiceTest {
             Long userId = 10L;
             Long ownerId = 999L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findActiveRole(clubId, userId))
-                    .willReturn(Optional.of(ClubMembers.Role.ACCOUNTANT));
+            givenAccess(clubId, userId, ownerId, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.ACCOUNTANT);
 
             // when & then
             clubAuthService.assertAtLeastAccountant(clubId, userId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
+            then(clubRepository).should(times(1)).findAccess(clubId, userId);
         }
 
         @Test
@@ -233,10 +272,7 @@ class ClubAuthServiceTest {
             Long userId = 10L;
             Long ownerId = 999L;
 
-            Clubs club = createClub(clubId, ownerId, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findActiveRole(clubId, userId))
-                    .willReturn(Optional.of(ClubMembers.Role.STAFF));
+            givenAccess(clubId, userId, ownerId, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.STAFF);
 
             // when & then
             assertThatThrownBy(() -> clubAuthService.assertAtLeastAccountant(clubId, userId))
@@ -255,14 +291,12 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long viewerId = null;
 
-            Clubs club = createClub(clubId, 1L, "PUBLIC");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
+            givenAccess(clubId, viewerId, 1L, "PUBLIC", null, null);
 
             // when & then
             clubAuthService.validateAndGetClubForReadPosts(clubId, viewerId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
-            then(clubMemberRepository).should(never()).existsByClubIdAndUserIdAndStatus(any(), any(), any());
+            then(clubRepository).should(times(1)).findAccess(clubId, viewerId);
         }
 
         @Test
@@ -272,17 +306,12 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long viewerId = 10L;
 
-            Clubs club = createClub(clubId, 1L, "PRIVATE");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
-            given(clubMemberRepository.existsByClubIdAndUserIdAndStatus(clubId, viewerId, ClubMembers.Status.ACTIVE))
-                    .willReturn(true);
+            givenAccess(clubId, viewerId, 1L, "PRIVATE", ClubMembers.Status.ACTIVE, ClubMembers.Role.MEMBER);
 
             // when & then
             clubAuthService.validateAndGetClubForReadPosts(clubId, viewerId);
 
-            then(clubRepository).should(times(1)).findById(clubId);
-            then(clubMemberRepository).should(times(1))
-                    .existsByClubIdAndUserIdAndStatus(clubId, viewerId, ClubMembers.Status.ACTIVE);
+            then(clubRepository).should(times(1)).findAccess(clubId, viewerId);
         }
 
         @Test
@@ -292,13 +321,26 @@ class ClubAuthServiceTest {
             Long clubId = 1L;
             Long viewerId = null;
 
-            Clubs club = createClub(clubId, 1L, "PRIVATE");
-            given(clubRepository.findById(clubId)).willReturn(Optional.of(club));
+            givenAccess(clubId, viewerId, 1L, "PRIVATE", null, null);
 
             // when & then
             assertThatThrownBy(() -> clubAuthService.validateAndGetClubForReadPosts(clubId, viewerId))
                     .isInstanceOf(ClubException.AuthLoginRequired.class);
         }
+
+        @Test
+        @DisplayName("비공개 모임 조회 실패 - 비멤버")
+        void validate_read_posts_fail_private_non_member() {
+            // given
+            Long clubId = 1L;
+            Long viewerId = 10L;
+
+            givenAccess(clubId, viewerId, 1L, "PRIVATE", null, null);
+
+            // when & then
+            assertThatThrownBy(() -> clubAuthService.validateAndGetClubForReadPosts(clubId, viewerId))
+                    .isInstanceOf(ClubException.AuthNotActive.class);
+        }
     }
 
     @Nested
@@ -317,4 +359,66 @@ class ClubAuthServiceTest {
                     .isInstanceOf(ClubException.AuthLoginRequired.class);
         }
     }
+
+    @Nested
+    @DisplayName("권한 정보 캐시")
+    class AccessCache {
+
+        @Test
+        @DisplayName("같은 요청의 여러 권한 검사는 조회 1회로 처리한다")
+        void resolves_once_per_request() {
+            // given
+            Long clubId = 1L;
+            Long userId = 10L;
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            givenAccess(clubId, userId, 999L, "PRIVATE", ClubMembers.Status.ACTIVE, ClubMembers.Role.STAFF);
+
+            // when
+            clubAuthService.validateAndGetClubForReadPosts(clubId, userId);
+            clubAuthService.assertActiveMember(clubId, userId);
+            clubAuthService.assertAtLeastManager(clubId, userId);
+            assertThat(clubAuthService.isOwner(clubId, userId)).isFalse();
+
+            // then
+            then(clubRepository).should(times(1)).findAccess(clubId, userId);
+        }
+
+        @Test
+        @DisplayName("멤버 변경 후 무효화하면 다음 검사에서 다시 조회한다")
+        void evict_club_reloads_access() {
+            // given
+            Long clubId = 1L;
+            Long userId = 10L;
+            given(clubRepository.findAccess(clubId, userId)).willReturn(
+                    Optional.of(access(clubId, 999L, "PUBLIC", ClubMembers.Status.ACTIVE, ClubMembers.Role.MEMBER)),
+                    Optional.of(access(clubId, 999L, "PUBLIC", ClubMembers.Status.KICKED, ClubMembers.Role.MEMBER)));
+
+            clubAuthService.assertActiveMember(clubId, userId);
+            clubAuthService.assertActiveMember(clubId, userId); // 공유 캐시
+
+            // when
+            clubAccessResolver.evictClub(clubId);
+
+            // then
+            assertThatThrownBy(() -> clubAuthService.assertActiveMember(clubId, userId))
+                    .isInstanceOf(ClubException.AuthNotActive.class);
+            then(clubRepository).should(times(2)).findAccess(clubId, userId);
+        }
+
+        @Test
+        @DisplayName("없는 모임은 캐시하지 않는다")
+        void missing_club_is_not_cached() {
+            // given
+            Long clubId = 1L;
+            Long userId = 10L;
+            given(clubRepository.findAccess(clubId, userId)).willReturn(
+                    Optional.empty(),
+                    Optional.of(access(clubId, userId, "PUBLIC", null, null)));
+
+            // when & then
+            assertThatThrownBy(() -> clubAuthService.assertAtLeastManager(clubId, userId))
+                    .isInstanceOf(ClubException.NotFound.class);
+            clubAuthService.assertAtLeastManager(clubId, userId);
+        }
+    }
 }
@@ -4,6 +4,7 @@ import back.domain.club.ClubMembers;
 import back.domain.club.Clubs;
 import back.dto.club.ClubMemberRequest;
 import back.dto.club.ClubMemberResponse;
+import back.event.ClubMemberChangedEvent;
 import back.exception.ClubException;
 import back.repository.club.ClubMemberRepository;
 import back.repository.club.ClubRepository;
@@ -351,6 +352,7 @@ class ClubMemberServiceTest {
                         assertThat(member.getRole()).isEqualTo(ClubMembers.Role.NONE);
 
                         then(clubMemberRepository).should(times(1)).findByClubIdAndMemberId(clubId, memberId);
+                        then(eventPublisher).should(times(1)).publishEvent(any(ClubMemberChangedEvent.class));
                 }
 
                 @Test
@@ -4,6 +4,7 @@ import back.domain.club.ClubMembers;
 import back.domain.club.Clubs;
 import back.dto.club.ClubRequest;
 import back.dto.club.ClubResponse;
+import back.event.ClubChangedEvent;
 import back.exception.ClubException;
 import back.repository.club.ClubMemberRepository;
 import back.repository.club.ClubRepository;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -32,6 +34,9 @@ class ClubServiceTest {
     @Mock
     private ClubMemberRepository clubMemberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ClubService clubService;
 
@@ -315,6 +320,7 @@ class ClubServiceTest {
 
             then(clubRepository).should(times(1)).findById(clubId);
             then(clubRepository).should(times(1)).existsByClubName(request.getClubName());
+            then(eventPublisher).should(times(1)).publishEvent(any(ClubChangedEvent.class));
         }
 
         @Test
@@ -441,6 +447,7 @@ class ClubServiceTest {
             assertThat(club.getClosedAt()).isNotNull();
 
             then(clubRepository).should(times(1)).findById(clubId);
+            then(eventPublisher).should(times(1)).publishEvent(any(ClubChangedEvent.class));
         }
 
         @Test
@@ -484,6 +491,7 @@ class ClubServiceTest {
             assertThat(club.getClosedAt()).isNull();
 
             then(clubRepository).should(times(1)).findById(clubId);
+            then(eventPublisher).should(times(1)).publishEvent(any(ClubChangedEvent.class));
         }
 
         @Test
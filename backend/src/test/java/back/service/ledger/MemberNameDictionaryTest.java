@@ -0,0 +1,186 @@
+package back.service.ledger;
+
+import back.common.text.NameAutomaton;
+import back.repository.club.ClubMemberRepository;
+import back.repository.club.projection.MemberNameView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberNameDictionaryTest {
+
+    @Mock
+    private ClubMemberRepository clubMemberRepository;
+
+    private MemberNameView member(Long memberId, String realName, String nickname) {
+        return new MemberNameView() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public String getRealName() {
+                return realName;
+            }
+
+            @Override
+            public String getClubNickname() {
+                return nickname;
+            }
+        };
+    }
+
+    private static String regexNormalize(String s) {
+        if (s == null)
+            return "";
+        return s.replaceAll("\\s+", "")
+                .replaceAll("[^0-9a-zA-Z가-힣]", "")
+                .toLowerCase();
+    }
+
+    @Test
+    @DisplayName("char 순회 정규화는 기존 정규식 정규화와 결과가 같다")
+    void normalizeMatchesRegexVersion() {
+        List<String> samples = List.of(
+                "", " ", "홍길동", "홍 길 동", "Kim MinJun", "(주)카카오 페이-홍길동",
+                "입금\t홍길동\n회비", "ABC123xyz", "ㄱㄴㄷ 홍길동!!", "２０２６ 회비", "홍길동★정산");
+
+        for (String sample : samples) {
+            assertThat(MemberNameDictionary.normalize(sample))
+                    .as(sample)
+                    .isEqualTo(regexNormalize(sample));
+        }
+        assertThat(MemberNameDictionary.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적요 1회 스캔으로 언급된 모든 멤버를 찾는다 (겹치는 이름 포함)")
+    void findsAllMentionedMembersInOnePass() {
+        MemberNameDictionary dictionary = MemberNameDictionary.of(List.of(
+                member(1L, "김민준", "준"),
+                member(2L, "이민", "민준"),
+                member(3L, "박서연", "Sun")));
+
+        Set<Long> mentioned = dictionary.findMentionedMembers("김민준 SUN 회비");
+
+        // "김민준" ⊃ "민준" ⊃ "준", "SUN" → "sun"
+        assertThat(mentioned).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(dictionary.findMentionedMembers("이 민 정산")).containsExactly(2L);
+        assertThat(dictionary.findMentionedMembers("관리비")).isEmpty();
+        assertThat(dictionary.findMentionedMembers(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모임 내 중복 이름은 사전에 등록하지 않는다")
+    void skipsDuplicatedNames() {
+        MemberNameDictionary dictionary = MemberNameDictionary.of(List.of(
+                member(1L, "김민준", "민트"),
+                member(2L, "김 민준", "준이")));
+
+        assertThat(dictionary.findMentionedMembers("김민준")).isEmpty();
+        assertThat(dictionary.findMentionedMembers("준이 회비")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("멤버 추가/제거 시 이름 유일성이 다시 계산된다")
+    void withAndWithoutMemberRecomputeUniqueness() {
+        MemberNameDictionary dictionary = MemberNameDictionary.of(List.of(member(1L, "김민준", "민트")));
+        assertThat(dictionary.findMentionedMembers("김민준")).containsExactly(1L);
+
+        MemberNameDictionary joined = dictionary.withMember(2L, "김민준", "준이");
+        assertThat(joined.findMentionedMembers("김민준")).isEmpty();
+        assertThat(joined.size()).isEqualTo(2);
+
+        MemberNameDictionary renamed = joined.withMember(1L, "김민준", "민초");
+        assertThat(renamed.findMentionedMembers("민트")).isEmpty();
+        assertThat(renamed.findMentionedMembers("민초")).containsExactly(1L);
+
+        MemberNameDictionary kicked = renamed.withoutMember(2L);
+        assertThat(kicked.findMentionedMembers("김민준")).containsExactly(1L);
+        assertThat(kicked.withoutMember(99L)).isSameAs(kicked);
+    }
+
+    @Test
+    @DisplayName("캐시는 모임당 1회 로딩하고 멤버 변경은 해당 멤버만 다시 조회한다")
+    void cacheLoadsOnceAndRefreshesSingleMember() {
+        Long clubId = 1L;
+        ClubMemberNameCache cache = new ClubMemberNameCache(clubMemberRepository, new SimpleMeterRegistry(),
+                100, Duration.ofHours(1), System::nanoTime);
+        when(clubMemberRepository.findActiveMemberNamesByClubId(clubId))
+                .thenReturn(List.of(member(1L, "김민준", "민트"), member(2L, "이서준", "서준")));
+        when(clubMemberRepository.findActiveMemberName(clubId, 2L)).thenReturn(Optional.empty());
+        when(clubMemberRepository.findActiveMemberName(clubId, 3L))
+                .thenReturn(Optional.of(member(3L, "최하윤", "하윤")));
+
+        assertThat(cache.get(clubId).findMentionedMembers("이서준")).containsExactly(2L);
+
+        cache.refreshMember(clubId, 2L); // 강퇴
+        cache.refreshMember(clubId, 3L); // 가입 승인
+        cache.refreshMember(99L, 1L); // 로딩 전 모임은 무시
+
+        assertThat(cache.get(clubId).findMentionedMembers("이서준")).isEmpty();
+        assertThat(cache.get(clubId).findMentionedMembers("하윤")).containsExactly(3L);
+        verify(clubMemberRepository, times(1)).findActiveMemberNamesByClubId(clubId);
+        verify(clubMemberRepository, never()).findActiveMemberName(99L, 1L);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 모임 사전을 다시 로딩한다 (다른 서버에서 일어난 멤버 변경 반영)")
+    void cacheReloadsAfterTtl() {
+        Long clubId = 1L;
+        AtomicLong nanos = new AtomicLong();
+        ClubMemberNameCache cache = new ClubMemberNameCache(clubMemberRepository, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(30), nanos::get);
+        when(clubMemberRepository.findActiveMemberNamesByClubId(clubId))
+                .thenReturn(List.of(member(1L, "김민준", "민트")),
+                        List.of(member(1L, "김민준", "민트"), member(2L, "이서준", "서준")));
+
+        assertThat(cache.get(clubId).findMentionedMembers("이서준")).isEmpty();
+        nanos.addAndGet(Duration.ofMinutes(29).toNanos());
+        assertThat(cache.get(clubId).findMentionedMembers("이서준")).isEmpty();
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertThat(cache.get(clubId).findMentionedMembers("이서준")).containsExactly(2L);
+        verify(clubMemberRepository, times(2)).findActiveMemberNamesByClubId(clubId);
+    }
+
+    @Test
+    @DisplayName("문자 단위 정규화는 정규식 정규화와 같은 결과, 300명 사전 스캔은 내용마다 해당 회원 1명만 찾는다")
+    void normalizeMatchesRegexAndScanFindsOneMember() {
+        List<MemberNameView> members = new ArrayList<>();
+        for (long i = 0; i < 300; i++) {
+            members.add(member(i, "회원" + i + "실명", "닉네임" + i));
+        }
+        MemberNameDictionary dictionary = MemberNameDictionary.of(members);
+
+        for (int i = 0; i < 10_000; i++) {
+            String content = "입금 (" + i + ") 회원" + (i % 300) + "실명 회비";
+
+            assertThat(MemberNameDictionary.normalize(content)).isEqualTo(regexNormalize(content));
+            assertThat(dictionary.findMentionedMembers(content)).containsExactly((long) (i % 300));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 사전도 스캔 가능하다")
+    void emptyDictionary() {
+        assertThat(MemberNameDictionary.EMPTY.findMentionedMembers("홍길동")).isEmpty();
+        assertThat(NameAutomaton.compile(Map.of("", Set.of(1L))).nodeCount()).isEqualTo(1);
+    }
+}
@@ -4,29 +4,33 @@ import back.bank.domain.BankTransactionHistory;
 import back.domain.ledger.PaymentRequest;
 import back.repository.club.ClubMemberRepository;
 import back.repository.club.ClubRepository;
-import back.repository.club.projection.NameView;
+import back.repository.club.projection.MemberNameView;
 import back.bank.repository.BankTransactionHistoryRepository;
 import back.repository.ledger.PaymentRequestRepository;
 import back.repository.ledger.TransactionLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.HashMap;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class TransactionMatchingServiceTest {
 
-    @InjectMocks
     private TransactionMatchingService transactionMatchingService;
 
     @Mock
@@ -40,6 +44,46 @@ public class TransactionMatchingServiceTest {
     @Mock
     private TransactionLogRepository transactionLogRepository;
 
+    @BeforeEach
+    void setUp() {
+        transactionMatchingService = new TransactionMatchingService(paymentRequestRepository,
+                transactionHistoryRepository, new ClubMemberNameCache(clubMemberRepository, new SimpleMeterRegistry(), 100,
+                Duration.ofHours(1), System::nanoTime), clubRepository,
+                transactionLogRepository);
+    }
+
+    private MemberNameView member(Long memberId, String realName, String nickname) {
+        return new MemberNameView() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public String getRealName() {
+                return realName;
+            }
+
+            @Override
+            public String getClubNickname() {
+                return nickname;
+            }
+        };
+    }
+
+    private BankTransactionHistory transaction(Long historyId, String inoutType, String amount,
+            LocalDateTime at, String printContent) {
+        BankTransactionHistory tx = new BankTransactionHistory(1L, at, printContent, new BigDecimal(amount),
+                "TX" + historyId, inoutType);
+        ReflectionTestUtils.setField(tx, "historyId", historyId);
+        return tx;
+    }
+
+    private PaymentRequest request(Long memberId, PaymentRequest.RequestType type, String amount, LocalDate expected) {
+        return new PaymentRequest(1L, memberId, "회원" + memberId, type, new BigDecimal(amount), expected, 10,
+                null, null, null);
+    }
+
     @Test
     @DisplayName("출금(WITHDRAW) 트랜잭션은 정산(SETTLEMENT) 요청과 매칭되어야 한다")
     void matchWithdrawWithSettlement() {
@@ -61,7 +105,6 @@ public class TransactionMatchingServiceTest {
         when(request.getExpectedAmount()).thenReturn(amount);
         when(request.getRequestType()).thenReturn(PaymentRequest.RequestType.SETTLEMENT);
         when(request.isMatchable()).thenReturn(true);
-        when(request.getClubId()).thenReturn(clubId);
         when(request.getMemberId()).thenReturn(memberId);
         when(request.getExpectedDate()).thenReturn(now.toLocalDate());
         when(request.getMatchDaysRange()).thenReturn(10); // ★ 필수
@@ -69,14 +112,9 @@ public class TransactionMatchingServiceTest {
         when(paymentRequestRepository.findMatchableRequests(clubId))
                 .thenReturn(List.of(request));
 
-        // NameView
-        NameView memberView = mock(NameView.class);
-        when(memberView.getRealName()).thenReturn("홍길동");
-        when(memberView.getClubNickname()).thenReturn("길동이");
-        when(clubMemberRepository.findNameView(clubId, memberId))
-                .thenReturn(Optional.of(memberView));
-        when(clubMemberRepository.countByClubIdAndRealName(clubId, "홍길동"))
-                .thenReturn(1L);
+        // 모임 멤버 이름 (모임별 캐시, 최초 1회 조회)
+        when(clubMemberRepository.findActiveMemberNamesByClubId(clubId))
+                .thenReturn(List.of(member(memberId, "홍길동", "길동이")));
 
         // when
         transactionMatchingService.autoMatchTransactions(clubId, List.of(tx), new HashMap<>());
@@ -85,4 +123,92 @@ public class TransactionMatchingServiceTest {
         verify(request).autoMatch(999L);
         verify(paymentRequestRepository).save(request);
     }
+
+    @Test
+    @DisplayName("실명이 모임 내 중복이면 실명으로는 매칭하지 않고 유일한 닉네임으로만 매칭한다")
+    void duplicateRealNameRequiresUniqueNickname() {
+        Long clubId = 1L;
+        LocalDate today = LocalDate.now();
+
+        PaymentRequest byRealName = request(1L, PaymentRequest.RequestType.MEMBERSHIP_FEE, "30000", today);
+        PaymentRequest byNickname = request(2L, PaymentRequest.RequestType.MEMBERSHIP_FEE, "30000", today);
+
+        when(paymentRequestRepository.findMatchableRequests(clubId)).thenReturn(List.of(byRealName, byNickname));
+        when(clubMemberRepository.findActiveMemberNamesByClubId(clubId)).thenReturn(List.of(
+                member(1L, "김민준", "민트"),
+                member(2L, "김민준", "준이"),
+                member(3L, "이서준", "서준")));
+
+        BankTransactionHistory realNameTx = transaction(10L, "DEPOSIT", "30000", today.atTime(9, 0), "김민준");
+        BankTransactionHistory nicknameTx = transaction(11L, "DEPOSIT", "30000", today.atTime(10, 0), "준이 회비");
+
+        // when
+        transactionMatchingService.autoMatchTransactions(clubId, List.of(realNameTx, nicknameTx), new HashMap<>());
+
+        // then
+        assertThat(byRealName.getStatus()).isEqualTo(PaymentRequest.RequestStatus.PENDING);
+        assertThat(byNickname.getStatus()).isEqualTo(PaymentRequest.RequestStatus.MATCHED);
+        assertThat(byNickname.getMatchedHistoryId()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("금액/방향/날짜 범위가 맞지 않으면 매칭하지 않는다")
+    void rejectsAmountTypeAndDateMismatch() {
+        Long clubId = 1L;
+        LocalDate expected = LocalDate.of(2026, 1, 15);
+
+        PaymentRequest fee = request(1L, PaymentRequest.RequestType.MEMBERSHIP_FEE, "30000", expected);
+
+        when(paymentRequestRepository.findMatchableRequests(clubId)).thenReturn(List.of(fee));
+        when(clubMemberRepository.findActiveMemberNamesByClubId(clubId))
+                .thenReturn(List.of(member(1L, "김민준", "민준")));
+
+        List<BankTransactionHistory> txs = List.of(
+                transaction(1L, "DEPOSIT", "31000", expected.atTime(9, 0), "김민준"), // 금액 불일치
+                transaction(2L, "WITHDRAW", "30000", expected.atTime(9, 0), "김민준"), // 출금은 정산만
+                transaction(3L, "DEPOSIT", "30000", expected.plusDays(11).atTime(9, 0), "김민준")); // ±10일 초과
+
+        // when
+        transactionMatchingService.autoMatchTransactions(clubId, txs, new HashMap<>());
+
+        // then
+        assertThat(fee.getStatus()).isEqualTo(PaymentRequest.RequestStatus.PENDING);
+        verify(paymentRequestRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("300명 모임 회비 일괄 매칭도 멤버 이름 조회는 모임당 1회뿐이다")
+    void bulkMatchingUsesSingleNameLookup() {
+        Long clubId = 1L;
+        LocalDate expected = LocalDate.now();
+        int memberCount = 300;
+
+        List<MemberNameView> members = new ArrayList<>();
+        List<PaymentRequest> requests = new ArrayList<>();
+        List<BankTransactionHistory> txs = new ArrayList<>();
+        for (long i = 1; i <= memberCount; i++) {
+            members.add(member(i, "회원" + i + "실명", "닉" + i));
+            requests.add(request(i, PaymentRequest.RequestType.MEMBERSHIP_FEE, "30000", expected));
+            txs.add(transaction(1000 + i, "DEPOSIT", "30000", expected.atTime(12, 0), "회원" + i + "실명"));
+        }
+
+        when(paymentRequestRepository.findMatchableRequests(clubId)).thenReturn(requests);
+        when(clubMemberRepository.findActiveMemberNamesByClubId(clubId)).thenReturn(members);
+
+        // when
+        transactionMatchingService.autoMatchTransactions(clubId, txs, new HashMap<>());
+
+        // 다음 동기화는 캐시된 이름 사전 재사용
+        transactionMatchingService.autoMatchTransactions(clubId, txs, new HashMap<>());
+
+        // then
+        assertThat(requests).allMatch(r -> r.getStatus() == PaymentRequest.RequestStatus.MATCHED);
+        assertThat(requests.get(41).getMatchedHistoryId()).isEqualTo(1042L);
+        verify(clubMemberRepository, times(1)).findActiveMemberNamesByClubId(clubId);
+        verify(paymentRequestRepository, times(2)).findMatchableRequests(clubId);
+        verify(paymentRequestRepository, never()).findById(anyLong());
+        verify(clubMemberRepository, never()).findNameView(anyLong(), anyLong());
+        verify(clubMemberRepository, never()).countByClubIdAndRealName(anyLong(), anyString());
+        verify(clubMemberRepository, never()).countByClubIdAndClubNickname(anyLong(), anyString());
+    }
 }
@@ -0,0 +1,163 @@
+package back.service.notifications;
+
+import back.domain.NotificationType;
+import back.repository.notifications.EmitterRepository;
+import back.repository.notifications.NotificationBatchWriter;
+import back.repository.notifications.NotificationBusRepository;
+import back.repository.notifications.NotificationsRepository;
+import back.service.notifications.bus.JdbcNotificationBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 한 JVM에 서버 2대(애플리케이션 컨텍스트 2개)를 띄우고 같은 DB의 notification_bus로 알림을 주고받는다.
+ */
+class NotificationBusIntegrationTest {
+
+    private static final DataSource SHARED_DB =
+            new DriverManagerDataSource("jdbc:h2:mem:notification-bus;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @Configuration
+    @EnableScheduling
+    @Import({EmitterRepository.class, NotificationBusRepository.class, JdbcNotificationBus.class,
+            NotificationService.class, NotificationFanoutService.class})
+    static class Node {
+
+        @Bean
+        DataSource dataSource() {
+            return SHARED_DB;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+
+        @Bean
+        NotificationsRepository notificationsRepository() {
+            return mock(NotificationsRepository.class);
+        }
+
+        @Bean
+        NotificationBatchWriter notificationBatchWriter() {
+            return mock(NotificationBatchWriter.class);
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .filter(data -> data.startsWith("{\"id\":"))
+                    .forEach(notifications::add);
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(Node.class)
+                .web(WebApplicationType.NONE)
+                .properties("custom.notification.bus.poll-interval-ms=50", "spring.main.banner-mode=off")
+                .run();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(SHARED_DB);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS notification_bus");
+        jdbcTemplate.execute("""
+                CREATE TABLE notification_bus (
+                    seq         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    origin_node VARCHAR(64)  NOT NULL,
+                    payload     CLOB         NOT NULL,
+                    created_at  TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+                )
+                """);
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("다른 서버에 연결된 사용자도 알림을 받고, 발송 서버 접속자는 중복 없이 1번만 받는다")
+    void deliversAcrossNodesExactlyOnce() throws Exception {
+        // given: 사용자 7은 A와 B에, 사용자 8은 B에만 연결
+        RecordingEmitter user7OnA = new RecordingEmitter();
+        RecordingEmitter user7OnB = new RecordingEmitter();
+        RecordingEmitter user8OnB = new RecordingEmitter();
+        nodeA.getBean(NotificationService.class).register(7L, user7OnA);
+        nodeB.getBean(NotificationService.class).register(7L, user7OnB);
+        nodeB.getBean(NotificationService.class).register(8L, user8OnB);
+
+        given(nodeA.getBean(NotificationBatchWriter.class).insert(eq(List.of(7L, 8L)), any(), any(), any(), any()))
+                .willReturn(List.of(900L, 901L));
+
+        // when: A에서 발송
+        nodeA.getBean(NotificationFanoutService.class)
+                .fanOut(List.of(7L, 8L), "다른 서버 알림", 3L, NotificationType.POST);
+        awaitUntil(() -> !user7OnB.notifications.isEmpty() && !user8OnB.notifications.isEmpty());
+        Thread.sleep(200); // 추가 폴링 주기 동안 중복 전달 없는지 확인
+
+        // then
+        assertThat(user7OnA.notifications).singleElement().satisfies(json -> assertThat(json).startsWith("{\"id\":900,"));
+        assertThat(user7OnB.notifications).singleElement().satisfies(json -> assertThat(json).startsWith("{\"id\":900,"));
+        assertThat(user8OnB.notifications).singleElement().satisfies(json -> assertThat(json).contains("다른 서버 알림"));
+        assertThat(nodeB.getBean(MeterRegistry.class).get("notifications.bus.received").counter().count()).isEqualTo(1);
+        assertThat(nodeA.getBean(MeterRegistry.class).get("notifications.bus.received").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,146 @@
+package back.service.notifications;
+
+import back.domain.NotificationType;
+import back.repository.notifications.NotificationBatchWriter;
+import back.service.notifications.bus.NotificationBroadcast;
+import back.service.notifications.bus.NotificationBus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutServiceTest {
+
+    @Mock
+    private NotificationBatchWriter notificationBatchWriter;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private NotificationBus notificationBus;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService dispatcher;
+    private NotificationFanoutService notificationFanoutService;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        notificationFanoutService = new NotificationFanoutService(
+                notificationBatchWriter, notificationService, notificationBus, objectMapper, meterRegistry, dispatcher);
+    }
+
+    private void awaitDispatch() throws InterruptedException {
+        dispatcher.shutdown();
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 저장 후 접속 중인 수신자에게만 각자의 알림 id로 전송한다")
+    void insertsOnceAndSendsToConnectedRecipients() throws Exception {
+        // given
+        List<Long> userIds = List.of(10L, 11L, 12L);
+        given(notificationBatchWriter.insert(eq(userIds), eq("새 일정"), eq(5L), eq("SCHEDULE"), any()))
+                .willReturn(List.of(100L, 101L, 102L));
+        given(notificationService.isConnected(anyLong())).willAnswer(inv -> !inv.getArgument(0).equals(11L));
+
+        // when
+        notificationFanoutService.fanOut(userIds, "새 일정", 5L, NotificationType.SCHEDULE);
+        awaitDispatch();
+
+        // then
+        then(notificationBatchWriter).should(times(1)).insert(any(), any(), any(), any(), any());
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        then(notificationService).should().sendJson(eq(10L), eq(100L), json.capture());
+        then(notificationService).should().sendJson(eq(12L), eq(102L), json.capture());
+        then(notificationService).should(never()).sendJson(eq(11L), any(), any());
+
+        JsonNode first = objectMapper.readTree(json.getAllValues().get(0));
+        JsonNode second = objectMapper.readTree(json.getAllValues().get(1));
+        assertThat(first.get("id").asLong()).isEqualTo(100L);
+        assertThat(second.get("id").asLong()).isEqualTo(102L);
+        assertThat(first.get("content").asText()).isEqualTo("새 일정");
+        assertThat(first.get("refId").asLong()).isEqualTo(5L);
+        assertThat(first.get("type").asText()).isEqualTo("SCHEDULE");
+        assertThat(first.get("isRead").asBoolean()).isFalse();
+        assertThat(first.get("createdAt").asText()).isEqualTo(second.get("createdAt").asText());
+
+        // 다른 서버 접속자를 위해 발송분 1건 전달
+        ArgumentCaptor<NotificationBroadcast> broadcast = ArgumentCaptor.forClass(NotificationBroadcast.class);
+        then(notificationBus).should().publish(broadcast.capture());
+        assertThat(broadcast.getValue().userIds()).isEqualTo(userIds);
+        assertThat(broadcast.getValue().notificationIds()).containsExactly(100L, 101L, 102L);
+    }
+
+    @Test
+    @DisplayName("다른 서버 발송분은 이 서버 접속자에게만 전송하고 다시 발행하지 않는다")
+    void deliversRemoteBroadcastToLocalConnections() throws Exception {
+        // given
+        String template = "{\"id\":0,\"content\":\"원격\"}";
+        given(notificationService.isConnected(anyLong())).willAnswer(inv -> inv.getArgument(0).equals(21L));
+
+        // when
+        notificationFanoutService.deliverRemote(
+                new NotificationBroadcast(List.of(20L, 21L), List.of(500L, 501L), template));
+        awaitDispatch();
+
+        // then
+        then(notificationService).should().sendJson(21L, 501L, "{\"id\":501,\"content\":\"원격\"}");
+        then(notificationService).should(never()).sendJson(eq(20L), any(), any());
+        then(notificationBus).should(never()).publish(any());
+        then(notificationBatchWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("대규모 모임은 청크 단위로 나눠 전송하고 처리량 지표를 남긴다")
+    void dispatchesInChunksAndRecordsMetrics() throws Exception {
+        // given
+        int recipients = NotificationFanoutService.DISPATCH_CHUNK * 3 + 10;
+        List<Long> userIds = LongStream.rangeClosed(1, recipients).boxed().toList();
+        List<Long> ids = LongStream.rangeClosed(1_001, 1_000 + recipients).boxed().toList();
+        given(notificationBatchWriter.insert(eq(userIds), any(), any(), any(), any())).willReturn(ids);
+        given(notificationService.isConnected(anyLong())).willReturn(true);
+
+        // when
+        notificationFanoutService.fanOut(userIds, "투표 마감", 7L, NotificationType.VOTE_DEADLINE);
+        awaitDispatch();
+
+        // then
+        then(notificationService).should(times(recipients)).sendJson(anyLong(), anyLong(), anyString());
+        then(notificationService).should().sendJson(eq((long) recipients), eq(1_000L + recipients),
+                argThat(json -> json.startsWith("{\"id\":" + (1_000 + recipients) + ",")));
+        assertThat(meterRegistry.get("notifications.fanout.rows").counter().count()).isEqualTo(recipients);
+        assertThat(meterRegistry.get("notifications.fanout.dispatched").counter().count()).isEqualTo(recipients);
+        assertThat(meterRegistry.get("notifications.fanout.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 저장/전송하지 않는다")
+    void emptyRecipients() {
+        notificationFanoutService.fanOut(List.of(), "내용", 1L, NotificationType.POST);
+
+        then(notificationBatchWriter).shouldHaveNoInteractions();
+        then(notificationService).shouldHaveNoInteractions();
+        then(notificationBus).should(never()).publish(any());
+    }
+}
@@ -0,0 +1,151 @@
+package back.service.notifications;
+
+import back.domain.Notifications;
+import back.dto.NotificationResponse;
+import back.dto.NotificationSearchRequest;
+import back.dto.NotificationSliceResponse;
+import back.dto.NotificationUnreadCountResponse;
+import back.exception.NotificationException;
+import back.repository.notifications.NotificationUnreadCountRepository;
+import back.repository.notifications.NotificationsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationInboxServiceTest {
+
+    @Mock
+    private NotificationsRepository notificationsRepository;
+    @Mock
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @InjectMocks
+    private NotificationInboxService notificationInboxService;
+
+    private static Notifications notification(Long notiId, Long userId) {
+        Notifications notification = new Notifications(userId, "알림 " + notiId, 1L, "POST");
+        ReflectionTestUtils.setField(notification, "notiId", notiId);
+        return notification;
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회 - size + 1건만 조회하고 다음 페이지 커서 반환")
+    void getInbox_firstPage() {
+        // given
+        Long userId = 10L;
+        given(notificationsRepository.findInbox(eq(userId), isNull(), eq(false), any()))
+                .willReturn(List.of(notification(30L, userId), notification(29L, userId), notification(28L, userId)));
+
+        // when
+        NotificationSliceResponse result = notificationInboxService.getInbox(userId,
+                new NotificationSearchRequest(null, 2, false));
+
+        // then
+        assertThat(result.notifications()).extracting(NotificationResponse::id).containsExactly(30L, 29L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(29L);
+        then(notificationsRepository).should().findInbox(eq(userId), isNull(), eq(false),
+                argThat((Pageable pageable) -> pageable.getPageSize() == 3));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지 조회 - 커서/안읽음 조건 전달, 다음 커서 없음")
+    void getInbox_lastPage() {
+        // given
+        Long userId = 10L;
+        given(notificationsRepository.findInbox(eq(userId), eq(29L), eq(true), any()))
+                .willReturn(List.of(notification(12L, userId)));
+
+        // when
+        NotificationSliceResponse result = notificationInboxService.getInbox(userId,
+                new NotificationSearchRequest(29L, null, true));
+
+        // then
+        assertThat(result.notifications()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외")
+    void getInbox_invalidSize() {
+        assertThatThrownBy(() -> notificationInboxService.getInbox(10L, new NotificationSearchRequest(null, 0, false)))
+                .isInstanceOf(NotificationException.SearchInvalid.class);
+        assertThatThrownBy(() -> notificationInboxService.getInbox(10L, new NotificationSearchRequest(null, 101, false)))
+                .isInstanceOf(NotificationException.SearchInvalid.class);
+        then(notificationsRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("안읽은 수는 카운터 테이블에서 조회한다")
+    void getUnreadCount() {
+        given(notificationUnreadCountRepository.findCount(10L)).willReturn(7L);
+
+        NotificationUnreadCountResponse result = notificationInboxService.getUnreadCount(10L);
+
+        assertThat(result.unreadCount()).isEqualTo(7L);
+        then(notificationsRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 실제로 변경된 행 수만큼만 카운터 감소")
+    void markAsRead_decrementsByUpdatedRows() {
+        // given: 3건 요청(중복 1건 포함) 중 1건만 안읽은 본인 알림
+        Long userId = 10L;
+        given(notificationsRepository.markAsRead(eq(userId), eq(List.of(1L, 2L)), any())).willReturn(1);
+        given(notificationUnreadCountRepository.findCount(userId)).willReturn(4L);
+
+        // when
+        NotificationUnreadCountResponse result = notificationInboxService.markAsRead(userId, List.of(1L, 2L, 2L));
+
+        // then
+        then(notificationUnreadCountRepository).should().decrement(userId, 1);
+        assertThat(result.unreadCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 요청 목록이 비었거나 너무 많으면 예외")
+    void markAsRead_invalidIds() {
+        List<Long> tooMany = LongStream.rangeClosed(1, NotificationInboxService.MAX_READ_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> notificationInboxService.markAsRead(10L, List.of()))
+                .isInstanceOf(NotificationException.ReadInvalid.class);
+        assertThatThrownBy(() -> notificationInboxService.markAsRead(10L, tooMany))
+                .isInstanceOf(NotificationException.ReadInvalid.class);
+        assertThatThrownBy(() -> notificationInboxService.markAsRead(10L, Collections.singletonList(null)))
+                .isInstanceOf(NotificationException.ReadInvalid.class);
+        then(notificationsRepository).shouldHaveNoInteractions();
+        then(notificationUnreadCountRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("전체 읽음 처리 - 0으로 덮어쓰지 않고 변경된 행 수만큼 감소")
+    void markAllAsRead() {
+        // given: 처리 중 새 알림 1건이 저장되어 카운터에 남은 상황
+        Long userId = 10L;
+        given(notificationsRepository.markAllAsRead(eq(userId), any())).willReturn(5);
+        given(notificationUnreadCountRepository.findCount(userId)).willReturn(1L);
+
+        // when
+        NotificationUnreadCountResponse result = notificationInboxService.markAllAsRead(userId);
+
+        // then
+        then(notificationUnreadCountRepository).should().decrement(userId, 5);
+        assertThat(result.unreadCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,80 @@
+package back.service.notifications;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.notifications.NotificationsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationsRepository notificationsRepository;
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @InjectMocks
+    private NotificationRetentionJob notificationRetentionJob;
+
+    @Test
+    @DisplayName("청크가 가득 차면 이어서 삭제하고, 덜 차면 멈춘다")
+    void purgesInChunksUntilShortChunk() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        int chunk = NotificationRetentionJob.CHUNK_SIZE;
+        given(notificationsRepository.deleteReadBefore(cutoff, chunk)).willReturn(chunk, chunk, 17);
+
+        // when
+        int deleted = notificationRetentionJob.purgeReadBefore(cutoff);
+
+        // then
+        assertThat(deleted).isEqualTo(chunk * 2 + 17);
+        then(notificationsRepository).should(times(3)).deleteReadBefore(cutoff, chunk);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에서 최대 청크 수까지만 삭제한다")
+    void stopsAtMaxChunksPerRun() {
+        int chunk = NotificationRetentionJob.CHUNK_SIZE;
+        given(notificationsRepository.deleteReadBefore(any(), eq(chunk))).willReturn(chunk);
+
+        notificationRetentionJob.purgeReadBefore(LocalDateTime.now());
+
+        then(notificationsRepository).should(times(NotificationRetentionJob.MAX_CHUNKS_PER_RUN))
+                .deleteReadBefore(any(), eq(chunk));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease를 가지고 있으면 실행하지 않는다")
+    void skipsWithoutLease() {
+        given(schedulerLeaseRepository.tryAcquire(eq("notification-retention"), anyString(), anyInt())).willReturn(0);
+
+        notificationRetentionJob.purge();
+
+        then(notificationsRepository).shouldHaveNoInteractions();
+        then(schedulerLeaseRepository).should(never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("lease를 얻으면 정리 후 반납한다")
+    void purgesAndReleasesLease() {
+        given(schedulerLeaseRepository.tryAcquire(eq("notification-retention"), anyString(), anyInt())).willReturn(1);
+        given(notificationsRepository.deleteReadBefore(any(), anyInt())).willReturn(3);
+
+        notificationRetentionJob.purge();
+
+        then(notificationsRepository).should().deleteReadBefore(
+                argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusDays(89))), anyInt());
+        then(schedulerLeaseRepository).should().release(eq("notification-retention"), anyString());
+    }
+}
@@ -0,0 +1,249 @@
+package back.service.notifications;
+
+import back.domain.Notifications;
+import back.dto.NotificationResponse;
+import back.repository.notifications.EmitterRepository;
+import back.repository.notifications.NotificationsRepository;
+import back.repository.notifications.SseConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+class NotificationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationsRepository notificationsRepository = mock(NotificationsRepository.class);
+    private EmitterRepository emitterRepository;
+    private ExecutorService sender;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository();
+        sender = Executors.newFixedThreadPool(2);
+        notificationService = new NotificationService(emitterRepository, notificationsRepository, meterRegistry, sender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * 전송 내용을 기록하는 emitter (blocker가 있으면 해제될 때까지 전송 대기)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocker;
+        private volatile boolean broken;
+
+        RecordingEmitter(CountDownLatch blocker) {
+            this.blocker = blocker;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            if (blocker != null) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            builder.build().forEach(part -> sent.add(part.getData()));
+        }
+    }
+
+    private static Notifications notification(Long notiId, Long userId) {
+        Notifications notification = new Notifications(userId, "알림 " + notiId, 1L, "POST");
+        ReflectionTestUtils.setField(notification, "notiId", notiId);
+        return notification;
+    }
+
+    private static List<Long> sentNotificationIds(RecordingEmitter emitter) {
+        return emitter.sent.stream()
+                .filter(NotificationResponse.class::isInstance)
+                .map(data -> ((NotificationResponse) data).id())
+                .toList();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    // 전송 스레드 처리 대기 (최대 2초)
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("알림은 해당 사용자의 연결에만 전송된다")
+    void sendsOnlyToTargetUser() throws Exception {
+        // given
+        RecordingEmitter phone = new RecordingEmitter(null);
+        RecordingEmitter laptop = new RecordingEmitter(null);
+        RecordingEmitter other = new RecordingEmitter(null);
+        notificationService.register(1L, phone);
+        notificationService.register(1L, laptop);
+        notificationService.register(2L, other);
+
+        // when
+        notificationService.send(1L, "hello");
+        awaitUntil(() -> !phone.sent.isEmpty() && !laptop.sent.isEmpty());
+
+        // then
+        assertThat(phone.sent).anySatisfy(data -> assertThat(data.toString()).contains("hello"));
+        assertThat(laptop.sent).anySatisfy(data -> assertThat(data.toString()).contains("hello"));
+        assertThat(other.sent).isEmpty();
+        assertThat(gauge("notifications.sse.connections")).isEqualTo(3);
+        assertThat(gauge("notifications.sse.users")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트는 큐가 차면 끊기고 다른 사용자 전송은 막히지 않는다")
+    void slowClientIsDroppedWithoutBlockingOthers() throws Exception {
+        // given
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        notificationService.register(1L, slow);
+        notificationService.register(2L, fast);
+
+        // when: 전송 1건은 스레드에서 대기, 나머지로 큐를 넘치게 함
+        for (int i = 0; i < NotificationService.SEND_QUEUE_CAPACITY + 2; i++) {
+            notificationService.send(1L, "n" + i);
+        }
+        notificationService.send(2L, "hello");
+        awaitUntil(() -> !fast.sent.isEmpty());
+
+        // then
+        assertThat(emitterRepository.findAllByUserId(1L)).isEmpty();
+        assertThat(meterRegistry.get("notifications.sse.dropped").counter().count()).isEqualTo(1);
+        assertThat(fast.sent).anySatisfy(data -> assertThat(data.toString()).contains("hello"));
+        stuck.countDown();
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송이 실패한 연결은 정리된다")
+    void heartbeatReapsBrokenConnections() throws Exception {
+        // given
+        RecordingEmitter alive = new RecordingEmitter(null);
+        RecordingEmitter zombie = new RecordingEmitter(null);
+        notificationService.register(1L, alive);
+        SseConnection zombieConnection = notificationService.register(2L, zombie);
+        zombie.broken = true;
+
+        // when
+        notificationService.heartbeat();
+        awaitUntil(zombieConnection::isClosed);
+
+        // then
+        assertThat(zombieConnection.isClosed()).isTrue();
+        assertThat(emitterRepository.findAllByUserId(2L)).isEmpty();
+        assertThat(emitterRepository.findAllByUserId(1L)).hasSize(1);
+        assertThat(gauge("notifications.sse.connections")).isEqualTo(1);
+        sender.shutdown();
+        assertThat(sender.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("알림 이벤트에는 알림 id가 이벤트 id로 붙는다")
+    void sendJsonTagsEventId() throws Exception {
+        // given
+        RecordingEmitter phone = new RecordingEmitter(null);
+        notificationService.register(1L, phone);
+
+        // when
+        notificationService.sendJson(1L, 42L, "{\"id\":42}");
+        awaitUntil(() -> phone.sent.size() >= 2);
+
+        // then
+        assertThat(phone.sent).anySatisfy(data -> assertThat(data.toString()).contains("id:42"));
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후 알림을 먼저 보내고, 조회 중 들어온 알림은 중복 없이 이어서 보낸다")
+    void replaysMissedThenLiveWithoutDuplicates() throws Exception {
+        // given: 재연결 연결은 일시정지 상태로 등록, 그 사이 실시간 알림 2건(1건은 누락분과 겹침)
+        RecordingEmitter phone = new RecordingEmitter(null);
+        SseConnection connection = notificationService.register(1L, phone, true);
+        connection.offer(12L, SseEmitter.event().id("12").name("notification").data("live-12"));
+        connection.offer(13L, SseEmitter.event().id("13").name("notification").data("live-13"));
+        Thread.sleep(50);
+        assertThat(phone.sent).isEmpty();
+
+        // when: 누락분 10~12 전송 후 재개
+        connection.resume(List.of(
+                new SseConnection.Event(10L, SseEmitter.event().id("10").data("missed-10")),
+                new SseConnection.Event(11L, SseEmitter.event().id("11").data("missed-11")),
+                new SseConnection.Event(12L, SseEmitter.event().id("12").data("missed-12"))));
+        awaitUntil(() -> phone.sent.stream().anyMatch(data -> "live-13".equals(data)));
+
+        // then
+        assertThat(phone.sent).filteredOn(data -> data instanceof String s && (s.startsWith("missed-") || s.startsWith("live-")))
+                .containsExactly("missed-10", "missed-11", "missed-12", "live-13");
+    }
+
+    @Test
+    @DisplayName("subscribe에 Last-Event-ID가 있으면 notifications 테이블에서 누락분을 조회해 보낸다")
+    void subscribeReplaysFromTable() throws Exception {
+        // given
+        given(notificationsRepository.findReplay(eq(1L), eq(9L), any()))
+                .willReturn(List.of(notification(10L, 1L), notification(11L, 1L)));
+
+        // when
+        SseEmitter emitter = notificationService.subscribe(1L, 9L);
+        SseConnection connection = emitterRepository.findAllByUserId(1L).iterator().next();
+
+        // then
+        assertThat(connection.getEmitter()).isSameAs(emitter);
+        assertThat(meterRegistry.get("notifications.sse.replayed").counter().count()).isEqualTo(2);
+        then(notificationsRepository).should().findReplay(eq(1L), eq(9L),
+                argThat(pageable -> pageable.getPageSize() == NotificationService.REPLAY_LIMIT + 1));
+    }
+
+    @Test
+    @DisplayName("누락분이 너무 많으면 재전송 대신 reset 이벤트를 보낸다")
+    void tooManyMissedSendsReset() throws Exception {
+        // given
+        RecordingEmitter phone = new RecordingEmitter(null);
+        List<Notifications> missed = LongStream.rangeClosed(1, NotificationService.REPLAY_LIMIT + 1)
+                .mapToObj(id -> notification(id, 1L))
+                .toList();
+        given(notificationsRepository.findReplay(eq(1L), eq(0L), any())).willReturn(missed);
+
+        // when
+        SseConnection connection = notificationService.register(1L, phone, true);
+        connection.resume(notificationService.findMissed(1L, 0L));
+        awaitUntil(() -> !phone.sent.isEmpty());
+
+        // then
+        assertThat(sentNotificationIds(phone)).isEmpty();
+        assertThat(phone.sent).anySatisfy(data -> assertThat(data.toString()).contains("event:reset"));
+        assertThat(meterRegistry.get("notifications.sse.replay.reset").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package back.service.notifications.bus;
+
+import back.repository.notifications.NotificationBusRepository;
+import back.repository.notifications.NotificationBusRepository.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcNotificationBusTest {
+
+    @Mock
+    private NotificationBusRepository notificationBusRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<NotificationBroadcast> received = new ArrayList<>();
+    private JdbcNotificationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        given(notificationBusRepository.findMaxSeq()).willReturn(10L);
+        bus = new JdbcNotificationBus(notificationBusRepository, objectMapper, meterRegistry);
+        bus.init();
+        bus.subscribe(received::add);
+    }
+
+    private Row row(long seq, String origin, long userId) throws Exception {
+        NotificationBroadcast broadcast = new NotificationBroadcast(List.of(userId), List.of(seq * 100), "{\"id\":0}");
+        return new Row(seq, origin, objectMapper.writeValueAsString(broadcast));
+    }
+
+    @Test
+    @DisplayName("본 서버 발행분은 건너뛰고 커서를 이동한다")
+    void skipsOwnMessages() throws Exception {
+        given(notificationBusRepository.findAfter(eq(10L), anyInt()))
+                .willReturn(List.of(row(11, bus.nodeId(), 1L), row(12, "other", 2L)));
+
+        bus.poll(1_000);
+
+        assertThat(received).extracting(b -> b.userIds().get(0)).containsExactly(2L);
+        assertThat(bus.cursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("seq가 비면 뒤의 행은 먼저 전달하되 커서는 멈추고, 중복 전달하지 않는다")
+    void holdsCursorAtGapWithoutRedelivery() throws Exception {
+        // given: 12는 아직 커밋 전
+        given(notificationBusRepository.findAfter(eq(10L), anyInt()))
+                .willReturn(List.of(row(11, "other", 1L), row(13, "other", 3L)));
+        given(notificationBusRepository.findAfter(eq(11L), anyInt()))
+                .willReturn(List.of(row(13, "other", 3L)))
+                .willReturn(List.of(row(12, "other", 2L), row(13, "other", 3L)));
+
+        // when
+        bus.poll(1_000);
+        bus.poll(1_100);
+
+        // then
+        assertThat(bus.cursor()).isEqualTo(11L);
+        assertThat(received).extracting(b -> b.userIds().get(0)).containsExactly(1L, 3L);
+
+        // when: 12 커밋
+        bus.poll(1_200);
+
+        // then
+        assertThat(bus.cursor()).isEqualTo(13L);
+        assertThat(received).extracting(b -> b.userIds().get(0)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("시간 안에 채워지지 않는 gap은 롤백된 것으로 보고 건너뛴다")
+    void skipsExpiredGap() throws Exception {
+        given(notificationBusRepository.findAfter(eq(10L), anyInt()))
+                .willReturn(List.of(row(12, "other", 2L)));
+
+        bus.poll(1_000);
+        assertThat(bus.cursor()).isEqualTo(10L);
+
+        bus.poll(1_000 + JdbcNotificationBus.GAP_TIMEOUT_MS);
+
+        assertThat(bus.cursor()).isEqualTo(12L);
+        assertThat(received).hasSize(1);
+        assertThat(meterRegistry.get("notifications.bus.gaps.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발행 시 노드 id와 함께 JSON으로 저장한다")
+    void publishAppendsWithNodeId() {
+        bus.publish(new NotificationBroadcast(List.of(1L), List.of(5L), "{\"id\":0}"));
+
+        then(notificationBusRepository).should().append(eq(bus.nodeId()),
+                contains("\"notificationIds\":[5]"));
+    }
+}
@@ -26,6 +26,7 @@ import back.repository.post.PostMemberTagRepository;
 import back.repository.post.PostRepository;
 import back.repository.club.ClubMemberRepository;
 import back.service.club.ClubAuthService;
+import back.service.post.ai.PostEmbeddingOutboxService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -73,6 +74,8 @@ public class PostServiceTests {
 
         @Mock
         private PostCommentRepository postCommentRepository;
+        @Mock
+        private PostEmbeddingOutboxService postEmbeddingOutboxService;
 
         @InjectMocks
         private PostService postService;
@@ -499,6 +502,7 @@ public class PostServiceTests {
                         assertThat(res.postId()).isEqualTo(10L);
 
                         then(postRepository).should(times(1)).save(any(Posts.class));
+                        then(postEmbeddingOutboxService).should(times(1)).enqueue(10L);
                         then(postImageRepository).shouldHaveNoInteractions();
                         then(postMemberTagRepository).shouldHaveNoInteractions();
                 }
@@ -538,6 +542,7 @@ public class PostServiceTests {
 
                         then(postMemberTagRepository).should(times(1)).deleteByPostId(1L);
                         then(postMemberTagRepository).should(times(1)).saveAll(anyList());
+                        then(postEmbeddingOutboxService).should(times(1)).enqueue(1L);
                 }
 
                 @Test
@@ -563,6 +568,7 @@ public class PostServiceTests {
                                         .isInstanceOf(ClubException.class);
 
                         then(postRepository).shouldHaveNoInteractions();
+                        then(postEmbeddingOutboxService).shouldHaveNoInteractions();
                         then(postImageRepository).shouldHaveNoInteractions();
                         then(postMemberTagRepository).shouldHaveNoInteractions();
                 }
@@ -710,6 +716,8 @@ public class PostServiceTests {
                         then(clubAuthorizationService).shouldHaveNoInteractions(); // 작성자면 매니저 체크 안 탐
                         then(postImageRepository).shouldHaveNoInteractions();
                         then(postMemberTagRepository).shouldHaveNoInteractions();
+                        then(postEmbeddingOutboxService).should(times(1)).enqueue(postId);
+                        then(eventPublisher).should(times(1)).publishEvent(any(back.event.PostChangedEvent.class));
                 }
 
                 @Test
@@ -1050,6 +1058,10 @@ public class PostServiceTests {
                         // 작성자면 매니저 체크 안 탐
                         then(clubAuthorizationService).shouldHaveNoInteractions();
                         then(postRepository).should(times(1)).findByPostIdAndClub_ClubId(postId, clubId);
+                        // 벡터 제거 작업 적재
+                        then(postEmbeddingOutboxService).should(times(1)).enqueue(postId);
+                        // 커밋 후 RAG 답변 캐시 무효화
+                        then(eventPublisher).should(times(1)).publishEvent(any(back.event.PostChangedEvent.class));
                 }
 
                 @Test
@@ -1080,6 +1092,8 @@ public class PostServiceTests {
 
                         // delete 안 됨
                         assertThat(post.getDeletedAt()).isNull();
+                        then(postEmbeddingOutboxService).shouldHaveNoInteractions();
+                        then(eventPublisher).shouldHaveNoInteractions();
                         then(clubAuthorizationService).should(times(1)).assertAtLeastManager(clubId, memberId);
                 }
 
@@ -0,0 +1,199 @@
+package back.service.post.ai;
+
+import back.domain.post.Posts;
+import back.repository.post.PostRepository;
+import back.repository.post.projection.EmbeddingJobRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostEmbeddingWorkerTest {
+
+    @Mock
+    private PostEmbeddingOutboxService postEmbeddingOutboxService;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostVectorService postVectorService;
+
+    private PostEmbeddingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PostEmbeddingWorker(postEmbeddingOutboxService, postRepository, postVectorService, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    private static <T> T newEntity(Class<T> type) {
+        try {
+            var ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return ctor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Posts post(Long postId, LocalDateTime deletedAt) {
+        Posts post = newEntity(Posts.class);
+        ReflectionTestUtils.setField(post, "postId", postId);
+        ReflectionTestUtils.setField(post, "deletedAt", deletedAt);
+        return post;
+    }
+
+    private EmbeddingJobRow job(Long postId) {
+        return new EmbeddingJobRow() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public Long getVersion() {
+                return 1L;
+            }
+
+            @Override
+            public Integer getAttempts() {
+                return 1;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("선점한 작업을 한 번에 임베딩하고 완료 처리한다 (삭제된 게시글은 벡터 제거)")
+    void processSavesAliveStoriesInOneBatch() {
+        // given
+        List<EmbeddingJobRow> jobs = List.of(job(1L), job(2L), job(3L));
+        Posts alive1 = post(1L, null);
+        Posts deleted = post(2L, LocalDateTime.now());
+        Posts alive3 = post(3L, null);
+        given(postRepository.findAllWithWriterByPostIdIn(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(alive1, deleted, alive3));
+
+        // when
+        worker.process(jobs);
+
+        // then
+        then(postVectorService).should(times(1)).savePosts(List.of(alive1, alive3));
+        then(postVectorService).should(times(1)).deletePosts(List.of(2L));
+        then(postEmbeddingOutboxService).should(times(1)).complete(jobs);
+        then(postEmbeddingOutboxService).should(never()).fail(any(), any());
+    }
+
+    @Test
+    @DisplayName("임베딩/upsert 실패 시 배치 전체를 재시도 예약한다")
+    void processFailureSchedulesRetry() {
+        // given
+        List<EmbeddingJobRow> jobs = List.of(job(1L));
+        given(postRepository.findAllWithWriterByPostIdIn(List.of(1L))).willReturn(List.of(post(1L, null)));
+        willThrow(new IllegalStateException("Gemini 429"))
+                .given(postVectorService).savePosts(anyList());
+
+        // when
+        worker.process(jobs);
+
+        // then
+        then(postEmbeddingOutboxService).should(never()).complete(any());
+        then(postEmbeddingOutboxService).should(times(1)).fail(jobs, "Gemini 429");
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 반씩 나눠 다시 처리하고 문제 게시글만 재시도 예약한다")
+    void processBisectsToIsolatePoisonPost() {
+        // given
+        EmbeddingJobRow job1 = job(1L);
+        EmbeddingJobRow job2 = job(2L);
+        EmbeddingJobRow job3 = job(3L);
+        EmbeddingJobRow job4 = job(4L);
+        given(postRepository.findAllWithWriterByPostIdIn(anyList())).willAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).stream().map(postId -> post(postId, null)).toList());
+        given(postVectorService.savePosts(anyList())).willAnswer(invocation -> {
+            List<Posts> posts = invocation.getArgument(0);
+            if (posts.stream().anyMatch(post -> post.getPostId() == 3L)) {
+                throw new IllegalStateException("embedding 400: invalid content");
+            }
+            return posts.size();
+        });
+
+        // when
+        worker.process(List.of(job1, job2, job3, job4));
+
+        // then
+        then(postEmbeddingOutboxService).should(times(1)).complete(List.of(job1, job2));
+        then(postEmbeddingOutboxService).should(times(1)).complete(List.of(job4));
+        then(postEmbeddingOutboxService).should(times(1)).fail(List.of(job3), "embedding 400: invalid content");
+        then(postEmbeddingOutboxService).should(times(3)).complete(any());
+        then(postEmbeddingOutboxService).should(times(1)).fail(any(), any());
+    }
+
+    @Test
+    @DisplayName("429/5xx 같은 일시적 오류는 나누지 않고 배치 전체를 재시도 예약한다")
+    void processTransientFailureRetriesWholeBatch() {
+        // given
+        List<EmbeddingJobRow> jobs = List.of(job(1L), job(2L));
+        given(postRepository.findAllWithWriterByPostIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(post(1L, null), post(2L, null)));
+        WebClientResponseException tooManyRequests =
+                WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests",
+                        null, null, null);
+        willThrow(tooManyRequests).given(postVectorService).savePosts(anyList());
+
+        // when
+        worker.process(jobs);
+
+        // then
+        then(postVectorService).should(times(1)).savePosts(anyList());
+        then(postEmbeddingOutboxService).should(times(1)).fail(jobs, tooManyRequests.getMessage());
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치면 큐가 빌 때까지 계속 선점한다")
+    void drainRepeatsWhileBatchIsFull() {
+        // given
+        List<EmbeddingJobRow> full = LongStream.rangeClosed(1, PostEmbeddingWorker.BATCH_SIZE).mapToObj(this::job).toList();
+        List<EmbeddingJobRow> rest = List.of(job(33L));
+        given(postEmbeddingOutboxService.claim(PostEmbeddingWorker.BATCH_SIZE)).willReturn(full, rest);
+        given(postRepository.findAllWithWriterByPostIdIn(anyList())).willReturn(List.of());
+
+        // when
+        worker.drain();
+
+        // then
+        then(postEmbeddingOutboxService).should(times(2)).claim(PostEmbeddingWorker.BATCH_SIZE);
+        then(postEmbeddingOutboxService).should(times(1)).complete(full);
+        then(postEmbeddingOutboxService).should(times(1)).complete(rest);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 10초부터 두 배씩 늘어나고 30분을 넘지 않는다")
+    void backoffDoublesUpToCap() {
+        assertThat(PostEmbeddingOutboxService.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(PostEmbeddingOutboxService.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(PostEmbeddingOutboxService.backoff(4)).isEqualTo(Duration.ofSeconds(80));
+        assertThat(PostEmbeddingOutboxService.backoff(PostEmbeddingOutboxService.MAX_ATTEMPTS))
+                .isEqualTo(Duration.ofSeconds(1280));
+        assertThat(PostEmbeddingOutboxService.backoff(30)).isEqualTo(Duration.ofMinutes(30));
+    }
+}
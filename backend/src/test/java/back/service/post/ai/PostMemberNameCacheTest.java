@@ -0,0 +1,123 @@
+package back.service.post.ai;
+
+import back.repository.club.ClubMemberRepository;
+import back.repository.club.projection.MemberNameView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostMemberNameCacheTest {
+
+    @Mock
+    private ClubMemberRepository clubMemberRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private PostMemberNameCache postMemberNameCache;
+
+    private record Member(Long memberId, String realName, String clubNickname) implements MemberNameView {
+        public Long getMemberId() { return memberId; }
+        public String getRealName() { return realName; }
+        public String getClubNickname() { return clubNickname; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        postMemberNameCache = new PostMemberNameCache(clubMemberRepository, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(30), nanos::get);
+    }
+
+    @Test
+    @DisplayName("질문 1회 순회로 언급된 멤버를 모두 찾고, 공백/대소문자 차이는 무시한다")
+    void findsAllMentionedMembers() {
+        // given
+        given(clubMemberRepository.findMemberNamesByClubId(1L)).willReturn(List.of(
+                new Member(7L, "김민수", "민수"),
+                new Member(8L, "이지은", "Jieun"),
+                new Member(9L, "박서준", null)));
+
+        // when
+        var mentioned = postMemberNameCache.findMentionedMembers(1L, "민 수랑 JIEUN이랑 간 카페");
+        var none = postMemberNameCache.findMentionedMembers(1L, "작년 여름 MT");
+
+        // then
+        assertThat(mentioned).containsExactlyInAnyOrder(7L, 8L);
+        assertThat(none).isEmpty();
+        then(clubMemberRepository).should(times(1)).findMemberNamesByClubId(1L);
+    }
+
+    @Test
+    @DisplayName("같은 닉네임을 쓴 멤버(탈퇴 멤버 포함)는 모두 돌려준다")
+    void duplicateNicknamesMatchAll() {
+        given(clubMemberRepository.findMemberNamesByClubId(1L)).willReturn(List.of(
+                new Member(7L, "김민수", "민수"),
+                new Member(10L, "최민수", "민수")));
+
+        assertThat(postMemberNameCache.findMentionedMembers(1L, "민수가 추천한 곳"))
+                .containsExactlyInAnyOrder(7L, 10L);
+    }
+
+    @Test
+    @DisplayName("닉네임 변경은 해당 멤버만 다시 조회해 반영한다")
+    void refreshMemberReplacesNickname() {
+        // given
+        given(clubMemberRepository.findMemberNamesByClubId(1L)).willReturn(List.of(new Member(7L, "김민수", "민수")));
+        postMemberNameCache.findMentionedMembers(1L, "민수");
+        given(clubMemberRepository.findMemberName(1L, 7L)).willReturn(Optional.of(new Member(7L, "김민수", "민수킴")));
+
+        // when
+        postMemberNameCache.refreshMember(1L, 7L);
+
+        // then
+        assertThat(postMemberNameCache.findMentionedMembers(1L, "민수킴이랑 간 곳")).containsExactly(7L);
+        assertThat(postMemberNameCache.get(1L).nicknames()).containsEntry(7L, "민수킴");
+        then(clubMemberRepository).should(times(1)).findMemberNamesByClubId(1L);
+    }
+
+    @Test
+    @DisplayName("멤버 행이 없으면 사전에서 빼고, 로딩 전 모임은 조회하지 않는다")
+    void refreshMemberRemovesMissingAndSkipsUnloaded() {
+        // given
+        given(clubMemberRepository.findMemberNamesByClubId(1L)).willReturn(List.of(new Member(7L, "김민수", "민수")));
+        postMemberNameCache.findMentionedMembers(1L, "민수");
+        given(clubMemberRepository.findMemberName(1L, 7L)).willReturn(Optional.empty());
+
+        // when
+        postMemberNameCache.refreshMember(1L, 7L);
+        postMemberNameCache.refreshMember(2L, 20L);
+
+        // then
+        assertThat(postMemberNameCache.findMentionedMembers(1L, "민수")).isEmpty();
+        then(clubMemberRepository).should(never()).findMemberName(2L, 20L);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 모임 닉네임 사전을 다시 로딩한다 (다른 서버에서 일어난 멤버 변경 반영)")
+    void reloadsAfterTtl() {
+        // given
+        given(clubMemberRepository.findMemberNamesByClubId(1L)).willReturn(
+                List.of(new Member(7L, "김민수", "민수")),
+                List.of(new Member(7L, "김민수", "민수"), new Member(8L, "이지은", "지은")));
+        assertThat(postMemberNameCache.findMentionedMembers(1L, "지은이랑 간 카페")).isEmpty();
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+        var mentioned = postMemberNameCache.findMentionedMembers(1L, "지은이랑 간 카페");
+
+        // then
+        assertThat(mentioned).containsExactly(8L);
+        then(clubMemberRepository).should(times(2)).findMemberNamesByClubId(1L);
+    }
+}
@@ -0,0 +1,230 @@
+package back.service.post.ai;
+
+import back.repository.post.PostMemberTagRepository;
+import back.repository.post.PostRepository;
+import back.repository.post.projection.LexicalPostRow;
+import back.repository.post.projection.PostTagRow;
+import back.service.post.ai.lexical.LexicalMatch;
+import back.service.post.ai.lexical.PostLexicalIndex;
+import back.service.post.ai.vector.VectorMatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시글 검색 오프라인 평가 (src/test/resources/post-search/fixture.json)
+ * - 질의 16건: 장소명/날짜/닉네임 같은 정확한 표현 10건 + 표현이 다른 주제 질의 6건
+ * - 키워드: 실제 PostLexicalIndex / 합치기: 운영과 같은 PostSearchService.fuse
+ * - 벡터: 주제 중심 + 잡음 임베딩 (Gemini 없이 돌리는 대역 — 주제는 맞히지만 같은 주제 안 고유명사는 구분 못 함)
+ * - 지표: Recall@5 (관련 글 5건 이상이면 5건 기준), MRR@10
+ */
+class PostSearchEvaluationTest {
+
+    private static final Long CLUB_ID = 1L;
+    private static final int DIM = 64;
+    private static final double NOISE = 0.35;
+
+    record FixturePost(Long postId, String topic, LocalDate date, String place, String content,
+                               List<Long> members) {}
+
+    record FixtureQuery(String query, String topic, List<Long> relevant) {}
+
+    record Fixture(List<FixturePost> posts, List<FixtureQuery> queries) {}
+
+    private record Row(Long postId, String content, String place, LocalDateTime createdAt) implements LexicalPostRow {
+        public Long getPostId() { return postId; }
+        public String getTitle() { return content.length() > 20 ? content.substring(0, 20) : content; }
+        public String getContent() { return content; }
+        public String getPlace() { return place; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+
+    private record Tag(Long postId, Long memberId) implements PostTagRow {
+        public Long getPostId() { return postId; }
+        public Long getMemberId() { return memberId; }
+        public String getNickname() { return "m" + memberId; }
+    }
+
+    private record Score(double recallAt5, double mrr) {}
+
+    private Fixture fixture;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/post-search/fixture.json")) {
+            fixture = new ObjectMapper().findAndRegisterModules().readValue(in, Fixture.class);
+        }
+    }
+
+    @Test
+    @DisplayName("하이브리드(RRF)는 정확한 표현 질의와 주제 질의 모두에서 키워드/벡터 단독보다 낫다")
+    void hybridBeatsEitherRetriever() {
+        // given
+        PostLexicalIndex lexicalIndex = lexicalIndex(fixture.posts());
+        List<FixturePost> posts = fixture.posts();
+        List<FixtureQuery> exact = fixture.queries().stream().filter(q -> q.relevant().size() == 1).toList();
+        List<FixtureQuery> topical = fixture.queries().stream().filter(q -> q.relevant().size() > 1).toList();
+
+        // when
+        Score[] lexical = {evaluate(exact, q -> lexicalIds(lexicalIndex, q)), evaluate(topical, q -> lexicalIds(lexicalIndex, q))};
+        Score[] vector = {evaluate(exact, q -> vectorIds(posts, q)), evaluate(topical, q -> vectorIds(posts, q))};
+        Score[] hybrid = {evaluate(exact, q -> hybridIds(lexicalIndex, posts, q)),
+                evaluate(topical, q -> hybridIds(lexicalIndex, posts, q))};
+
+        // then: 측정값 lexical 1.00/0.07, vector 0.60/1.00, hybrid 1.00/0.90 (exact/topical R@5)
+        assertThat(hybrid[0].recallAt5()).isGreaterThanOrEqualTo(0.9);
+        assertThat(hybrid[1].recallAt5()).isGreaterThanOrEqualTo(0.8);
+
+        // 정확한 표현은 키워드 수준, 주제 질의는 벡터를 크게 잃지 않음
+        assertThat(hybrid[0].recallAt5()).isGreaterThanOrEqualTo(lexical[0].recallAt5());
+        assertThat(hybrid[0].recallAt5()).isGreaterThan(vector[0].recallAt5());
+        assertThat(hybrid[1].recallAt5()).isGreaterThan(lexical[1].recallAt5());
+        assertThat(hybrid[1].recallAt5()).isGreaterThanOrEqualTo(vector[1].recallAt5() - 0.25);
+        double hybridMean = (hybrid[0].mrr() + hybrid[1].mrr()) / 2;
+        assertThat(hybridMean).isGreaterThan((lexical[0].mrr() + lexical[1].mrr()) / 2);
+        assertThat(hybridMean).isGreaterThan((vector[0].mrr() + vector[1].mrr()) / 2);
+    }
+
+    @Test
+    @DisplayName("게시글 20,000건 모임도 색인을 한 번에 구성하고 topK 이내로 필터에 맞는 글만 돌려준다")
+    void lexicalIndexAtScale() {
+        // given: fixture 문장 + 장소를 섞어 20,000건
+        int count = 20_000;
+        Random random = new Random(11);
+        List<FixturePost> base = fixture.posts();
+        List<FixturePost> posts = new ArrayList<>(count);
+        for (long postId = 1; postId <= count; postId++) {
+            FixturePost a = base.get(random.nextInt(base.size()));
+            FixturePost b = base.get(random.nextInt(base.size()));
+            posts.add(new FixturePost(postId, a.topic(), a.date(), b.place(), a.content() + " " + b.content(),
+                    a.members()));
+        }
+        PostLexicalIndex lexicalIndex = lexicalIndex(posts);
+        PostSearchFilter filter = PostSearchFilter.ofClub(CLUB_ID);
+
+        // when
+        Map<String, List<LexicalMatch>> results = fixture.queries().stream()
+                .map(FixtureQuery::query)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(),
+                        q -> lexicalIndex.search(q, PostSearchService.CANDIDATES, filter)));
+
+        // then
+        results.values().forEach(matches -> {
+            assertThat(matches).hasSizeLessThanOrEqualTo(PostSearchService.CANDIDATES);
+            assertThat(matches).extracting(LexicalMatch::postId).doesNotHaveDuplicates()
+                    .allMatch(postId -> postId >= 1 && postId <= count);
+        });
+        assertThat(lexicalIndex.search("가평 펜션", 10, filter)).hasSize(10);
+    }
+
+    // ===== 검색기 =====
+
+    private List<Long> lexicalIds(PostLexicalIndex index, FixtureQuery query) {
+        return index.search(query.query(), PostSearchService.CANDIDATES, PostSearchFilter.ofClub(CLUB_ID)).stream()
+                .map(LexicalMatch::postId)
+                .toList();
+    }
+
+    private List<Long> vectorIds(List<FixturePost> posts, FixtureQuery query) {
+        return vectorMatches(posts, query).stream().map(VectorMatch::postId).toList();
+    }
+
+    private List<Long> hybridIds(PostLexicalIndex index, List<FixturePost> posts, FixtureQuery query) {
+        List<LexicalMatch> lexical = index.search(query.query(), PostSearchService.CANDIDATES,
+                PostSearchFilter.ofClub(CLUB_ID));
+        return PostSearchService.fuse(vectorMatches(posts, query), lexical, PostSearchService.TOP_K).stream()
+                .map(PostSearchService.SearchHit::postId)
+                .toList();
+    }
+
+    private List<VectorMatch> vectorMatches(List<FixturePost> posts, FixtureQuery query) {
+        float[] q = embed(query.topic(), query.query().hashCode());
+        return posts.stream()
+                .map(post -> new VectorMatch(post.postId(),
+                        squaredDistance(q, embed(post.topic(), post.postId())), List.of()))
+                .sorted(Comparator.comparingDouble(VectorMatch::distance))
+                .limit(PostSearchService.CANDIDATES)
+                .toList();
+    }
+
+    private static float[] embed(String topic, long seed) {
+        Random center = new Random(topic.hashCode());
+        Random noise = new Random(seed * 31 + 7);
+        float[] v = new float[DIM];
+        for (int i = 0; i < DIM; i++) {
+            v[i] = (float) (center.nextGaussian() + NOISE * noise.nextGaussian());
+        }
+        return v;
+    }
+
+    private static double squaredDistance(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            double d = a[i] - b[i];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    // ===== 지표 =====
+
+    private static Score evaluate(List<FixtureQuery> queries,
+                                  Function<FixtureQuery, List<Long>> retriever) {
+        double recall = 0;
+        double mrr = 0;
+        for (FixtureQuery query : queries) {
+            List<Long> ranked = retriever.apply(query);
+            Set<Long> relevant = new HashSet<>(query.relevant());
+            long found = ranked.stream().limit(5).filter(relevant::contains).count();
+            recall += (double) found / Math.min(5, relevant.size());
+            for (int i = 0; i < Math.min(10, ranked.size()); i++) {
+                if (relevant.contains(ranked.get(i))) {
+                    mrr += 1.0 / (i + 1);
+                    break;
+                }
+            }
+        }
+        return new Score(recall / queries.size(), mrr / queries.size());
+    }
+
+    private static PostLexicalIndex lexicalIndex(List<FixturePost> posts) {
+        PostRepository postRepository = mock(PostRepository.class);
+        PostMemberTagRepository postMemberTagRepository = mock(PostMemberTagRepository.class);
+        given(postRepository.findLexicalRowsByClubId(CLUB_ID)).willReturn(posts.stream()
+                .map(post -> (LexicalPostRow) new Row(post.postId(), post.content(), post.place(),
+                        post.date().atTime(20, 0)))
+                .toList());
+        Map<Long, List<PostTagRow>> tags = posts.stream().collect(Collectors.toMap(FixturePost::postId,
+                post -> post.members().stream().map(memberId -> (PostTagRow) new Tag(post.postId(), memberId)).toList()));
+        given(postMemberTagRepository.findTagRowsByPostIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return postIds.stream().flatMap(postId -> tags.getOrDefault(postId, List.of()).stream()).toList();
+        });
+        return new PostLexicalIndex(postRepository, postMemberTagRepository, new SimpleMeterRegistry(),
+                Long.MAX_VALUE, Duration.ZERO, Duration.ZERO);
+    }
+}
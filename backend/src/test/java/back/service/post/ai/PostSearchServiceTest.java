@@ -0,0 +1,185 @@
+package back.service.post.ai;
+
+import back.repository.club.ClubMemberRepository;
+import back.repository.club.projection.MemberNameView;
+import back.repository.post.PostMemberTagRepository;
+import back.repository.post.PostRepository;
+import back.service.post.ai.gemini.GeminiChatClient;
+import back.service.post.ai.gemini.embedding.EmbeddingCache;
+import back.service.post.ai.gemini.embedding.GeminiEmbeddingClient;
+import back.service.post.ai.lexical.LexicalMatch;
+import back.service.post.ai.lexical.PostLexicalIndex;
+import back.service.post.ai.vector.PostVectorIndex;
+import back.service.post.ai.vector.VectorMatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+    @Mock
+    private GeminiEmbeddingClient geminiEmbeddingClient;
+    @Mock
+    private GeminiChatClient geminiChatClient;
+    @Mock
+    private PostVectorIndex postVectorIndex;
+    @Mock
+    private PostLexicalIndex postLexicalIndex;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostMemberTagRepository postMemberTagRepository;
+    @Mock
+    private ClubMemberRepository clubMemberRepository;
+    @Mock
+    private EmbeddingCache embeddingCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PostSearchService postSearchService;
+
+    private record Member(Long memberId, String realName, String clubNickname) implements MemberNameView {
+        public Long getMemberId() { return memberId; }
+        public String getRealName() { return realName; }
+        public String getClubNickname() { return clubNickname; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        postSearchService = new PostSearchService(geminiEmbeddingClient, geminiChatClient, postVectorIndex,
+                postLexicalIndex, postRepository, postMemberTagRepository, new PostMemberNameCache(clubMemberRepository, new SimpleMeterRegistry(), 100, Duration.ofHours(1), System::nanoTime),
+                embeddingCache,
+                new RagAnswerCache(new SimpleMeterRegistry(), 1024 * 1024, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("모임 조건만 있으면 단일 $eq 필터")
+    void whereClubOnly() throws Exception {
+        Map<String, Object> where = PostSearchFilter.ofClub(3L).toWhere();
+
+        assertThat(objectMapper.writeValueAsString(where)).isEqualTo("{\"clubId\":{\"$eq\":3}}");
+    }
+
+    @Test
+    @DisplayName("멤버/작성일 조건은 $and로 묶고, 멤버는 m_{id} 키의 $or")
+    void whereWithMembersAndDates() throws Exception {
+        PostSearchFilter filter = new PostSearchFilter(3L, List.of(7L, 8L),
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31));
+
+        String json = objectMapper.writeValueAsString(filter.toWhere());
+
+        assertThat(json).startsWith("{\"$and\":[{\"clubId\":{\"$eq\":3}},");
+        assertThat(json).contains("{\"$or\":[{\"m_7\":{\"$eq\":true}},{\"m_8\":{\"$eq\":true}}]}");
+        assertThat(json).contains("\"createdAt\":{\"$gte\":");
+        assertThat(json).contains("\"createdAt\":{\"$lt\":");
+    }
+
+    @Test
+    @DisplayName("질문에 포함된 닉네임은 해당 모임 멤버 id로만 변환한다")
+    void resolveFilterMatchesClubNicknames() {
+        given(clubMemberRepository.findMemberNamesByClubId(3L)).willReturn(List.of(
+                new Member(7L, "김민수", "민수"),
+                new Member(8L, "이지은", "지은"),
+                new Member(9L, "박서준", null)));
+
+        PostSearchFilter filter = postSearchService.resolveFilter(3L, "민수랑 간 맛집 어디였지?", null, null);
+        PostSearchFilter second = postSearchService.resolveFilter(3L, "지은, 민수 둘 다 간 곳", null, null);
+
+        assertThat(filter.memberIds()).containsExactly(7L);
+        assertThat(filter.clubId()).isEqualTo(3L);
+        assertThat(second.memberIds()).containsExactly(7L, 8L);
+        // 사전은 모임별로 1회만 로딩
+        then(clubMemberRepository).should(times(1)).findMemberNamesByClubId(3L);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 게시글이 없으면 키워드/벡터 검색을 하지 않는다")
+    void skipsSearchWhenNoCandidates() {
+        given(postRepository.countRagCandidates(eq(3L), isNull(), isNull(), eq(false), any())).willReturn(0L);
+
+        List<PostSearchService.SearchHit> hits = postSearchService.searchHits(PostSearchFilter.ofClub(3L), "회식");
+
+        assertThat(hits).isEmpty();
+        then(postVectorIndex).shouldHaveNoInteractions();
+        then(postLexicalIndex).shouldHaveNoInteractions();
+        then(embeddingCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("후보 수만큼 키워드/벡터 검색을 요청하고 RRF 점수순 SearchHit으로 합친다")
+    void fusesLexicalAndVectorHits() {
+        // given
+        PostSearchFilter filter = new PostSearchFilter(3L, List.of(7L), null, null);
+        float[] embedding = {0.1f, 0.2f};
+        given(postRepository.countRagCandidates(eq(3L), isNull(), isNull(), eq(true), eq(List.of(7L)))).willReturn(3L);
+        given(embeddingCache.get(eq("홍대 회식"), any())).willReturn(embedding);
+        given(postVectorIndex.search(embedding, 3, filter)).willReturn(List.of(
+                new VectorMatch(2L, 0.4, List.of("민수", "지은")),
+                new VectorMatch(1L, 0.1, List.of("민수"))));
+        given(postLexicalIndex.search("홍대 회식", 3, filter)).willReturn(List.of(
+                new LexicalMatch(3L, 7.5, List.of("민수")),
+                new LexicalMatch(2L, 2.1, List.of("민수", "지은"))));
+
+        // when
+        List<PostSearchService.SearchHit> hits = postSearchService.searchHits(filter, "홍대 회식");
+
+        // then: 2번은 양쪽 2위 → 한쪽 1위보다 앞, 동점(1번/3번)은 벡터 쪽 우선
+        assertThat(hits).extracting(PostSearchService.SearchHit::postId).containsExactly(2L, 1L, 3L);
+        assertThat(hits.get(0).vectorRank()).isEqualTo(2);
+        assertThat(hits.get(0).lexicalRank()).isEqualTo(2);
+        assertThat(hits.get(0).memberNames()).containsExactly("민수", "지은");
+        assertThat(hits.get(2).vectorRank()).isNull();
+    }
+
+    @Test
+    @DisplayName("임베딩/벡터 저장소가 실패해도 키워드 결과로 검색한다")
+    void fallsBackToLexicalWhenVectorStoreFails() {
+        // given
+        PostSearchFilter filter = PostSearchFilter.ofClub(3L);
+        given(postRepository.countRagCandidates(eq(3L), isNull(), isNull(), eq(false), any())).willReturn(5L);
+        given(embeddingCache.get(eq("연남동 카페"), any())).willReturn(new float[]{0.1f});
+        given(postVectorIndex.search(any(), eq(5), eq(filter)))
+                .willThrow(new IllegalStateException("Chroma 컬렉션 준비 실패"));
+        given(postLexicalIndex.search("연남동 카페", 5, filter))
+                .willReturn(List.of(new LexicalMatch(4L, 3.2, List.of())));
+
+        // when
+        List<PostSearchService.SearchHit> hits = postSearchService.searchHits(filter, "연남동 카페");
+
+        // then
+        assertThat(hits).extracting(PostSearchService.SearchHit::postId).containsExactly(4L);
+        assertThat(hits.get(0).lexicalRank()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("RRF 결과는 TOP_K건까지만 돌려준다")
+    void fuseLimitsToTopK() {
+        List<VectorMatch> vector = LongStream.rangeClosed(1, 30)
+                .mapToObj(id -> new VectorMatch(id, id * 0.01, List.of()))
+                .toList();
+        List<LexicalMatch> lexical = LongStream.rangeClosed(21, 50)
+                .mapToObj(id -> new LexicalMatch(id, 100.0 - id, List.of()))
+                .toList();
+
+        List<PostSearchService.SearchHit> hits = PostSearchService.fuse(vector, lexical, PostSearchService.TOP_K);
+
+        assertThat(hits).hasSize(PostSearchService.TOP_K);
+        // 21~30은 양쪽에 모두 있어 상위
+        assertThat(hits.get(0).postId()).isEqualTo(21L);
+    }
+}
@@ -0,0 +1,85 @@
+package back.service.post.ai;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.post.PostRepository;
+import back.service.post.ai.vector.PostVectorIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostVectorReconcileJobTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostVectorIndex postVectorIndex;
+    @Mock
+    private PostVectorService postVectorService;
+    @Mock
+    private PostEmbeddingOutboxService postEmbeddingOutboxService;
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @InjectMocks
+    private PostVectorReconcileJob postVectorReconcileJob;
+
+    @Test
+    @DisplayName("DB에만 있는 게시글은 해시를 지우고 재적재, 저장소에만 있는 게시글은 삭제한다")
+    void repairsDrift() {
+        // given
+        given(postVectorIndex.postIds(3L)).willReturn(Set.of(1L, 2L, 9L));
+        given(postRepository.findLivePostIdsByClubId(3L)).willReturn(List.of(1L, 2L, 4L, 5L));
+
+        // when
+        PostVectorReconcileJob.Drift drift = postVectorReconcileJob.reconcileClub(3L);
+
+        // then
+        assertThat(drift).isEqualTo(new PostVectorReconcileJob.Drift(2, 1));
+        InOrder inOrder = inOrder(postVectorIndex, postRepository, postVectorService, postEmbeddingOutboxService);
+        inOrder.verify(postVectorIndex).postIds(3L);
+        inOrder.verify(postRepository).findLivePostIdsByClubId(3L);
+        inOrder.verify(postVectorService).forgetHashes(List.of(4L, 5L));
+        inOrder.verify(postEmbeddingOutboxService).enqueue(4L);
+        inOrder.verify(postEmbeddingOutboxService).enqueue(5L);
+        then(postVectorService).should().deletePosts(List.of(9L));
+    }
+
+    @Test
+    @DisplayName("한 모임 점검이 실패해도 나머지 모임은 계속한다")
+    void continuesAfterClubFailure() {
+        // given
+        given(postRepository.findClubIdsWithPosts()).willReturn(List.of(3L, 4L));
+        given(postVectorIndex.postIds(3L)).willThrow(new IllegalStateException("chroma down"));
+        given(postVectorIndex.postIds(4L)).willReturn(Set.of(7L));
+        given(postRepository.findLivePostIdsByClubId(4L)).willReturn(List.of());
+
+        // when
+        PostVectorReconcileJob.Drift drift = postVectorReconcileJob.reconcileAll();
+
+        // then
+        assertThat(drift).isEqualTo(new PostVectorReconcileJob.Drift(0, 1));
+        then(postVectorService).should().deletePosts(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease를 가지고 있으면 실행하지 않는다")
+    void skipsWithoutLease() {
+        given(schedulerLeaseRepository.tryAcquire(eq("post-vector-reconcile"), anyString(), anyInt())).willReturn(0);
+
+        postVectorReconcileJob.runWithLease();
+
+        then(postRepository).shouldHaveNoInteractions();
+        then(postVectorIndex).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,158 @@
+package back.service.post.ai;
+
+import back.domain.club.ClubMembers;
+import back.domain.club.Clubs;
+import back.domain.post.PostEmbeddingHash;
+import back.domain.post.Posts;
+import back.repository.post.PostEmbeddingHashRepository;
+import back.repository.post.PostMemberTagRepository;
+import back.service.post.ai.gemini.embedding.EmbeddingTextBuilder;
+import back.service.post.ai.gemini.embedding.GeminiEmbeddingClient;
+import back.service.post.ai.vector.PostVector;
+import back.service.post.ai.vector.PostVectorIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostVectorServiceTest {
+
+    @Mock
+    private GeminiEmbeddingClient geminiEmbeddingClient;
+    @Mock
+    private PostMemberTagRepository postMemberTagRepository;
+    @Mock
+    private PostVectorIndex postVectorIndex;
+    @Mock
+    private PostEmbeddingHashRepository postEmbeddingHashRepository;
+
+    @InjectMocks
+    private PostVectorService postVectorService;
+
+    private static <T> T newEntity(Class<T> type) {
+        try {
+            var ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return ctor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Posts post(Long postId, String content) {
+        Clubs club = newEntity(Clubs.class);
+        ReflectionTestUtils.setField(club, "clubId", 3L);
+        ClubMembers writer = newEntity(ClubMembers.class);
+        ReflectionTestUtils.setField(writer, "userId", 100L);
+        ReflectionTestUtils.setField(writer, "nickname", "민수");
+
+        Posts post = Posts.story(club, writer, null, content);
+        ReflectionTestUtils.setField(post, "postId", postId);
+        ReflectionTestUtils.setField(post, "createdAt", LocalDateTime.of(2025, 5, 1, 20, 0));
+        return post;
+    }
+
+    private static String hash(Posts post, List<Long> memberIds) {
+        return PostVectorService.contentHash(post, EmbeddingTextBuilder.build(post, List.of()), memberIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PostVector> upserted() {
+        ArgumentCaptor<List<PostVector>> captor = ArgumentCaptor.forClass(List.class);
+        then(postVectorIndex).should().upsert(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("임베딩 입력 해시가 마지막 저장과 같은 게시글은 다시 임베딩하지 않는다")
+    void skipsUnchangedPosts() {
+        // given
+        Posts unchanged = post(1L, "가평 MT");
+        Posts edited = post(2L, "홍대 회식 장소 변경");
+        given(postMemberTagRepository.findTagRowsByPostIdIn(List.of(1L, 2L))).willReturn(List.of());
+        given(postEmbeddingHashRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(
+                PostEmbeddingHash.of(1L, hash(unchanged, List.of())),
+                PostEmbeddingHash.of(2L, "이전-해시")));
+        given(geminiEmbeddingClient.embedBatch(anyList())).willReturn(List.of(new float[]{1f}));
+
+        // when
+        int saved = postVectorService.savePosts(List.of(unchanged, edited));
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        then(geminiEmbeddingClient).should().embedBatch(List.of(EmbeddingTextBuilder.build(edited, List.of())));
+        assertThat(upserted()).extracting(PostVector::postId).containsExactly(2L);
+        then(postEmbeddingHashRepository).should().saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("모두 그대로면 임베딩/저장소 호출이 없다")
+    void noCallsWhenNothingChanged() {
+        // given
+        Posts post = post(1L, "가평 MT");
+        given(postMemberTagRepository.findTagRowsByPostIdIn(List.of(1L))).willReturn(List.of());
+        given(postEmbeddingHashRepository.findAllById(List.of(1L)))
+                .willReturn(List.of(PostEmbeddingHash.of(1L, hash(post, List.of()))));
+
+        // when
+        int saved = postVectorService.savePosts(List.of(post));
+
+        // then
+        assertThat(saved).isZero();
+        then(geminiEmbeddingClient).shouldHaveNoInteractions();
+        then(postVectorIndex).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("태그 멤버나 장소가 바뀌면 해시가 달라진다")
+    void hashCoversTagsAndPlace() {
+        Posts post = post(1L, "가평 MT");
+        String before = hash(post, List.of(7L, 8L));
+
+        assertThat(hash(post, List.of(8L, 7L))).isEqualTo(before);
+        assertThat(hash(post, List.of(7L))).isNotEqualTo(before);
+        ReflectionTestUtils.setField(post, "place", "가평 펜션");
+        assertThat(hash(post, List.of(7L, 8L))).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("백필 경로는 해시와 무관하게 전부 임베딩하고 해시를 기록한다")
+    void backfillEmbedsEverything() {
+        // given
+        Posts first = post(1L, "가평 MT");
+        Posts second = post(2L, "홍대 회식");
+        given(postMemberTagRepository.findTagRowsByPostIdIn(List.of(1L, 2L))).willReturn(List.of());
+
+        // when
+        int saved = postVectorService.savePosts(List.of(first, second),
+                texts -> Collections.nCopies(texts.size(), new float[]{1f}));
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        then(postEmbeddingHashRepository).should(never()).findAllById(any());
+        assertThat(upserted()).extracting(PostVector::postId).containsExactly(1L, 2L);
+        then(postEmbeddingHashRepository).should().saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("벡터를 지우면 해시도 지워 다시 작성/복구될 때 임베딩한다")
+    void deleteRemovesHashes() {
+        postVectorService.deletePosts(List.of(1L, 2L));
+
+        then(postVectorIndex).should().delete(List.of(1L, 2L));
+        then(postEmbeddingHashRepository).should().deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+}
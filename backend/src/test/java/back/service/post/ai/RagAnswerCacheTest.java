@@ -0,0 +1,118 @@
+package back.service.post.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RagAnswerCacheTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private RagAnswerCache cache(long maxBytes, Duration ttl) {
+        return new RagAnswerCache(meterRegistry, maxBytes, ttl, nanos::get);
+    }
+
+    private static PostSearchService.RagPrompt rag(String fingerprint, Long... postIds) {
+        return new PostSearchService.RagPrompt("프롬프트", null, List.of(postIds), fingerprint);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "rag-answer").tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("정규화가 같은 질문 + 같은 컨텍스트 지문이면 생성 없이 캐시된 답변을 돌려준다")
+    void sameQuestionAndContextHits() {
+        // given
+        RagAnswerCache cache = cache(MB, Duration.ZERO);
+        AtomicInteger generated = new AtomicInteger();
+        PostSearchService.RagPrompt rag = rag("1@2025-05-01T10:00,2@2025-05-02T10:00", 1L, 2L);
+
+        // when
+        String first = cache.get(3L, "지난달 회식  누구 갔어?", rag, () -> "민수, 지은" + generated.incrementAndGet());
+        String second = cache.get(3L, " 지난달 회식 누구 갔어? ", rag, () -> "민수, 지은" + generated.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(generated).hasValue(1);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("컨텍스트 게시글이 수정되어 지문이 바뀌거나 다른 모임이면 다시 생성한다")
+    void differentFingerprintOrClubMisses() {
+        // given
+        RagAnswerCache cache = cache(MB, Duration.ZERO);
+        AtomicInteger generated = new AtomicInteger();
+        cache.get(3L, "회식", rag("1@2025-05-01T10:00", 1L), () -> "답" + generated.incrementAndGet());
+
+        // when
+        cache.get(3L, "회식", rag("1@2025-05-03T09:00", 1L), () -> "답" + generated.incrementAndGet());
+        cache.get(4L, "회식", rag("1@2025-05-01T10:00", 1L), () -> "답" + generated.incrementAndGet());
+
+        // then
+        assertThat(generated).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("게시글 무효화는 그 게시글을 근거로 한 답변만 지운다")
+    void invalidatePostRemovesDependentAnswers() {
+        // given
+        RagAnswerCache cache = cache(MB, Duration.ZERO);
+        PostSearchService.RagPrompt withPost = rag("1@a,2@b", 1L, 2L);
+        PostSearchService.RagPrompt withoutPost = rag("3@c", 3L);
+        cache.put(3L, "회식", withPost, "민수");
+        cache.put(3L, "MT", withoutPost, "가평");
+
+        // when
+        cache.invalidatePost(2L);
+
+        // then
+        assertThat(cache.getIfPresent(3L, "회식", withPost)).isNull();
+        assertThat(cache.getIfPresent(3L, "MT", withoutPost)).isEqualTo("가평");
+    }
+
+    @Test
+    @DisplayName("빈 답변은 저장하지 않는다")
+    void blankAnswerNotCached() {
+        RagAnswerCache cache = cache(MB, Duration.ZERO);
+
+        cache.put(3L, "회식", rag("1@a", 1L), " ");
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("추정 바이트 상한을 넘으면 항목을 내보내고, TTL이 지나면 다시 생성한다")
+    void boundedByWeightAndTtl() {
+        // given: 답변 한 건 ≈ 4KB, 상한 32KB
+        RagAnswerCache bounded = cache(32 * 1024, Duration.ZERO);
+        RagAnswerCache expiring = cache(MB, Duration.ofMinutes(30));
+        String answer = "가".repeat(2000);
+        AtomicInteger generated = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            bounded.put(3L, "질문-" + i, rag(i + "@a", (long) i), answer);
+        }
+        expiring.get(3L, "회식", rag("1@a", 1L), () -> "답" + generated.incrementAndGet());
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+        expiring.get(3L, "회식", rag("1@a", 1L), () -> "답" + generated.incrementAndGet());
+
+        // then
+        assertThat(bounded.estimatedSize()).isLessThanOrEqualTo(8);
+        assertThat(generated).hasValue(2);
+    }
+}
@@ -0,0 +1,129 @@
+package back.service.post.ai;
+
+import back.service.post.ai.gemini.GeminiChatClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RagAnswerStreamServiceTest {
+
+    @Mock
+    private PostSearchService postSearchService;
+    @Mock
+    private GeminiChatClient geminiChatClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RagAnswerCache ragAnswerCache;
+    private RagAnswerStreamService ragAnswerStreamService;
+
+    @BeforeEach
+    void setUp() {
+        ragAnswerCache = new RagAnswerCache(meterRegistry, 1024 * 1024, Duration.ZERO);
+        ragAnswerStreamService = new RagAnswerStreamService(
+                postSearchService, geminiChatClient, ragAnswerCache, meterRegistry, Schedulers.immediate());
+    }
+
+    private static PostSearchService.RagPrompt prompt() {
+        return new PostSearchService.RagPrompt("프롬프트", null, List.of(1L), "1@2025-05-01T10:00");
+    }
+
+    private List<ServerSentEvent<String>> collect(Flux<ServerSentEvent<String>> events) {
+        return events.collectList().block(Duration.ofSeconds(5));
+    }
+
+    private long durationCount(String outcome) {
+        return meterRegistry.get("rag.answer.stream.duration").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    @DisplayName("생성 토큰을 token 이벤트로 전달하고 done으로 끝내며 첫 토큰/전체 시간을 기록한다")
+    void streamsTokensThenDone() {
+        // given
+        given(postSearchService.prepareRagPrompt(3L, "질문", null, null))
+                .willReturn(prompt());
+        given(geminiChatClient.stream("프롬프트")).willReturn(Flux.just("작년 ", "5월"));
+
+        // when
+        List<ServerSentEvent<String>> events = collect(ragAnswerStreamService.stream(3L, "질문", null, null));
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "token", "done");
+        assertThat(events).extracting(ServerSentEvent::data).startsWith("작년 ", "5월");
+        assertThat(meterRegistry.get("rag.answer.stream.first-token").timer().count()).isEqualTo(1);
+        assertThat(durationCount("completed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 Gemini 호출 없이 안내 문구 1건을 보낸다")
+    void answeredWithoutGeneration() {
+        // given
+        given(postSearchService.prepareRagPrompt(3L, "질문", null, null))
+                .willReturn(PostSearchService.RagPrompt.answered("관련 기록이 없습니다."));
+
+        // when
+        List<ServerSentEvent<String>> events = collect(ragAnswerStreamService.stream(3L, "질문", null, null));
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "done");
+        assertThat(events.get(0).data()).isEqualTo("관련 기록이 없습니다.");
+        then(geminiChatClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("생성 도중 실패하면 보낸 토큰 뒤에 error 이벤트로 끝낸다")
+    void emitsErrorEventOnFailure() {
+        // given
+        given(postSearchService.prepareRagPrompt(3L, "질문", null, null))
+                .willReturn(prompt());
+        given(geminiChatClient.stream("프롬프트"))
+                .willReturn(Flux.concat(Flux.just("작년 "), Flux.error(new IllegalStateException("stream reset"))));
+
+        // when
+        List<ServerSentEvent<String>> events = collect(ragAnswerStreamService.stream(3L, "질문", null, null));
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "error");
+        assertThat(durationCount("failed")).isEqualTo(1);
+        // 중간에 끊긴 답변은 캐시하지 않음
+        assertThat(ragAnswerCache.getIfPresent(3L, "질문", prompt())).isNull();
+    }
+
+    @Test
+    @DisplayName("끝까지 생성된 답변은 캐시되고, 다음 같은 질문은 생성 없이 한 조각으로 보낸다")
+    void cachedAnswerSkipsGeneration() {
+        // given
+        given(postSearchService.prepareRagPrompt(3L, "질문", null, null)).willReturn(prompt());
+        given(geminiChatClient.stream("프롬프트")).willReturn(Flux.just("작년 ", "5월"));
+        collect(ragAnswerStreamService.stream(3L, "질문", null, null));
+
+        // when
+        List<ServerSentEvent<String>> events = collect(ragAnswerStreamService.stream(3L, "질문", null, null));
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "done");
+        assertThat(events.get(0).data()).isEqualTo("작년 5월");
+        then(geminiChatClient).should(times(1)).stream("프롬프트");
+    }
+
+    @Test
+    @DisplayName("구독 전에는 검색을 시작하지 않는다")
+    void lazyUntilSubscribed() {
+        ragAnswerStreamService.stream(3L, "질문", null, null);
+
+        then(postSearchService).shouldHaveNoInteractions();
+    }
+}
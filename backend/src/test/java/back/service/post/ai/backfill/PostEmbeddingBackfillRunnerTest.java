@@ -0,0 +1,213 @@
+package back.service.post.ai.backfill;
+
+import back.domain.post.PostEmbeddingBackfillJob;
+import back.domain.post.Posts;
+import back.repository.SchedulerLeaseRepository;
+import back.repository.post.PostEmbeddingBackfillJobRepository;
+import back.repository.post.PostRepository;
+import back.service.post.ai.PostEmbeddingOutboxService;
+import back.service.post.ai.PostVectorService;
+import back.service.post.ai.gemini.embedding.GeminiEmbeddingClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostEmbeddingBackfillRunnerTest {
+
+    private static final Long JOB_ID = 7L;
+
+    @Mock
+    private PostEmbeddingBackfillJobRepository jobRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostVectorService postVectorService;
+    @Mock
+    private GeminiEmbeddingClient geminiEmbeddingClient;
+    @Mock
+    private PostEmbeddingOutboxService postEmbeddingOutboxService;
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private PostEmbeddingBackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        RatePacer pacer = new RatePacer(600, nanos::get, sleepNanos -> {
+            sleeps.add(sleepNanos);
+            nanos.addAndGet(sleepNanos);
+        });
+        runner = new PostEmbeddingBackfillRunner(jobRepository, postRepository, postVectorService,
+                geminiEmbeddingClient, postEmbeddingOutboxService, schedulerLeaseRepository, meterRegistry,
+                2, 600, pacer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private static <T> T newEntity(Class<T> type) {
+        try {
+            var ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return ctor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Posts post(Long postId) {
+        Posts post = newEntity(Posts.class);
+        ReflectionTestUtils.setField(post, "postId", postId);
+        return post;
+    }
+
+    private PostEmbeddingBackfillJob job(Long lastPostId) {
+        PostEmbeddingBackfillJob job = PostEmbeddingBackfillJob.start(10L, 3L);
+        ReflectionTestUtils.setField(job, "jobId", JOB_ID);
+        ReflectionTestUtils.setField(job, "lastPostId", lastPostId);
+        return job;
+    }
+
+    @Test
+    @DisplayName("체크포인트 다음 id부터 페이지 단위로 저장/체크포인트하고, 끝나면 완료 처리한다")
+    void processesPagesFromCheckpoint() {
+        // given
+        given(jobRepository.findStatus(JOB_ID)).willReturn(Optional.of("RUNNING"));
+        given(schedulerLeaseRepository.tryAcquire(eq(PostEmbeddingBackfillRunner.LEASE_KEY), anyString(), anyInt()))
+                .willReturn(1);
+        Posts p3 = post(3L), p4 = post(4L), p9 = post(9L);
+        given(postRepository.findBackfillPage(eq(2L), eq(10L), any())).willReturn(List.of(p3, p4));
+        given(postRepository.findBackfillPage(eq(4L), eq(10L), any())).willReturn(List.of(p9));
+        given(postRepository.findBackfillPage(eq(9L), eq(10L), any())).willReturn(List.of());
+        given(postRepository.findPostIdsUpdatedSince(eq(List.of(3L, 4L)), any())).willReturn(List.of());
+        given(postRepository.findPostIdsUpdatedSince(eq(List.of(9L)), any())).willReturn(List.of(9L));
+
+        // when
+        runner.run(job(2L));
+
+        // then
+        then(postVectorService).should().savePosts(eq(List.of(p3, p4)), any());
+        then(postVectorService).should().savePosts(eq(List.of(p9)), any());
+        then(jobRepository).should().checkpoint(JOB_ID, 4L, 2);
+        then(jobRepository).should().checkpoint(JOB_ID, 9L, 1);
+        then(jobRepository).should().transition(JOB_ID, "RUNNING", "COMPLETED");
+        // 읽은 뒤 수정된 게시글은 outbox로 다시
+        then(postEmbeddingOutboxService).should().enqueue(9L);
+        assertThat(meterRegistry.get("post.embedding.backfill.posts").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일시정지되면 다음 페이지를 읽지 않고 멈춘다")
+    void stopsWhenPaused() {
+        // given
+        given(jobRepository.findStatus(JOB_ID)).willReturn(Optional.of("RUNNING"), Optional.of("PAUSED"));
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyInt())).willReturn(1);
+        given(postRepository.findBackfillPage(eq(0L), eq(10L), any())).willReturn(List.of(post(1L), post(2L)));
+        given(postRepository.findPostIdsUpdatedSince(any(), any())).willReturn(List.of());
+
+        // when
+        runner.run(job(0L));
+
+        // then
+        then(postRepository).should(times(1)).findBackfillPage(any(), any(), any());
+        then(jobRepository).should().checkpoint(JOB_ID, 2L, 2);
+        then(jobRepository).should(never()).transition(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 페이지가 연속으로 실패하면 백오프 후 재시도하다 FAILED로 바꾼다")
+    void failsAfterConsecutiveFailures() {
+        // given
+        given(jobRepository.findStatus(JOB_ID)).willReturn(Optional.of("RUNNING"));
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyInt())).willReturn(1);
+        given(postRepository.findBackfillPage(eq(0L), eq(10L), any())).willReturn(List.of(post(1L)));
+        willThrow(new IllegalStateException("quota exceeded"))
+                .given(postVectorService).savePosts(anyList(), any());
+
+        // when
+        runner.run(job(0L));
+
+        // then
+        int max = PostEmbeddingBackfillRunner.MAX_CONSECUTIVE_FAILURES;
+        then(jobRepository).should(times(max)).recordFailure(JOB_ID, "quota exceeded");
+        then(jobRepository).should().transition(JOB_ID, "RUNNING", "FAILED");
+        then(jobRepository).should(never()).checkpoint(any(), any(), anyInt());
+        assertThat(sleeps).containsExactly(
+                Duration.ofSeconds(10).toNanos(), Duration.ofSeconds(20).toNanos(),
+                Duration.ofSeconds(40).toNanos(), Duration.ofSeconds(80).toNanos());
+        assertThat(meterRegistry.get("post.embedding.backfill.failures").counter().count()).isEqualTo(max);
+    }
+
+    @Test
+    @DisplayName("임베딩은 요청당 최대 개수로 나눠 분당 허용량 안에서 호출한다")
+    void embedsInVendorBatchesWithinRate() {
+        // given: 분당 600건 → 100건당 10초
+        given(geminiEmbeddingClient.embedBatch(anyList())).willAnswer(invocation -> {
+            List<String> chunk = invocation.getArgument(0);
+            return Collections.nCopies(chunk.size(), new float[]{1f});
+        });
+        List<String> texts = IntStream.range(0, 250).mapToObj(i -> "text-" + i).toList();
+
+        // when
+        List<float[]> embeddings = runner.embedPaced(texts);
+
+        // then
+        assertThat(embeddings).hasSize(250);
+        then(geminiEmbeddingClient).should(times(3)).embedBatch(anyList());
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(10).toNanos(), Duration.ofSeconds(10).toNanos());
+    }
+
+    @Test
+    @DisplayName("RUNNING 작업이 없거나 다른 서버가 lease를 가지고 있으면 실행하지 않는다")
+    void skipsWithoutRunningJobOrLease() {
+        given(jobRepository.findTopByStatusInOrderByJobIdDesc(List.of(PostEmbeddingBackfillJob.Status.RUNNING)))
+                .willReturn(Optional.empty(), Optional.of(job(0L)));
+        given(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), anyInt())).willReturn(0);
+
+        runner.runActiveJob();
+        runner.runActiveJob();
+
+        then(schedulerLeaseRepository).should(times(1)).tryAcquire(anyString(), anyString(), anyInt());
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("lease 시간은 페이지 예상 소요의 3배, 최소 2분")
+    void leaseCoversPage() {
+        assertThat(runner.leaseSeconds()).isEqualTo(120);
+
+        PostEmbeddingBackfillRunner slow = new PostEmbeddingBackfillRunner(jobRepository, postRepository,
+                postVectorService, geminiEmbeddingClient, postEmbeddingOutboxService, schedulerLeaseRepository,
+                meterRegistry, 1000, 60, new RatePacer(60));
+        try {
+            assertThat(slow.leaseSeconds()).isEqualTo(3000);
+        } finally {
+            slow.shutdown();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package back.service.post.ai.backfill;
+
+import back.domain.post.PostEmbeddingBackfillJob;
+import back.dto.admin.AdminEmbeddingBackfillResponse;
+import back.exception.AdminException;
+import back.exception.response.ErrorCode;
+import back.repository.post.PostEmbeddingBackfillJobRepository;
+import back.repository.post.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostEmbeddingBackfillServiceTest {
+
+    private static final List<PostEmbeddingBackfillJob.Status> ACTIVE =
+            List.of(PostEmbeddingBackfillJob.Status.RUNNING, PostEmbeddingBackfillJob.Status.PAUSED);
+
+    @Mock
+    private PostEmbeddingBackfillJobRepository jobRepository;
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostEmbeddingBackfillService postEmbeddingBackfillService;
+
+    private PostEmbeddingBackfillJob job(Long jobId, PostEmbeddingBackfillJob.Status status) {
+        PostEmbeddingBackfillJob job = PostEmbeddingBackfillJob.start(100L, 80L);
+        ReflectionTestUtils.setField(job, "jobId", jobId);
+        ReflectionTestUtils.setField(job, "status", status);
+        return job;
+    }
+
+    @Test
+    @DisplayName("작업이 없으면 현재 최대 게시글 id까지 새 작업을 만든다")
+    void startCreatesJob() {
+        // given
+        given(jobRepository.findTopByStatusInOrderByJobIdDesc(ACTIVE)).willReturn(Optional.empty());
+        given(jobRepository.findTopByOrderByJobIdDesc()).willReturn(Optional.empty());
+        given(postRepository.findMaxPostId()).willReturn(500L);
+        given(postRepository.countBackfillTargets(500L)).willReturn(420L);
+        given(jobRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        AdminEmbeddingBackfillResponse response = postEmbeddingBackfillService.start(false);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        assertThat(response.getMaxPostId()).isEqualTo(500L);
+        assertThat(response.getTotalPosts()).isEqualTo(420L);
+        assertThat(response.getLastPostId()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시정지된 작업이 있으면 새로 만들지 않고 재개한다")
+    void startResumesPausedJob() {
+        // given
+        PostEmbeddingBackfillJob paused = job(3L, PostEmbeddingBackfillJob.Status.PAUSED);
+        given(jobRepository.findTopByStatusInOrderByJobIdDesc(ACTIVE)).willReturn(Optional.of(paused));
+        given(jobRepository.transition(3L, "PAUSED", "RUNNING")).willReturn(1);
+        given(jobRepository.findById(3L)).willReturn(Optional.of(job(3L, PostEmbeddingBackfillJob.Status.RUNNING)));
+
+        // when
+        AdminEmbeddingBackfillResponse response = postEmbeddingBackfillService.start(false);
+
+        // then
+        assertThat(response.getJobId()).isEqualTo(3L);
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        then(jobRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 체크포인트부터 재개한다")
+    void startResumesFailedJob() {
+        // given
+        given(jobRepository.findTopByStatusInOrderByJobIdDesc(ACTIVE)).willReturn(Optional.empty());
+        given(jobRepository.findTopByOrderByJobIdDesc())
+                .willReturn(Optional.of(job(4L, PostEmbeddingBackfillJob.Status.FAILED)));
+        given(jobRepository.transition(4L, "FAILED", "RUNNING")).willReturn(1);
+        given(jobRepository.findById(4L)).willReturn(Optional.of(job(4L, PostEmbeddingBackfillJob.Status.RUNNING)));
+
+        // when
+        postEmbeddingBackfillService.start(false);
+
+        // then
+        then(jobRepository).should().transition(4L, "FAILED", "RUNNING");
+        then(jobRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("restart면 진행 중인 작업을 취소하고 처음부터 새로 만든다")
+    void restartCancelsActiveJob() {
+        // given
+        given(jobRepository.findTopByStatusInOrderByJobIdDesc(ACTIVE))
+                .willReturn(Optional.of(job(5L, PostEmbeddingBackfillJob.Status.RUNNING)));
+        given(postRepository.findMaxPostId()).willReturn(500L);
+        given(postRepository.countBackfillTargets(500L)).willReturn(420L);
+        given(jobRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        postEmbeddingBackfillService.start(true);
+
+        // then
+        then(jobRepository).should().transition(5L, "RUNNING", "CANCELLED");
+        then(jobRepository).should().save(any());
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업이 없으면 일시정지할 수 없다")
+    void pauseWithoutRunningJobFails() {
+        given(jobRepository.findTopByStatusInOrderByJobIdDesc(List.of(PostEmbeddingBackfillJob.Status.RUNNING)))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postEmbeddingBackfillService.pause())
+                .isInstanceOf(AdminException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.POST_EMBEDDING_BACKFILL_NOT_RUNNING);
+    }
+
+    @Test
+    @DisplayName("진행률과 평균 처리 속도를 계산한다")
+    void statusReportsProgressAndThroughput() {
+        // given
+        PostEmbeddingBackfillJob job = job(6L, PostEmbeddingBackfillJob.Status.RUNNING);
+        LocalDateTime startedAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+        ReflectionTestUtils.setField(job, "processedPosts", 20L);
+        ReflectionTestUtils.setField(job, "startedAt", startedAt);
+        ReflectionTestUtils.setField(job, "updatedAt", startedAt.plusSeconds(10));
+        given(jobRepository.findTopByOrderByJobIdDesc()).willReturn(Optional.of(job));
+
+        // when
+        AdminEmbeddingBackfillResponse response = postEmbeddingBackfillService.status();
+
+        // then
+        assertThat(response.getProgressPercent()).isEqualTo(25.0);
+        assertThat(response.getPostsPerSecond()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,63 @@
+package back.service.post.ai.backfill;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RatePacerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private RatePacer pacer(int permitsPerMinute) {
+        return new RatePacer(permitsPerMinute, nanos::get, sleepNanos -> {
+            sleeps.add(sleepNanos);
+            nanos.addAndGet(sleepNanos);
+        });
+    }
+
+    @Test
+    @DisplayName("분당 허용량에 맞춰 다음 요청을 미룬다 (첫 요청은 바로)")
+    void pacesToRate() throws InterruptedException {
+        // given: 분당 1500건 → 100건당 4초
+        RatePacer pacer = pacer(1500);
+
+        // when
+        pacer.acquire(100);
+        pacer.acquire(100);
+        pacer.acquire(100);
+
+        // then
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(4).toNanos(), Duration.ofSeconds(4).toNanos());
+    }
+
+    @Test
+    @DisplayName("쉬었던 시간은 쌓아두지 않는다")
+    void idleTimeIsNotBanked() throws InterruptedException {
+        RatePacer pacer = pacer(1500);
+
+        pacer.acquire(100);
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        pacer.acquire(100);
+        pacer.acquire(100);
+
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(4).toNanos());
+    }
+
+    @Test
+    @DisplayName("허용량이 0 이하면 제한하지 않는다")
+    void unlimited() throws InterruptedException {
+        RatePacer pacer = pacer(0);
+
+        pacer.acquire(100);
+        pacer.acquire(100);
+
+        assertThat(sleeps).isEmpty();
+    }
+}
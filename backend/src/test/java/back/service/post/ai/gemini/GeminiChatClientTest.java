@@ -0,0 +1,117 @@
+package back.service.post.ai.gemini;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 stub 서버로 Gemini generateContent / streamGenerateContent 흉내
+ */
+class GeminiChatClientTest {
+
+    private static final long CHUNK_DELAY_MS = 100;
+
+    private HttpServer server;
+    private final List<String> requestUris = new CopyOnWriteArrayList<>();
+    private GeminiChatClient geminiChatClient;
+
+    private static String chunk(String text) {
+        return "{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"" + text + "\"}]}}],"
+                + "\"modelVersion\":\"stub\"}";
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1beta/models/stub:streamGenerateContent", exchange -> {
+            requestUris.add(exchange.getRequestURI().toString());
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String text : List.of("작년 5월에 ", "민수와 ", "홍대에 갔습니다.")) {
+                    out.write(("data: " + chunk(text) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    sleep(CHUNK_DELAY_MS);
+                }
+            }
+        });
+        server.createContext("/v1beta/models/stub:generateContent", exchange -> {
+            requestUris.add(exchange.getRequestURI().toString());
+            respondJson(exchange, chunk("한 번에 답변"));
+        });
+        server.start();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        geminiChatClient = new GeminiChatClient(webClient);
+        ReflectionTestUtils.setField(geminiChatClient, "chatModel", "models/stub");
+        ReflectionTestUtils.setField(geminiChatClient, "apiKey", "test-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("streamGenerateContent(alt=sse) 청크를 도착하는 대로 토큰으로 전달한다")
+    void streamsChunksAsTheyArrive() {
+        // given
+        List<Long> arrivals = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+
+        // when
+        List<String> tokens = geminiChatClient.stream("질문")
+                .doOnNext(token -> arrivals.add((System.nanoTime() - start) / 1_000_000))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(tokens).containsExactly("작년 5월에 ", "민수와 ", "홍대에 갔습니다.");
+        assertThat(requestUris).singleElement().asString()
+                .contains("alt=sse")
+                .contains("key=test-key");
+        // 첫 토큰은 마지막 청크를 기다리지 않고 도착
+        assertThat(arrivals.get(0)).isLessThan(arrivals.get(2));
+        assertThat(arrivals.get(2) - arrivals.get(0)).isGreaterThanOrEqualTo(CHUNK_DELAY_MS);
+    }
+
+    @Test
+    @DisplayName("generateContent는 첫 후보의 텍스트를 돌려준다")
+    void generateReturnsFirstCandidate() {
+        assertThat(geminiChatClient.generate("질문")).isEqualTo("한 번에 답변");
+    }
+
+    private static void respondJson(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package back.service.post.ai.gemini.embedding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmbeddingCacheTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private EmbeddingCache cache(long maxBytes, Duration ttl) {
+        return new EmbeddingCache(meterRegistry, maxBytes, ttl, nanos::get);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "embedding").tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("공백/유니코드 정규화가 같은 질의는 같은 항목을 공유한다")
+    void normalizedQueriesShareEntry() {
+        // given
+        EmbeddingCache cache = cache(MB, Duration.ZERO);
+        List<String> embedded = new ArrayList<>();
+
+        // when
+        cache.get("  맛집\t추천 ", q -> {
+            embedded.add(q);
+            return new float[768];
+        });
+        cache.get("맛집 추천", q -> {
+            embedded.add(q);
+            return new float[768];
+        });
+
+        // then
+        assertThat(embedded).containsExactly("맛집 추천");
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 질의가 동시에 들어와도 임베딩은 한 번만 만든다")
+    void concurrentIdenticalQueriesLoadOnce() throws Exception {
+        // given
+        EmbeddingCache cache = cache(MB, Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        List<Future<float[]>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return cache.get("강남 모임", q -> {
+                    calls.incrementAndGet();
+                    sleep(50);
+                    return new float[768];
+                });
+            }));
+        }
+        start.countDown();
+        float[] first = futures.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<float[]> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("임베딩 중인 질의가 있어도 다른 질의는 기다리지 않는다")
+    void slowLoadDoesNotBlockOtherKeys() throws Exception {
+        // given: "느린 질의" 임베딩이 release 전까지 끝나지 않음
+        EmbeddingCache cache = cache(MB, Duration.ZERO);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<float[]> slow = executor.submit(() -> cache.get("느린 질의", q -> {
+            loading.countDown();
+            await(release);
+            return new float[768];
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        float[] fast = cache.get("빠른 질의", q -> new float[768]);
+
+        // then
+        assertThat(fast).hasSize(768);
+        assertThat(cache.getIfPresent("느린 질의")).isNull();
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).hasSize(768);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("임베딩이 실패하면 예외를 그대로 던지고 캐시하지 않는다")
+    void failedLoadIsNotCached() {
+        // given
+        EmbeddingCache cache = cache(MB, Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> cache.get("맛집", q -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("gemini 503");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("gemini 503");
+        float[] retried = cache.get("맛집", q -> {
+            calls.incrementAndGet();
+            return new float[768];
+        });
+
+        // then
+        assertThat(retried).hasSize(768);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("추정 바이트 상한을 넘으면 항목을 내보낸다")
+    void evictsByWeight() {
+        // given: 768차원 한 건 ≈ 3KB, 상한 32KB
+        EmbeddingCache cache = cache(32 * 1024, Duration.ZERO);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.get("query-" + i, q -> new float[768]);
+        }
+
+        // then
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "embedding")
+                .functionCounter().count()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 임베딩한다")
+    void expiresAfterTtl() {
+        // given
+        EmbeddingCache cache = cache(MB, Duration.ofMinutes(10));
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("맛집", q -> {
+            calls.incrementAndGet();
+            return new float[768];
+        });
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        cache.get("맛집", q -> {
+            calls.incrementAndGet();
+            return new float[768];
+        });
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
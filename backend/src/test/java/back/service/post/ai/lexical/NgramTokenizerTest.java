@@ -0,0 +1,31 @@
+package back.service.post.ai.lexical;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글 구간은 2-gram, 영문/숫자 구간은 통째로, 문장부호/공백은 경계")
+    void tokenizesByScript() {
+        assertThat(NgramTokenizer.tokenize("홍대입구 Starbucks, 2025!"))
+                .containsExactly("홍대", "대입", "입구", "starbucks", "2025");
+    }
+
+    @Test
+    @DisplayName("조사가 붙어도 어간 2-gram은 같다")
+    void particlesShareBigrams() {
+        assertThat(NgramTokenizer.tokenize("회식을")).contains("회식");
+        assertThat(NgramTokenizer.tokenize("회식")).containsExactly("회식");
+    }
+
+    @Test
+    @DisplayName("숫자가 섞인 한글 구간(날짜)과 한 글자 구간")
+    void mixedAndSingleCharRuns() {
+        assertThat(NgramTokenizer.tokenize("5월 술")).containsExactly("5월", "술");
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NgramTokenizer.tokenize("  ...  ")).isEmpty();
+    }
+}
@@ -0,0 +1,224 @@
+package back.service.post.ai.lexical;
+
+import back.repository.post.PostMemberTagRepository;
+import back.repository.post.PostRepository;
+import back.repository.post.projection.LexicalPostRow;
+import back.repository.post.projection.PostTagRow;
+import back.service.post.ai.PostSearchFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostLexicalIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostMemberTagRepository postMemberTagRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+    // deferLoads가 켜지면 로더 작업을 모아 두었다가 runDeferred()에서 실행
+    private final List<Runnable> deferred = new ArrayList<>();
+    private boolean deferLoads;
+    private PostLexicalIndex postLexicalIndex;
+
+    record Row(Long postId, String title, String content, String place, LocalDateTime createdAt)
+            implements LexicalPostRow {
+        public Long getPostId() { return postId; }
+        public String getTitle() { return title; }
+        public String getContent() { return content; }
+        public String getPlace() { return place; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+
+    record Tag(Long postId, Long memberId, String nickname) implements PostTagRow {
+        public Long getPostId() { return postId; }
+        public Long getMemberId() { return memberId; }
+        public String getNickname() { return nickname; }
+    }
+
+    private static Row row(long postId, String content, String place, LocalDate date) {
+        return new Row(postId, content, content, place, date.atTime(12, 0));
+    }
+
+    @BeforeEach
+    void setUp() {
+        postLexicalIndex = new PostLexicalIndex(postRepository, postMemberTagRepository,
+                new SimpleMeterRegistry(), 1 << 20, Duration.ofMinutes(10), Duration.ofHours(1),
+                nanos::get, task -> {
+                    if (deferLoads) {
+                        deferred.add(task);
+                    } else {
+                        task.run();
+                    }
+                });
+    }
+
+    private void runDeferred() {
+        List<Runnable> tasks = List.copyOf(deferred);
+        deferred.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private void givenClubPosts(List<Row> rows, List<Tag> tags) {
+        given(postRepository.findLexicalRowsByClubId(1L)).willReturn(List.copyOf(rows));
+        given(postMemberTagRepository.findTagRowsByPostIdIn(anyCollection())).willReturn(List.copyOf(tags));
+    }
+
+    private List<Long> search(String query, PostSearchFilter filter) {
+        return postLexicalIndex.search(query, 10, filter).stream().map(LexicalMatch::postId).toList();
+    }
+
+    @Test
+    @DisplayName("장소명처럼 드문 토큰이 겹치는 게시글이 위로 온다")
+    void rareTokensRankHigher() {
+        // given
+        givenClubPosts(List.of(
+                row(1L, "오늘 회식 재밌었다", "강남", LocalDate.of(2025, 5, 2)),
+                row(2L, "연남동 카페에서 회식 뒤풀이", "연남동 리틀넥", LocalDate.of(2025, 5, 9)),
+                row(3L, "회식 장소 투표", null, LocalDate.of(2025, 5, 10))), List.of());
+
+        // when
+        List<LexicalMatch> matches = postLexicalIndex.search("리틀넥 회식", 10, PostSearchFilter.ofClub(1L));
+
+        // then
+        assertThat(matches).extracting(LexicalMatch::postId).first().isEqualTo(2L);
+        assertThat(matches).extracting(LexicalMatch::postId).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("작성일/태그 멤버 조건을 색인 안에서 적용한다")
+    void appliesDateAndMemberFilter() {
+        // given
+        givenClubPosts(List.of(
+                row(1L, "MT 가평", null, LocalDate.of(2025, 4, 30)),
+                row(2L, "MT 가평 둘째날", null, LocalDate.of(2025, 5, 1)),
+                row(3L, "MT 가평 정산", null, LocalDate.of(2025, 5, 31))),
+                List.of(new Tag(2L, 7L, "민수"), new Tag(3L, 8L, "지은")));
+
+        // when
+        List<Long> may = search("가평", new PostSearchFilter(1L, List.of(),
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31)));
+        List<LexicalMatch> withMinsu = postLexicalIndex.search("가평",
+                10, new PostSearchFilter(1L, List.of(7L), null, null));
+
+        // then
+        assertThat(may).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(withMinsu).extracting(LexicalMatch::postId).containsExactly(2L);
+        assertThat(withMinsu.get(0).memberNames()).containsExactly("민수");
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 게시글만 다시 읽어 반영하고, 구성 전 모임은 조회하지 않는다")
+    void refreshReplacesOrRemovesPost() {
+        // given
+        givenClubPosts(List.of(
+                row(1L, "망원 한강공원 피크닉", null, LocalDate.of(2025, 5, 2)),
+                row(2L, "망원시장 투어", null, LocalDate.of(2025, 5, 3))), List.of());
+        assertThat(search("망원", PostSearchFilter.ofClub(1L))).hasSize(2);
+
+        given(postRepository.findLexicalRow(1L, 1L))
+                .willReturn(Optional.of(row(1L, "여의도 한강공원 피크닉", null, LocalDate.of(2025, 5, 2))));
+        given(postRepository.findLexicalRow(1L, 2L)).willReturn(Optional.empty());
+
+        // when
+        postLexicalIndex.refresh(1L, 1L);
+        postLexicalIndex.refresh(1L, 2L);
+        postLexicalIndex.refresh(2L, 20L);
+
+        // then
+        assertThat(search("망원", PostSearchFilter.ofClub(1L))).isEmpty();
+        assertThat(search("여의도", PostSearchFilter.ofClub(1L))).containsExactly(1L);
+        then(postRepository).should(never()).findLexicalRow(2L, 20L);
+        then(postRepository).should(times(1)).findLexicalRowsByClubId(1L);
+    }
+
+    @Test
+    @DisplayName("max-age가 지나면 다음 검색에서 모임 색인을 다시 구성한다")
+    void rebuildsAfterMaxAge() {
+        // given
+        givenClubPosts(List.of(row(1L, "보드게임 카페", null, LocalDate.of(2025, 5, 2))), List.of());
+        search("보드게임", PostSearchFilter.ofClub(1L));
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        search("보드게임", PostSearchFilter.ofClub(1L));
+
+        // then
+        then(postRepository).should(times(2)).findLexicalRowsByClubId(1L);
+    }
+
+    @Test
+    @DisplayName("max-age 뒤 재구성은 백그라운드에서 돌고, 그동안 기존 색인으로 응답한다")
+    void servesStaleIndexWhileRebuilding() {
+        // given
+        given(postRepository.findLexicalRowsByClubId(1L)).willReturn(
+                List.of(row(1L, "보드게임 카페", null, LocalDate.of(2025, 5, 2))),
+                List.of(row(1L, "보드게임 카페", null, LocalDate.of(2025, 5, 2)),
+                        row(2L, "보드게임 번개", null, LocalDate.of(2025, 5, 9))));
+        given(postMemberTagRepository.findTagRowsByPostIdIn(anyCollection())).willReturn(List.of());
+        search("보드게임", PostSearchFilter.ofClub(1L));
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        deferLoads = true;
+
+        // when
+        List<Long> during = search("보드게임", PostSearchFilter.ofClub(1L));
+        runDeferred();
+        List<Long> after = search("보드게임", PostSearchFilter.ofClub(1L));
+
+        // then
+        assertThat(during).containsExactly(1L);
+        assertThat(after).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 게시글 변경은 새 색인에도 반영된다")
+    void refreshAppliesToIndexBeingRebuilt() {
+        // given
+        givenClubPosts(List.of(row(1L, "망원 한강공원 피크닉", null, LocalDate.of(2025, 5, 2))), List.of());
+        search("망원", PostSearchFilter.ofClub(1L));
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        deferLoads = true;
+        search("망원", PostSearchFilter.ofClub(1L));
+        given(postRepository.findLexicalRow(1L, 1L)).willReturn(Optional.empty());
+
+        // when
+        postLexicalIndex.refresh(1L, 1L);
+        runDeferred();
+
+        // then
+        assertThat(search("망원", PostSearchFilter.ofClub(1L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("expire-after-access 동안 검색이 없던 모임 색인은 버리고 게시글 변경도 무시한다")
+    void dropsIdleClubIndex() {
+        // given
+        givenClubPosts(List.of(row(1L, "보드게임 카페", null, LocalDate.of(2025, 5, 2))), List.of());
+        search("보드게임", PostSearchFilter.ofClub(1L));
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+        postLexicalIndex.refresh(1L, 1L);
+
+        // then
+        then(postRepository).should(never()).findLexicalRow(1L, 1L);
+    }
+}
@@ -0,0 +1,160 @@
+package back.service.post.ai.vector;
+
+import back.service.post.ai.PostSearchFilter;
+import back.service.post.ai.chroma.ChromaCollectionHolder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ChromaPostVectorIndexTest {
+
+    @Mock
+    private ChromaCollectionHolder chromaCollectionHolder;
+
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    // 경로 마지막 구간(query, get, upsert ...)별 응답, 없으면 chromaResponse
+    private final Map<String, String> responseByAction = new ConcurrentHashMap<>();
+    private String chromaResponse = "{}";
+    private ChromaPostVectorIndex chromaPostVectorIndex;
+
+    @BeforeEach
+    void setUp() {
+        WebClient chromaWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    paths.add(path);
+                    MockClientHttpRequest captured = new MockClientHttpRequest(request.method(), request.url());
+                    request.writeTo(captured, ExchangeStrategies.withDefaults()).block();
+                    bodies.add(captured.getBodyAsString().block());
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(responseByAction.getOrDefault(
+                                    path.substring(path.lastIndexOf('/') + 1), chromaResponse))
+                            .build());
+                })
+                .build();
+        chromaPostVectorIndex = new ChromaPostVectorIndex(chromaWebClient, chromaCollectionHolder);
+    }
+
+    @Test
+    @DisplayName("query 응답을 VectorMatch로 변환하고 다른 모임 결과는 버린다")
+    void mapsQueryResponse() {
+        // given
+        given(chromaCollectionHolder.getCollectionId()).willReturn("posts-id");
+        chromaResponse = """
+                {"ids":[["post-2","post-1","post-9"]],
+                 "distances":[[0.4,0.1,0.05]],
+                 "metadatas":[[{"postId":2,"clubId":3,"memberNames":"민수,지은","m_7":true},
+                               {"postId":1,"clubId":3,"memberNames":"민수"},
+                               {"postId":9,"clubId":4}]],
+                 "documents":null}
+                """;
+
+        // when
+        List<VectorMatch> matches = chromaPostVectorIndex.search(
+                new float[]{0.1f, 0.2f}, 3, new PostSearchFilter(3L, List.of(7L), null, null));
+
+        // then
+        assertThat(matches).extracting(VectorMatch::postId).containsExactly(2L, 1L);
+        assertThat(matches.get(0).memberNames()).containsExactly("민수", "지은");
+        assertThat(paths).singleElement().asString().endsWith("/collections/posts-id/query");
+    }
+
+    @Test
+    @DisplayName("삭제는 컬렉션 delete 1회, 빈 목록이면 호출하지 않는다")
+    void deletesByDocumentIds() {
+        // given
+        given(chromaCollectionHolder.getCollectionId()).willReturn("posts-id");
+
+        // when
+        chromaPostVectorIndex.delete(List.of());
+        chromaPostVectorIndex.delete(List.of(1L, 2L));
+
+        // then
+        assertThat(paths).containsExactly(
+                "/tenants/default_tenant/databases/default_database/collections/posts-id/delete");
+    }
+
+    @Test
+    @DisplayName("모임 id 목록은 /get으로 읽고 문서 id에서 게시글 id를 꺼낸다")
+    void listsPostIds() {
+        // given
+        given(chromaCollectionHolder.getCollectionId()).willReturn("posts-id");
+        chromaResponse = """
+                {"ids":["post-3","post-12"],"metadatas":null}
+                """;
+
+        // when
+        Set<Long> postIds = chromaPostVectorIndex.postIds(3L);
+
+        // then
+        assertThat(postIds).containsExactlyInAnyOrder(3L, 12L);
+        assertThat(paths).singleElement().asString().endsWith("/collections/posts-id/get");
+    }
+
+    @Test
+    @DisplayName("태그에서 빠진 멤버는 저장된 m_ 키를 false로 덮어써 멤버 필터에 걸리지 않게 한다")
+    void clearsRemovedMemberKeys() throws Exception {
+        // given
+        given(chromaCollectionHolder.getCollectionId()).willReturn("posts-id");
+        responseByAction.put("get", """
+                {"ids":["post-1"],
+                 "metadatas":[{"postId":1,"clubId":3,"memberNames":"민수,지은","m_7":true,"m_8":true}]}
+                """);
+
+        // when
+        chromaPostVectorIndex.upsert(List.of(new PostVector(1L, 3L, 100L, List.of(8L), List.of("지은"),
+                new float[]{0.1f, 0.2f}, "MT 정산", Map.of())));
+
+        // then
+        assertThat(paths).extracting(path -> path.substring(path.lastIndexOf('/') + 1))
+                .containsExactly("get", "upsert");
+        JsonNode metadata = new ObjectMapper().readTree(bodies.get(1)).get("metadatas").get(0);
+        assertThat(metadata.get("m_7").asBoolean()).isFalse();
+        assertThat(metadata.get("m_8").asBoolean()).isTrue();
+        assertThat(metadata.get("memberNames").asText()).isEqualTo("지은");
+    }
+
+    @Test
+    @DisplayName("태그가 모두 빠지면 멤버 이름도 빈 값으로 덮어쓴다")
+    void clearsMemberNamesWhenUntagged() throws Exception {
+        // given
+        given(chromaCollectionHolder.getCollectionId()).willReturn("posts-id");
+        responseByAction.put("get", """
+                {"ids":["post-1"],"metadatas":[{"postId":1,"clubId":3,"memberNames":"민수","m_7":true}]}
+                """);
+
+        // when
+        chromaPostVectorIndex.upsert(List.of(new PostVector(1L, 3L, 100L, List.of(), List.of(),
+                new float[]{0.1f, 0.2f}, "MT 정산", Map.of())));
+
+        // then
+        JsonNode metadata = new ObjectMapper().readTree(bodies.get(1)).get("metadatas").get(0);
+        assertThat(metadata.get("m_7").asBoolean()).isFalse();
+        assertThat(metadata.get("memberNames").asText()).isEmpty();
+    }
+}
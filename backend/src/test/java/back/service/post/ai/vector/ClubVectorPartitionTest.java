@@ -0,0 +1,182 @@
+package back.service.post.ai.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class ClubVectorPartitionTest {
+
+    @TempDir
+    Path dir;
+
+    private static PostVector vector(long postId, long createdAt, List<Long> memberIds, float... embedding) {
+        List<String> names = memberIds.stream().map(id -> "멤버" + id).toList();
+        return new PostVector(postId, 1L, createdAt, memberIds, names, embedding, null, Map.of());
+    }
+
+    @Test
+    @DisplayName("가까운 순으로 topK건을 돌려주고 같은 게시글은 덮어쓴다")
+    void upsertAndSearch() throws Exception {
+        try (ClubVectorPartition partition = ClubVectorPartition.open(dir.resolve("club-1.vec"), 2)) {
+            partition.upsert(List.of(
+                    vector(1L, 100, List.of(), 0f, 0f),
+                    vector(2L, 100, List.of(), 1f, 0f),
+                    vector(3L, 100, List.of(), 5f, 5f)));
+            partition.upsert(List.of(vector(3L, 100, List.of(), 0.5f, 0f)));
+
+            List<VectorMatch> matches = partition.search(new float[]{0.4f, 0f}, 2, null, null, List.of());
+
+            assertThat(partition.size()).isEqualTo(3);
+            assertThat(matches).extracting(VectorMatch::postId).containsExactly(3L, 1L);
+            assertThat(matches.get(0).distance()).isCloseTo(0.01, offset(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("작성 시각 범위와 태그 멤버(하나라도 포함) 조건을 적용한다")
+    void appliesFilters() throws Exception {
+        try (ClubVectorPartition partition = ClubVectorPartition.open(dir.resolve("club-1.vec"), 2)) {
+            partition.upsert(List.of(
+                    vector(1L, 100, List.of(7L), 0f, 0f),
+                    vector(2L, 200, List.of(8L), 0f, 0f),
+                    vector(3L, 300, List.of(7L, 9L), 0f, 0f)));
+
+            assertThat(partition.search(new float[]{0f, 0f}, 10, 150L, 301L, List.of()))
+                    .extracting(VectorMatch::postId).containsExactlyInAnyOrder(2L, 3L);
+            assertThat(partition.search(new float[]{0f, 0f}, 10, null, null, List.of(7L)))
+                    .extracting(VectorMatch::postId).containsExactlyInAnyOrder(1L, 3L);
+            assertThat(partition.search(new float[]{0f, 0f}, 10, 150L, null, List.of(7L)))
+                    .singleElement().satisfies(match -> {
+                        assertThat(match.postId()).isEqualTo(3L);
+                        assertThat(match.memberNames()).containsExactly("멤버7", "멤버9");
+                    });
+        }
+    }
+
+    @Test
+    @DisplayName("삭제한 슬롯은 재사용하고, 다시 열면 살아 있는 벡터만 복원한다")
+    void deleteAndReload() throws Exception {
+        Path file = dir.resolve("club-1.vec");
+        try (ClubVectorPartition partition = ClubVectorPartition.open(file, 2)) {
+            partition.upsert(List.of(
+                    vector(1L, 100, List.of(), 0f, 0f),
+                    vector(2L, 100, List.of(), 1f, 1f)));
+            partition.delete(1L);
+            partition.upsert(List.of(vector(3L, 100, List.of(), 2f, 2f)));
+
+            assertThat(partition.search(new float[]{0f, 0f}, 10, null, null, List.of()))
+                    .extracting(VectorMatch::postId).containsExactly(2L, 3L);
+        }
+
+        try (ClubVectorPartition reopened = ClubVectorPartition.open(file, 0)) {
+            assertThat(reopened.dim()).isEqualTo(2);
+            assertThat(reopened.postIds()).containsExactlyInAnyOrder(2L, 3L);
+
+            // 태그는 파일에 없으므로 복원 전에는 비어 있음
+            reopened.restoreTags(2L, List.of(7L), List.of("민수"));
+            assertThat(reopened.search(new float[]{0f, 0f}, 10, null, null, List.of(7L)))
+                    .singleElement().satisfies(match -> assertThat(match.memberNames()).containsExactly("민수"));
+        }
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 거부한다")
+    void rejectsDimensionMismatch() throws Exception {
+        try (ClubVectorPartition partition = ClubVectorPartition.open(dir.resolve("club-1.vec"), 2)) {
+            assertThatThrownBy(() -> partition.upsert(List.of(vector(1L, 100, List.of(), 0f, 0f, 0f))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> partition.search(new float[]{0f}, 1, null, null, List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("IVF 결과가 조건 때문에 topK보다 적으면 전수 비교로 보충한다")
+    void fallsBackToFlatScanForNarrowFilters() throws Exception {
+        Random random = new Random(1);
+        try (ClubVectorPartition partition = ClubVectorPartition.open(dir.resolve("club-1.vec"), 8)) {
+            List<PostVector> vectors = new ArrayList<>();
+            for (long postId = 1; postId <= ClubVectorPartition.IVF_MIN_VECTORS; postId++) {
+                vectors.add(vector(postId, postId, postId % 500 == 0 ? List.of(42L) : List.of(),
+                        randomVector(random, 8)));
+            }
+            partition.upsert(vectors);
+            assertThat(partition.isIndexed()).isTrue();
+
+            List<VectorMatch> matches = partition.search(randomVector(random, 8), 10, null, null, List.of(42L));
+
+            assertThat(matches).extracting(VectorMatch::postId).containsExactlyInAnyOrder(500L, 1000L, 1500L, 2000L);
+        }
+    }
+
+    @Test
+    @DisplayName("군집 데이터 20,000건에서 IVF 검색의 recall@10이 전수 비교 대비 0.9 이상이다")
+    void ivfRecallAgainstExactSearch() throws Exception {
+        int count = 20_000;
+        int dim = 128;
+        int topics = 64;
+        Random random = new Random(7);
+        float[][] centers = new float[topics][];
+        for (int t = 0; t < topics; t++) {
+            centers[t] = randomVector(random, dim);
+        }
+
+        try (ClubVectorPartition partition = ClubVectorPartition.open(dir.resolve("club-1.vec"), dim)) {
+            List<PostVector> batch = new ArrayList<>();
+            for (long postId = 1; postId <= count; postId++) {
+                batch.add(vector(postId, postId, List.of(), near(random, centers[random.nextInt(topics)])));
+                if (batch.size() == 500) {
+                    partition.upsert(batch);
+                    batch.clear();
+                }
+            }
+            partition.rebuildIndex();
+
+            List<float[]> queries = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                queries.add(near(random, centers[random.nextInt(topics)]));
+            }
+
+            int found = 0;
+            for (float[] q : queries) {
+                List<VectorMatch> approximate = partition.search(q, 10, null, null, List.of());
+                Set<Long> expected = new HashSet<>();
+                partition.exactSearch(q, 10).forEach(match -> expected.add(match.postId()));
+                assertThat(approximate).hasSize(10);
+                found += (int) approximate.stream().filter(match -> expected.contains(match.postId())).count();
+            }
+            double recall = found / (queries.size() * 10.0);
+
+            assertThat(partition.isIndexed()).isTrue();
+            assertThat(recall).isGreaterThanOrEqualTo(0.9);
+        }
+    }
+
+    private static float[] randomVector(Random random, int dim) {
+        float[] vector = new float[dim];
+        for (int i = 0; i < dim; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static float[] near(Random random, float[] center) {
+        float[] vector = new float[center.length];
+        for (int i = 0; i < center.length; i++) {
+            vector[i] = center[i] + (float) (random.nextGaussian() * 0.5);
+        }
+        return vector;
+    }
+}
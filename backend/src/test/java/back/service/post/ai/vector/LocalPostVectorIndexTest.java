@@ -0,0 +1,158 @@
+package back.service.post.ai.vector;
+
+import back.repository.post.PostMemberTagRepository;
+import back.repository.post.projection.PostTagRow;
+import back.service.post.ai.PostSearchFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class LocalPostVectorIndexTest {
+
+    @TempDir
+    Path dir;
+
+    private final PostMemberTagRepository postMemberTagRepository = mock(PostMemberTagRepository.class);
+    private LocalPostVectorIndex index;
+
+    private record TagRow(Long postId, Long memberId, String nickname) implements PostTagRow {
+        public Long getPostId() { return postId; }
+        public Long getMemberId() { return memberId; }
+        public String getNickname() { return nickname; }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new LocalPostVectorIndex(postMemberTagRepository, dir.toString());
+        index.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    private static long epochSeconds(int year, int month, int day) {
+        return LocalDateTime.of(year, month, day, 12, 0).atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static PostVector vector(long postId, long clubId, long createdAt, List<Long> memberIds, float... embedding) {
+        List<String> names = memberIds.stream().map(id -> "멤버" + id).toList();
+        return new PostVector(postId, clubId, createdAt, memberIds, names, embedding, "내용", Map.of("place", "홍대"));
+    }
+
+    @Test
+    @DisplayName("모임별 파일에 나눠 저장하고 검색은 요청한 모임 안에서만 한다")
+    void partitionsByClub() {
+        // given
+        index.upsert(List.of(
+                vector(1L, 3L, epochSeconds(2025, 5, 1), List.of(), 0f, 0f),
+                vector(2L, 4L, epochSeconds(2025, 5, 1), List.of(), 0f, 0f)));
+
+        // when
+        List<VectorMatch> club3 = index.search(new float[]{0f, 0f}, 10, PostSearchFilter.ofClub(3L));
+        List<VectorMatch> club5 = index.search(new float[]{0f, 0f}, 10, PostSearchFilter.ofClub(5L));
+
+        // then
+        assertThat(club3).extracting(VectorMatch::postId).containsExactly(1L);
+        assertThat(club5).isEmpty();
+        assertThat(Files.exists(dir.resolve("club-3.vec"))).isTrue();
+        assertThat(Files.exists(dir.resolve("club-4.vec"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("작성일(종료일 포함)과 태그 멤버 조건을 적용한다")
+    void appliesSearchFilter() {
+        // given
+        index.upsert(List.of(
+                vector(1L, 3L, epochSeconds(2025, 4, 30), List.of(7L), 0f, 0f),
+                vector(2L, 3L, epochSeconds(2025, 5, 31), List.of(7L), 0f, 0f),
+                vector(3L, 3L, epochSeconds(2025, 5, 15), List.of(8L), 0f, 0f)));
+        PostSearchFilter filter = new PostSearchFilter(3L, List.of(7L),
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31));
+
+        // when
+        List<VectorMatch> matches = index.search(new float[]{0f, 0f}, 10, filter);
+
+        // then
+        assertThat(matches).extracting(VectorMatch::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("삭제한 게시글은 검색되지 않는다")
+    void deletesVectors() {
+        // given
+        index.upsert(List.of(
+                vector(1L, 3L, 0, List.of(), 0f, 0f),
+                vector(2L, 3L, 0, List.of(), 1f, 1f)));
+
+        // when
+        index.delete(List.of(1L, 99L));
+
+        // then
+        assertThat(index.search(new float[]{0f, 0f}, 10, PostSearchFilter.ofClub(3L)))
+                .extracting(VectorMatch::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("모임별 저장된 게시글 id 목록 (다른 모임으로 옮긴 게시글은 새 모임에만)")
+    void listsPostIdsByClub() {
+        // given
+        index.upsert(List.of(
+                vector(1L, 3L, 0, List.of(), 0f, 0f),
+                vector(2L, 3L, 0, List.of(), 1f, 1f),
+                vector(3L, 4L, 0, List.of(), 1f, 1f)));
+
+        // when
+        index.upsert(List.of(vector(2L, 4L, 0, List.of(), 1f, 1f)));
+
+        // then
+        assertThat(index.postIds(3L)).containsExactly(1L);
+        assertThat(index.postIds(4L)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.postIds(5L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재기동하면 파일에서 벡터를, DB에서 태그 멤버를 복원한다")
+    void reloadsAfterRestart() throws Exception {
+        // given
+        index.upsert(List.of(
+                vector(1L, 3L, 0, List.of(7L), 0f, 0f),
+                vector(2L, 3L, 0, List.of(), 1f, 1f)));
+        index.close();
+        given(postMemberTagRepository.findTagRowsByPostIdIn(anyCollection()))
+                .willReturn(List.of(new TagRow(1L, 7L, "민수")));
+
+        // when
+        index = new LocalPostVectorIndex(postMemberTagRepository, dir.toString());
+        index.init();
+
+        // then
+        PostSearchFilter filter = new PostSearchFilter(3L, List.of(7L), null, null);
+        assertThat(index.search(new float[]{0f, 0f}, 10, filter))
+                .singleElement().satisfies(match -> {
+                    assertThat(match.postId()).isEqualTo(1L);
+                    assertThat(match.memberNames()).containsExactly("민수");
+                });
+        assertThat(index.search(new float[]{0f, 0f}, 10, PostSearchFilter.ofClub(3L))).hasSize(2);
+
+        // 재기동 후에도 postId → 모임 매핑으로 삭제 가능
+        index.delete(List.of(2L));
+        assertThat(index.search(new float[]{0f, 0f}, 10, PostSearchFilter.ofClub(3L))).hasSize(1);
+    }
+}
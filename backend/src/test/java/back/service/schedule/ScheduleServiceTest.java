@@ -7,6 +7,7 @@ import back.domain.vote.VoteOptions;
 import back.domain.vote.Votes;
 import back.dto.schedule.*;
 import back.event.ScheduleRegisteredEvent;
+import back.event.VoteDeadlineChangedEvent;
 import back.exception.ScheduleException;
 import back.repository.UserRepository;
 import back.repository.schedule.ScheduleParticipantRepository;
@@ -14,6 +15,7 @@ import back.repository.schedule.ScheduleRepository;
 import back.repository.vote.VoteOptionRepository;
 import back.repository.vote.VoteRepository;
 import back.service.club.ClubAuthService;
+import back.service.vote.VoteBulkCloser;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -59,6 +61,9 @@ class ScheduleServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private VoteBulkCloser voteBulkCloser;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -348,6 +353,39 @@ class ScheduleServiceTest {
             then(clubsAuthorizationService).should(never()).assertAtLeastAccountant(clubId, userId);
         }
 
+        @Test
+        @DisplayName("일정 수정 성공 - 시작 시각 변경 시 참석 투표 마감 타이머 갱신")
+        void update_schedule_success_event_date_changed() {
+            // given
+            Long clubId = 1L;
+            Long scheduleId = 1L;
+            Long userId = 10L;
+            LocalDateTime eventDate = LocalDateTime.now().plusDays(7);
+
+            Schedules schedule = schedule(scheduleId, clubId);
+            ReflectionTestUtils.setField(schedule, "status", "OPEN");
+            ReflectionTestUtils.setField(schedule, "eventDate", eventDate);
+
+            Votes vote = newEntity(Votes.class);
+            ReflectionTestUtils.setField(vote, "voteId", 100L);
+
+            given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
+            given(voteRepository.findByScheduleId(scheduleId)).willReturn(Optional.of(vote));
+
+            ScheduleUpdateRequest moved = new ScheduleUpdateRequest(
+                    "일정", eventDate.plusHours(2), eventDate.plusHours(4), "신촌역", "설명", null);
+            ScheduleUpdateRequest sameTime = new ScheduleUpdateRequest(
+                    "일정", eventDate.plusHours(2), eventDate.plusHours(5), "강남역", "설명", null);
+
+            // when
+            scheduleService.updateSchedule(clubId, scheduleId, userId, moved);
+            scheduleService.updateSchedule(clubId, scheduleId, userId, sameTime);
+
+            // then
+            then(voteRepository).should(times(1)).findByScheduleId(scheduleId);
+            then(eventPublisher).should(times(1)).publishEvent(any(VoteDeadlineChangedEvent.class));
+        }
+
         @Test
         @DisplayName("일정 수정 성공 - 참가비 변경 시 총무 권한 체크")
         void update_schedule_success_fee_change() {
@@ -461,7 +499,6 @@ class ScheduleServiceTest {
             ReflectionTestUtils.setField(schedule, "entryFee", BigDecimal.ZERO);
 
             given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-            given(voteRepository.findByScheduleId(scheduleId)).willReturn(Optional.empty());
 
             // when
             scheduleService.closeSchedule(clubId, scheduleId, userId);
@@ -469,6 +506,8 @@ class ScheduleServiceTest {
             // then
             assertThat(schedule.getStatus()).isEqualTo("CLOSED");
             then(clubsAuthorizationService).should(times(1)).assertAtLeastManager(clubId, userId);
+            then(voteBulkCloser).should(times(1)).closeScheduleVotes(eq(scheduleId), any(LocalDateTime.class));
+            then(voteRepository).should(never()).findByScheduleId(anyLong());
         }
 
         @Test
@@ -484,7 +523,6 @@ class ScheduleServiceTest {
             ReflectionTestUtils.setField(schedule, "entryFee", BigDecimal.valueOf(10000));
 
             given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-            given(voteRepository.findByScheduleId(scheduleId)).willReturn(Optional.empty());
 
             // when
             scheduleService.closeSchedule(clubId, scheduleId, userId);
@@ -552,7 +590,6 @@ class ScheduleServiceTest {
             ScheduleCancelRequest request = new ScheduleCancelRequest("우천으로 인한 취소");
 
             given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-            given(voteRepository.findByScheduleId(scheduleId)).willReturn(Optional.empty());
 
             // when
             scheduleService.cancelSchedule(clubId, scheduleId, userId, request);
@@ -561,6 +598,7 @@ class ScheduleServiceTest {
             assertThat(schedule.getStatus()).isEqualTo("CANCELLED");
             assertThat(schedule.getCancelReason()).isEqualTo("우천으로 인한 취소");
             then(clubsAuthorizationService).should(times(1)).assertAtLeastManager(clubId, userId);
+            then(voteBulkCloser).should(times(1)).closeScheduleVotes(eq(scheduleId), any(LocalDateTime.class));
         }
 
         @Test
@@ -576,7 +614,6 @@ class ScheduleServiceTest {
             ReflectionTestUtils.setField(schedule, "entryFee", BigDecimal.valueOf(10000));
 
             given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-            given(voteRepository.findByScheduleId(scheduleId)).willReturn(Optional.empty());
 
             // when
             scheduleService.cancelSchedule(clubId, scheduleId, userId, null);
@@ -0,0 +1,97 @@
+package back.service.vote;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("예약 시각 이후 첫 tick에 실행되고 예정보다 먼저 실행되지 않는다")
+    void firesAtOrAfterDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 8, START);
+        wheel.schedule("a", START + 1_500);
+        wheel.schedule("b", START + 60_000);          // 상위 단계
+        wheel.schedule("c", START + 3 * 86_400_000L); // 여러 단계 위
+
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+        assertThat(wheel.advance(START + 2_000)).containsExactly("a");
+        assertThat(wheel.advance(START + 59_999)).isEmpty();
+        assertThat(wheel.advance(START + 60_000)).containsExactly("b");
+        assertThat(wheel.advance(START + 3 * 86_400_000L)).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 advance에서 바로 실행된다")
+    void overdueFiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 8, START);
+        wheel.schedule("late", START - 10_000);
+
+        assertThat(wheel.advance(START)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("취소/재등록한 예약은 마지막 예약만 유효하다")
+    void cancelAndReschedule() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 8, START);
+        wheel.schedule("a", START + 5_000);
+        wheel.schedule("a", START + 20_000);
+        wheel.schedule("b", START + 5_000);
+        wheel.schedule("c", START + 5_000);
+        wheel.cancel("b");
+        assertThat(wheel.cancelIf("c"::equals)).isEqualTo(1);
+
+        assertThat(wheel.advance(START + 10_000)).isEmpty();
+        assertThat(wheel.advance(START + 20_000)).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("무작위 등록/취소/진행 결과가 단순 비교 구현과 같다")
+    void matchesBruteForce() {
+        Random random = new Random(7);
+        TimingWheel<Integer> wheel = new TimingWheel<>(1_000, 8, START);
+        Map<Integer, Long> expected = new HashMap<>();
+        long now = START;
+
+        for (int step = 0; step < 5_000; step++) {
+            int key = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    long due = now + (long) (random.nextDouble() * random.nextDouble() * 5_000_000) - 3_000;
+                    wheel.schedule(key, due);
+                    expected.put(key, due);
+                }
+                case 2 -> {
+                    wheel.cancel(key);
+                    expected.remove(key);
+                }
+                default -> {
+                    now += random.nextInt(200_000);
+                    List<Integer> fired = wheel.advance(now);
+                    List<Integer> shouldFire = new ArrayList<>();
+                    long limit = now;
+                    expected.forEach((k, due) -> {
+                        if (due <= limit - 1_000) {
+                            shouldFire.add(k);
+                        }
+                    });
+                    assertThat(fired).containsAll(shouldFire);
+                    for (Integer k : fired) {
+                        assertThat(expected.remove(k)).isNotNull().isLessThanOrEqualTo(now);
+                    }
+                }
+            }
+        }
+        assertThat(wheel.size()).isEqualTo(expected.size());
+    }
+}
@@ -0,0 +1,77 @@
+package back.service.vote;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteAutoCloseServiceTest {
+
+    private static final Set<Integer> SHARDS = Set.of(0, 3);
+
+    @Mock
+    private VoteBulkCloser voteBulkCloser;
+
+    private MeterRegistry meterRegistry;
+    private VoteAutoCloseService voteAutoCloseService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        voteAutoCloseService = new VoteAutoCloseService(voteBulkCloser, meterRegistry);
+    }
+
+    private List<Long> ids(long from, int count) {
+        return LongStream.range(from, from + count).boxed().toList();
+    }
+
+    @Test
+    @DisplayName("기한 지난 일반 투표를 chunk 단위로 마지막 chunk까지 종료하고 메트릭을 기록한다")
+    void closesGeneralVotesInChunks() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(voteBulkCloser.closeExpiredGeneralChunk(now, 8, SHARDS, 500))
+                .willReturn(ids(1, 500), ids(501, 500), ids(1001, 20));
+
+        // when
+        int closed = voteAutoCloseService.closeExpiredGeneralVotes(now, 8, SHARDS);
+
+        // then
+        assertThat(closed).isEqualTo(1020);
+        then(voteBulkCloser).should(times(3)).closeExpiredGeneralChunk(now, 8, SHARDS, 500);
+        assertThat(meterRegistry.get("vote.auto-close.rows").tag("type", "general").summary().totalAmount())
+                .isEqualTo(1020);
+        assertThat(meterRegistry.get("vote.auto-close.latency").tag("type", "general").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료할 일정 투표가 없으면 chunk 1번만 조회하고 0건으로 기록한다")
+    void noExpiredAttendanceVotes() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(voteBulkCloser.closeExpiredAttendanceChunk(now, 8, SHARDS, 500)).willReturn(List.of());
+
+        // when
+        int closed = voteAutoCloseService.closeExpiredAttendanceVotes(now, 8, SHARDS);
+
+        // then
+        assertThat(closed).isZero();
+        then(voteBulkCloser).should(times(1)).closeExpiredAttendanceChunk(now, 8, SHARDS, 500);
+        assertThat(meterRegistry.get("vote.auto-close.rows").tag("type", "attendance").summary().count())
+                .isEqualTo(1);
+    }
+}
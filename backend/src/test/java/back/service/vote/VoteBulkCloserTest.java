@@ -0,0 +1,81 @@
+package back.service.vote;
+
+import back.event.VotesClosedEvent;
+import back.repository.vote.VoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteBulkCloserTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private VoteBulkCloser voteBulkCloser;
+
+    @Test
+    @DisplayName("잠근 투표 ID를 UPDATE 1회로 종료하고 종료 이벤트를 발행한다")
+    void closesLockedIdsWithSingleUpdate() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(voteRepository.lockExpiredAttendanceVoteIds(now.plusMinutes(5), 8, Set.of(1, 3), 500))
+                .willReturn(List.of(3L, 7L));
+        given(voteRepository.closeOpenVotes(List.of(3L, 7L), now)).willReturn(2);
+
+        // when
+        List<Long> closed = voteBulkCloser.closeExpiredAttendanceChunk(now, 8, Set.of(1, 3), 500);
+
+        // then
+        assertThat(closed).containsExactly(3L, 7L);
+        ArgumentCaptor<VotesClosedEvent> event = ArgumentCaptor.forClass(VotesClosedEvent.class);
+        then(eventPublisher).should(times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getVoteIds()).containsExactly(3L, 7L);
+        then(voteRepository).should(never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("종료 대상이 없으면 UPDATE와 이벤트 발행을 하지 않는다")
+    void nothingToClose() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(voteRepository.lockOpenVoteIdsByScheduleId(1L)).willReturn(List.of());
+
+        // when
+        List<Long> closed = voteBulkCloser.closeScheduleVotes(1L, now);
+
+        // then
+        assertThat(closed).isEmpty();
+        then(voteRepository).should(never()).closeOpenVotes(anyCollection(), any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("마감 타이머의 단건 종료는 이미 종료된 투표면 이벤트를 발행하지 않는다")
+    void closeSingleVote() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(voteRepository.closeOpenVotes(List.of(1L), now)).willReturn(1);
+        given(voteRepository.closeOpenVotes(List.of(2L), now)).willReturn(0);
+
+        // when & then
+        assertThat(voteBulkCloser.closeVote(1L, now)).isTrue();
+        assertThat(voteBulkCloser.closeVote(2L, now)).isFalse();
+        then(eventPublisher).should(times(1)).publishEvent(any(VotesClosedEvent.class));
+    }
+}
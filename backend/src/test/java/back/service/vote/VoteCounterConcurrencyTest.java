@@ -0,0 +1,274 @@
+package back.service.vote;
+
+import back.domain.club.ClubMembers;
+import back.domain.vote.VoteOptions;
+import back.domain.vote.VoteRecords;
+import back.domain.vote.Votes;
+import back.dto.vote.VoteAnswerRequest;
+import back.repository.club.ClubMemberRepository;
+import back.repository.club.ClubRepository;
+import back.repository.post.PostRepository;
+import back.repository.schedule.ScheduleRepository;
+import back.repository.vote.VoteOptionRepository;
+import back.repository.vote.VoteRecordRepository;
+import back.repository.vote.VoteRepository;
+import back.service.club.ClubAuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 투표 집계 컬럼 동시성 검증
+ * - adjustVoteCount/adjustParticipantCount는 DB의 원자적 UPDATE처럼 AtomicLong으로 누적
+ * - findByIdForUpdate는 투표 행 배타 잠금처럼 ReentrantLock을 잡고, answerVote가 끝나면(커밋) 놓음
+ * - 여러 사용자가 동시에 투표/변경한 뒤 집계값이 실제 기록 재계산 결과와 일치해야 한다
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteCounterConcurrencyTest {
+
+    private static final Long CLUB_ID = 1L;
+    private static final Long VOTE_ID = 1L;
+    private static final int USERS = 64;
+    private static final int ANSWERS_PER_USER = 30;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private ScheduleRepository scheduleRepository;
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private VoteOptionRepository voteOptionRepository;
+    @Mock
+    private VoteRecordRepository voteRecordRepository;
+    @Mock
+    private ClubMemberRepository clubMembersRepository;
+    @Mock
+    private ClubRepository clubsRepository;
+    @Mock
+    private ClubAuthService clubsAuthorizationService;
+
+    @InjectMocks
+    private VoteService voteService;
+
+    // vote_records (사용자별 현재 기록)
+    private final Map<Long, List<VoteRecords>> records = new ConcurrentHashMap<>();
+    // vote_options.vote_count / votes.participant_count
+    private final Map<Long, AtomicLong> voteCounts = new ConcurrentHashMap<>();
+    private final AtomicLong participantCount = new AtomicLong();
+    // votes 행 잠금 (트랜잭션 종료 시 해제)
+    private final ReentrantLock voteRowLock = new ReentrantLock();
+    // 기존 기록을 읽은 뒤 다른 요청도 읽을 때까지 잠시 대기 (같은 사용자 동시 요청 재현용)
+    private CountDownLatch readTogether = new CountDownLatch(0);
+
+    private static <T> T newEntity(Class<T> type) {
+        try {
+            var ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return ctor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Votes vote(String voteType, boolean allowMultiple) {
+        Votes vote = newEntity(Votes.class);
+        ReflectionTestUtils.setField(vote, "voteId", VOTE_ID);
+        ReflectionTestUtils.setField(vote, "clubId", CLUB_ID);
+        ReflectionTestUtils.setField(vote, "voteType", voteType);
+        ReflectionTestUtils.setField(vote, "scheduleId", "ATTENDANCE".equals(voteType) ? 100L : null);
+        ReflectionTestUtils.setField(vote, "status", "OPEN");
+        ReflectionTestUtils.setField(vote, "allowMultiple", allowMultiple);
+        return vote;
+    }
+
+    private VoteOptions option(Long optionId) {
+        VoteOptions option = newEntity(VoteOptions.class);
+        ReflectionTestUtils.setField(option, "optionId", optionId);
+        ReflectionTestUtils.setField(option, "voteId", VOTE_ID);
+        return option;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenInMemoryStore(Votes vote, List<Long> optionIds) {
+        optionIds.forEach(id -> voteCounts.put(id, new AtomicLong()));
+
+        given(clubMembersRepository.existsByClubIdAndUserIdAndStatus(
+                eq(CLUB_ID), anyLong(), eq(ClubMembers.Status.ACTIVE)))
+                .willReturn(true);
+        given(voteRepository.findByIdForUpdate(VOTE_ID)).willAnswer(inv -> {
+            voteRowLock.lock();
+            return Optional.of(vote);
+        });
+        given(voteOptionRepository.findAllById(anyList())).willAnswer(inv -> ((List<Long>) inv.getArgument(0))
+                .stream().map(this::option).toList());
+        given(voteRecordRepository.findByVoteIdAndUserId(eq(VOTE_ID), anyLong()))
+                .willAnswer(inv -> {
+                    List<VoteRecords> existing = List.copyOf(records.getOrDefault(inv.<Long>getArgument(1), List.of()));
+                    readTogether.countDown();
+                    readTogether.await(200, TimeUnit.MILLISECONDS);
+                    return existing;
+                });
+        willAnswer(inv -> {
+            ((Iterable<VoteRecords>) inv.getArgument(0)).forEach(r -> records.remove(r.getUserId()));
+            return null;
+        }).given(voteRecordRepository).deleteAll(anyIterable());
+        given(voteRecordRepository.saveAll(anyIterable())).willAnswer(inv -> {
+            List<VoteRecords> saved = new ArrayList<>();
+            ((Iterable<VoteRecords>) inv.getArgument(0)).forEach(saved::add);
+            records.merge(saved.get(0).getUserId(), saved, (a, b) -> {
+                List<VoteRecords> merged = new ArrayList<>(a);
+                merged.addAll(b);
+                return merged;
+            });
+            return saved;
+        });
+        given(voteOptionRepository.adjustVoteCount(anyCollection(), anyLong())).willAnswer(inv -> {
+            long delta = inv.<Long>getArgument(1);
+            ((Collection<Long>) inv.getArgument(0)).forEach(id -> voteCounts.get(id).addAndGet(delta));
+            return ((Collection<Long>) inv.getArgument(0)).size();
+        });
+        given(voteRepository.adjustParticipantCount(eq(VOTE_ID), anyLong())).willAnswer(inv -> {
+            participantCount.addAndGet(inv.<Long>getArgument(1));
+            return 1;
+        });
+    }
+
+    // 트랜잭션 1건: answerVote가 끝나면 투표 행 잠금 해제
+    private void answer(Long userId, List<Long> optionIds) {
+        try {
+            voteService.answerVote(CLUB_ID, VOTE_ID, userId, new VoteAnswerRequest(optionIds));
+        } finally {
+            if (voteRowLock.isHeldByCurrentThread()) {
+                voteRowLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 사용자마다 스레드 하나씩 배정해 동시에 투표 변경을 반복합니다.
+     */
+    private void runConcurrently(List<Long> optionIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            long uid = userId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                Random random = new Random(uid);
+                for (int i = 0; i < ANSWERS_PER_USER; i++) {
+                    Long optionId = optionIds.get(random.nextInt(optionIds.size()));
+                    answer(uid, List.of(optionId));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private void assertCountersMatchRecords(List<Long> optionIds) {
+        for (Long optionId : optionIds) {
+            long expected = records.values().stream()
+                    .flatMap(List::stream)
+                    .filter(r -> r.getOptionId().equals(optionId))
+                    .count();
+            assertThat(voteCounts.get(optionId).get()).as("option %d", optionId).isEqualTo(expected);
+        }
+        assertThat(participantCount.get()).isEqualTo(records.size()).isEqualTo(USERS);
+    }
+
+    @Test
+    @DisplayName("ATTENDANCE 투표 동시 참여/변경 후에도 집계값이 정확하다")
+    void attendanceCountersStayExact() throws Exception {
+        List<Long> optionIds = List.of(100L, 101L);
+        givenInMemoryStore(vote("ATTENDANCE", false), optionIds);
+
+        runConcurrently(optionIds);
+
+        assertCountersMatchRecords(optionIds);
+    }
+
+    @Test
+    @DisplayName("단일 선택 GENERAL 투표 동시 참여/변경 후에도 집계값이 정확하다")
+    void singleChoiceGeneralCountersStayExact() throws Exception {
+        List<Long> optionIds = List.of(200L, 201L, 202L, 203L);
+        givenInMemoryStore(vote("GENERAL", false), optionIds);
+
+        runConcurrently(optionIds);
+
+        assertCountersMatchRecords(optionIds);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 ATTENDANCE 투표에 동시에 처음 참여해도 참여자 수는 1이다")
+    void attendanceSameUserConcurrentFirstAnswers() throws Exception {
+        List<Long> optionIds = List.of(100L, 101L);
+        givenInMemoryStore(vote("ATTENDANCE", false), optionIds);
+
+        answerTogether(7L, optionIds);
+
+        assertThat(records.get(7L)).hasSize(1);
+        assertThat(participantCount.get()).isEqualTo(1);
+        assertThat(voteCounts.values().stream().mapToLong(AtomicLong::get).sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 단일 선택 GENERAL 투표에 동시에 처음 참여해도 기록 1건, 참여자 수 1이다")
+    void singleChoiceGeneralSameUserConcurrentFirstAnswers() throws Exception {
+        List<Long> optionIds = List.of(200L, 201L);
+        givenInMemoryStore(vote("GENERAL", false), optionIds);
+
+        answerTogether(7L, optionIds);
+
+        assertThat(records.get(7L)).hasSize(1);
+        assertThat(participantCount.get()).isEqualTo(1);
+        assertThat(voteCounts.values().stream().mapToLong(AtomicLong::get).sum()).isEqualTo(1);
+    }
+
+    // 같은 사용자가 옵션마다 한 번씩 동시에 첫 참여
+    private void answerTogether(Long userId, List<Long> optionIds) throws Exception {
+        readTogether = new CountDownLatch(optionIds.size());
+        ExecutorService executor = Executors.newFixedThreadPool(optionIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long optionId : optionIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                answer(userId, List.of(optionId));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package back.service.vote;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.vote.VoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteCounterReconcilerTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private VoteCounterRecounter voteCounterRecounter;
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @InjectMocks
+    private VoteCounterReconciler voteCounterReconciler;
+
+    @Test
+    @DisplayName("투표마다 따로 재계산하고, 잠금 대기에 실패한 투표는 건너뛰고 계속한다")
+    void recountsEachVoteSeparately() {
+        // given
+        LocalDateTime closedSince = LocalDateTime.of(2025, 5, 1, 0, 30);
+        given(voteRepository.findReconcileTargetIds(closedSince)).willReturn(List.of(1L, 2L, 3L));
+        given(voteCounterRecounter.recount(1L)).willReturn(new VoteCounterRecounter.Result(1, 0));
+        given(voteCounterRecounter.recount(2L)).willThrow(new CannotAcquireLockException("lock wait timeout"));
+        given(voteCounterRecounter.recount(3L)).willReturn(new VoteCounterRecounter.Result(0, 1));
+
+        // when
+        voteCounterReconciler.reconcileSince(closedSince);
+
+        // then
+        then(voteCounterRecounter).should(times(3)).recount(anyLong());
+    }
+
+    @Test
+    @DisplayName("lease를 잡은 서버만 보정하고 끝나면 반납한다")
+    void runsOnlyWithLease() {
+        // given
+        given(schedulerLeaseRepository.tryAcquire(eq("vote-counter-reconcile"), anyString(), anyInt()))
+                .willReturn(0, 1);
+        given(voteRepository.findReconcileTargetIds(any())).willReturn(List.of());
+
+        // when
+        voteCounterReconciler.reconcile();
+        voteCounterReconciler.reconcile();
+
+        // then
+        then(voteRepository).should(times(1)).findReconcileTargetIds(any());
+        then(schedulerLeaseRepository).should(times(1)).release(eq("vote-counter-reconcile"), anyString());
+    }
+}
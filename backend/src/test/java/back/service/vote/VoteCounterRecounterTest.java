@@ -0,0 +1,48 @@
+package back.service.vote;
+
+import back.repository.vote.VoteOptionRepository;
+import back.repository.vote.VoteRecordRepository;
+import back.repository.vote.VoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteCounterRecounterTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private VoteOptionRepository voteOptionRepository;
+    @Mock
+    private VoteRecordRepository voteRecordRepository;
+
+    @InjectMocks
+    private VoteCounterRecounter voteCounterRecounter;
+
+    @Test
+    @DisplayName("투표 처리와 같은 순서(투표 행 → 기록 → 옵션)로 잠그고 재계산한다")
+    void locksVoteRowBeforeRecords() {
+        // given
+        given(voteOptionRepository.reconcileVoteCounts(5L)).willReturn(2);
+        given(voteRepository.reconcileParticipantCount(5L)).willReturn(1);
+
+        // when
+        VoteCounterRecounter.Result result = voteCounterRecounter.recount(5L);
+
+        // then
+        assertThat(result).isEqualTo(new VoteCounterRecounter.Result(2, 1));
+        InOrder inOrder = inOrder(voteRecordRepository, voteOptionRepository, voteRepository);
+        inOrder.verify(voteRepository).findByIdForUpdate(5L);
+        inOrder.verify(voteRecordRepository).lockByVoteId(5L);
+        inOrder.verify(voteOptionRepository).reconcileVoteCounts(5L);
+        inOrder.verify(voteRepository).reconcileParticipantCount(5L);
+    }
+}
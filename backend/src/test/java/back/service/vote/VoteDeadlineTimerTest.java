@@ -0,0 +1,197 @@
+package back.service.vote;
+
+import back.repository.SchedulerLeaseRepository;
+import back.repository.vote.VoteRepository;
+import back.repository.vote.projection.VoteDeadlineRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteDeadlineTimerTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Mock
+    private VoteAutoCloseService voteAutoCloseService;
+    @Mock
+    private VoteScheduler voteScheduler;
+
+    private VoteDeadlineTimer timer;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        timer = new VoteDeadlineTimer(voteRepository, schedulerLeaseRepository, voteAutoCloseService, voteScheduler);
+        ReflectionTestUtils.setField(timer, "shardCount", 2);
+        now = LocalDateTime.now();
+    }
+
+    private VoteDeadlineRow row(Long voteId, String voteType, String status,
+                                LocalDateTime deadline, LocalDateTime eventDate) {
+        return new VoteDeadlineRow() {
+            @Override
+            public Long getVoteId() {
+                return voteId;
+            }
+
+            @Override
+            public String getVoteType() {
+                return voteType;
+            }
+
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDeadline() {
+                return deadline;
+            }
+
+            @Override
+            public LocalDateTime getEventDate() {
+                return eventDate;
+            }
+        };
+    }
+
+    private void givenLeases(boolean shard0, boolean shard1) {
+        given(schedulerLeaseRepository.tryAcquire(eq("vote-deadline-0"), anyString(), anyInt()))
+                .willReturn(shard0 ? 1 : 0);
+        given(schedulerLeaseRepository.tryAcquire(eq("vote-deadline-1"), anyString(), anyInt()))
+                .willReturn(shard1 ? 1 : 0);
+    }
+
+    @Test
+    @DisplayName("샤드 인수 시 밀린 마감을 종료하고 남은 투표를 정시에 알림/종료한다")
+    void loadsOwnedShardsAndFiresOnTime() {
+        // given
+        VoteDeadlineRow general = row(2L, "GENERAL", "OPEN", now.plusHours(2), null);
+        VoteDeadlineRow attendance = row(3L, "ATTENDANCE", "OPEN", null, now.plusMinutes(30));
+        givenLeases(true, true);
+        given(voteRepository.findOpenDeadlines(2, Set.of(0, 1))).willReturn(List.of(general, attendance));
+        given(voteRepository.findDeadline(2L)).willReturn(Optional.of(general));
+        given(voteRepository.findDeadline(3L)).willReturn(Optional.of(attendance));
+
+        // when
+        timer.syncShards(now);
+
+        // then
+        then(voteAutoCloseService).should(times(1)).closeExpiredGeneralVotes(now, 2, Set.of(0, 1));
+        then(voteAutoCloseService).should(times(1)).closeExpiredAttendanceVotes(now, 2, Set.of(0, 1));
+        assertThat(timer.scheduledCount()).isEqualTo(3); // 일반 투표 알림/종료 + 일정 투표 종료
+
+        timer.fireDue(now.plusMinutes(24));
+        then(voteAutoCloseService).should(never()).closeVote(anyLong());
+
+        timer.fireDue(now.plusMinutes(26)); // 일정 시작 5분 전
+        then(voteAutoCloseService).should(times(1)).closeVote(3L);
+
+        timer.fireDue(now.plusMinutes(61)); // 마감 1시간 전
+        then(voteScheduler).should(times(1)).remindDeadline(2L);
+
+        timer.fireDue(now.plusHours(2).plusSeconds(1));
+        then(voteAutoCloseService).should(times(1)).closeVote(2L);
+        assertThat(timer.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("밀린 마감 일괄 종료는 이번에 인수한 샤드로만 한정한다")
+    void catchUpLimitedToAcquiredShards() {
+        // given: 샤드 0만 인수
+        givenLeases(true, false);
+        given(voteRepository.findOpenDeadlines(2, Set.of(0))).willReturn(List.of());
+
+        // when
+        timer.syncShards(now);
+
+        // then
+        then(voteAutoCloseService).should(times(1)).closeExpiredGeneralVotes(now, 2, Set.of(0));
+        then(voteAutoCloseService).should(times(1)).closeExpiredAttendanceVotes(now, 2, Set.of(0));
+    }
+
+    @Test
+    @DisplayName("lease가 없는 샤드의 투표는 적재/실행하지 않고, 잃은 샤드는 타이머에서 제거한다")
+    void skipsShardsOwnedByOtherNode() {
+        // given: 1차에는 두 샤드 보유, 2차에는 샤드 1을 다른 서버가 인수
+        VoteDeadlineRow even = row(2L, "GENERAL", "OPEN", now.plusMinutes(10), null);
+        VoteDeadlineRow odd = row(3L, "GENERAL", "OPEN", now.plusMinutes(10), null);
+        given(schedulerLeaseRepository.tryAcquire(eq("vote-deadline-0"), anyString(), anyInt())).willReturn(1);
+        given(schedulerLeaseRepository.tryAcquire(eq("vote-deadline-1"), anyString(), anyInt()))
+                .willReturn(1, 0);
+        given(voteRepository.findOpenDeadlines(2, Set.of(0, 1))).willReturn(List.of(even, odd));
+        given(voteRepository.findDeadline(2L)).willReturn(Optional.of(even));
+
+        // when
+        timer.syncShards(now);
+        timer.syncShards(now.plusSeconds(10));
+        timer.refresh(5L); // 샤드 1 → 무시
+        timer.fireDue(now.plusMinutes(11));
+
+        // then
+        then(voteAutoCloseService).should(times(1)).closeVote(2L);
+        then(voteAutoCloseService).should(never()).closeVote(3L);
+        then(voteRepository).should(never()).findDeadline(5L);
+    }
+
+    @Test
+    @DisplayName("실행 직전 일정이 미뤄졌으면 종료하지 않고 새 시각으로 다시 예약한다")
+    void reschedulesWhenEventDateMovedLater() {
+        // given
+        VoteDeadlineRow before = row(2L, "ATTENDANCE", "OPEN", null, now.plusMinutes(10));
+        VoteDeadlineRow after = row(2L, "ATTENDANCE", "OPEN", null, now.plusMinutes(40));
+        givenLeases(true, false);
+        given(voteRepository.findOpenDeadlines(2, Set.of(0))).willReturn(List.of(before));
+        given(voteRepository.findDeadline(2L)).willReturn(Optional.of(after));
+
+        // when
+        timer.syncShards(now);
+        timer.fireDue(now.plusMinutes(6));
+
+        // then
+        then(voteAutoCloseService).should(never()).closeVote(anyLong());
+        assertThat(timer.scheduledCount()).isEqualTo(1);
+
+        timer.fireDue(now.plusMinutes(36));
+        then(voteAutoCloseService).should(times(1)).closeVote(2L);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 생성/종료된 투표는 lease 갱신 주기에 반영된다")
+    void syncsChangesFromOtherNodes() {
+        // given
+        givenLeases(true, true);
+        given(voteRepository.findOpenDeadlines(2, Set.of(0, 1)))
+                .willReturn(List.of(row(3L, "GENERAL", "OPEN", now.plusDays(1), null)));
+        given(voteRepository.findDeadlinesUpdatedSince(any())).willReturn(List.of(
+                row(3L, "GENERAL", "CLOSED", now.plusDays(1), null),
+                row(4L, "GENERAL", "OPEN", now.plusHours(3), null)));
+        given(voteRepository.findDeadlinesByScheduleUpdatedSince(any())).willReturn(List.of(
+                row(5L, "ATTENDANCE", "OPEN", null, now.plusDays(2))));
+
+        // when
+        timer.syncShards(now);
+        assertThat(timer.scheduledCount()).isEqualTo(2);
+        timer.syncShards(now.plusSeconds(10));
+
+        // then: 3 종료 → 제거, 4 알림/종료 추가, 5 종료 추가
+        assertThat(timer.scheduledCount()).isEqualTo(3);
+        then(voteRepository).should(times(1)).findDeadlinesUpdatedSince(now.minusMinutes(1));
+    }
+}
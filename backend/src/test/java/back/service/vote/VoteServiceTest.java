@@ -8,6 +8,8 @@ import back.domain.vote.VoteOptions;
 import back.domain.vote.VoteRecords;
 import back.domain.vote.Votes;
 import back.dto.vote.*;
+import back.event.VoteDeadlineChangedEvent;
+import back.event.VotesClosedEvent;
 import back.exception.VoteException;
 import back.repository.club.ClubMemberRepository;
 import back.repository.club.ClubRepository;
@@ -16,14 +18,18 @@ import back.repository.schedule.ScheduleRepository;
 import back.repository.vote.VoteOptionRepository;
 import back.repository.vote.VoteRecordRepository;
 import back.repository.vote.VoteRepository;
+import back.repository.vote.projection.VoteOptionTallyRow;
 import back.service.club.ClubAuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -63,6 +69,9 @@ class VoteServiceTest {
     @Mock
     private ClubAuthService clubsAuthorizationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private VoteService voteService;
 
@@ -89,6 +98,46 @@ class VoteServiceTest {
         return u;
     }
 
+    private VoteOptionTallyRow tally(Long optionId, String optionText, Integer optionOrder,
+                                     long voteCount, long myRecordCount) {
+        return new VoteOptionTallyRow() {
+            @Override
+            public Long getOptionId() {
+                return optionId;
+            }
+
+            @Override
+            public String getOptionText() {
+                return optionText;
+            }
+
+            @Override
+            public Integer getOptionOrder() {
+                return optionOrder;
+            }
+
+            @Override
+            public LocalDateTime getEventDate() {
+                return null;
+            }
+
+            @Override
+            public String getLocation() {
+                return null;
+            }
+
+            @Override
+            public Long getVoteCount() {
+                return voteCount;
+            }
+
+            @Override
+            public Long getMyRecordCount() {
+                return myRecordCount;
+            }
+        };
+    }
+
     private Schedules schedule(Long id, Long clubId) {
         Schedules s = newEntity(Schedules.class);
         ReflectionTestUtils.setField(s, "scheduleId", id);
@@ -153,6 +202,7 @@ class VoteServiceTest {
             then(postRepository).should(times(1)).save(any(Posts.class));
             then(voteRepository).should(times(1)).save(any(Votes.class));
             then(voteOptionRepository).should(times(2)).save(any(VoteOptions.class)); // GENERAL 타입은 2개 옵션 생성
+            then(eventPublisher).should(times(1)).publishEvent(any(VoteDeadlineChangedEvent.class));
         }
 
         @Test
@@ -295,6 +345,7 @@ class VoteServiceTest {
             // then
             assertThat(vote.getStatus()).isEqualTo("CLOSED");
             then(voteRepository).should(times(1)).save(vote);
+            then(eventPublisher).should(times(1)).publishEvent(any(VotesClosedEvent.class));
         }
 
         @Test
@@ -352,6 +403,7 @@ class VoteServiceTest {
             // when & then
             assertThatThrownBy(() -> voteService.closeVote(clubId, voteId, creatorId))
                     .isInstanceOf(VoteException.AlreadyClosed.class);
+            then(eventPublisher).shouldHaveNoInteractions();
         }
     }
 
@@ -388,7 +440,7 @@ class VoteServiceTest {
             given(clubMembersRepository.existsByClubIdAndUserIdAndStatus(
                     clubId, userId, ClubMembers.Status.ACTIVE))
                     .willReturn(true);
-            given(voteRepository.findById(voteId)).willReturn(Optional.of(vote));
+            given(voteRepository.findByIdForUpdate(voteId)).willReturn(Optional.of(vote));
             given(postRepository.findById(1L)).willReturn(Optional.of(post));
             given(voteOptionRepository.findAllById(List.of(optionId))).willReturn(List.of(option));
             given(voteRecordRepository.findByVoteIdAndUserId(voteId, userId)).willReturn(List.of());
@@ -398,6 +450,8 @@ class VoteServiceTest {
 
             // then
             then(voteRecordRepository).should(times(1)).saveAll(anyList());
+            then(voteOptionRepository).should(times(1)).adjustVoteCount(List.of(optionId), 1L);
+            then(voteRepository).should(times(1)).adjustParticipantCount(voteId, 1L);
         }
 
         @Test
@@ -433,7 +487,7 @@ class VoteServiceTest {
             given(clubMembersRepository.existsByClubIdAndUserIdAndStatus(
                     clubId, userId, ClubMembers.Status.ACTIVE))
                     .willReturn(true);
-            given(voteRepository.findById(voteId)).willReturn(Optional.of(vote));
+            given(voteRepository.findByIdForUpdate(voteId)).willReturn(Optional.of(vote));
             given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
             given(voteOptionRepository.findAllById(List.of(optionId))).willReturn(List.of(option));
             given(voteRecordRepository.findByVoteIdAndUserId(voteId, userId))
@@ -445,6 +499,11 @@ class VoteServiceTest {
             // then
             then(voteRecordRepository).should(times(1)).deleteAll(List.of(existingRecord));
             then(voteRecordRepository).should(times(1)).saveAll(anyList());
+
+            // 참석 → 불참 변경: 옵션 수만 이동, 참여자 수는 그대로
+            then(voteOptionRepository).should(times(1)).adjustVoteCount(List.of(99L), -1L);
+            then(voteOptionRepository).should(times(1)).adjustVoteCount(List.of(optionId), 1L);
+            then(voteRepository).should(never()).adjustParticipantCount(anyLong(), anyLong());
         }
 
         @Test
@@ -487,7 +546,7 @@ class VoteServiceTest {
             given(clubMembersRepository.existsByClubIdAndUserIdAndStatus(
                     clubId, userId, ClubMembers.Status.ACTIVE))
                     .willReturn(true);
-            given(voteRepository.findById(voteId)).willReturn(Optional.of(vote));
+            given(voteRepository.findByIdForUpdate(voteId)).willReturn(Optional.of(vote));
 
             Clubs club = club(clubId, 1L);
             Posts post = Posts.vote(club, user(userId), null, "제목", "설명");
@@ -512,37 +571,18 @@ class VoteServiceTest {
             Long voteId = 1L;
             Long userId = 10L;
 
-            Clubs club = club(clubId, 1L);
-            Posts post = Posts.vote(club, user(userId), null, "투표 제목", "설명");
-            ReflectionTestUtils.setField(post, "postId", 1L);
-
             Votes vote = newEntity(Votes.class);
             ReflectionTestUtils.setField(vote, "voteId", voteId);
+            ReflectionTestUtils.setField(vote, "clubId", clubId);
             ReflectionTestUtils.setField(vote, "voteType", "GENERAL");
             ReflectionTestUtils.setField(vote, "postId", 1L);
             ReflectionTestUtils.setField(vote, "creatorId", userId);
             ReflectionTestUtils.setField(vote, "title", "투표 제목");
             ReflectionTestUtils.setField(vote, "status", "OPEN");
 
-            VoteOptions option1 = newEntity(VoteOptions.class);
-            ReflectionTestUtils.setField(option1, "optionId", 100L);
-            ReflectionTestUtils.setField(option1, "voteId", voteId);
-            ReflectionTestUtils.setField(option1, "optionText", "옵션1");
-            ReflectionTestUtils.setField(option1, "optionOrder", 1);
-
-            VoteOptions option2 = newEntity(VoteOptions.class);
-            ReflectionTestUtils.setField(option2, "optionId", 101L);
-            ReflectionTestUtils.setField(option2, "voteId", voteId);
-            ReflectionTestUtils.setField(option2, "optionText", "옵션2");
-            ReflectionTestUtils.setField(option2, "optionOrder", 2);
-
             given(voteRepository.findById(voteId)).willReturn(Optional.of(vote));
-            given(postRepository.findById(1L)).willReturn(Optional.of(post));
-            given(voteOptionRepository.findByVoteIdOrderByOptionOrderAsc(voteId))
-                    .willReturn(List.of(option1, option2));
-            given(voteRecordRepository.countByOptionId(100L)).willReturn(5L);
-            given(voteRecordRepository.countByOptionId(101L)).willReturn(3L);
-            given(voteRecordRepository.findByVoteIdAndUserId(voteId, userId)).willReturn(List.of());
+            given(voteOptionRepository.findOptionTallies(voteId, userId))
+                    .willReturn(List.of(tally(100L, "옵션1", 1, 5L, 0L), tally(101L, "옵션2", 2, 3L, 1L)));
 
             // when
             VoteDetailResponse result = voteService.getVoteById(clubId, voteId, userId);
@@ -552,7 +592,16 @@ class VoteServiceTest {
             assertThat(result.voteId()).isEqualTo(voteId);
             assertThat(result.title()).isEqualTo("투표 제목");
             assertThat(result.options()).hasSize(2);
+            assertThat(result.options()).extracting(VoteOptionResponse::voteCount).containsExactly(5L, 3L);
+            assertThat(result.mySelectedOptionIds()).containsExactly(101L);
             then(clubsAuthorizationService).should(times(1)).assertActiveMember(clubId, userId);
+
+            // 옵션 수와 무관하게 투표 1회 + 집계 1회 조회
+            then(postRepository).shouldHaveNoInteractions();
+            then(scheduleRepository).shouldHaveNoInteractions();
+            then(voteRecordRepository).shouldHaveNoInteractions();
+            then(voteOptionRepository).should(times(1)).findOptionTallies(voteId, userId);
+            then(voteOptionRepository).shouldHaveNoMoreInteractions();
         }
 
         @Test
@@ -574,25 +623,11 @@ class VoteServiceTest {
             ReflectionTestUtils.setField(vote, "title", "참석 투표");
             ReflectionTestUtils.setField(vote, "status", "OPEN");
 
-            VoteOptions attendOption = newEntity(VoteOptions.class);
-            ReflectionTestUtils.setField(attendOption, "optionId", 100L);
-            ReflectionTestUtils.setField(attendOption, "voteId", voteId);
-            ReflectionTestUtils.setField(attendOption, "optionText", "참석");
-            ReflectionTestUtils.setField(attendOption, "optionOrder", 1);
-
-            VoteOptions absentOption = newEntity(VoteOptions.class);
-            ReflectionTestUtils.setField(absentOption, "optionId", 101L);
-            ReflectionTestUtils.setField(absentOption, "voteId", voteId);
-            ReflectionTestUtils.setField(absentOption, "optionText", "불참");
-            ReflectionTestUtils.setField(absentOption, "optionOrder", 2);
-
+            // club_id가 없는 이전 데이터는 일정으로 모임 확인
             given(voteRepository.findById(voteId)).willReturn(Optional.of(vote));
             given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
-            given(voteOptionRepository.findByVoteIdOrderByOptionOrderAsc(voteId))
-                    .willReturn(List.of(attendOption, absentOption));
-            given(voteRecordRepository.countByOptionId(100L)).willReturn(8L);
-            given(voteRecordRepository.countByOptionId(101L)).willReturn(2L);
-            given(voteRecordRepository.findByVoteIdAndUserId(voteId, userId)).willReturn(List.of());
+            given(voteOptionRepository.findOptionTallies(voteId, userId))
+                    .willReturn(List.of(tally(100L, "참석", 1, 8L, 0L), tally(101L, "불참", 2, 2L, 0L)));
 
             // when
             VoteDetailResponse result = voteService.getVoteById(clubId, voteId, userId);
@@ -628,21 +663,18 @@ class VoteServiceTest {
             Long userId = 10L;
             Long otherClubId = 999L;
 
-            Clubs otherClub = club(otherClubId, 1L);
-            Posts post = Posts.vote(otherClub, user(userId), null, "제목", "설명");
-            ReflectionTestUtils.setField(post, "postId", 1L);
-
             Votes vote = newEntity(Votes.class);
             ReflectionTestUtils.setField(vote, "voteId", voteId);
+            ReflectionTestUtils.setField(vote, "clubId", otherClubId);
             ReflectionTestUtils.setField(vote, "voteType", "GENERAL");
             ReflectionTestUtils.setField(vote, "postId", 1L);
 
             given(voteRepository.findById(voteId)).willReturn(Optional.of(vote));
-            given(postRepository.findById(1L)).willReturn(Optional.of(post));
 
             // when & then
             assertThatThrownBy(() -> voteService.getVoteById(clubId, voteId, userId))
                     .isInstanceOf(VoteException.ClubMismatch.class);
+            then(postRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -650,46 +682,75 @@ class VoteServiceTest {
     @DisplayName("투표 목록 조회")
     class GetVotesByClubId {
 
+        private Votes listVote(Long voteId, String voteType, long participantCount) {
+            Votes vote = newEntity(Votes.class);
+            ReflectionTestUtils.setField(vote, "voteId", voteId);
+            ReflectionTestUtils.setField(vote, "clubId", 1L);
+            ReflectionTestUtils.setField(vote, "voteType", voteType);
+            ReflectionTestUtils.setField(vote, "title", voteType + " 투표 " + voteId);
+            ReflectionTestUtils.setField(vote, "status", "OPEN");
+            ReflectionTestUtils.setField(vote, "participantCount", participantCount);
+            return vote;
+        }
+
         @Test
-        @DisplayName("모임의 전체 투표 목록 조회 성공")
-        void get_votes_by_club_id_success() {
+        @DisplayName("첫 페이지 조회 - 다음 페이지 커서 반환")
+        void get_votes_by_club_id_first_page() {
             // given
             Long clubId = 1L;
             Long userId = 10L;
 
-            Clubs club = club(clubId, 1L);
-            Posts post1 = Posts.vote(club, user(userId), null, "일반 투표", "설명");
-            ReflectionTestUtils.setField(post1, "postId", 1L);
-
-            Votes generalVote = newEntity(Votes.class);
-            ReflectionTestUtils.setField(generalVote, "voteId", 1L);
-            ReflectionTestUtils.setField(generalVote, "voteType", "GENERAL");
-            ReflectionTestUtils.setField(generalVote, "postId", 1L);
-            ReflectionTestUtils.setField(generalVote, "title", "일반 투표");
-            ReflectionTestUtils.setField(generalVote, "status", "OPEN");
-
-            Schedules schedule = schedule(100L, clubId);
-            Votes attendanceVote = newEntity(Votes.class);
-            ReflectionTestUtils.setField(attendanceVote, "voteId", 2L);
-            ReflectionTestUtils.setField(attendanceVote, "voteType", "ATTENDANCE");
-            ReflectionTestUtils.setField(attendanceVote, "scheduleId", 100L);
-            ReflectionTestUtils.setField(attendanceVote, "title", "참석 투표");
-            ReflectionTestUtils.setField(attendanceVote, "status", "OPEN");
-
-            given(postRepository.findByClub_ClubIdAndCategoryAndDeletedAtIsNull(eq(clubId), any()))
-                    .willReturn(List.of(post1));
-            given(scheduleRepository.findByClubId(clubId)).willReturn(List.of(schedule));
-            given(voteRepository.findByPostIdIn(List.of(1L))).willReturn(List.of(generalVote));
-            given(voteRepository.findByScheduleIdIn(List.of(100L))).willReturn(List.of(attendanceVote));
-            given(voteRecordRepository.countDistinctClubMembersByVoteId(1L)).willReturn(5L);
-            given(voteRecordRepository.countDistinctClubMembersByVoteId(2L)).willReturn(10L);
+            given(voteRepository.findClubVotes(eq(clubId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    any()))
+                    .willReturn(List.of(
+                            listVote(30L, "GENERAL", 5L),
+                            listVote(29L, "ATTENDANCE", 10L),
+                            listVote(28L, "GENERAL", 0L)));
 
             // when
-            List<VoteListResponse> result = voteService.getVotesByClubId(clubId, userId);
+            VoteSliceResponse result = voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(null, 2, null, null, null));
 
             // then
-            assertThat(result).hasSize(2);
+            assertThat(result.votes()).extracting(VoteListResponse::voteId).containsExactly(30L, 29L);
+            assertThat(result.votes()).extracting(VoteListResponse::totalVoteCount).containsExactly(5L, 10L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo(29L);
             then(clubsAuthorizationService).should(times(1)).assertActiveMember(clubId, userId);
+
+            // size + 1 건만 한 번에 조회, 게시글/일정/투표기록 조회 없음
+            ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+            then(voteRepository).should(times(1))
+                    .findClubVotes(eq(clubId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                            pageable.capture());
+            assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+            then(postRepository).shouldHaveNoInteractions();
+            then(scheduleRepository).shouldHaveNoInteractions();
+            then(voteRecordRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("커서/상태/마감 기한 조건 조회 - 마지막 페이지")
+        void get_votes_by_club_id_filtered_last_page() {
+            // given
+            Long clubId = 1L;
+            Long userId = 10L;
+            LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+            // 일정 투표는 일정 시작 5분 전에 종료되므로 일정 시작 시각 범위는 5분 뒤로 이동
+            given(voteRepository.findClubVotes(eq(clubId), eq(29L), eq("OPEN"), eq(from), eq(to),
+                    eq(from.plusMinutes(5)), eq(to.plusMinutes(5)), any()))
+                    .willReturn(List.of(listVote(28L, "GENERAL", 3L)));
+
+            // when
+            VoteSliceResponse result = voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(29L, null, "OPEN", from, to));
+
+            // then
+            assertThat(result.votes()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
         }
 
         @Test
@@ -699,15 +760,39 @@ class VoteServiceTest {
             Long clubId = 1L;
             Long userId = 10L;
 
-            given(postRepository.findByClub_ClubIdAndCategoryAndDeletedAtIsNull(eq(clubId), any()))
+            given(voteRepository.findClubVotes(eq(clubId), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    any()))
                     .willReturn(List.of());
-            given(scheduleRepository.findByClubId(clubId)).willReturn(List.of());
 
             // when
-            List<VoteListResponse> result = voteService.getVotesByClubId(clubId, userId);
+            VoteSliceResponse result = voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(null, null, null, null, null));
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result.votes()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("투표 목록 조회 실패 - 잘못된 조회 조건")
+        void get_votes_by_club_id_fail_invalid_condition() {
+            Long clubId = 1L;
+            Long userId = 10L;
+            LocalDateTime now = LocalDateTime.now();
+
+            assertThatThrownBy(() -> voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(null, 0, null, null, null)))
+                    .isInstanceOf(VoteException.SearchInvalid.class);
+            assertThatThrownBy(() -> voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(null, 101, null, null, null)))
+                    .isInstanceOf(VoteException.SearchInvalid.class);
+            assertThatThrownBy(() -> voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(null, null, "PENDING", null, null)))
+                    .isInstanceOf(VoteException.SearchInvalid.class);
+            assertThatThrownBy(() -> voteService.getVotesByClubId(clubId, userId,
+                    new VoteSearchRequest(null, null, null, now, now.minusDays(1))))
+                    .isInstanceOf(VoteException.SearchInvalid.class);
+            then(voteRepository).shouldHaveNoInteractions();
         }
     }
 }